@@ -0,0 +1,93 @@
+package atemos.eguard.api.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * EncryptUtil의 Cipher 풀과 일괄 복호화 API의 비용을 비교하는 JMH 벤치마크입니다.
+ * - cipherPerCall: 호출할 때마다 Cipher.getInstance와 init을 수행하던 이전 방식
+ * - pooledCipher: 풀에서 초기화된 Cipher를 빌려 쓰는 EncryptUtil.decrypt
+ * - decryptAll: 목록 전체를 하나의 Cipher로 처리하는 EncryptUtil.decryptAll (근로자 목록 한 페이지의 이름 복호화)
+ * 여러 스레드가 풀을 함께 사용하는 경우도 측정하도록 스레드 수가 다른 벤치마크를 함께 둡니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=CipherPoolBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CipherPoolBenchmark {
+    private static final String KEY = Base64.getEncoder().encodeToString("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+    // 한 페이지에서 복호화하는 값의 수
+    @Param({"20", "100"})
+    private int pageSize;
+    private EncryptUtil encryptUtil;
+    private SecretKey secretKey;
+    private List<String> encryptedNames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encryptUtil = new EncryptUtil(KEY, null);
+        secretKey = new SecretKeySpec(Base64.getDecoder().decode(KEY), "AES");
+        encryptedNames = encryptUtil.encryptAll(IntStream.range(0, pageSize).mapToObj(i -> "근로자" + i).toList());
+    }
+
+    @Benchmark
+    public List<String> cipherPerCall() throws Exception {
+        var names = new ArrayList<String>(encryptedNames.size());
+        for (var encryptedName : encryptedNames) {
+            var cipher = Cipher.getInstance("AES");
+            cipher.init(Cipher.DECRYPT_MODE, secretKey);
+            names.add(new String(cipher.doFinal(Base64.getDecoder().decode(encryptedName)), StandardCharsets.UTF_8));
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<String> pooledCipher() {
+        var names = new ArrayList<String>(encryptedNames.size());
+        for (var encryptedName : encryptedNames) {
+            names.add(encryptUtil.decrypt(encryptedName));
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<String> decryptAll() {
+        return encryptUtil.decryptAll(encryptedNames);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<String> cipherPerCallConcurrent() throws Exception {
+        return cipherPerCall();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<String> pooledCipherConcurrent() {
+        return pooledCipher();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public List<String> decryptAllConcurrent() {
+        return decryptAll();
+    }
+}
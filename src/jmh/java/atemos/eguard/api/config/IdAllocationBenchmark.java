@@ -0,0 +1,115 @@
+package atemos.eguard.api.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * IDENTITY 단건 등록과 id_generator 구간 할당 후 JDBC 배치 등록의 처리량을 비교하는 JMH 벤치마크입니다.
+ * H2(MySQL 모드) 메모리 데이터베이스에 한 번에 ROWS건의 로그를 등록하는 작업을 1회 연산으로 측정합니다.
+ * - identityRowByRow: IDENTITY 컬럼에 한 건씩 등록하고 생성된 키를 읽음 (Hibernate가 IDENTITY 엔티티를 배치로 등록하지 못하는 이전 방식)
+ * - pooledBatch: IdAllocator로 ALLOCATION_SIZE개씩 ID를 할당받아 배치로 등록 (Hibernate pooled 최적화와 같은 단위)
+ * - pooledBatchSingleAllocation: ROWS개의 ID를 한 번에 할당받아 배치로 등록 (알람, 접근 로그 일괄 등록 방식)
+ * 실행: ./gradlew jmh -Pjmh.includes=IdAllocationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class IdAllocationBenchmark {
+    // 1회 연산에서 등록하는 행 수
+    private static final int ROWS = 500;
+    private static final String SEQUENCE_NAME = IdAllocator.API_CALL_LOG;
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private IdAllocator idAllocator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:id_allocation_benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE identity_log (id BIGINT AUTO_INCREMENT PRIMARY KEY, message VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE pooled_log (id BIGINT PRIMARY KEY, message VARCHAR(255) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE id_generator (sequence_name VARCHAR(255) PRIMARY KEY, next_val BIGINT)");
+        jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", SEQUENCE_NAME, IdAllocator.ALLOCATION_SIZE + 1);
+        idAllocator = new IdAllocator(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTables() {
+        jdbcTemplate.execute("TRUNCATE TABLE identity_log");
+        jdbcTemplate.execute("TRUNCATE TABLE pooled_log");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public long identityRowByRow() {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((Connection connection) -> {
+            long lastId = 0;
+            try (var ps = connection.prepareStatement("INSERT INTO identity_log (message, created_at) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+                for (int i = 0; i < ROWS; i++) {
+                    ps.setString(1, "message " + i);
+                    ps.setTimestamp(2, now);
+                    ps.executeUpdate();
+                    try (var keys = ps.getGeneratedKeys()) {
+                        keys.next();
+                        lastId = keys.getLong(1);
+                    }
+                }
+            }
+            return lastId;
+        });
+    }
+
+    @Benchmark
+    public long pooledBatch() {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        long lastId = 0;
+        for (int from = 0; from < ROWS; from += IdAllocator.ALLOCATION_SIZE) {
+            var count = Math.min(IdAllocator.ALLOCATION_SIZE, ROWS - from);
+            lastId = insertBatch(idAllocator.allocate(SEQUENCE_NAME, count), count, now);
+        }
+        return lastId;
+    }
+
+    @Benchmark
+    public long pooledBatchSingleAllocation() {
+        return insertBatch(idAllocator.allocate(SEQUENCE_NAME, ROWS), ROWS, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 할당받은 ID 구간으로 로그를 배치 등록합니다.
+     *
+     * @return 마지막으로 등록한 ID
+     */
+    private long insertBatch(long firstId, int count, Timestamp now) {
+        var ids = LongStream.range(firstId, firstId + count).boxed().toList();
+        jdbcTemplate.batchUpdate("INSERT INTO pooled_log (id, message, created_at) VALUES (?, ?, ?)", ids, count, (ps, id) -> {
+            ps.setLong(1, id);
+            ps.setString(2, "message " + id);
+            ps.setTimestamp(3, now);
+        });
+        return firstId + count - 1;
+    }
+}
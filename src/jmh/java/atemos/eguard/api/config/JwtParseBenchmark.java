@@ -0,0 +1,149 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.dto.EmployeeDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 비용을 비교하는 JMH 벤치마크입니다.
+ * - parserPerCall: 호출할 때마다 JwtParser를 생성하던 이전 방식
+ * - sharedParser: 한 번 생성한 JwtParser를 공유하는 JwtUtil.parseVerifiedClaims
+ * - requestScopedClaims: 한 요청에서 같은 토큰을 여러 번 검증하는 경우 (JwtRequestFilter, EntityValidator, LogComponent 등)
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtParseBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+    // 한 요청에서 같은 토큰을 검증하는 횟수
+    private static final int VERIFICATIONS_PER_REQUEST = 4;
+    private static final String SECRET = "e-guard-benchmark-secret-0123456789abcdef";
+    private JwtUtil jwtUtil;
+    private Key key;
+    private String token;
+
+    /**
+     * 요청 범위 속성을 맵으로 보관하는 최소한의 RequestAttributes 구현입니다.
+     */
+    private static class MapRequestAttributes implements RequestAttributes {
+        private final Map<String, Object> attributes = new HashMap<>();
+
+        @Override
+        public Object getAttribute(String name, int scope) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value, int scope) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name, int scope) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public String[] getAttributeNames(int scope) {
+            return attributes.keySet().toArray(String[]::new);
+        }
+
+        @Override
+        public void registerDestructionCallback(String name, Runnable callback, int scope) {
+        }
+
+        @Override
+        public Object resolveReference(String key) {
+            return null;
+        }
+
+        @Override
+        public String getSessionId() {
+            return "benchmark";
+        }
+
+        @Override
+        public Object getSessionMutex() {
+            return this;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 서명 검증만 측정하므로 블랙리스트는 사용하지 않음
+        jwtUtil = new JwtUtil(null);
+        setField("secret", SECRET);
+        setField("accessTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        setField("refreshTokenExpiration", TimeUnit.HOURS.toMillis(1));
+        jwtUtil.initJwtUtil();
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtUtil.generateAccessToken(EmployeeDto.ReadEmployeeResponse.builder()
+                .employeeId(1L)
+                .employeeEmail("worker@eguard.test")
+                .role(EmployeeRole.WORKER)
+                .factoryId(1L)
+                .companyId(1L)
+                .build(), 0L);
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtUtil.parseVerifiedClaims(token);
+    }
+
+    @Benchmark
+    public Claims parserPerCallPerRequest() {
+        Claims claims = null;
+        for (int i = 0; i < VERIFICATIONS_PER_REQUEST; i++) {
+            claims = parserPerCall();
+        }
+        return claims;
+    }
+
+    @Benchmark
+    public Claims requestScopedClaims() {
+        RequestContextHolder.setRequestAttributes(new MapRequestAttributes());
+        try {
+            Claims claims = null;
+            for (int i = 0; i < VERIFICATIONS_PER_REQUEST; i++) {
+                claims = jwtUtil.parseVerifiedClaims(token);
+            }
+            return claims;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    /**
+     * 스프링 없이 JwtUtil의 설정 값을 주입합니다.
+     */
+    private void setField(String name, Object value) {
+        var field = ReflectionUtils.findField(JwtUtil.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtUtil, value);
+    }
+}
@@ -0,0 +1,50 @@
+package atemos.eguard.api.batch.config;
+
+import atemos.eguard.api.batch.tasklet.AlarmDeduplicationTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * AlarmDeduplicationJobConfig는 중복 알람을 정리하고 alarm 테이블에 유니크 제약조건을 추가하는 작업을 Spring Batch로 구성하는 설정 클래스입니다.
+ * - Job과 Step을 정의하여 AlarmDeduplicationTasklet을 실행합니다.
+ * - 스케줄러가 없으며 --spring.batch.job.enabled=true --spring.batch.job.name=alarmDeduplicationJob 으로 실행합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AlarmDeduplicationJobConfig {
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 중복 알람을 정리하는 배치 작업(Job)을 정의합니다.
+     *
+     * @param alarmDeduplicationStep AlarmDeduplicationTasklet을 실행하는 Step
+     * @return Job 객체
+     */
+    @Bean
+    public Job alarmDeduplicationJob(Step alarmDeduplicationStep) {
+        return new JobBuilder("alarmDeduplicationJob", jobRepository)
+                .start(alarmDeduplicationStep)
+                .build();
+    }
+
+    /**
+     * 중복 알람을 정리하는 Step을 정의합니다.
+     *
+     * @param alarmDeduplicationTasklet 중복 알람을 정리하는 Tasklet
+     * @return Step 객체
+     */
+    @Bean
+    public Step alarmDeduplicationStep(AlarmDeduplicationTasklet alarmDeduplicationTasklet) {
+        return new StepBuilder("alarmDeduplicationStep", jobRepository)
+                .tasklet(alarmDeduplicationTasklet, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package atemos.eguard.api.batch.config;
+
+import atemos.eguard.api.batch.tasklet.EmployeeSearchIndexTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * EmployeeSearchIndexJobConfig는 근로자 부분 일치 검색 토큰을 재생성하는 작업을 Spring Batch로 구성하는 설정 클래스입니다.
+ * - Job과 Step을 정의하여 EmployeeSearchIndexTasklet을 실행합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class EmployeeSearchIndexJobConfig {
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 근로자 검색 토큰을 재생성하는 배치 작업(Job)을 정의합니다.
+     *
+     * @param employeeSearchIndexStep EmployeeSearchIndexTasklet을 실행하는 Step
+     * @return Job 객체
+     */
+    @Bean
+    public Job employeeSearchIndexJob(Step employeeSearchIndexStep) {
+        return new JobBuilder("employeeSearchIndexJob", jobRepository)
+                .start(employeeSearchIndexStep)
+                .build();
+    }
+
+    /**
+     * 근로자 검색 토큰을 재생성하는 Step을 정의합니다.
+     * - Tasklet이 CONTINUABLE을 반환하는 동안 묶음 단위로 반복 실행되며, 묶음마다 트랜잭션이 커밋됩니다.
+     *
+     * @param employeeSearchIndexTasklet 근로자 검색 토큰을 재생성하는 Tasklet
+     * @return Step 객체
+     */
+    @Bean
+    public Step employeeSearchIndexStep(EmployeeSearchIndexTasklet employeeSearchIndexTasklet) {
+        return new StepBuilder("employeeSearchIndexStep", jobRepository)
+                .tasklet(employeeSearchIndexTasklet, transactionManager)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package atemos.eguard.api.batch.config;
+
+import atemos.eguard.api.batch.tasklet.SafetyScoreSnapshotTasklet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * SafetyScoreSnapshotJobConfig는 마감된 달의 구역별 안전 점수 스냅샷을 저장하는 작업을 Spring Batch로 구성하는 설정 클래스입니다.
+ * - Job과 Step을 정의하여 SafetyScoreSnapshotTasklet을 실행합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class SafetyScoreSnapshotJobConfig {
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 안전 점수 스냅샷을 저장하는 배치 작업(Job)을 정의합니다.
+     *
+     * @param safetyScoreSnapshotStep SafetyScoreSnapshotTasklet을 실행하는 Step
+     * @return Job 객체
+     */
+    @Bean
+    public Job safetyScoreSnapshotJob(Step safetyScoreSnapshotStep) {
+        return new JobBuilder("safetyScoreSnapshotJob", jobRepository)
+                .start(safetyScoreSnapshotStep)
+                .build();
+    }
+
+    /**
+     * 안전 점수 스냅샷을 저장하는 Step을 정의합니다.
+     * - Tasklet이 CONTINUABLE을 반환하는 동안 묶음 단위로 반복 실행되며, 묶음마다 트랜잭션이 커밋됩니다.
+     *
+     * @param safetyScoreSnapshotTasklet 안전 점수 스냅샷을 저장하는 Tasklet
+     * @return Step 객체
+     */
+    @Bean
+    public Step safetyScoreSnapshotStep(SafetyScoreSnapshotTasklet safetyScoreSnapshotTasklet) {
+        return new StepBuilder("safetyScoreSnapshotStep", jobRepository)
+                .tasklet(safetyScoreSnapshotTasklet, transactionManager)
+                .build();
+    }
+}
@@ -22,18 +22,18 @@ public class AlarmJobScheduler {
     /**
      * AlarmJob을 실행하는 메서드입니다.
      * 이 메서드는 cron 표현식을 사용하여 매 5분 30초에 실행되도록 설정되었습니다.
+     * 알람은 사건이 등록/수정된 직후 AlarmEventListener에서 생성되므로, 이 작업은 누락된 알람을 보정하는 용도입니다.
      * 알람 생성 프로세스가 시작되면 시작 로그를 기록하고, 완료되면 완료 로그를 기록합니다.
      *
      * @throws Exception Job 실행 중 발생한 예외
      */
-    @Scheduled(cron = "30 * * * * *") // 테스트용
-    //@Scheduled(cron = "30 */5 * * * *")
+    @Scheduled(cron = "30 */5 * * * *")
     public void runJob() throws Exception {
-        log.info("**** [시작] 사고가 발생한 공장의 근로자들에게 알람 생성.");
+        log.info("**** [시작] 사고가 발생한 공장의 근로자들에게 누락된 알람 생성.");
         // JobParametersBuilder를 통해 jobParameters 생성
         jobLauncher.run(alarmJob, new JobParametersBuilder()
                 .addLong("time", System.currentTimeMillis())
                 .toJobParameters());
-        log.info("**** [완료] 사고가 발생한 공장의 근로자들에게 알람 생성.");
+        log.info("**** [완료] 사고가 발생한 공장의 근로자들에게 누락된 알람 생성.");
     }
 }
\ No newline at end of file
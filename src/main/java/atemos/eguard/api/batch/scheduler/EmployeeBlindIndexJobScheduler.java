@@ -0,0 +1,49 @@
+package atemos.eguard.api.batch.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmployeeBlindIndexJobScheduler는 근로자 블라인드 인덱스를 채우는 EmployeeBlindIndexJob을 실행하는 스케줄러 클래스입니다.
+ * - 애플리케이션이 시작되면 한 번 실행하여 기존 근로자의 블라인드 인덱스를 채웁니다.
+ * - 이후 매일 새벽 1시에 누락된 블라인드 인덱스가 있는지 확인하여 채웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeBlindIndexJobScheduler {
+    private final JobLauncher jobLauncher;
+    private final Job employeeBlindIndexJob;
+
+    /**
+     * 애플리케이션 시작 시 EmployeeBlindIndexJob을 실행합니다.
+     *
+     * @throws Exception Job 실행 중 발생한 예외
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() throws Exception {
+        runJob();
+    }
+
+    /**
+     * 매일 새벽 1시에 EmployeeBlindIndexJob을 실행합니다.
+     * - JobParameters는 실행 시각을 포함하여 전달됩니다.
+     *
+     * @throws Exception Job 실행 중 발생한 예외
+     */
+    @Scheduled(cron = "0 0 1 * * *")
+    public void runJob() throws Exception {
+        log.info("**** [시작] 근로자 블라인드 인덱스 생성.");
+        jobLauncher.run(employeeBlindIndexJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        log.info("**** [완료] 근로자 블라인드 인덱스 생성.");
+    }
+}
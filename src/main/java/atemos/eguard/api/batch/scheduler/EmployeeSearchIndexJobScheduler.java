@@ -0,0 +1,55 @@
+package atemos.eguard.api.batch.scheduler;
+
+import atemos.eguard.api.repository.EmployeeRepository;
+import atemos.eguard.api.repository.EmployeeSearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmployeeSearchIndexJobScheduler는 근로자 부분 일치 검색 토큰을 재생성하는 EmployeeSearchIndexJob을 실행하는 스케줄러 클래스입니다.
+ * - 애플리케이션 시작 시 검색 토큰이 하나도 없으면(최초 배포) 한 번 실행하여 기존 근로자의 검색 토큰을 생성합니다.
+ * - 이후 매주 일요일 새벽 2시에 전체 근로자의 검색 토큰을 다시 생성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeSearchIndexJobScheduler {
+    private final JobLauncher jobLauncher;
+    private final Job employeeSearchIndexJob;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSearchTokenRepository employeeSearchTokenRepository;
+
+    /**
+     * 애플리케이션 시작 시 검색 토큰이 없으면 EmployeeSearchIndexJob을 실행합니다.
+     *
+     * @throws Exception Job 실행 중 발생한 예외
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() throws Exception {
+        if (employeeSearchTokenRepository.count() == 0 && employeeRepository.count() > 0) {
+            runJob();
+        }
+    }
+
+    /**
+     * 매주 일요일 새벽 2시에 EmployeeSearchIndexJob을 실행합니다.
+     * - JobParameters는 실행 시각을 포함하여 전달됩니다.
+     *
+     * @throws Exception Job 실행 중 발생한 예외
+     */
+    @Scheduled(cron = "0 0 2 * * SUN")
+    public void runJob() throws Exception {
+        log.info("**** [시작] 근로자 검색 토큰 재생성.");
+        jobLauncher.run(employeeSearchIndexJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        log.info("**** [완료] 근로자 검색 토큰 재생성.");
+    }
+}
@@ -0,0 +1,49 @@
+package atemos.eguard.api.batch.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * SafetyScoreSnapshotJobScheduler는 마감된 달의 안전 점수 스냅샷을 저장하는 SafetyScoreSnapshotJob을 실행하는 스케줄러 클래스입니다.
+ * - 애플리케이션이 시작되면 한 번 실행하여 누락된 달의 스냅샷을 채웁니다.
+ * - 이후 매월 1일 0시 10분에 지난 달의 스냅샷을 저장합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SafetyScoreSnapshotJobScheduler {
+    private final JobLauncher jobLauncher;
+    private final Job safetyScoreSnapshotJob;
+
+    /**
+     * 애플리케이션 시작 시 SafetyScoreSnapshotJob을 실행합니다.
+     *
+     * @throws Exception Job 실행 중 발생한 예외
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() throws Exception {
+        runJob();
+    }
+
+    /**
+     * 매월 1일 0시 10분에 SafetyScoreSnapshotJob을 실행합니다.
+     * - JobParameters는 실행 시각을 포함하여 전달됩니다.
+     *
+     * @throws Exception Job 실행 중 발생한 예외
+     */
+    @Scheduled(cron = "0 10 0 1 * *")
+    public void runJob() throws Exception {
+        log.info("**** [시작] 안전 점수 스냅샷 저장.");
+        jobLauncher.run(safetyScoreSnapshotJob, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .toJobParameters());
+        log.info("**** [완료] 안전 점수 스냅샷 저장.");
+    }
+}
@@ -0,0 +1,52 @@
+package atemos.eguard.api.batch.tasklet;
+
+import atemos.eguard.api.config.AlarmConstraintVerifier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * AlarmDeduplicationTasklet은 alarm 테이블의 (근로자, 사건) 유니크 제약조건이 없을 때 중복 알람을 정리하고 제약조건을 추가하는 Tasklet입니다.
+ * - 같은 (근로자, 사건)의 알람 중 ID가 가장 작은 알람만 남기고 삭제합니다.
+ * - 알람을 삭제하는 작업이므로 스케줄러 없이 alarmDeduplicationJob을 명시적으로 실행할 때만 동작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmDeduplicationTasklet implements Tasklet {
+    private final AlarmConstraintVerifier alarmConstraintVerifier;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 유니크 제약조건이 없으면 중복 알람을 삭제한 뒤 제약조건을 추가합니다.
+     *
+     * @param contribution Step의 기여도 정보
+     * @param chunkContext Chunk 관련 컨텍스트 정보
+     * @return 작업 완료 상태 (FINISHED)
+     * @throws IllegalStateException 제약조건을 추가하지 못한 경우
+     */
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        if (alarmConstraintVerifier.hasUniqueConstraint()) {
+            log.info("alarm 테이블에 유니크 제약조건 [{}]이 이미 있어 정리할 중복 알람이 없습니다.", AlarmConstraintVerifier.UNIQUE_CONSTRAINT);
+            return RepeatStatus.FINISHED;
+        }
+        // 같은 (근로자, 사건)의 알람 중 ID가 가장 작은 알람만 남기고 삭제
+        var removed = jdbcTemplate.update("DELETE a FROM alarm a JOIN alarm b " +
+                "ON a.employee_id = b.employee_id AND a.event_id = b.event_id AND a.id > b.id");
+        jdbcTemplate.execute("ALTER TABLE alarm ADD CONSTRAINT " + AlarmConstraintVerifier.UNIQUE_CONSTRAINT +
+                " UNIQUE (employee_id, event_id)");
+        if (!alarmConstraintVerifier.hasUniqueConstraint()) {
+            throw new IllegalStateException("alarm 테이블에 유니크 제약조건(" + AlarmConstraintVerifier.UNIQUE_CONSTRAINT + ")을 추가할 수 없습니다.");
+        }
+        contribution.incrementWriteCount(removed);
+        log.info("유니크 제약조건 [{}] 추가 완료: 삭제한 중복 알람={}건", AlarmConstraintVerifier.UNIQUE_CONSTRAINT, removed);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,58 @@
+package atemos.eguard.api.batch.tasklet;
+
+import atemos.eguard.api.config.EncryptUtil;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.repository.EmployeeRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmployeeBlindIndexTasklet은 블라인드 인덱스가 없는 기존 근로자의 이름, 이메일, 전화번호 블라인드 인덱스를 채우는 Tasklet입니다.
+ * - 한 번 실행할 때마다 최대 BATCH_SIZE명의 근로자를 처리하고, 남은 근로자가 있으면 CONTINUABLE을 반환합니다.
+ * - Spring Batch가 반복 실행마다 트랜잭션을 커밋하므로 근로자 수가 많아도 트랜잭션이 길어지지 않습니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeBlindIndexTasklet implements Tasklet {
+    // 한 번에 처리할 근로자 수
+    private static final int BATCH_SIZE = 500;
+    private final EmployeeRepository employeeRepository;
+    private final EncryptUtil encryptUtil;
+
+    /**
+     * 블라인드 인덱스가 없는 근로자를 한 묶음 조회하여 블라인드 인덱스를 채웁니다.
+     *
+     * @param contribution Step의 기여도 정보
+     * @param chunkContext Chunk 관련 컨텍스트 정보
+     * @return 남은 근로자가 있으면 CONTINUABLE, 모두 처리했으면 FINISHED
+     */
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        var employees = employeeRepository.findWithoutBlindIndex(PageRequest.ofSize(BATCH_SIZE));
+        if (employees.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+        // 필드별로 한 번에 복호화한 뒤 블라인드 인덱스 생성
+        var names = encryptUtil.decryptAll(employees.stream().map(Employee::getName).toList());
+        var emails = encryptUtil.decryptAll(employees.stream().map(Employee::getEmail).toList());
+        var phoneNumbers = encryptUtil.decryptAll(employees.stream().map(Employee::getPhoneNumber).toList());
+        for (int i = 0; i < employees.size(); i++) {
+            var employee = employees.get(i);
+            employee.setNameIndex(encryptUtil.blindIndex(names.get(i)));
+            employee.setEmailIndex(encryptUtil.blindIndex(emails.get(i)));
+            employee.setPhoneNumberIndex(encryptUtil.blindIndex(phoneNumbers.get(i)));
+        }
+        employeeRepository.saveAll(employees);
+        contribution.incrementWriteCount(employees.size());
+        log.info("근로자 {}명의 블라인드 인덱스 생성 완료", employees.size());
+        return employees.size() < BATCH_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,52 @@
+package atemos.eguard.api.batch.tasklet;
+
+import atemos.eguard.api.config.EmployeeSearchIndex;
+import atemos.eguard.api.repository.EmployeeRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmployeeSearchIndexTasklet은 모든 근로자의 부분 일치 검색 토큰을 다시 생성하는 Tasklet입니다.
+ * - 근로자 ID 순으로 한 번에 최대 BATCH_SIZE명씩 처리하고, 남은 근로자가 있으면 CONTINUABLE을 반환합니다.
+ * - 마지막으로 처리한 근로자 ID를 Step의 ExecutionContext에 보관하여 다음 묶음을 이어서 조회합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EmployeeSearchIndexTasklet implements Tasklet {
+    // 한 번에 처리할 근로자 수
+    private static final int BATCH_SIZE = 200;
+    // ExecutionContext에 마지막으로 처리한 근로자 ID를 보관할 키
+    private static final String LAST_EMPLOYEE_ID = "lastEmployeeId";
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeSearchIndex employeeSearchIndex;
+
+    /**
+     * 마지막으로 처리한 근로자 다음의 근로자를 한 묶음 조회하여 검색 토큰을 다시 생성합니다.
+     *
+     * @param contribution Step의 기여도 정보
+     * @param chunkContext Chunk 관련 컨텍스트 정보
+     * @return 남은 근로자가 있으면 CONTINUABLE, 모두 처리했으면 FINISHED
+     */
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        var executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        var lastEmployeeId = executionContext.getLong(LAST_EMPLOYEE_ID, 0L);
+        var employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(lastEmployeeId, PageRequest.ofSize(BATCH_SIZE));
+        if (employees.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+        employeeSearchIndex.reindex(employees);
+        executionContext.putLong(LAST_EMPLOYEE_ID, employees.getLast().getId());
+        contribution.incrementWriteCount(employees.size());
+        log.info("근로자 {}명의 검색 토큰 재생성 완료", employees.size());
+        return employees.size() < BATCH_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
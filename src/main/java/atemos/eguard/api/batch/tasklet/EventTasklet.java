@@ -1,9 +1,13 @@
 package atemos.eguard.api.batch.tasklet;
 
 import atemos.eguard.api.config.EncryptUtil;
+import atemos.eguard.api.config.FactorySummaryCache;
+import atemos.eguard.api.config.IncidentStateCache;
+import atemos.eguard.api.config.SafetyScoreCache;
 import atemos.eguard.api.domain.AreaIncident;
 import atemos.eguard.api.domain.EmployeeIncident;
 import atemos.eguard.api.entity.Event;
+import atemos.eguard.api.listener.IncidentOccurredEvent;
 import atemos.eguard.api.repository.AreaRepository;
 import atemos.eguard.api.repository.EmployeeRepository;
 import atemos.eguard.api.repository.EventRepository;
@@ -14,6 +18,7 @@ import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +38,10 @@ public class EventTasklet implements Tasklet {
     private final EmployeeRepository employeeRepository;
     private final EventRepository eventRepository;
     private final EncryptUtil encryptUtil;
+    private final IncidentStateCache incidentStateCache;
+    private final SafetyScoreCache safetyScoreCache;
+    private final FactorySummaryCache factorySummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 구역과 근로자들의 상태를 확인하고 사건이 발생한 경우 사건을 생성합니다.
@@ -43,34 +52,40 @@ public class EventTasklet implements Tasklet {
         var random = new Random();
         // 모든 Area 조회
         var areas = areaRepository.findAll();
-        // 해당 구역에 가장 최근 해결되지 않은 사건이 없다면 새로운 무작위 사건 생성
-        areas.forEach(area -> eventRepository.findTopByAreaAndResolvedOrderByCreatedAtDesc(area, false)
-                .filter(event -> event.getAreaIncident() != null)
+        // 캐시에서 해당 구역에 가장 최근 해결되지 않은 사건이 없다면 새로운 무작위 사건 생성
+        areas.forEach(area -> incidentStateCache.findAreaState(area.getId())
+                .filter(state -> state.getAreaIncident() != null)
                 .orElseGet(() -> {
                     if (random.nextInt(100) >= 95) {
                         var randomAreaIncident = getRandomAreaIncident();
-                        eventRepository.save(Event.builder()
+                        var event = eventRepository.save(Event.builder()
                                 .area(area)
                                 .areaIncident(randomAreaIncident)
                                 .resolved(false)
                                 .build());
+                        incidentStateCache.apply(event);
+                        safetyScoreCache.replace(null, SafetyScoreCache.CountedIncident.of(event));
+                        eventPublisher.publishEvent(new IncidentOccurredEvent(event.getId()));
                         log.info("Area [{}]에서 새로운 사건 발생: {}", area.getName(), randomAreaIncident.getName());
                     }
                     return null;
                 }));
         // 모든 Employee 조회
         var employees = employeeRepository.findAll();
-        // 해당 근로자에게 가장 최근 해결되지 않은 사건이 없다면 새로운 무작위 사건 생성
-        employees.forEach(employee -> eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(employee, false)
-                .filter(event -> event.getEmployeeIncident() != null)
+        // 캐시에서 해당 근로자에게 가장 최근 해결되지 않은 사건이 없다면 새로운 무작위 사건 생성
+        employees.forEach(employee -> incidentStateCache.findEmployeeState(employee.getId())
+                .filter(state -> state.getEmployeeIncident() != null)
                 .orElseGet(() -> {
                     if (random.nextInt(100) >= 95) {
                         var randomEmployeeIncident = getRandomEmployeeIncident();
-                        eventRepository.save(Event.builder()
+                        var event = eventRepository.save(Event.builder()
                                 .employee(employee)
                                 .employeeIncident(randomEmployeeIncident)
                                 .resolved(false)
                                 .build());
+                        incidentStateCache.apply(event);
+                        factorySummaryCache.evictEmployees(List.of(employee));
+                        eventPublisher.publishEvent(new IncidentOccurredEvent(event.getId()));
                         log.info("Employee [{}]에게 새로운 사건 발생: {}", encryptUtil.decrypt(employee.getName()), randomEmployeeIncident.getName());
                     }
                     return null;
@@ -0,0 +1,107 @@
+package atemos.eguard.api.batch.tasklet;
+
+import atemos.eguard.api.config.SafetyScoreCache;
+import atemos.eguard.api.entity.Factory;
+import atemos.eguard.api.entity.SafetyScoreSnapshot;
+import atemos.eguard.api.repository.AreaRepository;
+import atemos.eguard.api.repository.FactoryRepository;
+import atemos.eguard.api.repository.SafetyScoreSnapshotRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SafetyScoreSnapshotTasklet은 마감된 달의 구역별 안전 점수를 스냅샷으로 저장하는 Tasklet입니다.
+ * - 최근 MAX_MONTHS개월 중 지난 달까지, 공장별로 스냅샷이 없는 달만 사건 수를 집계하여 저장합니다. (이미 저장된 달은 다시 계산하지 않음)
+ * - 해당 달이 끝난 뒤에 생성된 구역은 그 달의 스냅샷에 포함하지 않습니다.
+ * - 공장 ID 순으로 한 번에 최대 BATCH_SIZE개씩 처리하고, 남은 공장이 있으면 CONTINUABLE을 반환합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SafetyScoreSnapshotTasklet implements Tasklet {
+    // 스냅샷을 보관하는 최대 개월 수 (안전 점수 추이 조회 가능 기간)
+    public static final int MAX_MONTHS = 24;
+    // 한 번에 처리할 공장 수
+    private static final int BATCH_SIZE = 10;
+    // ExecutionContext에 마지막으로 처리한 공장 ID를 보관할 키
+    private static final String LAST_FACTORY_ID = "lastFactoryId";
+    private final FactoryRepository factoryRepository;
+    private final AreaRepository areaRepository;
+    private final SafetyScoreSnapshotRepository safetyScoreSnapshotRepository;
+    private final SafetyScoreCache safetyScoreCache;
+
+    /**
+     * 마지막으로 처리한 공장 다음의 공장을 한 묶음 조회하여 누락된 달의 스냅샷을 저장합니다.
+     *
+     * @param contribution Step의 기여도 정보
+     * @param chunkContext Chunk 관련 컨텍스트 정보
+     * @return 남은 공장이 있으면 CONTINUABLE, 모두 처리했으면 FINISHED
+     */
+    @Override
+    public RepeatStatus execute(@NonNull StepContribution contribution, @NonNull ChunkContext chunkContext) {
+        var executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        var lastFactoryId = executionContext.getLong(LAST_FACTORY_ID, 0L);
+        var factories = factoryRepository.findByIdGreaterThanOrderByIdAsc(lastFactoryId, PageRequest.ofSize(BATCH_SIZE));
+        if (factories.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+        var snapshots = new ArrayList<SafetyScoreSnapshot>();
+        factories.forEach(factory -> snapshots.addAll(createSnapshots(factory)));
+        safetyScoreSnapshotRepository.saveAll(snapshots);
+        executionContext.putLong(LAST_FACTORY_ID, factories.getLast().getId());
+        contribution.incrementWriteCount(snapshots.size());
+        log.info("공장 {}개의 안전 점수 스냅샷 {}건 저장 완료", factories.size(), snapshots.size());
+        return factories.size() < BATCH_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    /**
+     * 공장의 스냅샷이 없는 마감된 달의 구역별 안전 점수 스냅샷을 생성합니다.
+     */
+    private List<SafetyScoreSnapshot> createSnapshots(Factory factory) {
+        var currentMonth = YearMonth.now();
+        var firstMonth = currentMonth.minusMonths(MAX_MONTHS);
+        // 공장이 생성되기 전의 달은 제외
+        if (factory.getCreatedAt() != null && YearMonth.from(factory.getCreatedAt()).isAfter(firstMonth)) {
+            firstMonth = YearMonth.from(factory.getCreatedAt());
+        }
+        var snapshotMonths = safetyScoreSnapshotRepository.findSnapshotMonths(factory.getId(), firstMonth.atDay(1));
+        var areas = areaRepository.findByFactory(factory);
+        var snapshots = new ArrayList<SafetyScoreSnapshot>();
+        for (var month = firstMonth; month.isBefore(currentMonth); month = month.plusMonths(1)) {
+            if (snapshotMonths.contains(month.atDay(1))) {
+                continue;
+            }
+            var nextMonthStart = month.plusMonths(1).atDay(1).atStartOfDay();
+            var areaCounts = safetyScoreCache.countAreaIncidents(factory.getId(), month);
+            for (var area : areas) {
+                // 해당 달이 끝난 뒤에 생성된 구역은 제외
+                if (area.getCreatedAt() != null && !area.getCreatedAt().isBefore(nextMonthStart)) {
+                    continue;
+                }
+                var counts = areaCounts.getOrDefault(area.getId(), SafetyScoreCache.IncidentCounts.EMPTY);
+                snapshots.add(SafetyScoreSnapshot.builder()
+                        .factoryId(factory.getId())
+                        .areaId(area.getId())
+                        .areaName(area.getName())
+                        .snapshotMonth(month.atDay(1))
+                        .criticalIncidentCount(counts.criticalCount())
+                        .alertIncidentCount(counts.alertCount())
+                        .warningIncidentCount(counts.warningCount())
+                        .safetyScore(counts.safetyScore())
+                        .build());
+            }
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,229 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.entity.ApiCallLog;
+import atemos.eguard.api.entity.AuthenticationLog;
+import atemos.eguard.api.repository.ApiCallLogRepository;
+import atemos.eguard.api.repository.AuthenticationLogRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * API 호출 로그와 인증 로그를 모아서 일괄 저장하는 컴포넌트 클래스.
+ * - 요청 스레드는 완성된 로그를 버퍼에 넣기만 하고, 데이터베이스 저장은 전용 스레드가 JDBC 배치로 처리합니다.
+ * - 버퍼는 크기가 제한된 잠금 없는 큐이며, 가득 차면 새 로그를 버리고 버린 개수를 기록합니다. (로그 때문에 요청이 느려지지 않도록)
+ * - 전용 스레드는 FLUSH_INTERVAL_MILLIS마다, 또는 BATCH_SIZE개가 쌓이면 즉시 저장합니다.
+ * - 애플리케이션 종료 시 버퍼에 남은 로그를 모두 저장한 뒤 종료합니다.
+ * - 처리 현황은 Micrometer 지표(access.log.writer.logs, access.log.writer.pending)로도 제공하므로 버려진 로그에 대한 알림을 설정할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class AccessLogWriter {
+    // 버퍼에 보관할 수 있는 최대 로그 수
+    private static final int BUFFER_CAPACITY = 10000;
+    // 한 번에 저장할 로그 수
+    private static final int BATCH_SIZE = 500;
+    // 로그를 저장하는 주기 (밀리초)
+    private static final long FLUSH_INTERVAL_MILLIS = 1000;
+    // 종료 시 남은 로그를 저장하기 위해 기다리는 최대 시간 (밀리초)
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+    private final ApiCallLogRepository apiCallLogRepository;
+    private final AuthenticationLogRepository authenticationLogRepository;
+    // 저장 대기 중인 로그 (ApiCallLog 또는 AuthenticationLog)
+    private final Queue<Object> buffer = new ConcurrentLinkedQueue<>();
+    // 버퍼에 들어 있는 로그 수 (ConcurrentLinkedQueue.size()는 전체를 순회하므로 별도로 관리)
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    // 처리 현황 지표
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AccessLogWriter(ApiCallLogRepository apiCallLogRepository, AuthenticationLogRepository authenticationLogRepository,
+                           ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.apiCallLogRepository = apiCallLogRepository;
+        this.authenticationLogRepository = authenticationLogRepository;
+        // MeterRegistry 빈이 없으면(Actuator 미사용) 전역 레지스트리에 등록
+        registerMetrics(meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+        this.writer = new Thread(this::run, "access-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 저장할 API 호출 로그를 버퍼에 추가합니다.
+     *
+     * @param apiCallLog 저장할 API 호출 로그 (근로자와 업체는 ID만 사용합니다)
+     */
+    public void enqueue(ApiCallLog apiCallLog) {
+        offer(apiCallLog);
+    }
+
+    /**
+     * 저장할 인증 로그를 버퍼에 추가합니다.
+     *
+     * @param authenticationLog 저장할 인증 로그 (근로자와 업체는 ID만 사용합니다)
+     */
+    public void enqueue(AuthenticationLog authenticationLog) {
+        offer(authenticationLog);
+    }
+
+    /**
+     * 현재까지의 처리 현황을 반환합니다.
+     *
+     * @return 처리 현황
+     */
+    public Statistics getStatistics() {
+        return new Statistics(enqueuedCount.get(), writtenCount.get(), droppedCount.get(), failedCount.get(), bufferSize.get());
+    }
+
+    /**
+     * 처리 현황을 주기적으로 기록합니다. 버리거나 저장에 실패한 로그가 있을 때만 경고로 기록합니다.
+     */
+    @Scheduled(fixedRate = 600000)
+    public void reportStatistics() {
+        var statistics = getStatistics();
+        if (statistics.dropped() > 0 || statistics.failed() > 0) {
+            log.warn("접근 로그 저장 현황: {}", statistics);
+        } else {
+            log.info("접근 로그 저장 현황: {}", statistics);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 버퍼에 남은 로그를 모두 저장하고 전용 스레드를 종료합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        if (writer.isAlive()) {
+            log.warn("종료 전에 저장하지 못한 접근 로그가 있습니다: {}", getStatistics());
+        } else {
+            log.info("접근 로그 저장 스레드를 종료했습니다: {}", getStatistics());
+        }
+    }
+
+    /**
+     * 처리 현황을 Micrometer 지표로 등록합니다.
+     * - access.log.writer.logs: 결과(result=enqueued, written, dropped, failed)별 누적 로그 수
+     * - access.log.writer.pending: 저장 대기 중인 로그 수
+     *
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        Map.of("enqueued", enqueuedCount, "written", writtenCount, "dropped", droppedCount, "failed", failedCount)
+                .forEach((result, count) -> FunctionCounter.builder("access.log.writer.logs", count, AtomicLong::get)
+                        .tag("result", result)
+                        .description("접근 로그 처리 결과별 누적 로그 수")
+                        .register(meterRegistry));
+        Gauge.builder("access.log.writer.pending", bufferSize, AtomicInteger::get)
+                .description("저장 대기 중인 접근 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그를 버퍼에 추가합니다. 버퍼가 가득 차면 로그를 버리고, 한 배치만큼 쌓이면 전용 스레드를 깨웁니다.
+     */
+    private void offer(Object accessLog) {
+        var size = bufferSize.incrementAndGet();
+        if (size > BUFFER_CAPACITY) {
+            bufferSize.decrementAndGet();
+            // 가득 찬 동안 경고가 쏟아지지 않도록 처음과 1000개마다 한 번씩만 기록
+            if (droppedCount.getAndIncrement() % 1000 == 0) {
+                log.warn("접근 로그 버퍼가 가득 차 로그를 버렸습니다: {}", getStatistics());
+            }
+            return;
+        }
+        buffer.offer(accessLog);
+        enqueuedCount.incrementAndGet();
+        if (size == BATCH_SIZE) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * 전용 스레드의 실행 루프입니다. 종료 요청을 받은 뒤에도 버퍼가 빌 때까지 저장합니다.
+     */
+    private void run() {
+        while (running || bufferSize.get() > 0) {
+            if (running && bufferSize.get() < BATCH_SIZE) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MILLIS));
+            }
+            flush();
+        }
+    }
+
+    /**
+     * 버퍼의 로그를 BATCH_SIZE개씩 꺼내 종류별로 저장합니다.
+     * 저장에 실패한 배치는 다시 시도하지 않고 실패 수만 기록합니다. (같은 로그로 계속 실패하지 않도록)
+     */
+    private void flush() {
+        while (bufferSize.get() > 0) {
+            List<ApiCallLog> apiCallLogs = new ArrayList<>();
+            List<AuthenticationLog> authenticationLogs = new ArrayList<>();
+            Object accessLog;
+            while (apiCallLogs.size() + authenticationLogs.size() < BATCH_SIZE && (accessLog = buffer.poll()) != null) {
+                bufferSize.decrementAndGet();
+                if (accessLog instanceof ApiCallLog apiCallLog) {
+                    apiCallLogs.add(apiCallLog);
+                } else if (accessLog instanceof AuthenticationLog authenticationLog) {
+                    authenticationLogs.add(authenticationLog);
+                }
+            }
+            if (apiCallLogs.isEmpty() && authenticationLogs.isEmpty()) {
+                return;
+            }
+            write(apiCallLogs, apiCallLogRepository::insertAll);
+            write(authenticationLogs, authenticationLogRepository::insertAll);
+        }
+    }
+
+    /**
+     * 로그 목록을 저장하고 결과를 지표에 반영합니다.
+     */
+    private <T> void write(List<T> accessLogs, Consumer<List<T>> inserter) {
+        if (accessLogs.isEmpty()) {
+            return;
+        }
+        try {
+            inserter.accept(accessLogs);
+            writtenCount.addAndGet(accessLogs.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(accessLogs.size());
+            log.error("접근 로그 {}건 저장 중 오류가 발생했습니다: {}", accessLogs.size(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 접근 로그 저장 처리 현황.
+     *
+     * @param enqueued 버퍼에 추가된 로그 수
+     * @param written 저장된 로그 수
+     * @param dropped 버퍼가 가득 차 버려진 로그 수
+     * @param failed 저장에 실패한 로그 수
+     * @param pending 저장 대기 중인 로그 수
+     */
+    public record Statistics(long enqueued, long written, long dropped, long failed, int pending) {
+    }
+}
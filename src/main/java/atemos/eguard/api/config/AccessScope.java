@@ -0,0 +1,79 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.EmployeeRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 현재 요청을 보낸 근로자의 접근 범위를 나타내는 클래스.
+ * EntityValidator가 요청마다 한 번만 생성하여 요청 속성에 보관하므로, 엔터티 ID를 검증할 때마다
+ * 토큰을 다시 해석하거나 근로자를 다시 조회하지 않고 메모리에서 접근 권한을 확인할 수 있습니다.
+ * ADMIN은 모든 공장과 업체에 접근할 수 있으며, 그 외 권한은 소속 공장과 업체에만 접근할 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AccessScope {
+    // 근로자 ID
+    private final Long employeeId;
+    // 근로자 권한
+    private final EmployeeRole role;
+    // 소속 공장 ID
+    private final Long factoryId;
+    // 소속 업체 ID
+    private final Long companyId;
+
+    /**
+     * ADMIN 권한인지 확인합니다.
+     *
+     * @return ADMIN이면 true
+     */
+    public boolean isAdmin() {
+        return role == EmployeeRole.ADMIN;
+    }
+
+    /**
+     * 접근할 수 있는 공장 ID 목록을 반환합니다.
+     *
+     * @return 접근 가능한 공장 ID 목록 (소속 공장이 없으면 빈 목록), ADMIN이면 모든 공장에 접근할 수 있으므로 null
+     */
+    public Set<Long> getPermittedFactoryIds() {
+        if (isAdmin()) {
+            return null;
+        }
+        return factoryId == null ? Set.of() : Set.of(factoryId);
+    }
+
+    /**
+     * 접근할 수 있는 업체 ID 목록을 반환합니다.
+     *
+     * @return 접근 가능한 업체 ID 목록 (소속 업체가 없으면 빈 목록), ADMIN이면 모든 업체에 접근할 수 있으므로 null
+     */
+    public Set<Long> getPermittedCompanyIds() {
+        if (isAdmin()) {
+            return null;
+        }
+        return companyId == null ? Set.of() : Set.of(companyId);
+    }
+
+    /**
+     * 주어진 공장에 접근할 수 있는지 확인합니다.
+     *
+     * @param factoryId 확인할 공장 ID
+     * @return 접근할 수 있으면 true
+     */
+    public boolean canAccessFactory(Long factoryId) {
+        return isAdmin() || (factoryId != null && factoryId.equals(this.factoryId));
+    }
+
+    /**
+     * 주어진 업체에 접근할 수 있는지 확인합니다.
+     *
+     * @param companyId 확인할 업체 ID
+     * @return 접근할 수 있으면 true
+     */
+    public boolean canAccessCompany(Long companyId) {
+        return isAdmin() || (companyId != null && companyId.equals(this.companyId));
+    }
+}
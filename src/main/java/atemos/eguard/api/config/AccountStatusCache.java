@@ -0,0 +1,119 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.AuthenticationStatus;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근로자 계정 상태(AuthenticationStatus)와 토큰 세대(tokenEpoch)를 메모리에 보관하는 컴포넌트 클래스.
+ * JwtRequestFilter가 요청마다 근로자를 조회하지 않고 계정 상태와 토큰 폐기 여부를 검증할 수 있도록 합니다.
+ * 근로자 수정/삭제, 계정 잠금, 비밀번호 변경 등으로 계정 상태가 바뀌면 해당 근로자의 항목을 제거합니다.
+ * 다른 서버에서 폐기한 토큰도 반영되도록 보관한 항목은 ACCOUNT_STATE_TTL이 지나면 데이터베이스에서 다시 조회합니다.
+ * (토큰 세대 증가를 다른 서버에 전파하지 않으므로, 다른 서버에서는 폐기된 토큰이 최대 30초 동안 인증될 수 있습니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountStatusCache {
+    // 계정 상태 보관 시간 (다른 서버에서 폐기한 토큰이 이 서버에서 거부되기까지의 최대 지연)
+    private static final Duration ACCOUNT_STATE_TTL = Duration.ofSeconds(30);
+    private final EmployeeRepository employeeRepository;
+    // 근로자 ID별 계정 상태와 토큰 세대
+    private final Map<Long, AccountState> accountStatuses = new ConcurrentHashMap<>();
+
+    /**
+     * 근로자의 계정 상태와 토큰 세대.
+     *
+     * @param status 계정 상태
+     * @param tokenEpoch 토큰 세대 (이보다 작은 세대의 토큰은 폐기된 토큰)
+     * @param loadedAt 조회 시각
+     */
+    private record AccountState(AuthenticationStatus status, long tokenEpoch, LocalDateTime loadedAt) {
+    }
+
+    /**
+     * 근로자의 계정 상태를 조회합니다. 메모리에 없으면 데이터베이스에서 조회하여 보관합니다.
+     *
+     * @param employeeId 근로자 ID
+     * @return 계정 상태, 근로자가 존재하지 않으면 DELETED
+     */
+    public AuthenticationStatus getStatus(Long employeeId) {
+        return getAccountState(employeeId).status();
+    }
+
+    /**
+     * 근로자의 현재 토큰 세대를 조회합니다. 메모리에 없으면 데이터베이스에서 조회하여 보관합니다.
+     *
+     * @param employeeId 근로자 ID
+     * @return 토큰 세대, 근로자가 존재하지 않으면 Long.MAX_VALUE (모든 토큰 폐기)
+     */
+    public long getTokenEpoch(Long employeeId) {
+        return getAccountState(employeeId).tokenEpoch();
+    }
+
+    /**
+     * 근로자에게 발급된 모든 토큰을 폐기합니다.
+     * 토큰 세대를 1 증가시키므로, 호출한 트랜잭션에서 근로자 엔티티를 저장해야 합니다.
+     *
+     * @param employee 토큰을 폐기할 근로자
+     */
+    public void revokeTokens(Employee employee) {
+        employee.setTokenEpoch(employee.getTokenEpoch() + 1);
+        evict(employee);
+    }
+
+    /**
+     * 근로자의 계정 상태와 토큰 세대를 메모리에서 제거합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 제거하여, 커밋 전에 다시 적재된 이전 상태가 남지 않도록 합니다.
+     *
+     * @param employee 계정 상태가 변경된 근로자
+     */
+    public void evict(Employee employee) {
+        Optional.ofNullable(employee.getId()).ifPresent(this::evict);
+    }
+
+    /**
+     * 근로자의 계정 상태와 토큰 세대를 메모리에서 제거합니다.
+     *
+     * @param employeeId 계정 상태가 변경된 근로자 ID
+     */
+    public void evict(Long employeeId) {
+        accountStatuses.remove(employeeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accountStatuses.remove(employeeId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 근로자의 계정 상태와 토큰 세대를 조회합니다.
+     * 메모리에 없거나 보관 시간이 지났으면 데이터베이스에서 조회하여 보관합니다. (조회는 맵 잠금 밖에서 실행)
+     *
+     * @param employeeId 근로자 ID
+     * @return 계정 상태와 토큰 세대
+     */
+    private AccountState getAccountState(Long employeeId) {
+        var cached = accountStatuses.get(employeeId);
+        if (cached != null && cached.loadedAt().plus(ACCOUNT_STATE_TTL).isAfter(LocalDateTime.now())) {
+            return cached;
+        }
+        var loaded = employeeRepository.findById(employeeId)
+                .map(employee -> new AccountState(employee.getAuthenticationStatus(), employee.getTokenEpoch(), LocalDateTime.now()))
+                .orElse(new AccountState(AuthenticationStatus.DELETED, Long.MAX_VALUE, LocalDateTime.now()));
+        accountStatuses.put(employeeId, loaded);
+        return loaded;
+    }
+}
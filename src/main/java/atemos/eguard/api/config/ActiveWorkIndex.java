@@ -0,0 +1,314 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.WorkStatus;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Work;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근로자별로 투입된 진행 중(IN_PROGRESS) 작업을 메모리에 보관하는 컴포넌트 클래스.
+ * - 작업 등록/수정 시 근로자가 다른 진행 중인 작업에 투입되어 있는지 메모리에서 바로 확인합니다.
+ * - 같은 트랜잭션에서 active_work_assignment 테이블(근로자 ID가 기본키)을 함께 갱신하므로,
+ *   동시에 같은 근로자를 서로 다른 진행 중인 작업에 투입하면 나중에 커밋하려는 요청이 데이터베이스에서 거부됩니다.
+ *   (기본키 중복, 잠금 충돌 모두 같은 충돌 오류로 응답합니다)
+ * - 메모리 값은 커밋 이후에 반영하며, 다른 인스턴스의 변경을 반영하기 위해 주기적으로 테이블에서 다시 적재합니다.
+ *   다시 적재할 때는 새 맵을 만들어 통째로 교체하며, 적재하는 동안 이 인스턴스에서 반영된 근로자는 적재한 값 대신 메모리 값을 유지합니다.
+ *   메모리에서 충돌로 판단된 근로자는 거부하기 전에 테이블에서 다시 확인합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class ActiveWorkIndex {
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    // 근로자 ID별 진행 중인 작업 ID (다시 적재할 때 새 맵으로 교체)
+    private volatile Map<Long, Long> activeWorks = new ConcurrentHashMap<>();
+    // 메모리 변경과 맵 교체를 직렬화하는 잠금
+    private final Object lock = new Object();
+    // 다시 적재하는 동안 메모리에서 변경된 근로자 ID (적재 중이 아니면 null)
+    private Set<Long> modifiedDuringReload;
+
+    public ActiveWorkIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * 애플리케이션 시작 시 active_work_assignment 테이블을 작업 상태에 맞게 정리한 뒤 메모리에 적재합니다.
+     * 테이블 도입 전에 등록된 진행 중인 작업도 반영하며, 이미 여러 진행 중인 작업에 투입된 근로자는 ID가 가장 작은 작업만 기록합니다.
+     * 이렇게 기록되지 않은 작업은 충돌 검사에서 보이지 않으므로, 해당 근로자와 작업을 경고 로그로 남겨 정리할 수 있도록 합니다.
+     */
+    @PostConstruct
+    public void synchronize() {
+        var removed = jdbcTemplate.update("DELETE FROM active_work_assignment WHERE NOT EXISTS (" +
+                "SELECT 1 FROM work_employee we JOIN work w ON w.id = we.work_id " +
+                "WHERE we.work_id = active_work_assignment.work_id AND we.employee_id = active_work_assignment.employee_id " +
+                "AND w.status = ?)", WorkStatus.IN_PROGRESS.name());
+        try {
+            var added = jdbcTemplate.update("INSERT INTO active_work_assignment (employee_id, work_id) " +
+                    "SELECT we.employee_id, MIN(we.work_id) FROM work_employee we JOIN work w ON w.id = we.work_id " +
+                    "WHERE w.status = ? AND NOT EXISTS (SELECT 1 FROM active_work_assignment a WHERE a.employee_id = we.employee_id) " +
+                    "GROUP BY we.employee_id", WorkStatus.IN_PROGRESS.name());
+            log.info("진행 중인 작업 투입 정보 동기화 완료: 삭제={}건, 추가={}건", removed, added);
+        } catch (DuplicateKeyException e) {
+            // 다른 인스턴스가 먼저 기록한 경우 그 값을 사용
+            log.info("다른 인스턴스에서 진행 중인 작업 투입 정보를 이미 동기화했습니다.");
+        }
+        reload();
+        findMultipleActiveWorks().forEach((employeeId, workIds) ->
+                log.warn("근로자 ID: {}가 여러 진행 중인 작업 {}에 투입되어 있어 작업 ID: {}만 충돌 검사에 사용합니다.",
+                        employeeId, workIds, activeWorks.get(employeeId)));
+    }
+
+    /**
+     * 두 개 이상의 진행 중인 작업에 투입된 근로자와 그 작업 ID 목록을 조회합니다.
+     * active_work_assignment 테이블 도입 전에 등록되었거나 테이블 밖에서 변경된 작업에서만 발생합니다.
+     *
+     * @return 근로자 ID별 투입된 진행 중인 작업 ID 목록 (오름차순, 충돌이 없으면 빈 맵)
+     */
+    Map<Long, List<Long>> findMultipleActiveWorks() {
+        var multipleActiveWorks = new LinkedHashMap<Long, List<Long>>();
+        jdbcTemplate.query("SELECT we.employee_id, we.work_id FROM work_employee we JOIN work w ON w.id = we.work_id " +
+                        "WHERE w.status = ? AND we.employee_id IN (" +
+                        "SELECT we2.employee_id FROM work_employee we2 JOIN work w2 ON w2.id = we2.work_id " +
+                        "WHERE w2.status = ? GROUP BY we2.employee_id HAVING COUNT(DISTINCT we2.work_id) > 1) " +
+                        "ORDER BY we.employee_id, we.work_id",
+                rs -> {
+                    multipleActiveWorks.computeIfAbsent(rs.getLong("employee_id"), employeeId -> new ArrayList<>())
+                            .add(rs.getLong("work_id"));
+                }, WorkStatus.IN_PROGRESS.name(), WorkStatus.IN_PROGRESS.name());
+        return multipleActiveWorks;
+    }
+
+    /**
+     * 테이블에서 진행 중인 작업 목록을 새 맵으로 다시 적재한 뒤 메모리 맵을 교체합니다. (다른 인스턴스에서 변경된 작업 반영)
+     * 적재하는 동안 커밋되어 메모리에 반영된 근로자는 적재한 값이 더 오래되었을 수 있으므로 메모리 값을 유지합니다.
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void reload() {
+        synchronized (lock) {
+            modifiedDuringReload = new HashSet<>();
+        }
+        var loaded = new ConcurrentHashMap<Long, Long>();
+        try {
+            jdbcTemplate.query("SELECT employee_id, work_id FROM active_work_assignment",
+                    rs -> {
+                        loaded.put(rs.getLong("employee_id"), rs.getLong("work_id"));
+                    });
+        } catch (RuntimeException e) {
+            synchronized (lock) {
+                modifiedDuringReload = null;
+            }
+            throw e;
+        }
+        synchronized (lock) {
+            var current = activeWorks;
+            modifiedDuringReload.forEach(employeeId -> Optional.ofNullable(current.get(employeeId))
+                    .ifPresentOrElse(workId -> loaded.put(employeeId, workId), () -> loaded.remove(employeeId)));
+            log.debug("진행 중인 작업 적재 완료: 근로자 {}명 (적재 중 변경되어 유지한 근로자 {}명)", loaded.size(), modifiedDuringReload.size());
+            modifiedDuringReload = null;
+            activeWorks = loaded;
+        }
+    }
+
+    /**
+     * 근로자들 중 주어진 작업이 아닌 다른 진행 중인 작업에 투입된 근로자를 조회합니다.
+     *
+     * @param employeeIds 확인할 근로자 ID 목록
+     * @param workId 확인에서 제외할 작업 ID (신규 등록이면 null)
+     * @return 근로자 ID별 투입된 다른 진행 중인 작업 ID (충돌이 없으면 빈 맵)
+     */
+    public Map<Long, Long> findConflicts(Collection<Long> employeeIds, Long workId) {
+        var conflicts = new HashMap<Long, Long>();
+        employeeIds.stream().filter(Objects::nonNull).distinct().forEach(employeeId -> {
+            var activeWorkId = activeWorks.get(employeeId);
+            if (activeWorkId != null && !activeWorkId.equals(workId)) {
+                conflicts.put(employeeId, activeWorkId);
+            }
+        });
+        if (conflicts.isEmpty()) {
+            return conflicts;
+        }
+        // 메모리 값이 다른 인스턴스의 변경을 반영하지 못했을 수 있으므로 충돌한 근로자만 테이블에서 다시 확인
+        var confirmed = new HashMap<Long, Long>();
+        namedParameterJdbcTemplate.query("SELECT employee_id, work_id FROM active_work_assignment WHERE employee_id IN (:employeeIds)",
+                new MapSqlParameterSource("employeeIds", conflicts.keySet()),
+                rs -> {
+                    confirmed.put(rs.getLong("employee_id"), rs.getLong("work_id"));
+                });
+        conflicts.keySet().forEach(employeeId -> Optional.ofNullable(confirmed.get(employeeId))
+                .ifPresentOrElse(activeWorkId -> put(employeeId, activeWorkId), () -> remove(employeeId)));
+        confirmed.values().removeIf(activeWorkId -> activeWorkId.equals(workId));
+        return confirmed;
+    }
+
+    /**
+     * 새로 등록된 작업의 근로자 투입 정보를 테이블과 메모리에 반영합니다. 작업이 진행 중일 때만 기록합니다.
+     * 새 작업에는 기존 기록이 없으므로 삭제 없이 INSERT만 실행합니다. (빈 범위 삭제가 잡는 갭 잠금으로 동시 등록끼리 교착되지 않도록)
+     * 반드시 작업을 저장한 트랜잭션 안에서 호출해야 하며, 메모리에는 커밋 이후에 반영됩니다.
+     *
+     * @param work 등록된 작업 엔티티
+     * @throws IllegalArgumentException 근로자가 이미 다른 진행 중인 작업에 투입된 경우
+     */
+    public void assign(Work work) {
+        var employeeIds = activeEmployeeIds(work);
+        insert(work.getId(), employeeIds);
+        afterCommit(() -> employeeIds.forEach(employeeId -> put(employeeId, work.getId())));
+    }
+
+    /**
+     * 수정된 작업의 근로자 투입 정보를 테이블과 메모리에 반영합니다.
+     * 기존 기록을 제거한 뒤, 작업이 진행 중이면 투입된 근로자를 다시 기록합니다.
+     * 반드시 작업을 저장한 트랜잭션 안에서 호출해야 하며, 메모리에는 커밋 이후에 반영됩니다.
+     *
+     * @param work 수정된 작업 엔티티
+     * @throws IllegalArgumentException 근로자가 이미 다른 진행 중인 작업에 투입된 경우
+     */
+    public void reassign(Work work) {
+        var workId = work.getId();
+        var employeeIds = activeEmployeeIds(work);
+        try {
+            jdbcTemplate.update("DELETE FROM active_work_assignment WHERE work_id = ?", workId);
+        } catch (PessimisticLockingFailureException e) {
+            throw conflict(workId, e);
+        }
+        insert(workId, employeeIds);
+        afterCommit(() -> {
+            removeWork(workId);
+            employeeIds.forEach(employeeId -> put(employeeId, workId));
+        });
+    }
+
+    /**
+     * 삭제된 작업의 근로자 투입 정보를 테이블과 메모리에서 제거합니다.
+     * 반드시 작업을 삭제한 트랜잭션 안에서 호출해야 하며, 메모리에는 커밋 이후에 반영됩니다.
+     *
+     * @param workId 삭제된 작업 ID
+     */
+    public void release(Long workId) {
+        jdbcTemplate.update("DELETE FROM active_work_assignment WHERE work_id = ?", workId);
+        afterCommit(() -> removeWork(workId));
+    }
+
+    /**
+     * 메모리에 근로자의 진행 중인 작업을 기록합니다.
+     */
+    private void put(Long employeeId, Long workId) {
+        synchronized (lock) {
+            activeWorks.put(employeeId, workId);
+            markModified(employeeId);
+        }
+    }
+
+    /**
+     * 메모리에서 근로자의 진행 중인 작업 기록을 제거합니다.
+     */
+    private void remove(Long employeeId) {
+        synchronized (lock) {
+            activeWorks.remove(employeeId);
+            markModified(employeeId);
+        }
+    }
+
+    /**
+     * 메모리에서 주어진 작업에 투입된 근로자 기록을 모두 제거합니다.
+     */
+    private void removeWork(Long workId) {
+        synchronized (lock) {
+            activeWorks.entrySet().removeIf(entry -> {
+                if (!workId.equals(entry.getValue())) {
+                    return false;
+                }
+                markModified(entry.getKey());
+                return true;
+            });
+        }
+    }
+
+    /**
+     * 다시 적재하는 중이면 변경된 근로자를 기록합니다. (잠금을 잡은 상태에서 호출)
+     */
+    private void markModified(Long employeeId) {
+        if (modifiedDuringReload != null) {
+            modifiedDuringReload.add(employeeId);
+        }
+    }
+
+    /**
+     * 진행 중인 작업에 투입된 근로자 ID를 오름차순으로 반환합니다. (진행 중이 아니면 빈 목록)
+     * 동시에 INSERT하는 트랜잭션들이 같은 순서로 행을 잠가 서로 교착되지 않도록 정렬합니다.
+     */
+    private static List<Long> activeEmployeeIds(Work work) {
+        if (work.getStatus() != WorkStatus.IN_PROGRESS || work.getEmployees() == null) {
+            return List.of();
+        }
+        return work.getEmployees().stream().map(Employee::getId).distinct().sorted().toList();
+    }
+
+    /**
+     * 근로자 투입 정보를 테이블에 기록합니다.
+     * 이미 다른 작업에 기록된 근로자(기본키 중복)나 동시 요청과의 잠금 충돌(잠금 대기 초과, 교착 상태)은 같은 충돌 오류로 응답합니다.
+     */
+    private void insert(Long workId, List<Long> employeeIds) {
+        if (employeeIds.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate("INSERT INTO active_work_assignment (employee_id, work_id) VALUES (?, ?)",
+                    employeeIds, employeeIds.size(), (ps, employeeId) -> {
+                        ps.setLong(1, employeeId);
+                        ps.setLong(2, workId);
+                    });
+        } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+            throw conflict(workId, e);
+        }
+    }
+
+    /**
+     * 근로자 투입 충돌 예외를 생성합니다.
+     */
+    private static IllegalArgumentException conflict(Long workId, RuntimeException cause) {
+        log.warn("작업 ID: {}에 투입하려는 근로자가 이미 다른 진행 중인 작업에 참여 중입니다: {}", workId, cause.getMessage());
+        return new IllegalArgumentException("근로자들이 이미 다른 작업에 참여 중입니다.", cause);
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 그렇지 않으면 즉시 작업을 실행합니다.
+     * 롤백된 작업이 메모리에 반영되지 않도록 하기 위함입니다.
+     */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,472 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.dto.AlarmDto;
+import atemos.eguard.api.entity.Alarm;
+import atemos.eguard.api.entity.Company;
+import atemos.eguard.api.entity.Factory;
+import atemos.eguard.api.listener.AlarmChangedEvent;
+import atemos.eguard.api.repository.AlarmRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 실시간 알람 스트림(SSE) 연결을 관리하고 변경된 알람을 구독자에게 전송하는 컴포넌트 클래스.
+ * 알람을 등록하거나 수정한 트랜잭션이 커밋되면(AlarmChangedEvent) 변경된 알람만 조회하여
+ * 해당 알람을 조회할 수 있는 구독자(공장 단위, ADMIN은 전체)에게만 전송합니다.
+ * 다른 인스턴스에서 커밋된 알람은 모든 연결이 공유하는 하나의 스케줄러가 주기적으로 수정일시 이후의 알람을 조회하여 전송합니다.
+ * 구독자마다 크기가 제한된 전송 대기열을 가지며, 대기열이 가득 찬 느린 구독자는 연결을 종료합니다.
+ * 전송하는 모든 알람에는 단조 증가하는 이벤트 ID("서버 기동 시각:순번")가 붙고, 최근 알람은 재전송 버퍼에 보관되어
+ * 재연결한 클라이언트가 Last-Event-ID를 보내면 누락된 알람만 다시 전송합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AlarmBroadcaster {
+    // SSE 연결 타임아웃 (30분)
+    private static final long EMITTER_TIMEOUT = 30 * 60 * 1000L;
+    // 구독자별 전송 대기열 크기
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = 256;
+    // 다른 인스턴스에서 커밋이 늦은 알람을 놓치지 않도록 이전 조회 시각보다 앞당겨 조회하는 시간
+    private static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+    // 커밋된 알람을 한 번에 조회할 최대 ID 개수
+    private static final int CHANGED_ALARM_BATCH_SIZE = 1000;
+    // 재연결 시 누락된 알람을 다시 전송하기 위해 보관하는 최근 알람 개수
+    private static final int REPLAY_BUFFER_CAPACITY = 4096;
+    // 서버 기동 시각 (재기동 전에 발급된 이벤트 ID를 구분하는 데 사용)
+    private static final long STREAM_EPOCH = System.currentTimeMillis();
+    private final AlarmRepository alarmRepository;
+    private final EncryptUtil encryptUtil;
+    // 공장 ID별 구독자 목록
+    private final Map<Long, Set<Subscriber>> factorySubscribers = new ConcurrentHashMap<>();
+    // 모든 공장의 알람을 수신하는 ADMIN 구독자 목록
+    private final Set<Subscriber> adminSubscribers = ConcurrentHashMap.newKeySet();
+    // 알람 ID별 마지막으로 전송한 수정일시 (중복 전송 방지)
+    private final Map<Long, LocalDateTime> broadcastVersions = new ConcurrentHashMap<>();
+    // 구독자 대기열을 비우며 실제로 전송하는 스레드 풀
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    // 최근 전송한 알람 재전송 버퍼 (순번 순, 순번 발급과 구독 등록은 이 버퍼를 잠그고 수행)
+    private final Deque<AlarmChange> replayBuffer = new ArrayDeque<>(REPLAY_BUFFER_CAPACITY);
+    // 마지막으로 발급한 이벤트 순번
+    private long sequence;
+    // 마지막으로 조회한 알람의 수정일시
+    private volatile LocalDateTime watermark = LocalDateTime.now();
+
+    /**
+     * 전송할 알람 변경 사항과 구독자 필터링에 필요한 정보를 담는 클래스.
+     *
+     * @param sequence 이벤트 순번
+     * @param alarm 전송할 알람 정보
+     * @param factoryId 알람을 수신한 근로자가 속한 공장 ID (소속 공장이 없으면 null)
+     * @param companyId 알람을 수신한 근로자가 속한 업체 ID (소속 공장이 없으면 null)
+     */
+    private record AlarmChange(long sequence, AlarmDto.ReadAlarmResponse alarm, Long factoryId, Long companyId) {
+    }
+
+    /**
+     * SSE 연결 하나를 나타내는 구독자 클래스.
+     */
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final AlarmDto.ReadAlarmRequest filter;
+        // 구독한 근로자의 소속 공장 ID (소속 공장이 없으면 null)
+        private final Long factoryId;
+        private final boolean admin;
+        private final BlockingQueue<AlarmChange> queue = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        // 초기 데이터(전체 알람 목록) 전송이 끝나 대기열을 전송할 수 있는지 여부
+        private volatile boolean ready;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, AlarmDto.ReadAlarmRequest filter, Long factoryId, boolean admin) {
+            this.emitter = emitter;
+            this.filter = filter;
+            this.factoryId = factoryId;
+            this.admin = admin;
+        }
+    }
+
+    /**
+     * 새로운 SSE 연결을 등록합니다.
+     * Last-Event-ID 이후의 알람이 재전송 버퍼에 모두 남아 있으면 누락된 알람만 전송하고,
+     * 최초 연결이거나 누락 구간이 버퍼보다 오래되었으면 전체 알람 목록을 먼저 전송합니다.
+     * 이후에는 변경된 알람만 "alarm-delta" 이벤트로 전송합니다.
+     *
+     * @param accessScope 연결을 요청한 근로자의 접근 범위
+     * @param filter 알람 조회 조건
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 ID (최초 연결이면 null)
+     * @param snapshotSupplier 전체 알람 목록을 조회하는 함수
+     * @return SSE 연결을 위한 SseEmitter 객체
+     */
+    public SseEmitter subscribe(AccessScope accessScope, AlarmDto.ReadAlarmRequest filter, String lastEventId,
+                                Supplier<AlarmDto.ReadAlarmResponseList> snapshotSupplier) {
+        var emitter = new SseEmitter(EMITTER_TIMEOUT);
+        var subscriber = new Subscriber(emitter, filter, accessScope.getFactoryId(), accessScope.isAdmin());
+        // 연결 종료, 타임아웃, 오류 시 구독 해제
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(e -> unsubscribe(subscriber));
+        long snapshotSequence;
+        boolean resumed;
+        // 등록과 누락 알람 선별을 순번 발급과 같은 잠금 안에서 수행하여 누락이나 중복 없이 이어서 전송
+        synchronized (replayBuffer) {
+            register(subscriber);
+            snapshotSequence = sequence;
+            resumed = resume(subscriber, lastEventId);
+        }
+        try {
+            if (!resumed) {
+                // 등록 이후의 변경 사항은 대기열에 쌓이므로, 전체 알람 목록을 먼저 전송한 뒤 대기열을 전송
+                emitter.send(SseEmitter.event()
+                        .id(toEventId(snapshotSequence))
+                        .data(snapshotSupplier.get())
+                        .name("alarm"));
+            }
+            subscriber.ready = true;
+            drain(subscriber);
+        } catch (IOException e) {
+            unsubscribe(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Last-Event-ID 이후의 누락된 알람을 재전송 버퍼에서 찾아 구독자의 대기열에 추가합니다.
+     * 재전송 버퍼 잠금을 획득한 상태에서 호출해야 합니다.
+     *
+     * @param subscriber 구독자
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 ID
+     * @return 누락된 알람만으로 이어서 전송할 수 있으면 true, 전체 알람 목록이 필요하면 false
+     */
+    private boolean resume(Subscriber subscriber, String lastEventId) {
+        var lastSequence = parseEventId(lastEventId);
+        // 이벤트 ID가 없거나, 다른 기동에서 발급되었거나, 아직 발급되지 않은 순번이면 전체 목록 필요
+        if (lastSequence == null || lastSequence > sequence) {
+            return false;
+        }
+        // 누락 구간의 시작이 재전송 버퍼보다 오래되었으면 전체 목록 필요
+        var oldestSequence = replayBuffer.isEmpty() ? sequence + 1 : replayBuffer.peekFirst().sequence();
+        if (lastSequence + 1 < oldestSequence) {
+            return false;
+        }
+        var missed = replayBuffer.stream()
+                .filter(change -> change.sequence() > lastSequence)
+                .filter(change -> canReceive(subscriber, change))
+                .toList();
+        if (missed.size() > SUBSCRIBER_QUEUE_CAPACITY) {
+            return false;
+        }
+        subscriber.queue.addAll(missed);
+        return true;
+    }
+
+    /**
+     * 알람을 등록하거나 수정한 트랜잭션이 커밋되면 변경된 알람을 조회하여 해당 알람을 조회할 수 있는 구독자에게 전송합니다.
+     * 커밋 이후에 실행되므로 커밋이 얼마나 늦어지더라도 알람을 놓치지 않으며, 구독자가 없어도 재연결에 대비해 재전송 버퍼는 계속 채웁니다.
+     * 트랜잭션 없이 발행된 경우에도 바로 실행됩니다.
+     *
+     * @param alarmChangedEvent 등록 또는 수정된 알람 정보
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleAlarmChanged(AlarmChangedEvent alarmChangedEvent) {
+        var alarmIds = alarmChangedEvent.getAlarmIds();
+        for (int from = 0; from < alarmIds.size(); from += CHANGED_ALARM_BATCH_SIZE) {
+            var batch = alarmIds.subList(from, Math.min(from + CHANGED_ALARM_BATCH_SIZE, alarmIds.size()));
+            alarmRepository.findByIdInOrderByUpdatedAtAsc(batch).forEach(this::broadcast);
+        }
+    }
+
+    /**
+     * 주기적으로 수정일시 이후의 알람을 조회하여 다른 인스턴스에서 커밋된 알람을 구독자에게 전송합니다.
+     * 모든 연결이 이 하나의 조회를 공유하며, 이 인스턴스에서 이미 전송한 알람은 다시 전송하지 않습니다.
+     */
+    @Scheduled(fixedDelay = 10000)
+    @Transactional(readOnly = true)
+    public void broadcastAlarmChanges() {
+        var since = watermark.minus(POLL_OVERLAP);
+        alarmRepository.findByUpdatedAtAfterOrderByUpdatedAtAsc(since).forEach(alarm -> {
+            if (alarm.getUpdatedAt().isAfter(watermark)) {
+                watermark = alarm.getUpdatedAt();
+            }
+            broadcast(alarm);
+        });
+        // 조회 범위를 벗어난 전송 기록은 제거
+        var expiredBefore = watermark.minus(POLL_OVERLAP);
+        broadcastVersions.values().removeIf(updatedAt -> updatedAt.isBefore(expiredBefore));
+    }
+
+    /**
+     * 같은 버전을 아직 전송하지 않은 알람이면 구독자에게 전송합니다.
+     *
+     * @param alarm 전송할 알람 엔티티
+     */
+    private void broadcast(Alarm alarm) {
+        // 이미 같은 버전을 전송한 알람은 제외 (커밋 직후 전송과 주기적인 조회가 겹치는 경우)
+        if (!alarm.getUpdatedAt().equals(broadcastVersions.put(alarm.getId(), alarm.getUpdatedAt()))) {
+            publish(alarm);
+        }
+    }
+
+    /**
+     * 연결이 끊어진 구독자를 정리하기 위해 주기적으로 하트비트(SSE 주석)를 전송합니다.
+     */
+    @Scheduled(fixedRate = 30000)
+    public void sendHeartbeat() {
+        allSubscribers().forEach(subscriber -> sender.execute(() -> {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber);
+            }
+        }));
+    }
+
+    /**
+     * 알람에 이벤트 순번을 발급하여 재전송 버퍼에 보관하고, 조회 권한과 조회 조건이 맞는 구독자의 대기열에 추가합니다.
+     *
+     * @param alarm 전송할 알람 엔티티
+     */
+    private void publish(Alarm alarm) {
+        var response = toAlarmResponse(alarm);
+        var factory = Optional.ofNullable(alarm.getEmployee().getFactory());
+        var factoryId = factory.map(Factory::getId).orElse(null);
+        var companyId = factory.map(Factory::getCompany).map(Company::getId).orElse(null);
+        synchronized (replayBuffer) {
+            var change = new AlarmChange(++sequence, response, factoryId, companyId);
+            if (replayBuffer.size() == REPLAY_BUFFER_CAPACITY) {
+                replayBuffer.pollFirst();
+            }
+            replayBuffer.addLast(change);
+            Stream.concat(adminSubscribers.stream(),
+                            factorySubscribersOf(change.factoryId()).stream().flatMap(Set::stream))
+                    .filter(subscriber -> matches(subscriber.filter, change))
+                    .forEach(subscriber -> {
+                        if (!subscriber.queue.offer(change)) {
+                            // 대기열이 가득 찬 느린 구독자는 연결을 종료 (재연결 시 누락된 알람 또는 전체 목록을 다시 수신)
+                            log.warn("알람 전송 대기열이 가득 차 SSE 연결을 종료합니다.");
+                            unsubscribe(subscriber);
+                            subscriber.emitter.complete();
+                            return;
+                        }
+                        drain(subscriber);
+                    });
+        }
+    }
+
+    /**
+     * 구독자가 알람 변경 사항을 수신할 수 있는지 확인합니다. (ADMIN은 모든 공장, 그 외는 소속 공장만)
+     *
+     * @param subscriber 구독자
+     * @param change 알람 변경 사항
+     * @return 수신할 수 있으면 true
+     */
+    private boolean canReceive(Subscriber subscriber, AlarmChange change) {
+        return (subscriber.admin || (subscriber.factoryId != null && subscriber.factoryId.equals(change.factoryId())))
+                && matches(subscriber.filter, change);
+    }
+
+    /**
+     * 구독자의 대기열에 쌓인 알람을 순서대로 전송합니다. 구독자별로 동시에 하나의 전송 작업만 실행됩니다.
+     *
+     * @param subscriber 전송할 구독자
+     */
+    private void drain(Subscriber subscriber) {
+        if (!subscriber.ready || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        sender.execute(() -> {
+            try {
+                AlarmChange change;
+                while (!subscriber.closed && (change = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(toEventId(change.sequence()))
+                            .data(change.alarm())
+                            .name("alarm-delta"));
+                }
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber);
+            } finally {
+                subscriber.draining.set(false);
+                // 전송 도중 추가된 알람이 있으면 다시 전송
+                if (!subscriber.closed && !subscriber.queue.isEmpty()) {
+                    drain(subscriber);
+                }
+            }
+        });
+    }
+
+    /**
+     * 구독자를 등록 해제합니다.
+     *
+     * @param subscriber 등록 해제할 구독자
+     */
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscriber.queue.clear();
+        adminSubscribers.remove(subscriber);
+        factorySubscribersOf(subscriber.factoryId).ifPresent(set -> set.remove(subscriber));
+    }
+
+    /**
+     * 구독자를 공장 또는 ADMIN 구독자 목록에 등록합니다.
+     * 소속 공장이 없는 근로자는 수신할 수 있는 알람이 없으므로 등록하지 않습니다. (전체 알람 목록만 전송)
+     *
+     * @param subscriber 등록할 구독자
+     */
+    private void register(Subscriber subscriber) {
+        if (subscriber.admin) {
+            adminSubscribers.add(subscriber);
+        } else if (subscriber.factoryId != null) {
+            factorySubscribers.computeIfAbsent(subscriber.factoryId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+    }
+
+    /**
+     * 공장의 구독자 목록을 조회합니다.
+     *
+     * @param factoryId 공장 ID (소속 공장이 없으면 null)
+     * @return 공장의 구독자 목록, 공장 ID가 없거나 구독자가 없으면 빈 값
+     */
+    private Optional<Set<Subscriber>> factorySubscribersOf(Long factoryId) {
+        return factoryId == null ? Optional.empty() : Optional.ofNullable(factorySubscribers.get(factoryId));
+    }
+
+    /**
+     * 이벤트 순번을 SSE 이벤트 ID로 변환합니다.
+     *
+     * @param sequence 이벤트 순번
+     * @return "서버 기동 시각:순번" 형식의 이벤트 ID
+     */
+    private static String toEventId(long sequence) {
+        return STREAM_EPOCH + ":" + sequence;
+    }
+
+    /**
+     * SSE 이벤트 ID에서 이벤트 순번을 추출합니다.
+     *
+     * @param eventId "서버 기동 시각:순번" 형식의 이벤트 ID
+     * @return 현재 기동에서 발급된 이벤트 ID이면 순번, 그렇지 않거나 형식이 잘못되었으면 null
+     */
+    private static Long parseEventId(String eventId) {
+        if (eventId == null || eventId.isBlank()) {
+            return null;
+        }
+        var parts = eventId.trim().split(":");
+        try {
+            if (parts.length != 2 || Long.parseLong(parts[0]) != STREAM_EPOCH) {
+                return null;
+            }
+            return Long.parseLong(parts[1]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 등록된 모든 구독자를 조회합니다.
+     *
+     * @return 모든 구독자 목록
+     */
+    private List<Subscriber> allSubscribers() {
+        return Stream.concat(adminSubscribers.stream(), factorySubscribers.values().stream().flatMap(Set::stream)).toList();
+    }
+
+    /**
+     * 알람 변경 사항이 구독자의 알람 조회 조건과 일치하는지 확인합니다. (AlarmSpecification과 동일한 조건)
+     *
+     * @param filter 구독자의 알람 조회 조건
+     * @param change 알람 변경 사항
+     * @return 조건과 일치하면 true
+     */
+    private boolean matches(AlarmDto.ReadAlarmRequest filter, AlarmChange change) {
+        var alarm = change.alarm();
+        return containsOrEmpty(filter.getAlarmIds(), alarm.getAlarmId())
+                && containsOrEmpty(filter.getEmployeeIds(), alarm.getEmployeeId())
+                && containsOrEmpty(filter.getEventIds(), alarm.getEventId())
+                && containsOrEmpty(filter.getFactoryIds(), change.factoryId())
+                && containsOrEmpty(filter.getCompanyIds(), change.companyId())
+                && containsOrEmpty(filter.getEmployeeIncidents(), alarm.getEmployeeIncident())
+                && containsOrEmpty(filter.getAreaIncidents(), alarm.getAreaIncident())
+                && (filter.getAlarmMessage() == null || (alarm.getAlarmMessage() != null && alarm.getAlarmMessage().contains(filter.getAlarmMessage())))
+                && (filter.getAlarmRead() == null || filter.getAlarmRead().equals(alarm.getAlarmRead()))
+                && (filter.getSearchStartTime() == null || !alarm.getCreatedAt().isBefore(filter.getSearchStartTime()))
+                && (filter.getSearchEndTime() == null || !alarm.getCreatedAt().isAfter(filter.getSearchEndTime()));
+    }
+
+    /**
+     * 조건 목록이 비어 있거나 값이 조건 목록에 포함되어 있는지 확인합니다.
+     */
+    private static <T> boolean containsOrEmpty(List<T> values, T value) {
+        return values == null || values.isEmpty() || values.contains(value);
+    }
+
+    /**
+     * 알람 엔티티를 전송할 알람 정보로 변환합니다.
+     *
+     * @param alarm 알람 엔티티
+     * @return 알람 정보
+     */
+    private AlarmDto.ReadAlarmResponse toAlarmResponse(Alarm alarm) {
+        var event = alarm.getEvent();
+        return AlarmDto.ReadAlarmResponse.builder()
+                .alarmId(alarm.getId())
+                .employeeId(alarm.getEmployee().getId())
+                .employeeName(encryptUtil.decrypt(alarm.getEmployee().getName()))
+                .eventId(event.getId())
+                .employeeIncident(event.getEmployeeIncident())
+                .areaIncident(event.getAreaIncident())
+                .eventEmployeeId(event.getEmployee() != null ? event.getEmployee().getId() : null)
+                .eventEmployeeName(event.getEmployee() != null ? encryptUtil.decrypt(event.getEmployee().getName()) : null)
+                .eventAreaId(event.getArea() != null ? event.getArea().getId() : null)
+                .eventAreaName(event.getArea() != null ? event.getArea().getName() : null)
+                .eventAreaLocation(event.getArea() != null ? event.getArea().getLocation() : null)
+                .eventResolved(event.getResolved())
+                .alarmMessage(alarm.getMessage())
+                .alarmRead(alarm.getIsRead())
+                .createdAt(alarm.getCreatedAt())
+                .updatedAt(alarm.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 SSE 연결을 종료하고 전송 스레드 풀을 종료합니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        allSubscribers().forEach(subscriber -> {
+            unsubscribe(subscriber);
+            subscriber.emitter.complete();
+        });
+        sender.shutdown();
+    }
+}
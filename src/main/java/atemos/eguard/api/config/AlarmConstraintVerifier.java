@@ -0,0 +1,56 @@
+package atemos.eguard.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * alarm 테이블의 (근로자, 사건) 유니크 제약조건을 확인하는 컴포넌트 클래스.
+ * - 알람 일괄 등록(insertAllIfAbsent)은 동시에 등록된 중복 알람을 uk_alarm_employee_event 제약조건 위반으로 걸러내므로 제약조건이 반드시 있어야 합니다.
+ * - ddl-auto: update는 기존 중복 데이터 때문에 제약조건을 추가하지 못해도 경고만 남기므로, 애플리케이션 시작 시 제약조건이 있는지 확인합니다.
+ * - 제약조건이 없으면 경고만 남기며, 중복 알람 정리와 제약조건 추가는 alarmDeduplicationJob을 명시적으로 실행하여 처리합니다.
+ *   (데이터베이스 메타데이터로 확인하므로 MySQL, H2 모두에서 동작합니다)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class AlarmConstraintVerifier {
+    public static final String UNIQUE_CONSTRAINT = "uk_alarm_employee_event";
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 애플리케이션 시작 시 유니크 제약조건이 있는지 확인하고, 없으면 중복 알람 정리 작업을 실행하도록 경고를 남깁니다.
+     */
+    @PostConstruct
+    public void verify() {
+        if (!hasUniqueConstraint()) {
+            log.warn("alarm 테이블에 유니크 제약조건 [{}]이 없습니다. alarmDeduplicationJob을 실행하기 전까지 중복 알람이 생성될 수 있습니다. " +
+                    "(--spring.batch.job.enabled=true --spring.batch.job.name=alarmDeduplicationJob)", UNIQUE_CONSTRAINT);
+        }
+    }
+
+    /**
+     * alarm 테이블에 (근로자, 사건) 유니크 제약조건(인덱스)이 있는지 확인합니다.
+     *
+     * @return 제약조건 존재 여부
+     */
+    public boolean hasUniqueConstraint() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            // 유니크 인덱스만 조회 (H2는 제약조건 이름 뒤에 접미사를 붙인 인덱스를 만듭니다)
+            try (var indexes = connection.getMetaData().getIndexInfo(connection.getCatalog(), connection.getSchema(), "alarm", true, true)) {
+                while (indexes.next()) {
+                    var indexName = indexes.getString("INDEX_NAME");
+                    if (indexName != null && indexName.toLowerCase().startsWith(UNIQUE_CONSTRAINT)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }));
+    }
+}
@@ -1,8 +1,6 @@
 package atemos.eguard.api.config;
 
-import atemos.eguard.api.entity.BlacklistedToken;
 import atemos.eguard.api.entity.Employee;
-import atemos.eguard.api.repository.BlacklistedTokenRepository;
 import atemos.eguard.api.repository.EmployeeRepository;
 import atemos.eguard.api.repository.RefreshTokenRepository;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,20 +16,22 @@ import java.util.Optional;
 
 /**
  * 로그아웃 처리를 담당하는 컴포넌트입니다.
- * JWT 토큰을 블랙리스트에 추가하고, 관련된 리프레시 토큰을 삭제합니다.
+ * 로그아웃한 토큰을 블랙리스트에 추가하고, 근로자의 토큰 세대를 증가시켜 발급된 모든 토큰을 폐기한 뒤 관련된 리프레시 토큰을 삭제합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomLogoutHandler implements LogoutHandler {
     private final JwtUtil jwtUtil;
+    private final TokenBlacklist tokenBlacklist;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    private final AccountStatusCache accountStatusCache;
+    private final EncryptUtil encryptUtil;
     private final EmployeeRepository employeeRepository;
     private final LogComponent logComponent;
 
     /**
-     * 로그아웃 처리를 수행합니다. 요청에서 JWT 토큰을 추출하고, 해당 토큰을 블랙리스트에 추가합니다.
+     * 로그아웃 처리를 수행합니다. 요청에서 JWT 토큰을 추출하고, 해당 근로자에게 발급된 모든 토큰을 폐기합니다.
      *
      * @param request        JWT 토큰을 추출할 HttpServletRequest
      * @param response       현재 HTTP 응답 객체
@@ -43,22 +43,20 @@ public class CustomLogoutHandler implements LogoutHandler {
         // HttpServletRequest에서 토큰을 가져온다.
         var token = jwtUtil.extractTokenFromRequest(request);
         if (token != null) {
-            // 블랙리스트에 이미 존재하는지 확인
-            boolean alreadyBlacklisted = blacklistedTokenRepository.existsByToken(token);
-            if (!alreadyBlacklisted) {
-                // JWT 토큰을 블랙리스트에 추가
-                blacklistedTokenRepository.save(
-                        BlacklistedToken.builder()
-                                .token(token)
-                                .build());
-            }
+            // 로그아웃한 토큰을 블랙리스트에 추가 (토큰 세대 클레임이 없는 토큰도 만료될 때까지 거부)
+            tokenBlacklist.blacklist(token);
             // JWT 토큰에서 근로자 이메일을 추출
             String email = jwtUtil.extractEmailFromToken(token);
             if (email != null) {
-                // Employee 엔티티를 근로자 이메일로 조회
-                Optional<Employee> employee = employeeRepository.findByEmail(email);
-                // 해당 근로자의 리프레시 토큰 삭제
-                employee.ifPresent(refreshTokenRepository::deleteByEmployee);
+                // Employee 엔티티를 근로자 이메일의 블라인드 인덱스로 조회
+                Optional<Employee> employee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(email), encryptUtil.encrypt(email.trim()));
+                employee.ifPresent(loggedOutEmployee -> {
+                    // 토큰 세대를 증가시켜 이 근로자에게 발급된 모든 토큰 폐기
+                    accountStatusCache.revokeTokens(loggedOutEmployee);
+                    employeeRepository.save(loggedOutEmployee);
+                    // 해당 근로자의 리프레시 토큰 삭제
+                    refreshTokenRepository.deleteByEmployee(loggedOutEmployee);
+                });
             }
             // 로그아웃 관련 인증 로그 기록
             logComponent.saveAuthenticationLog(HttpServletResponse.SC_OK, request.getRequestURI().replaceFirst("/eguard", ""), null);
@@ -183,6 +183,9 @@ public class DatabaseInitializer {
                                 .employeeNumber(employee.getEmployeeNumber())
                                 .email(encryptUtil.encrypt(employee.getEmail()))
                                 .phoneNumber(encryptUtil.encrypt(employee.getPhoneNumber()))
+                                .nameIndex(encryptUtil.blindIndex(employee.getName()))
+                                .emailIndex(encryptUtil.blindIndex(employee.getEmail()))
+                                .phoneNumberIndex(encryptUtil.blindIndex(employee.getPhoneNumber()))
                                 .factory(factory)
                                 .password(passwordEncoder.encode(employee.getPassword()))
                                 .role(employee.getRole())
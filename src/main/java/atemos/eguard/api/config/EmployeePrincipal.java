@@ -0,0 +1,99 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.entity.Company;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Factory;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.Optional;
+
+/**
+ * 인증된 근로자를 나타내는 Principal 클래스.
+ * 검증된 JWT 클레임에서 생성되므로, 요청마다 근로자 엔티티를 조회하지 않고도 근로자 ID, 권한, 소속 공장과 업체를 알 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class EmployeePrincipal implements Principal {
+    // 근로자 ID
+    private final Long employeeId;
+    // 근로자 이메일 (복호화된 값)
+    private final String email;
+    // 근로자 권한
+    private final EmployeeRole role;
+    // 소속 공장 ID
+    private final Long factoryId;
+    // 소속 업체 ID
+    private final Long companyId;
+    // 토큰 발급 시점의 프로필 버전 (근로자 정보의 마지막 수정 시각)
+    private final long profileVersion;
+    // 토큰 발급 시점의 토큰 세대
+    private final long tokenEpoch;
+
+    /**
+     * 검증된 JWT 클레임으로부터 Principal을 생성합니다.
+     *
+     * @param claims 검증된 JWT 클레임
+     * @return 근로자 ID 또는 권한이 없는 토큰이면 null
+     */
+    public static EmployeePrincipal from(Claims claims) {
+        var employeeId = toLong(claims.get("employeeId"));
+        var role = claims.get("role", String.class);
+        if (employeeId == null || role == null) {
+            return null;
+        }
+        return new EmployeePrincipal(employeeId, claims.getSubject(), EmployeeRole.valueOf(role),
+                toLong(claims.get("factoryId")), toLong(claims.get("companyId")),
+                Optional.ofNullable(toLong(claims.get("profileVersion"))).orElse(0L),
+                tokenEpochOf(claims));
+    }
+
+    /**
+     * 검증된 JWT 클레임의 토큰 세대를 조회합니다.
+     * 토큰 세대 클레임이 도입되기 전에 발급된 토큰은 세대 0으로 판단하므로, 토큰 세대가 한 번이라도 증가한 근로자의 토큰이면 폐기된 토큰이 됩니다.
+     *
+     * @param claims 검증된 JWT 클레임
+     * @return 토큰 세대, 클레임이 없으면 0
+     */
+    public static long tokenEpochOf(Claims claims) {
+        return Optional.ofNullable(toLong(claims.get("tokenEpoch"))).orElse(0L);
+    }
+
+    /**
+     * 근로자 엔티티로부터 Principal을 생성합니다.
+     * 토큰 세대는 근로자의 현재 세대가 아니라 토큰에 담긴 세대를 사용해야 폐기 여부를 확인할 수 있습니다.
+     * 공장 또는 업체가 없는 근로자는 클레임이 없는 토큰과 같이 공장 ID와 업체 ID를 null로 생성합니다.
+     *
+     * @param employee 근로자 엔티티
+     * @param email 근로자 이메일 (복호화된 값)
+     * @param tokenEpoch 토큰에 담긴 토큰 세대 (tokenEpochOf)
+     * @return 근로자 Principal
+     */
+    public static EmployeePrincipal from(Employee employee, String email, long tokenEpoch) {
+        var factory = Optional.ofNullable(employee.getFactory());
+        return new EmployeePrincipal(employee.getId(), email, employee.getRole(),
+                factory.map(Factory::getId).orElse(null),
+                factory.map(Factory::getCompany).map(Company::getId).orElse(null),
+                0L, tokenEpoch);
+    }
+
+    /**
+     * 인증 객체의 이름으로 근로자 이메일을 반환합니다.
+     *
+     * @return 근로자 이메일
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 클레임 값(Integer 또는 Long)을 Long으로 변환합니다.
+     */
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,83 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.dto.EmployeeDto;
+import atemos.eguard.api.entity.Employee;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 현재 로그인한 근로자의 프로필(/auth/info 응답)을 메모리에 보관하는 컴포넌트 클래스.
+ * Access Token에는 근로자 ID, 권한 등 최소한의 정보만 담고, 업체/공장 정보와 접근 가능한 메뉴 등은 이 캐시에서 제공합니다.
+ * 근로자 정보가 수정되거나 삭제되면 해당 근로자의 프로필을 제거하며, 공장/업체 정보 변경을 반영하기 위해 일정 시간 후 다시 조회합니다.
+ */
+@Component
+public class EmployeeProfileCache {
+    // 프로필 보관 시간
+    private static final Duration PROFILE_TTL = Duration.ofMinutes(5);
+    // 근로자 ID별 프로필
+    private final Map<Long, CachedProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * 보관 중인 프로필과 조회 시각.
+     *
+     * @param profile 근로자 프로필
+     * @param loadedAt 조회 시각
+     */
+    private record CachedProfile(EmployeeDto.ReadEmployeeResponse profile, LocalDateTime loadedAt) {
+    }
+
+    /**
+     * 근로자의 프로필을 조회합니다.
+     * 보관 중인 프로필이 없거나, 보관 시간이 지났거나, 토큰의 프로필 버전보다 오래되었으면 다시 조회하여 보관합니다.
+     *
+     * @param employeeId 근로자 ID
+     * @param profileVersion 토큰 발급 시점의 프로필 버전
+     * @param loader 프로필을 조회하는 함수
+     * @return 근로자 프로필
+     */
+    public EmployeeDto.ReadEmployeeResponse get(Long employeeId, long profileVersion, Supplier<EmployeeDto.ReadEmployeeResponse> loader) {
+        return profiles.compute(employeeId, (id, cached) -> {
+            if (cached != null
+                    && cached.loadedAt().plus(PROFILE_TTL).isAfter(LocalDateTime.now())
+                    && JwtUtil.toProfileVersion(cached.profile()) >= profileVersion) {
+                return cached;
+            }
+            return new CachedProfile(loader.get(), LocalDateTime.now());
+        }).profile();
+    }
+
+    /**
+     * 근로자의 프로필을 제거합니다.
+     *
+     * @param employee 정보가 변경된 근로자
+     */
+    public void evict(Employee employee) {
+        Optional.ofNullable(employee.getId()).ifPresent(this::evict);
+    }
+
+    /**
+     * 근로자의 프로필을 제거합니다.
+     * 트랜잭션 안에서 호출되면 트랜잭션이 끝난 후 한 번 더 제거하여, 커밋 전에 다시 조회된 이전 프로필이 남지 않도록 합니다.
+     *
+     * @param employeeId 정보가 변경된 근로자 ID
+     */
+    public void evict(Long employeeId) {
+        profiles.remove(employeeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    profiles.remove(employeeId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.EmployeeSearchField;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.EmployeeSearchToken;
+import atemos.eguard.api.repository.EmployeeSearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 암호화된 근로자 이름, 이메일, 전화번호의 부분 일치 검색을 위한 n-gram 블라인드 인덱스를 관리하는 컴포넌트 클래스.
+ * - 평문에서 공백을 제거하고 소문자로 바꾼 뒤(전화번호는 숫자만) 각 위치에서 시작하는 1~3글자 조각을 시작 위치와 함께 추출합니다.
+ * - 조각마다 필드명을 붙여 HMAC(EncryptUtil.blindIndex)으로 변환하므로 필드가 달라도 같은 토큰이 생기지 않습니다.
+ * - 검색어가 3글자 이하이면 검색어 자체의 토큰 하나로, 더 길면 검색어를 빈틈없이 덮는 3글자 조각들이
+ *   검색어 안에서와 같은 위치 차이로 저장된 근로자로 검색합니다. 조각의 순서까지 SQL에서 확인하므로 복호화하여 다시 확인할 필요가 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeSearchIndex {
+    // 추출할 조각의 최대 글자 수
+    private static final int GRAM_SIZE = 3;
+    private final EmployeeSearchTokenRepository employeeSearchTokenRepository;
+    private final EncryptUtil encryptUtil;
+
+    /**
+     * 근로자들의 검색 토큰을 현재 이름, 이메일, 전화번호로 다시 생성합니다.
+     * 기존 토큰을 삭제한 뒤 새 토큰을 일괄 등록하므로 호출한 트랜잭션 안에서 실행되어야 합니다.
+     *
+     * @param employees 검색 토큰을 생성할 근로자 목록 (저장되어 ID가 있어야 합니다)
+     */
+    public void reindex(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        // 필드별로 한 번에 복호화
+        var names = encryptUtil.decryptAll(employees.stream().map(Employee::getName).toList());
+        var emails = encryptUtil.decryptAll(employees.stream().map(Employee::getEmail).toList());
+        var phoneNumbers = encryptUtil.decryptAll(employees.stream().map(Employee::getPhoneNumber).toList());
+        var tokens = new ArrayList<EmployeeSearchToken>();
+        for (int i = 0; i < employees.size(); i++) {
+            var employee = employees.get(i);
+            addTokens(tokens, employee, EmployeeSearchField.NAME, names.get(i));
+            addTokens(tokens, employee, EmployeeSearchField.EMAIL, emails.get(i));
+            addTokens(tokens, employee, EmployeeSearchField.PHONE_NUMBER, phoneNumbers.get(i));
+        }
+        employeeSearchTokenRepository.deleteByEmployeeIds(employees.stream().map(Employee::getId).toList());
+        employeeSearchTokenRepository.insertAll(tokens);
+    }
+
+    /**
+     * 근로자의 검색 토큰을 모두 삭제합니다. 근로자를 삭제하기 전에 호출해야 합니다.
+     *
+     * @param employeeId 근로자 ID
+     */
+    public void remove(Long employeeId) {
+        employeeSearchTokenRepository.deleteByEmployeeIds(List.of(employeeId));
+    }
+
+    /**
+     * 검색어로 조회할 토큰과 검색어 안에서의 위치 목록을 생성합니다.
+     * 근로자의 같은 필드에 첫 번째 토큰의 위치를 기준으로 각 토큰이 주어진 위치 차이만큼 떨어져 저장되어 있으면 검색어를 포함하는 것으로 판단합니다.
+     * - 3글자 이하: 검색어 자체의 토큰 하나 (위치 0)
+     * - 3글자 초과: 위치 0, 3, 6, ...의 3글자 조각과 마지막 3글자 조각 (검색어의 모든 글자를 덮으므로 순서까지 일치해야 검색됩니다)
+     *
+     * @param field 검색할 필드
+     * @param term 검색어 (평문)
+     * @return 조회할 토큰 목록, 정규화한 검색어가 비어 있으면 빈 목록
+     */
+    public List<SearchToken> searchTokens(EmployeeSearchField field, String term) {
+        var codePoints = normalize(field, term).codePoints().toArray();
+        if (codePoints.length == 0) {
+            return List.of();
+        }
+        if (codePoints.length <= GRAM_SIZE) {
+            return List.of(new SearchToken(token(field, new String(codePoints, 0, codePoints.length)), 0));
+        }
+        var tokens = new ArrayList<SearchToken>();
+        for (int offset = 0; offset + GRAM_SIZE <= codePoints.length; offset += GRAM_SIZE) {
+            tokens.add(new SearchToken(token(field, new String(codePoints, offset, GRAM_SIZE)), offset));
+        }
+        // 검색어 길이가 3의 배수가 아니면 마지막 글자들을 덮는 조각 추가
+        var lastOffset = codePoints.length - GRAM_SIZE;
+        if (lastOffset % GRAM_SIZE != 0) {
+            tokens.add(new SearchToken(token(field, new String(codePoints, lastOffset, GRAM_SIZE)), lastOffset));
+        }
+        return tokens;
+    }
+
+    /**
+     * 필드 값의 각 위치에서 시작하는 1~3글자 조각을 시작 위치와 함께 토큰으로 변환하여 목록에 추가합니다.
+     */
+    private void addTokens(List<EmployeeSearchToken> tokens, Employee employee, EmployeeSearchField field, String value) {
+        if (value == null) {
+            return;
+        }
+        var codePoints = normalize(field, value).codePoints().toArray();
+        for (int i = 0; i < codePoints.length; i++) {
+            for (int length = 1; length <= GRAM_SIZE && i + length <= codePoints.length; length++) {
+                tokens.add(EmployeeSearchToken.builder()
+                        .employee(employee)
+                        .field(field)
+                        .token(token(field, new String(codePoints, i, length)))
+                        .startIndex(i)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * 검색과 색인에 공통으로 사용할 형태로 값을 정규화합니다.
+     * 공백을 제거하고 소문자로 바꾸며, 전화번호는 숫자만 남깁니다.
+     */
+    private static String normalize(EmployeeSearchField field, String value) {
+        if (value == null) {
+            return "";
+        }
+        if (field == EmployeeSearchField.PHONE_NUMBER) {
+            return value.replaceAll("\\D", "");
+        }
+        return value.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 조각을 필드명과 함께 블라인드 인덱스로 변환합니다.
+     */
+    private String token(EmployeeSearchField field, String gram) {
+        return encryptUtil.blindIndex(field.name() + ":" + gram);
+    }
+
+    /**
+     * 검색어에서 생성한 토큰과 검색어 안에서 조각이 시작하는 위치입니다.
+     *
+     * @param token 조각의 블라인드 인덱스
+     * @param offset 검색어 안에서 조각이 시작하는 위치 (첫 번째 토큰은 0)
+     */
+    public record SearchToken(String token, int offset) {
+    }
+}
@@ -4,27 +4,63 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.Cipher;
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * EncryptUtil 클래스는 AES 알고리즘을 사용해 문자열을 암호화 및 복호화하는 유틸리티 클래스입니다.
  * Spring의 @Value 어노테이션을 통해 주입된 키를 사용하여 암호화 및 복호화를 수행합니다.
+ * 초기화된 Cipher 객체를 모드별 풀에 보관하여 재사용합니다. (Cipher는 스레드 안전하지 않으므로 한 번에 한 스레드만 사용)
+ * 스레드별 보관(ThreadLocal)은 가상 스레드 환경에서 재사용되지 않으므로 공유 풀을 사용합니다.
+ * 암호화된 컬럼을 검색할 수 있도록 HMAC-SHA256 기반의 블라인드 인덱스도 생성합니다.
  */
 @Component
 public class EncryptUtil {
     private static final String ALGORITHM = "AES";  // 암호화 알고리즘
     private static final String TRANSFORMATION = "AES";  // 암호화 및 복호화 시 사용할 변환
+    private static final String BLIND_INDEX_ALGORITHM = "HmacSHA256";  // 블라인드 인덱스 생성 알고리즘
+    // 모드별로 풀에 보관할 최대 Cipher 개수
+    private static final int MAX_POOLED_CIPHERS = Runtime.getRuntime().availableProcessors() * 4;
     private final SecretKey secretKey;
+    // 블라인드 인덱스 생성용 HMAC (초기화된 원본, 사용할 때마다 복제)
+    private final Mac blindIndexMac;
+    // 암호화 모드로 초기화된 Cipher 풀
+    private final CipherPool encryptCiphers = new CipherPool(Cipher.ENCRYPT_MODE);
+    // 복호화 모드로 초기화된 Cipher 풀
+    private final CipherPool decryptCiphers = new CipherPool(Cipher.DECRYPT_MODE);
 
     /**
      * 생성자: Spring의 @Value 어노테이션을 통해 주입된 암호화 키를 사용해 SecretKey 객체를 생성합니다.
+     * 블라인드 인덱스 키가 설정되지 않으면 암호화 키에서 파생한 키를 사용합니다.
      *
      * @param key Base64로 인코딩된 암호화 키
+     * @param blindIndexKey Base64로 인코딩된 블라인드 인덱스 키 (선택)
      */
-    public EncryptUtil(@Value("${aes-256-key}") String key) {
+    public EncryptUtil(@Value("${aes-256-key}") String key, @Value("${blind-index-key:}") String blindIndexKey) {
         this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(key), ALGORITHM);
+        try {
+            byte[] indexKey;
+            if (blindIndexKey == null || blindIndexKey.isBlank()) {
+                // 암호화 키와 용도를 구분하기 위해 고정된 라벨로 파생
+                var derive = Mac.getInstance(BLIND_INDEX_ALGORITHM);
+                derive.init(new SecretKeySpec(secretKey.getEncoded(), BLIND_INDEX_ALGORITHM));
+                indexKey = derive.doFinal("eguard-blind-index".getBytes(StandardCharsets.UTF_8));
+            } else {
+                indexKey = Base64.getDecoder().decode(blindIndexKey);
+            }
+            this.blindIndexMac = Mac.getInstance(BLIND_INDEX_ALGORITHM);
+            this.blindIndexMac.init(new SecretKeySpec(indexKey, BLIND_INDEX_ALGORITHM));
+        } catch (Exception e) {
+            throw new IllegalStateException("Error during blind index key initialization", e);
+        }
     }
 
     /**
@@ -34,11 +70,11 @@ public class EncryptUtil {
      * @return 암호화된 데이터 (Base64 인코딩된 문자열)
      */
     public String encrypt(String data) {
+        var cipher = encryptCiphers.borrow();
         try {
-            var cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-            var encryptedData = cipher.doFinal(data.getBytes());
-            return Base64.getEncoder().encodeToString(encryptedData);
+            var encryptedData = encrypt(cipher, data);
+            encryptCiphers.release(cipher);
+            return encryptedData;
         } catch (Exception e) {
             throw new RuntimeException("Error during encryption", e);
         }
@@ -51,13 +87,132 @@ public class EncryptUtil {
      * @return 복호화된 데이터 (평문)
      */
     public String decrypt(String encryptedData) {
+        var cipher = decryptCiphers.borrow();
+        try {
+            var decryptedData = decrypt(cipher, encryptedData);
+            decryptCiphers.release(cipher);
+            return decryptedData;
+        } catch (Exception e) {
+            throw new RuntimeException("Error during decryption", e);
+        }
+    }
+
+    /**
+     * 여러 문자열을 한 번에 암호화합니다. 하나의 Cipher로 목록 전체를 처리합니다.
+     *
+     * @param dataList 암호화할 데이터 목록 (평문, null은 null로 반환)
+     * @return 암호화된 데이터 목록 (입력과 같은 순서)
+     */
+    public List<String> encryptAll(List<String> dataList) {
+        var cipher = encryptCiphers.borrow();
         try {
-            var cipher = Cipher.getInstance(TRANSFORMATION);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey);
-            var decodedData = Base64.getDecoder().decode(encryptedData);
-            return new String(cipher.doFinal(decodedData));
+            var encryptedList = new ArrayList<String>(dataList.size());
+            for (var data : dataList) {
+                encryptedList.add(data == null ? null : encrypt(cipher, data));
+            }
+            encryptCiphers.release(cipher);
+            return encryptedList;
+        } catch (Exception e) {
+            throw new RuntimeException("Error during encryption", e);
+        }
+    }
+
+    /**
+     * 여러 암호화 데이터를 한 번에 복호화합니다. 하나의 Cipher로 목록 전체를 처리합니다.
+     *
+     * @param encryptedDataList 암호화된 데이터 목록 (Base64 인코딩된 문자열, null은 null로 반환)
+     * @return 복호화된 데이터 목록 (입력과 같은 순서)
+     */
+    public List<String> decryptAll(List<String> encryptedDataList) {
+        var cipher = decryptCiphers.borrow();
+        try {
+            var decryptedList = new ArrayList<String>(encryptedDataList.size());
+            for (var encryptedData : encryptedDataList) {
+                decryptedList.add(encryptedData == null ? null : decrypt(cipher, encryptedData));
+            }
+            decryptCiphers.release(cipher);
+            return decryptedList;
         } catch (Exception e) {
             throw new RuntimeException("Error during decryption", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 암호화된 컬럼을 동등 검색하기 위한 블라인드 인덱스를 생성합니다.
+     * 앞뒤 공백을 제거한 평문의 HMAC-SHA256 값을 Base64 URL 인코딩(패딩 없음, 43자)하여 반환합니다.
+     * 암호문 형식과 무관하므로 암호화 방식이 바뀌어도 같은 평문은 항상 같은 인덱스를 가집니다.
+     *
+     * @param data 평문 (null이면 null 반환)
+     * @return 블라인드 인덱스
+     */
+    public String blindIndex(String data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            var mac = (Mac) blindIndexMac.clone();
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(mac.doFinal(data.trim().getBytes(StandardCharsets.UTF_8)));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Error during blind index generation", e);
+        }
+    }
+
+    /**
+     * 주어진 Cipher로 문자열을 암호화합니다.
+     */
+    private static String encrypt(Cipher cipher, String data) throws Exception {
+        return Base64.getEncoder().encodeToString(cipher.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 주어진 Cipher로 암호화 데이터를 복호화합니다.
+     */
+    private static String decrypt(Cipher cipher, String encryptedData) throws Exception {
+        return new String(cipher.doFinal(Base64.getDecoder().decode(encryptedData)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 한 가지 모드로 초기화된 Cipher 객체를 보관하는 풀.
+     * doFinal 이후 Cipher는 초기화된 상태로 돌아가므로 다시 init하지 않고 재사용합니다.
+     * 오류가 발생한 Cipher는 상태를 알 수 없으므로 풀에 반환하지 않습니다.
+     */
+    private class CipherPool {
+        private final int mode;
+        private final Queue<Cipher> ciphers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private CipherPool(int mode) {
+            this.mode = mode;
+        }
+
+        /**
+         * 풀에서 Cipher를 꺼냅니다. 풀이 비어 있으면 새로 생성합니다.
+         */
+        private Cipher borrow() {
+            var cipher = ciphers.poll();
+            if (cipher != null) {
+                size.decrementAndGet();
+                return cipher;
+            }
+            try {
+                cipher = Cipher.getInstance(TRANSFORMATION);
+                cipher.init(mode, secretKey);
+                return cipher;
+            } catch (Exception e) {
+                throw new RuntimeException("Error during cipher initialization", e);
+            }
+        }
+
+        /**
+         * 사용이 끝난 Cipher를 풀에 반환합니다. 풀이 가득 차면 버립니다.
+         */
+        private void release(Cipher cipher) {
+            if (size.incrementAndGet() <= MAX_POOLED_CIPHERS) {
+                ciphers.offer(cipher);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
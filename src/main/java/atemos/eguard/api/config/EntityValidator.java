@@ -1,6 +1,5 @@
 package atemos.eguard.api.config;
 
-import atemos.eguard.api.domain.EmployeeRole;
 import atemos.eguard.api.entity.*;
 import atemos.eguard.api.repository.*;
 import jakarta.persistence.EntityNotFoundException;
@@ -11,11 +10,15 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * EntityValidator 클래스는 현재 인증된 사용자(근로자)에 대한 정보와 관련된 접근 권한을 검증하는 역할을 담당합니다.
@@ -23,6 +26,7 @@ import java.util.Optional;
  * 해당 엔터티들이 현재 사용자에게 적절한 접근 권한이 있는지 확인합니다.
  * 만약 사용자에게 접근 권한이 없거나 엔터티가 존재하지 않는 경우 예외를 발생시킵니다.
  * ADMIN 권한이 있는 사용자는 모든 엔터티에 접근할 수 있습니다.
+ * 현재 사용자의 접근 범위(AccessScope)는 요청마다 한 번만 계산하고, 엔터티는 ID 목록 단위로 한 번에 조회하여 메모리에서 검증합니다.
  */
 @Slf4j
 @Service
@@ -37,6 +41,8 @@ public class EntityValidator {
     private final WorkRepository workRepository;
     private final SettingRepository settingRepository;
     private final JwtUtil jwtUtil;
+    // 현재 요청의 접근 범위를 보관할 요청 속성 이름
+    private static final String ACCESS_SCOPE_ATTRIBUTE = EntityValidator.class.getName() + ".ACCESS_SCOPE";
 
     /**
      * 현재 인증된 사용자의 employeeId를 기반으로 근로자 정보를 조회합니다.
@@ -50,6 +56,11 @@ public class EntityValidator {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "권한이 없습니다.");
         }
+        // 인증 필터에서 설정한 Principal이 있으면 근로자 ID를 바로 사용
+        if (authentication.getPrincipal() instanceof EmployeePrincipal principal) {
+            return employeeRepository.findById(principal.getEmployeeId())
+                    .orElseThrow(() -> new EntityNotFoundException("현재 로그인한 근로자를 찾을 수 없습니다."));
+        }
         // 토큰에서 클레임 정보 추출
         var token = (String) authentication.getCredentials();
         if (token == null || token.isEmpty()) {
@@ -75,6 +86,48 @@ public class EntityValidator {
                 .orElseThrow(() -> new EntityNotFoundException("현재 로그인한 근로자를 찾을 수 없습니다."));
     }
 
+    /**
+     * 현재 인증된 사용자의 접근 범위(권한, 소속 공장과 업체)를 조회합니다.
+     * 인증 필터에서 검증된 클레임으로 설정한 Principal이 있으면 근로자를 조회하지 않고 Principal로 접근 범위를 만듭니다.
+     * (권한이나 소속 공장이 변경되면 토큰이 폐기되므로 클레임 값을 그대로 사용할 수 있습니다)
+     * 요청 안에서는 처음 한 번만 계산하고, 이후에는 요청 속성에 보관된 접근 범위를 재사용합니다.
+     * 요청 밖(스케줄러 등)에서 호출하면 매번 새로 계산합니다.
+     *
+     * @return 현재 인증된 근로자의 접근 범위
+     */
+    @Transactional(readOnly = true)
+    public AccessScope getAccessScope() {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(ACCESS_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof AccessScope accessScope) {
+            return accessScope;
+        }
+        var accessScope = createAccessScope();
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(ACCESS_SCOPE_ATTRIBUTE, accessScope, RequestAttributes.SCOPE_REQUEST);
+        }
+        return accessScope;
+    }
+
+    /**
+     * 현재 인증된 사용자의 접근 범위를 계산합니다.
+     * Principal이 있으면 클레임 값을 사용하고, 그렇지 않으면 근로자를 조회하여 계산합니다.
+     *
+     * @return 현재 인증된 근로자의 접근 범위
+     */
+    private AccessScope createAccessScope() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof EmployeePrincipal principal) {
+            return new AccessScope(principal.getEmployeeId(), principal.getRole(), principal.getFactoryId(), principal.getCompanyId());
+        }
+        var currentEmployee = getCurrentEmployee();
+        var factory = Optional.ofNullable(currentEmployee.getFactory());
+        return new AccessScope(currentEmployee.getId(), currentEmployee.getRole(),
+                factory.map(Factory::getId).orElse(null),
+                factory.map(Factory::getCompany).map(Company::getId).orElse(null));
+    }
+
     /**
      * 알람 ID 목록에 대한 검증 및 검증된 결과만 리턴합니다.
      * 주어진 알람 ID 목록이 현재 접속한 근로자가 속한 공장의 알람인지 검증하고, 존재하지 않는 알람에 대한 예외 처리도 수행합니다.
@@ -86,18 +139,10 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Alarm> validateAlarmIds(List<Long> alarmIds) {
-        // 주어진 알람 ID 목록을 검증하여 알람을 조회하고, 해당 알람에 대한 접근 권한을 확인합니다.
-        return alarmIds.stream()
-                .map(alarmRepository::findById)
-                .map(alarm -> alarm.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 알람입니다."))) // 알람이 없으면 예외 발생
-                .filter(alarm -> hasAccessToFactory(alarm.getEmployee().getFactory().getId())) // 공장 접근 권한을 확인
-                .peek(alarm -> {
-                    // 알람이 호출된 근로자가 속한 공장의 권한과 일치하지 않으면 예외를 발생시킵니다.
-                    if (!hasAccessToFactory(alarm.getEmployee().getFactory().getId())) {
-                        log.warn("알람 ID {}는 호출한 근로자가 속한 공장과 다릅니다.", alarm.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 알람 ID: " + alarm.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 알람 ID 목록의 알람을 수신자와 함께 한 번에 조회하고, 수신자가 속한 공장에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(alarmIds, alarmRepository::findByIdIn, Alarm::getId, "존재하지 않는 알람입니다.").stream()
+                .filter(alarm -> accessScope.canAccessFactory(alarm.getEmployee().getFactory().getId()))
                 .toList();
     }
 
@@ -112,9 +157,9 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Event> validateEventIds(List<Long> eventIds) {
-        return eventIds.stream()
-                .map(eventRepository::findById)
-                .map(event -> event.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사건입니다."))) // 사건이 없으면 예외 발생
+        var accessScope = getAccessScope();
+        // 주어진 사건 ID 목록의 사건을 구역, 근로자와 함께 한 번에 조회하고, 사건이 발생한 공장에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(eventIds, eventRepository::findByIdIn, Event::getId, "존재하지 않는 사건입니다.").stream()
                 .filter(event -> {
                     Long factoryId = Optional.ofNullable(event.getArea())
                             .map(Area::getFactory)
@@ -126,17 +171,7 @@ public class EntityValidator {
                     if (factoryId == null) {
                         throw new AccessDeniedException("공장 정보가 없는 사건입니다. 사건 ID: " + event.getId());
                     }
-                    return hasAccessToFactory(factoryId); // 접근 권한 확인
-                })
-                .peek(event -> {
-                    Long factoryId = Optional.ofNullable(event.getArea())
-                            .map(Area::getFactory)
-                            .map(Factory::getId)
-                            .orElseGet(() -> event.getEmployee().getFactory().getId());
-                    if (!hasAccessToFactory(factoryId)) {
-                        log.warn("사건 ID {}는 호출한 근로자가 속한 공장과 다릅니다.", event.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 사건 ID: " + event.getId());
-                    }
+                    return accessScope.canAccessFactory(factoryId); // 접근 권한 확인
                 })
                 .toList();
     }
@@ -152,18 +187,10 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Factory> validateFactoryIds(List<Long> factoryIds) {
-        // 주어진 공장 ID 목록을 검증하여 공장을 조회하고, 해당 공장에 대한 접근 권한을 확인합니다.
-        return factoryIds.stream()
-                .map(factoryRepository::findById)
-                .map(factory -> factory.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 공장입니다."))) // 공장이 없으면 예외 발생
-                .filter(factory -> hasAccessToFactory(factory.getId())) // 공장 접근 권한을 확인
-                .peek(factory -> {
-                    // 접근 권한이 없으면 예외를 발생시킵니다.
-                    if (!hasAccessToFactory(factory.getId())) {
-                        log.warn("공장 ID {}는 호출한 근로자가 속한 공장과 다릅니다.", factory.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 공장 ID: " + factory.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 공장 ID 목록의 공장을 한 번에 조회하고, 해당 공장에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(factoryIds, factoryRepository::findAllById, Factory::getId, "존재하지 않는 공장입니다.").stream()
+                .filter(factory -> accessScope.canAccessFactory(factory.getId()))
                 .toList();
     }
 
@@ -178,18 +205,10 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Company> validateCompanyIds(List<Long> companyIds) {
-        // 주어진 업체 ID 목록을 검증하여 업체를 조회하고, 해당 업체에 대한 접근 권한을 확인합니다.
-        return companyIds.stream()
-                .map(companyRepository::findById)
-                .map(company -> company.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 업체입니다."))) // 업체가 없으면 예외 발생
-                .filter(company -> hasAccessToCompany(company.getId())) // 업체 접근 권한을 확인
-                .peek(company -> {
-                    // 접근 권한이 없으면 예외를 발생시킵니다.
-                    if (!hasAccessToCompany(company.getId())) {
-                        log.warn("업체 ID {}는 호출한 근로자가 속한 업체와 다릅니다.", company.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 업체 ID: " + company.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 업체 ID 목록의 업체를 한 번에 조회하고, 해당 업체에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(companyIds, companyRepository::findAllById, Company::getId, "존재하지 않는 업체입니다.").stream()
+                .filter(company -> accessScope.canAccessCompany(company.getId()))
                 .toList();
     }
 
@@ -204,18 +223,10 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Employee> validateEmployeeIds(List<Long> employeeIds) {
-        // 주어진 근로자 ID 목록을 검증하여 근로자를 조회하고, 해당 근로자에 대한 접근 권한을 확인합니다.
-        return employeeIds.stream()
-                .map(employeeRepository::findById)
-                .map(employee -> employee.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."))) // 근로자가 없으면 예외 발생
-                .filter(employee -> hasAccessToFactory(employee.getFactory().getId())) // 근로자 접근 권한을 확인
-                .peek(employee -> {
-                    // 근로자가 호출한 근로자가 속한 공장과 다르면 예외를 발생시킵니다.
-                    if (!hasAccessToFactory(employee.getFactory().getId())) {
-                        log.warn("근로자 ID {}는 호출한 근로자가 속한 공장과 다릅니다.", employee.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 근로자 ID: " + employee.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 근로자 ID 목록의 근로자를 한 번에 조회하고, 근로자가 속한 공장에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(employeeIds, employeeRepository::findAllById, Employee::getId, "존재하지 않는 근로자입니다.").stream()
+                .filter(employee -> accessScope.canAccessFactory(employee.getFactory().getId()))
                 .toList();
     }
 
@@ -230,18 +241,10 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Area> validateAreaIds(List<Long> areaIds) {
-        // 주어진 구역 ID 목록을 검증하여 구역을 조회하고, 해당 구역에 대한 접근 권한을 확인합니다.
-        return areaIds.stream()
-                .map(areaRepository::findById)
-                .map(area -> area.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 구역입니다."))) // 구역이 없으면 예외 발생
-                .filter(area -> hasAccessToFactory(area.getFactory().getId())) // 구역 접근 권한을 확인
-                .peek(area -> {
-                    // 구역의 공장에 접근 권한이 없으면 예외를 발생시킵니다.
-                    if (!hasAccessToFactory(area.getFactory().getId())) {
-                        log.warn("구역 ID {}는 호출한 근로자가 속한 공장과 다릅니다.", area.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 구역 ID: " + area.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 구역 ID 목록의 구역을 한 번에 조회하고, 구역이 속한 공장에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(areaIds, areaRepository::findAllById, Area::getId, "존재하지 않는 구역입니다.").stream()
+                .filter(area -> accessScope.canAccessFactory(area.getFactory().getId()))
                 .toList();
     }
 
@@ -256,18 +259,10 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Work> validateWorkIds(List<Long> workIds) {
-        // 주어진 작업 ID 목록을 검증하여 작업을 조회하고, 해당 작업에 대한 접근 권한을 확인합니다.
-        return workIds.stream()
-                .map(workRepository::findById)
-                .map(work -> work.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 작업입니다."))) // 작업이 없으면 예외 발생
-                .filter(work -> hasAccessToFactory(work.getArea().getFactory().getId())) // 작업의 구역에 대한 접근 권한을 확인
-                .peek(work -> {
-                    // 작업에 대한 권한이 없으면 예외를 발생시킵니다.
-                    if (!hasAccessToFactory(work.getArea().getFactory().getId())) {
-                        log.warn("작업 ID {}는 호출한 근로자가 속한 공장과 다릅니다.", work.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 작업 ID: " + work.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 작업 ID 목록의 작업을 구역과 함께 한 번에 조회하고, 작업의 구역이 속한 공장에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(workIds, workRepository::findByIdIn, Work::getId, "존재하지 않는 작업입니다.").stream()
+                .filter(work -> accessScope.canAccessFactory(work.getArea().getFactory().getId()))
                 .toList();
     }
 
@@ -282,38 +277,34 @@ public class EntityValidator {
      */
     @Transactional(readOnly = true)
     public List<Setting> validateSettingIds(List<Long> settingIds) {
-        // 주어진 시스템 설정 ID 목록을 검증하여 설정을 조회하고, 해당 설정에 대한 접근 권한을 확인합니다.
-        return settingIds.stream()
-                .map(settingRepository::findById)
-                .map(setting -> setting.orElseThrow(() -> new EntityNotFoundException("존재하지 않는 시스템 설정입니다."))) // 설정이 없으면 예외 발생
-                .filter(setting -> hasAccessToCompany(setting.getCompany().getId())) // 설정에 대한 업체 접근 권한을 확인
-                .peek(setting -> {
-                    // 시스템 설정에 대한 권한이 없으면 예외를 발생시킵니다.
-                    if (!hasAccessToCompany(setting.getCompany().getId())) {
-                        log.warn("시스템 설정 ID {}는 호출한 근로자가 속한 업체와 다릅니다.", setting.getId());
-                        throw new AccessDeniedException("권한이 없습니다. 시스템 설정 ID: " + setting.getId());
-                    }
-                })
+        var accessScope = getAccessScope();
+        // 주어진 시스템 설정 ID 목록의 설정을 한 번에 조회하고, 설정이 속한 업체에 대한 접근 권한을 확인합니다.
+        return findAllInOrder(settingIds, settingRepository::findAllById, Setting::getId, "존재하지 않는 시스템 설정입니다.").stream()
+                .filter(setting -> accessScope.canAccessCompany(setting.getCompany().getId()))
                 .toList();
     }
 
     /**
-     * 주어진 공장 ID에 대해 접근 권한을 검증합니다.
-     * @param factoryId 검증할 공장 ID
-     * @return 공장에 대한 접근 권한 여부
-     */
-    private boolean hasAccessToFactory(Long factoryId) {
-        Employee currentEmployee = getCurrentEmployee();
-        return currentEmployee.getRole().equals(EmployeeRole.ADMIN) || factoryId.equals(currentEmployee.getFactory().getId());
-    }
-
-    /**
-     * 주어진 업체 ID에 대해 접근 권한을 검증합니다.
-     * @param companyId 검증할 업체 ID
-     * @return 업체에 대한 접근 권한 여부
+     * 주어진 ID 목록의 엔터티를 한 번에 조회하여 ID 목록과 같은 순서로 반환합니다.
+     * 존재하지 않는 ID가 하나라도 있으면 예외를 발생시킵니다.
+     *
+     * @param ids 조회할 엔터티 ID 목록
+     * @param finder ID 목록으로 엔터티를 한 번에 조회하는 함수
+     * @param idExtractor 엔터티의 ID를 반환하는 함수
+     * @param notFoundMessage 엔터티가 존재하지 않을 때의 예외 메시지
+     * @return ID 목록과 같은 순서의 엔터티 목록
+     * @throws EntityNotFoundException 존재하지 않는 엔터티가 있으면 예외 발생
      */
-    private boolean hasAccessToCompany(Long companyId) {
-        Employee currentEmployee = getCurrentEmployee();
-        return currentEmployee.getRole().equals(EmployeeRole.ADMIN) || companyId.equals(currentEmployee.getFactory().getCompany().getId());
+    private static <T> List<T> findAllInOrder(List<Long> ids, Function<List<Long>, List<T>> finder,
+                                              Function<T, Long> idExtractor, String notFoundMessage) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var entities = finder.apply(ids.stream().distinct().toList()).stream()
+                .collect(Collectors.toMap(idExtractor, Function.identity()));
+        return ids.stream()
+                .map(id -> Optional.ofNullable(entities.get(id))
+                        .orElseThrow(() -> new EntityNotFoundException(notFoundMessage)))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,153 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.dto.FactoryDto;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Factory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 공장 요약 정보(/factory/summary 응답)를 공장과 권한별로 짧은 시간 동안 메모리에 보관하는 컴포넌트 클래스.
+ * 관리자 대시보드가 주기적으로 같은 공장의 요약 정보를 조회하므로, 보관 시간 동안은 집계 쿼리를 다시 실행하지 않습니다.
+ * 같은 공장을 동시에 조회하면 한 요청만 맵 잠금 밖에서 집계하고 나머지는 그 결과를 기다립니다.
+ * 사건, 작업, 근로자 정보가 변경되면 관련 공장의 요약 정보를 제거합니다.
+ */
+@Component
+public class FactorySummaryCache {
+    // 요약 정보 보관 시간
+    private static final Duration SUMMARY_TTL = Duration.ofSeconds(30);
+    // (공장 ID, 권한)별 요약 정보
+    private final Map<SummaryKey, CachedSummary> summaries = new ConcurrentHashMap<>();
+
+    /**
+     * 공장과 권한을 나타내는 캐시 키.
+     */
+    private record SummaryKey(Long factoryId, EmployeeRole role) {
+    }
+
+    /**
+     * 보관 중인(또는 집계 중인) 요약 정보와 집계 시작 시각.
+     * 집계는 맵 잠금 밖에서 실행하고, 같은 키를 동시에 조회한 요청은 이 future의 완료를 기다립니다.
+     *
+     * @param summary 공장 요약 정보
+     * @param loadedAt 집계 시작 시각
+     */
+    private record CachedSummary(CompletableFuture<FactoryDto.FactorySummaryResponse> summary, LocalDateTime loadedAt) {
+        private boolean isExpired() {
+            return !loadedAt.plus(SUMMARY_TTL).isAfter(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 공장 요약 정보를 조회합니다. 보관 중인 요약 정보가 없거나 보관 시간이 지났으면 다시 집계하여 보관합니다.
+     * 집계는 맵에 자리를 먼저 차지한 한 요청만 맵 잠금 밖에서 실행하므로, 집계 중에도 제거(evict)가 막히지 않습니다.
+     * 집계 중에 제거된 요약 정보는 기다리던 요청에만 응답하고 다시 사용하지 않습니다.
+     *
+     * @param factoryId 공장 ID
+     * @param role 집계할 근로자의 권한
+     * @param loader 요약 정보를 집계하는 함수
+     * @return 공장 요약 정보
+     */
+    public FactoryDto.FactorySummaryResponse get(Long factoryId, EmployeeRole role, Supplier<FactoryDto.FactorySummaryResponse> loader) {
+        var key = new SummaryKey(factoryId, role);
+        while (true) {
+            var cached = summaries.get(key);
+            if (cached != null && !cached.isExpired()) {
+                return await(cached.summary());
+            }
+            var loading = new CachedSummary(new CompletableFuture<>(), LocalDateTime.now());
+            var installed = cached == null ? summaries.putIfAbsent(key, loading) == null : summaries.replace(key, cached, loading);
+            if (installed) {
+                try {
+                    loading.summary().complete(loader.get());
+                } catch (RuntimeException | Error e) {
+                    // 실패한 집계는 보관하지 않고, 기다리던 요청에도 같은 예외를 전달
+                    summaries.remove(key, loading);
+                    loading.summary().completeExceptionally(e);
+                    throw e;
+                }
+                return loading.summary().join();
+            }
+            // 다른 요청이 먼저 자리를 차지했으면 다시 조회하여 그 결과를 기다림
+        }
+    }
+
+    /**
+     * 근로자들이 소속된 공장의 요약 정보를 제거합니다. (근로자의 사건 또는 작업이 변경된 경우)
+     *
+     * @param employees 사건 또는 작업이 변경된 근로자 목록 (null 요소는 무시합니다)
+     */
+    public void evictEmployees(Collection<Employee> employees) {
+        evict(employees.stream()
+                .filter(Objects::nonNull)
+                .map(Employee::getFactory)
+                .toList());
+    }
+
+    /**
+     * 공장의 요약 정보를 제거합니다.
+     * 트랜잭션 안에서 호출되면 트랜잭션이 끝난 후 한 번 더 제거하여, 커밋 전에 다시 집계된 이전 요약 정보가 남지 않도록 합니다.
+     *
+     * @param factories 요약 정보를 제거할 공장 목록 (null 요소는 무시합니다)
+     */
+    public void evict(Collection<Factory> factories) {
+        var factoryIds = factories.stream()
+                .filter(Objects::nonNull)
+                .map(Factory::getId)
+                .collect(Collectors.toSet());
+        if (factoryIds.isEmpty()) {
+            return;
+        }
+        removeIf(key -> factoryIds.contains(key.factoryId()));
+    }
+
+    /**
+     * 모든 공장의 요약 정보를 제거합니다. (모든 사건이 일괄 해결된 경우)
+     */
+    public void clear() {
+        removeIf(key -> true);
+    }
+
+    /**
+     * 다른 요청이 집계 중인 요약 정보를 기다립니다. 집계 중 발생한 예외는 그대로 다시 던집니다.
+     */
+    private static FactoryDto.FactorySummaryResponse await(CompletableFuture<FactoryDto.FactorySummaryResponse> summary) {
+        try {
+            return summary.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 조건에 맞는 요약 정보를 즉시, 그리고 트랜잭션이 진행 중이면 트랜잭션이 끝난 후 한 번 더 제거합니다.
+     */
+    private void removeIf(Predicate<SummaryKey> condition) {
+        summaries.keySet().removeIf(condition);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    summaries.keySet().removeIf(condition);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package atemos.eguard.api.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+/**
+ * id_generator 테이블 기반의 ID 할당을 관리하는 컴포넌트 클래스.
+ * 사건, 알람, API 호출 로그, 인증 로그, 2FA 내역은 IDENTITY 대신 @TableGenerator(pooled 최적화)로 ID를 50개씩 미리 할당받아
+ * Hibernate의 INSERT 배치(hibernate.jdbc.batch_size)가 동작하도록 합니다.
+ * (IDENTITY는 INSERT를 실행해야 ID를 알 수 있어 Hibernate가 행마다 INSERT를 바로 실행하므로 배치가 비활성화됩니다.
+ *  이 엔티티들은 자주 대량으로 등록되므로, 데이터베이스를 왕복하지 않고 메모리에서 ID를 정할 수 있도록 구간 단위로 할당합니다.)
+ * - 시퀀스 값 N은 "다음에 할당받을 구간의 마지막 ID"를 뜻하며, 할당받으면 (N - 49) ~ N을 사용하고 값을 N + 50으로 올립니다.
+ *   (hibernate.id.generator.stored_last_used=false 설정을 전제로 합니다)
+ * - 애플리케이션 시작 시 각 시퀀스 값을 테이블의 최대 ID보다 크게 맞추므로 기존 ID와 충돌하지 않습니다.
+ * - JdbcTemplate으로 직접 INSERT하는 경우 allocate로 같은 시퀀스에서 ID 구간을 할당받아야 합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class IdAllocator {
+    // ID 할당 단위 (엔티티의 @TableGenerator allocationSize와 같아야 합니다)
+    public static final int ALLOCATION_SIZE = 50;
+    // JdbcTemplate으로 직접 INSERT하는 엔티티의 시퀀스 이름
+    public static final String ALARM = "alarm";
+    public static final String API_CALL_LOG = "api_call_log";
+    public static final String AUTHENTICATION_LOG = "authentication_log";
+    // 시퀀스 이름별 엔티티 테이블
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            "event", "event",
+            ALARM, "alarm",
+            API_CALL_LOG, "api_call_log",
+            AUTHENTICATION_LOG, "authentication_log",
+            "two_factor_auth", "two_factor_auth");
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public IdAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출한 트랜잭션과 관계없이 할당 즉시 커밋하여 시퀀스 행의 잠금을 짧게 유지
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 각 시퀀스 값을 테이블의 최대 ID 이후 구간을 할당하도록 맞춥니다.
+     * IDENTITY로 생성된 기존 데이터나 다른 경로로 등록된 ID와 겹치지 않도록 시작할 때마다 확인합니다.
+     */
+    @PostConstruct
+    public void synchronize() {
+        SEQUENCE_TABLES.forEach((sequenceName, tableName) -> {
+            var maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tableName, Long.class);
+            // 다음 구간의 시작 ID(nextValue - ALLOCATION_SIZE + 1)가 최대 ID보다 크도록 설정
+            var nextValue = maxId + ALLOCATION_SIZE + 1;
+            var updated = jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                    nextValue, sequenceName, nextValue);
+            if (updated == 0 && jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_generator WHERE sequence_name = ?",
+                    Integer.class, sequenceName) == 0) {
+                try {
+                    jdbcTemplate.update("INSERT INTO id_generator (sequence_name, next_val) VALUES (?, ?)", sequenceName, nextValue);
+                } catch (DuplicateKeyException e) {
+                    // 다른 인스턴스가 먼저 등록한 경우 값만 다시 맞춤
+                    jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ? AND next_val < ?",
+                            nextValue, sequenceName, nextValue);
+                }
+            }
+            log.info("ID 시퀀스 [{}] 동기화 완료: 최대 ID={}", sequenceName, maxId);
+        });
+    }
+
+    /**
+     * 시퀀스에서 연속된 ID 구간을 할당합니다. Hibernate가 할당하는 구간과 겹치지 않습니다.
+     *
+     * @param sequenceName 시퀀스 이름
+     * @param count 할당할 ID 수
+     * @return 할당된 구간의 첫 번째 ID (첫 번째 ID ~ 첫 번째 ID + count - 1을 사용할 수 있습니다)
+     */
+    public long allocate(String sequenceName, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("할당할 ID 수는 1 이상이어야 합니다.");
+        }
+        return transactionTemplate.execute(status -> {
+            var nextValue = jdbcTemplate.queryForObject(
+                    "SELECT next_val FROM id_generator WHERE sequence_name = ? FOR UPDATE", Long.class, sequenceName);
+            jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ?", nextValue + count, sequenceName);
+            // Hibernate가 같은 값을 읽었다면 할당했을 구간의 시작부터 사용하고, 다음 구간은 사용한 만큼 뒤로 밀림
+            return nextValue - ALLOCATION_SIZE + 1;
+        });
+    }
+}
@@ -0,0 +1,341 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.domain.EmployeeIncident;
+import atemos.eguard.api.entity.Area;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Event;
+import atemos.eguard.api.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 근로자와 구역별로 해결되지 않은 가장 최근 사건의 상태를 메모리에 보관하는 컴포넌트 클래스.
+ * 애플리케이션 시작 시 미해결 사건을 적재하고, 이후 이 인스턴스에서 사건이 등록/수정/해결/삭제될 때마다 갱신됩니다.
+ * 다른 인스턴스에서 변경된 사건은 1분마다 미해결 사건을 다시 적재하여 반영하므로,
+ * 다른 인스턴스의 변경은 최대 1분(과 적재에 걸리는 시간)까지 늦게 반영될 수 있습니다.
+ * findTopByEmployeeAndResolvedOrderByCreatedAtDesc, findTopByAreaAndResolvedOrderByCreatedAtDesc 조회를 대체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncidentStateCache {
+    private final EventRepository eventRepository;
+    // 근로자 ID별 해결되지 않은 가장 최근 사건 상태 (다시 적재할 때 새 맵으로 교체)
+    private volatile Map<Long, IncidentState> employeeStates = new ConcurrentHashMap<>();
+    // 구역 ID별 해결되지 않은 가장 최근 사건 상태 (다시 적재할 때 새 맵으로 교체)
+    private volatile Map<Long, IncidentState> areaStates = new ConcurrentHashMap<>();
+
+    /**
+     * 해결되지 않은 사건의 상태를 나타내는 불변 객체.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class IncidentState {
+        // 사건 ID
+        private final Long eventId;
+        // 근로자 관련 사건 유형
+        private final EmployeeIncident employeeIncident;
+        // 구역 관련 사건 유형
+        private final AreaIncident areaIncident;
+        // 사건 생성일
+        private final LocalDateTime createdAt;
+
+        /**
+         * 사건 엔티티로부터 상태 객체를 생성합니다.
+         *
+         * @param event 사건 엔티티
+         * @return 사건 상태 객체
+         */
+        public static IncidentState of(Event event) {
+            return new IncidentState(event.getId(), event.getEmployeeIncident(), event.getAreaIncident(), event.getCreatedAt());
+        }
+
+        /**
+         * 가장 최근 미해결 사건 프로젝션으로부터 상태 객체를 생성합니다.
+         *
+         * @param incident 미해결 사건 프로젝션
+         * @return 사건 상태 객체
+         */
+        public static IncidentState of(EventRepository.LatestUnresolvedIncident incident) {
+            return new IncidentState(incident.getEventId(), incident.getEmployeeIncident(), incident.getAreaIncident(), incident.getCreatedAt());
+        }
+
+        /**
+         * 이 사건이 비교 대상 사건보다 최근에 발생한 사건인지 확인합니다. (생성일이 같으면 ID로 비교)
+         *
+         * @param other 비교할 사건 상태
+         * @return 이 사건이 더 최근이면 true
+         */
+        public boolean isNewerThan(IncidentState other) {
+            if (createdAt != null && other.createdAt != null && !createdAt.isEqual(other.createdAt)) {
+                return createdAt.isAfter(other.createdAt);
+            }
+            return eventId != null && other.eventId != null && eventId > other.eventId;
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 해결되지 않은 모든 사건을 조회하여 캐시를 적재합니다.
+     */
+    @PostConstruct
+    public void loadIncidentStates() {
+        reload();
+        log.info("미해결 사건 상태 캐시 적재 완료: 근로자 {}명, 구역 {}개", employeeStates.size(), areaStates.size());
+    }
+
+    /**
+     * 근로자와 구역별 가장 최근 미해결 사건을 다시 조회하여 캐시를 새로 만든 뒤 교체합니다. (다른 인스턴스에서 변경된 사건 반영)
+     * 사건 엔티티 전체가 아니라 근로자와 구역마다 가장 최근 사건 한 건의 필요한 컬럼만 조회하므로,
+     * 적재 비용은 미해결 사건 수가 아니라 미해결 사건이 있는 근로자와 구역 수에 비례합니다.
+     * 조회하는 동안에도 기존 캐시로 조회할 수 있으며, 조회 도중 이 인스턴스에서 반영된 변경이 누락되더라도 다음 적재에서 반영됩니다.
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void reload() {
+        var loadedEmployeeStates = new ConcurrentHashMap<Long, IncidentState>();
+        var loadedAreaStates = new ConcurrentHashMap<Long, IncidentState>();
+        eventRepository.findLatestUnresolvedByEmployee()
+                .forEach(incident -> merge(loadedEmployeeStates, incident.getOwnerId(), IncidentState.of(incident)));
+        eventRepository.findLatestUnresolvedByArea()
+                .forEach(incident -> merge(loadedAreaStates, incident.getOwnerId(), IncidentState.of(incident)));
+        employeeStates = loadedEmployeeStates;
+        areaStates = loadedAreaStates;
+        log.debug("미해결 사건 상태 캐시 다시 적재 완료: 근로자 {}명, 구역 {}개", loadedEmployeeStates.size(), loadedAreaStates.size());
+    }
+
+    /**
+     * 근로자의 해결되지 않은 가장 최근 사건 상태를 조회합니다.
+     *
+     * @param employeeId 근로자 ID
+     * @return 미해결 사건 상태 (없으면 빈 Optional)
+     */
+    public Optional<IncidentState> findEmployeeState(Long employeeId) {
+        return Optional.ofNullable(employeeId).map(employeeStates::get);
+    }
+
+    /**
+     * 구역의 해결되지 않은 가장 최근 사건 상태를 조회합니다.
+     *
+     * @param areaId 구역 ID
+     * @return 미해결 사건 상태 (없으면 빈 Optional)
+     */
+    public Optional<IncidentState> findAreaState(Long areaId) {
+        return Optional.ofNullable(areaId).map(areaStates::get);
+    }
+
+    /**
+     * 여러 근로자의 해결되지 않은 가장 최근 사건 상태를 한 번에 조회합니다.
+     *
+     * @param employeeIds 근로자 ID 목록
+     * @return 근로자 ID별 미해결 사건 상태 (미해결 사건이 없는 근로자는 포함되지 않음)
+     */
+    public Map<Long, IncidentState> findEmployeeStates(Collection<Long> employeeIds) {
+        var result = new HashMap<Long, IncidentState>();
+        employeeIds.stream().filter(Objects::nonNull)
+                .forEach(id -> Optional.ofNullable(employeeStates.get(id)).ifPresent(state -> result.put(id, state)));
+        return result;
+    }
+
+    /**
+     * 근로자의 현재 건강 상태를 조회합니다. 미해결 사건이 없으면 NORMAL을 반환합니다.
+     *
+     * @param employeeId 근로자 ID
+     * @return 근로자의 현재 EmployeeIncident
+     */
+    public EmployeeIncident getEmployeeIncident(Long employeeId) {
+        return findEmployeeState(employeeId)
+                .map(IncidentState::getEmployeeIncident)
+                .orElse(EmployeeIncident.NORMAL);
+    }
+
+    /**
+     * 구역의 현재 사건 상태를 조회합니다. 미해결 사건이 없으면 NORMAL을 반환합니다.
+     *
+     * @param areaId 구역 ID
+     * @return 구역의 현재 AreaIncident
+     */
+    public AreaIncident getAreaIncident(Long areaId) {
+        return findAreaState(areaId)
+                .map(IncidentState::getAreaIncident)
+                .orElse(AreaIncident.NORMAL);
+    }
+
+    /**
+     * 여러 근로자의 현재 건강 상태를 한 번에 조회합니다.
+     *
+     * @param employeeIds 근로자 ID 목록
+     * @return 근로자 ID별 EmployeeIncident (미해결 사건이 없으면 NORMAL)
+     */
+    public Map<Long, EmployeeIncident> getEmployeeIncidents(Collection<Long> employeeIds) {
+        var result = new HashMap<Long, EmployeeIncident>();
+        employeeIds.stream().filter(Objects::nonNull).forEach(id -> result.put(id, getEmployeeIncident(id)));
+        return result;
+    }
+
+    /**
+     * 여러 구역의 현재 사건 상태를 한 번에 조회합니다.
+     *
+     * @param areaIds 구역 ID 목록
+     * @return 구역 ID별 AreaIncident (미해결 사건이 없으면 NORMAL)
+     */
+    public Map<Long, AreaIncident> getAreaIncidents(Collection<Long> areaIds) {
+        var result = new HashMap<Long, AreaIncident>();
+        areaIds.stream().filter(Objects::nonNull).forEach(id -> result.put(id, getAreaIncident(id)));
+        return result;
+    }
+
+    /**
+     * 해결되지 않은 사건이 있는 모든 근로자의 상태를 조회합니다.
+     *
+     * @return 근로자 ID별 미해결 사건 상태의 읽기 전용 사본
+     */
+    public Map<Long, IncidentState> getEmployeeStates() {
+        return Map.copyOf(employeeStates);
+    }
+
+    /**
+     * 해결되지 않은 사건이 있는 모든 구역의 상태를 조회합니다.
+     *
+     * @return 구역 ID별 미해결 사건 상태의 읽기 전용 사본
+     */
+    public Map<Long, IncidentState> getAreaStates() {
+        return Map.copyOf(areaStates);
+    }
+
+    /**
+     * 저장(등록 또는 수정)된 사건을 캐시에 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param event 저장된 사건 엔티티
+     */
+    public void apply(Event event) {
+        var state = IncidentState.of(event);
+        var employee = event.getEmployee();
+        var area = event.getArea();
+        var resolved = Boolean.TRUE.equals(event.getResolved());
+        afterCommit(() -> {
+            if (resolved) {
+                Optional.ofNullable(employee).ifPresent(e -> reloadEmployee(e, state.getEventId()));
+                Optional.ofNullable(area).ifPresent(a -> reloadArea(a, state.getEventId()));
+            } else {
+                Optional.ofNullable(employee).ifPresent(e -> merge(employeeStates, e.getId(), state));
+                Optional.ofNullable(area).ifPresent(a -> merge(areaStates, a.getId(), state));
+            }
+        });
+    }
+
+    /**
+     * 사건의 근로자 또는 구역이 변경되거나 사건이 삭제된 경우, 이전 근로자와 구역의 상태를 다시 조회하여 반영합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param eventId 변경 또는 삭제된 사건 ID
+     * @param employee 이전 근로자 (없으면 null)
+     * @param area 이전 구역 (없으면 null)
+     */
+    public void evict(Long eventId, Employee employee, Area area) {
+        afterCommit(() -> {
+            Optional.ofNullable(employee).ifPresent(e -> reloadEmployee(e, eventId));
+            Optional.ofNullable(area).ifPresent(a -> reloadArea(a, eventId));
+        });
+    }
+
+    /**
+     * 모든 사건이 일괄 해결된 경우 캐시를 비웁니다.
+     */
+    public void clear() {
+        afterCommit(() -> {
+            employeeStates.clear();
+            areaStates.clear();
+        });
+    }
+
+    /**
+     * 캐시에 저장된 근로자의 사건이 더 이상 유효하지 않으면 DB에서 가장 최근 미해결 사건을 다시 조회합니다.
+     *
+     * @param employee 근로자 엔티티
+     * @param staleEventId 해결 또는 삭제된 사건 ID
+     */
+    private void reloadEmployee(Employee employee, Long staleEventId) {
+        var current = employeeStates.get(employee.getId());
+        if (current == null || !Objects.equals(current.getEventId(), staleEventId)) {
+            return;
+        }
+        eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(employee, false)
+                .map(IncidentState::of)
+                .ifPresentOrElse(
+                        state -> replace(employeeStates, employee.getId(), staleEventId, state),
+                        () -> employeeStates.remove(employee.getId(), current));
+    }
+
+    /**
+     * 캐시에 저장된 구역의 사건이 더 이상 유효하지 않으면 DB에서 가장 최근 미해결 사건을 다시 조회합니다.
+     *
+     * @param area 구역 엔티티
+     * @param staleEventId 해결 또는 삭제된 사건 ID
+     */
+    private void reloadArea(Area area, Long staleEventId) {
+        var current = areaStates.get(area.getId());
+        if (current == null || !Objects.equals(current.getEventId(), staleEventId)) {
+            return;
+        }
+        eventRepository.findTopByAreaAndResolvedOrderByCreatedAtDesc(area, false)
+                .map(IncidentState::of)
+                .ifPresentOrElse(
+                        state -> replace(areaStates, area.getId(), staleEventId, state),
+                        () -> areaStates.remove(area.getId(), current));
+    }
+
+    /**
+     * 기존 상태보다 최근 사건일 경우에만 캐시에 반영합니다.
+     */
+    private void merge(Map<Long, IncidentState> states, Long key, IncidentState state) {
+        if (key == null) {
+            return;
+        }
+        states.compute(key, (id, current) ->
+                current == null || Objects.equals(current.getEventId(), state.getEventId()) || state.isNewerThan(current)
+                        ? state : current);
+    }
+
+    /**
+     * 유효하지 않은 사건을 가리키는 상태를 DB에서 다시 조회한 상태로 교체합니다.
+     * 그 사이에 더 최근 사건이 반영되었다면 기존 상태를 유지합니다.
+     */
+    private void replace(Map<Long, IncidentState> states, Long key, Long staleEventId, IncidentState state) {
+        states.compute(key, (id, current) ->
+                current == null || Objects.equals(current.getEventId(), staleEventId) || state.isNewerThan(current)
+                        ? state : current);
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 그렇지 않으면 즉시 작업을 실행합니다.
+     * 롤백된 사건이 캐시에 반영되지 않도록 하기 위함입니다.
+     */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
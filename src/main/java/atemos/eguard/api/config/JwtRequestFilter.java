@@ -30,6 +30,9 @@ import java.util.List;
 /**
  * JWT 요청 필터 클래스.
  * HTTP 요청에서 JWT 토큰을 추출하고 검증하여 Spring Security의 인증 컨텍스트를 설정합니다.
+ * 인증 정보(근로자 ID, 권한, 소속 공장과 업체)는 검증된 클레임에서 만들고, 계정 상태와 토큰 폐기 여부는 AccountStatusCache에서 확인합니다.
+ * 다른 서버에서 증가시킨 토큰 세대는 AccountStatusCache의 보관 시간(30초)이 지나야 이 서버에 반영되므로,
+ * 폐기된 토큰이 다른 서버에서 최대 30초 동안 인증될 수 있습니다. (토큰을 폐기한 서버에서는 즉시 거부)
  */
 @Component
 @Slf4j
@@ -39,6 +42,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     private final EmployeeService employeeService;
     private final AuthenticationServiceImpl authenticationService;
     private final EncryptUtil encryptUtil;
+    private final AccountStatusCache accountStatusCache;
 
     @Setter
     private UserDetailsService userDetailsService;
@@ -114,30 +118,50 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                     .updatedAt(employee.getUpdatedAt())
                     .build();
             // EmployeeDto.ReadEmployeeResponse를 클레임으로 전달하여 Access Token 생성
-            accessToken = jwtUtil.generateAccessToken(employeeResponse);
+            accessToken = jwtUtil.generateAccessToken(employeeResponse, employee.getTokenEpoch());
         }
         if (accessToken != null) {
             // 토큰을 검증
             if (jwtUtil.validateToken(accessToken)) {
-                // 검증된 토큰에서 이메일 추출
-                var email = jwtUtil.extractEmailFromToken(accessToken);
-                // 이메일이 유효하고, 현재 인증이 없다면 사용자 인증 수행
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // 근로자 정보 조회
-                    Employee employee = employeeService.readEmployeeByEmail(email);
-                    // 계정 상태 검증
-                    authenticationService.validateAccountStatus(employee);
-                    // 권한 부여 및 인증 객체 생성
-                    var authorities = employee.getAuthorities().stream()
-                            .map(authority -> new SimpleGrantedAuthority(authority.getAuthority()))
-                            .toList();
-                    var authenticationToken = new UsernamePasswordAuthenticationToken(email, accessToken, authorities);
-                    // SecurityContext에 인증 객체 설정
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                // 현재 인증이 없다면 검증된 클레임으로 사용자 인증 수행
+                if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                    var principal = createPrincipal(accessToken);
+                    // 토큰 세대가 근로자의 현재 토큰 세대보다 작으면 폐기된 토큰이므로 인증하지 않음
+                    if (principal != null && principal.getTokenEpoch() < accountStatusCache.getTokenEpoch(principal.getEmployeeId())) {
+                        log.warn("폐기된 토큰 세대의 토큰입니다. 근로자 ID: {}", principal.getEmployeeId());
+                        principal = null;
+                    }
+                    if (principal != null) {
+                        // 계정 상태 검증 (메모리에 보관된 상태 사용)
+                        authenticationService.validateAccountStatus(accountStatusCache.getStatus(principal.getEmployeeId()));
+                        // 권한 부여 및 인증 객체 생성
+                        var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + principal.getRole().name()));
+                        var authenticationToken = new UsernamePasswordAuthenticationToken(principal, accessToken, authorities);
+                        // SecurityContext에 인증 객체 설정
+                        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+                    }
                 }
             }
         }
         // 필터 체인 계속 진행
         chain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 검증된 토큰의 클레임으로 인증된 근로자 Principal을 생성합니다.
+     * 클레임에 근로자 ID와 권한이 없는 토큰(로컬 테스트 토큰, 이전 형식의 토큰 등)은 이메일로 근로자를 조회하여 생성하며,
+     * 이때도 토큰 세대는 토큰의 클레임을 사용하므로 세대 클레임이 없는 토큰은 근로자의 토큰 세대가 증가한 뒤로 거부됩니다.
+     *
+     * @param accessToken 검증된 Access Token
+     * @return 근로자 Principal, 이메일을 확인할 수 없으면 null
+     */
+    private EmployeePrincipal createPrincipal(String accessToken) {
+        var claims = jwtUtil.parseVerifiedClaims(accessToken);
+        var principal = EmployeePrincipal.from(claims);
+        if (principal != null || claims.getSubject() == null) {
+            return principal;
+        }
+        var employee = employeeService.readEmployeeByEmail(claims.getSubject());
+        return EmployeePrincipal.from(employee, claims.getSubject(), EmployeePrincipal.tokenEpochOf(claims));
+    }
+}
@@ -1,11 +1,10 @@
 package atemos.eguard.api.config;
 
 import atemos.eguard.api.dto.EmployeeDto;
-import atemos.eguard.api.repository.BlacklistedTokenRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -16,12 +15,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT 토큰을 생성하고 검증하는 유틸리티 클래스입니다.
@@ -31,8 +35,9 @@ import java.util.Map;
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
-    private final BlacklistedTokenRepository blacklistedTokenRepository;
-    private final ObjectMapper objectMapper;
+    // 요청 범위에 검증된 클레임을 보관하는 속성 이름
+    private static final String VERIFIED_CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".VERIFIED_CLAIMS";
+    private final TokenBlacklist tokenBlacklist;
 
     @Value("${jwt.secret}")
     private String secret;
@@ -42,8 +47,21 @@ public class JwtUtil {
     private long refreshTokenExpiration;
 
     private Key key;
+    // 서명 검증용 파서 (불변 객체이므로 모든 스레드가 공유)
+    private JwtParser jwtParser;
+
+    /**
+     * 요청 범위에 보관하는 검증된 토큰과 클레임.
+     *
+     * @param token 검증한 JWT 토큰
+     * @param claims 검증된 클레임
+     */
+    private record VerifiedClaims(String token, Claims claims) {
+    }
+
     /**
      * Secret Key를 생성하고 HMAC-SHA256 알고리즘을 사용합니다.
+     * 서명 검증용 파서는 한 번만 생성하여 재사용합니다.
      */
     @PostConstruct
     public void initJwtUtil() {
@@ -52,6 +70,9 @@ public class JwtUtil {
             throw new IllegalArgumentException("JWT secret must be at least 32 characters long");
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
     }
 
     /**
@@ -66,13 +87,23 @@ public class JwtUtil {
     /**
      * Access Token을 생성합니다.
      * 현재 로그인한 근로자가 속한 업체의 시스템 설정에서 로그인 유지 만료 시간(분)을 Expiration 시간(밀리초)로 설정합니다.
+     * 토큰에는 인증에 필요한 근로자 ID, 권한, 공장 ID, 업체 ID와 프로필 버전, 토큰 세대만 담고,
+     * 나머지 근로자 정보는 /auth/info에서 서버에 보관된 프로필로 제공합니다.
      *
      * @param employeeInfo 토큰에 포함할 근로자 정보 (ReadEmployeeResponse)
+     * @param tokenEpoch 근로자의 현재 토큰 세대
      * @return 생성된 Access Token
      */
-    public String generateAccessToken(EmployeeDto.ReadEmployeeResponse employeeInfo) {
-        // ObjectMapper를 사용하여 ReadEmployeeResponse를 Map<String, Object>로 변환
-        Map<String, Object> claims = objectMapper.convertValue(employeeInfo, new TypeReference<>() {});
+    public String generateAccessToken(EmployeeDto.ReadEmployeeResponse employeeInfo, long tokenEpoch) {
+        Map<String, Object> claims = new HashMap<>();
+        Optional.ofNullable(employeeInfo.getEmployeeId()).ifPresent(employeeId -> claims.put("employeeId", employeeId));
+        Optional.ofNullable(employeeInfo.getRole()).ifPresent(role -> claims.put("role", role.name()));
+        Optional.ofNullable(employeeInfo.getFactoryId()).ifPresent(factoryId -> claims.put("factoryId", factoryId));
+        Optional.ofNullable(employeeInfo.getCompanyId()).ifPresent(companyId -> claims.put("companyId", companyId));
+        // 프로필 버전 (근로자 정보의 마지막 수정 시각)
+        claims.put("profileVersion", toProfileVersion(employeeInfo));
+        // 토큰 세대 (근로자의 토큰 세대가 증가하면 이 토큰은 폐기됨)
+        claims.put("tokenEpoch", tokenEpoch);
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(employeeInfo.getEmployeeEmail())
@@ -82,15 +113,29 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 근로자 정보의 프로필 버전을 계산합니다. (마지막 수정 시각의 epoch 밀리초, 없으면 0)
+     *
+     * @param employeeInfo 근로자 정보
+     * @return 프로필 버전
+     */
+    public static long toProfileVersion(EmployeeDto.ReadEmployeeResponse employeeInfo) {
+        return Optional.ofNullable(employeeInfo.getUpdatedAt())
+                .map(updatedAt -> updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .orElse(0L);
+    }
+
     /**
      * Refresh Token을 생성합니다.
      * 현재 로그인한 근로자가 속한 업체의 시스템 설정에서 로그인 갱신 만료 시간(분)을 Expiration 시간(밀리초)로 설정합니다.
      * @param email 토큰을 생성한 근로자(복호화한 이메일)
+     * @param tokenEpoch 근로자의 현재 토큰 세대
      * @return 생성된 Refresh Token
      */
-    public String generateRefreshToken(String email) {
+    public String generateRefreshToken(String email, long tokenEpoch) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim("tokenEpoch", tokenEpoch)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .signWith(key)
@@ -129,16 +174,13 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         // 블랙리스트 토큰에 있는지 확인 후 유효하지 않으면 바로 false 반환
-        if (blacklistedTokenRepository.existsByToken(token)) {
+        if (tokenBlacklist.isBlacklisted(token)) {
             log.warn("This token is blacklisted: {}", token);
             return false;
         }
         // 토큰 검증 및 파싱
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
+            parseVerifiedClaims(token);
             return true; // 유효한 토큰
         } catch (JwtException e) {
             // 토큰이 만료되었거나 유효하지 않을 경우 false 반환
@@ -159,12 +201,7 @@ public class JwtUtil {
      */
     public String extractEmailFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody()
-                    .getSubject();
+            return parseVerifiedClaims(token).getSubject();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰의 경우에도 클레임에서 사용자 이름 추출
             return e.getClaims().getSubject();
@@ -181,14 +218,45 @@ public class JwtUtil {
      */
     public Map<String, Object> extractClaimsFromToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parseVerifiedClaims(token);
         } catch (JwtException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 JWT 토큰입니다.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * JWT 토큰의 서명을 검증하고 클레임을 반환합니다.
+     * 검증된 클레임은 현재 요청 범위에 보관되어, 같은 요청에서 같은 토큰을 다시 검증하면 파싱 없이 반환합니다.
+     * (JwtRequestFilter, EntityValidator, LogComponent가 한 요청에서 같은 토큰을 여러 번 검증하는 것을 방지)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 클레임
+     * @throws JwtException 토큰이 만료되었거나 유효하지 않은 경우
+     */
+    public Claims parseVerifiedClaims(String token) {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null
+                && requestAttributes.getAttribute(VERIFIED_CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof VerifiedClaims verified
+                && verified.token().equals(token)) {
+            return verified.claims();
+        }
+        var claims = jwtParser.parseClaimsJws(token).getBody();
+        // 요청 범위에서만 재사용 (요청이 끝나면 함께 제거)
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(VERIFIED_CLAIMS_ATTRIBUTE, new VerifiedClaims(token, claims), RequestAttributes.SCOPE_REQUEST);
+        }
+        return claims;
+    }
+
+    /**
+     * 토큰에 포함된 토큰 세대를 추출합니다. 토큰 세대가 없는 토큰은 0을 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 토큰 세대
+     */
+    public long extractTokenEpochFromToken(String token) {
+        var tokenEpoch = extractClaimsFromToken(token).get("tokenEpoch");
+        return tokenEpoch instanceof Number number ? number.longValue() : 0L;
+    }
+}
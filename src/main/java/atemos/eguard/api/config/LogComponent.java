@@ -3,14 +3,17 @@ package atemos.eguard.api.config;
 import atemos.eguard.api.domain.AllowedHttpMethod;
 import atemos.eguard.api.entity.ApiCallLog;
 import atemos.eguard.api.entity.AuthenticationLog;
-import atemos.eguard.api.repository.ApiCallLogRepository;
-import atemos.eguard.api.repository.AuthenticationLogRepository;
-import atemos.eguard.api.repository.EmployeeRepository;
+import atemos.eguard.api.entity.Company;
+import atemos.eguard.api.entity.Employee;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.micrometer.common.util.StringUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
@@ -23,7 +26,7 @@ import java.util.Optional;
 
 /**
  * API 요청 및 인증 로그를 관리하는 컴포넌트 클래스.
- * 이 클래스는 API 호출과 관련된 로그를 데이터베이스에 기록하는 역할을 합니다.
+ * 이 클래스는 API 호출과 관련된 로그를 만들어 AccessLogWriter를 통해 데이터베이스에 기록하는 역할을 합니다.
  */
 @Getter
 @Slf4j
@@ -31,11 +34,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class LogComponent {
     private final JwtUtil jwtUtil;
-    private final EmployeeRepository employeeRepository;
-    private final ApiCallLogRepository apiCallLogRepository;
-    private final AuthenticationLogRepository authenticationLogRepository;
+    private final AccessLogWriter accessLogWriter;
     private final HttpServletRequest request;
-    private final EncryptUtil encryptUtil;
 
     /**
      * API 호출 또는 인증/인가 호출 로그를 분기하는 메서드.
@@ -57,6 +57,7 @@ public class LogComponent {
     /**
      * API 호출 로그를 기록하는 메서드.
      * 클라이언트 IP, HTTP 메서드, 요청 URI 등의 정보를 로깅합니다.
+     * 로그는 요청 스레드에서 완성한 뒤 AccessLogWriter가 모아서 저장하므로, 요청 처리 중에는 데이터베이스에 접근하지 않습니다.
      *
      * @param status    HTTP 응답 상태 코드
      * @param requestUri 요청 URI
@@ -72,25 +73,22 @@ public class LogComponent {
                 .statusCode(status)
                 .requestTime(LocalDateTime.now())
                 .metaData(createMetadata());
-        // 요청에서 JWT 토큰을 추출하고, 근로자 정보를 추가
-        var token = jwtUtil.extractTokenFromRequest(request);
-        if (StringUtils.isNotEmpty(token)) {
-            // 토큰에서 이메일 정보 추출
-            var email = jwtUtil.extractEmailFromToken(token);
-            employeeRepository.findByEmail(encryptUtil.encrypt(email))
-                    .ifPresent(employee -> {
-                        logBuilder.employee(employee);
-                        logBuilder.company(employee.getFactory().getCompany());
-                    });
-        }
-        // 로그를 데이터베이스에 저장
-        apiCallLogRepository.save(logBuilder.build());
+        // 인증 정보 또는 요청의 JWT 토큰에서 근로자와 업체 ID를 추가
+        resolvePrincipal(jwtUtil.extractTokenFromRequest(request))
+                .ifPresent(principal -> {
+                    logBuilder.employee(Employee.builder().id(principal.getEmployeeId()).build());
+                    Optional.ofNullable(principal.getCompanyId())
+                            .ifPresent(companyId -> logBuilder.company(Company.builder().id(companyId).build()));
+                });
+        // 로그를 저장 대기열에 추가
+        accessLogWriter.enqueue(logBuilder.build());
         log.info("Called API: method={}, URI={}, status={}", request.getMethod(), requestUri, status);
     }
 
     /**
      * 인증/인가 로그를 기록하는 메서드.
      * 요청 URI와 상태 코드 등을 기반으로 인증 관련 로그를 기록합니다.
+     * 로그는 요청 스레드에서 완성한 뒤 AccessLogWriter가 모아서 저장합니다.
      *
      * @param status    HTTP 응답 상태 코드
      * @param requestUri 요청 URI
@@ -105,35 +103,47 @@ public class LogComponent {
                 .statusCode(status)
                 .requestTime(LocalDateTime.now())
                 .metaData(createMetadata());
-        // tokenMap이 존재할 경우 토큰 정보를 활용해 근로자 정보 추가
-        if (tokenMap instanceof Map<?, ?> tokenData) {
-            if (tokenData.containsKey("accessToken")) {
-                var accessToken = (String) tokenData.get("accessToken");
-                // 토큰 추출
-                var email = jwtUtil.extractEmailFromToken(accessToken);
-                employeeRepository.findByEmail(encryptUtil.encrypt(email))
-                        .ifPresent(employee -> {
-                            authenticationLogBuilder.employee(employee);
-                            authenticationLogBuilder.company(employee.getFactory().getCompany());
-                        });
-            }
-        } else {
-            // tokenMap이 없을 경우, 요청에서 JWT 토큰을 추출
-            var token = jwtUtil.extractTokenFromRequest(request);
-            if (StringUtils.isNotEmpty(token)) {
-                var email = jwtUtil.extractEmailFromToken(token);
-                employeeRepository.findByEmail(encryptUtil.encrypt(email))
-                        .ifPresent(employee -> {
-                            authenticationLogBuilder.employee(employee);
-                            authenticationLogBuilder.company(employee.getFactory().getCompany());
-                        });
-            }
-        }
-        // 인증 로그를 데이터베이스에 저장
-        authenticationLogRepository.save(authenticationLogBuilder.build());
+        // tokenMap이 존재할 경우 발급된 토큰을, 없을 경우 요청의 JWT 토큰을 사용
+        var token = tokenMap instanceof Map<?, ?> tokenData
+                ? (tokenData.get("accessToken") instanceof String accessToken ? accessToken : null)
+                : jwtUtil.extractTokenFromRequest(request);
+        resolvePrincipal(token)
+                .ifPresent(principal -> {
+                    authenticationLogBuilder.employee(Employee.builder().id(principal.getEmployeeId()).build());
+                    Optional.ofNullable(principal.getCompanyId())
+                            .ifPresent(companyId -> authenticationLogBuilder.company(Company.builder().id(companyId).build()));
+                });
+        // 인증 로그를 저장 대기열에 추가
+        accessLogWriter.enqueue(authenticationLogBuilder.build());
         log.info("Called Authentication API: method={}, URI={}, status={}", request.getMethod(), requestUri, status);
     }
 
+    /**
+     * 로그에 기록할 근로자 정보를 가져오는 메서드.
+     * 토큰이 주어지지 않으면 현재 인증 정보의 Principal을 사용하고,
+     * 토큰이 주어지면 검증된 클레임에서 Principal을 생성합니다. (만료된 토큰도 서명이 검증되었으면 사용)
+     *
+     * @param token JWT 토큰 (없으면 null)
+     * @return 근로자 Principal을 Optional로 반환
+     */
+    private Optional<EmployeePrincipal> resolvePrincipal(String token) {
+        if (StringUtils.isEmpty(token)) {
+            return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+                    .map(Authentication::getPrincipal)
+                    .filter(EmployeePrincipal.class::isInstance)
+                    .map(EmployeePrincipal.class::cast);
+        }
+        try {
+            return Optional.ofNullable(EmployeePrincipal.from(jwtUtil.parseVerifiedClaims(token)));
+        } catch (ExpiredJwtException e) {
+            // 만료된 토큰의 경우에도 클레임에서 근로자 정보 추출
+            return Optional.ofNullable(EmployeePrincipal.from(e.getClaims()));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("유효하지 않은 JWT 토큰입니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * 요청이 로깅이 필요 없는지 확인하는 메서드.
      * 특정 메서드에 @NoLogging 어노테이션이 있는 경우, 로깅을 생략합니다.
@@ -0,0 +1,44 @@
+package atemos.eguard.api.config;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 방식 페이지 조회에서 마지막으로 조회한 행의 위치(시각, ID)를 나타내는 클래스.
+ * 클라이언트에는 내부 구조를 알 수 없도록 Base64(URL-safe)로 인코딩한 문자열로 전달합니다.
+ *
+ * @param time 마지막으로 조회한 행의 시각 (사건과 알람은 createdAt, 로그는 requestTime)
+ * @param id 마지막으로 조회한 행의 ID
+ */
+public record PageCursor(LocalDateTime time, Long id) {
+    /**
+     * 커서를 클라이언트에 전달할 문자열로 인코딩합니다.
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((time + "," + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 전달한 문자열을 커서로 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 디코딩된 커서
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static PageCursor decode(String cursor) {
+        try {
+            var values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", 2);
+            if (values.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new PageCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.IncidentPriority;
+import atemos.eguard.api.entity.Event;
+import atemos.eguard.api.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 안전 점수 계산에 사용하는 공장별, 월별 구역 사건 수를 메모리에 보관하는 컴포넌트 클래스.
+ * 처음 조회할 때 구역과 구역 사건 유형별 GROUP BY 쿼리 한 번으로 적재하고,
+ * 같은 공장과 월을 동시에 조회하면 한 요청만 맵 잠금 밖에서 적재하고 나머지는 그 결과를 기다립니다.
+ * 이후 사건이 등록/수정/삭제될 때마다 커밋 이후 해당 구역의 우선순위별 사건 수를 증감합니다.
+ * 적재 중 커밋된 사건이 중복 또는 누락 반영될 수 있으므로 주기적으로 비워 다시 적재합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SafetyScoreCache {
+    private final EventRepository eventRepository;
+    // (공장 ID, 월)별 구역 ID별 우선순위별 사건 수 (적재 중이면 완료되지 않은 future)
+    private final Map<FactoryMonth, CompletableFuture<Map<Long, AtomicLongArray>>> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 공장과 월을 나타내는 캐시 키.
+     */
+    private record FactoryMonth(Long factoryId, YearMonth month) {
+    }
+
+    /**
+     * 안전 점수에 반영되는 사건 하나의 위치(공장, 월, 구역)와 우선순위.
+     * 사건 수정 시 수정 전후의 값을 비교하여 변경된 경우에만 사건 수를 옮깁니다.
+     *
+     * @param factoryId 구역이 속한 공장 ID
+     * @param month 사건이 발생한 월
+     * @param areaId 구역 ID
+     * @param priority 구역 사건 유형의 우선순위
+     */
+    public record CountedIncident(Long factoryId, YearMonth month, Long areaId, IncidentPriority priority) {
+        /**
+         * 사건 엔티티로부터 안전 점수에 반영되는 값을 생성합니다.
+         *
+         * @param event 사건 엔티티 (생성일이 설정되어 있어야 합니다)
+         * @return 구역 사건이 아니거나 구역 사건 유형이 없으면 null
+         */
+        public static CountedIncident of(Event event) {
+            if (event == null || event.getArea() == null || event.getAreaIncident() == null || event.getCreatedAt() == null) {
+                return null;
+            }
+            return new CountedIncident(event.getArea().getFactory().getId(), YearMonth.from(event.getCreatedAt()),
+                    event.getArea().getId(), event.getAreaIncident().getPriority());
+        }
+    }
+
+    /**
+     * 구역의 우선순위별 사건 수.
+     *
+     * @param criticalCount CRITICAL 사건 수
+     * @param alertCount ALERT 사건 수
+     * @param warningCount WARNING 사건 수
+     */
+    public record IncidentCounts(long criticalCount, long alertCount, long warningCount) {
+        public static final IncidentCounts EMPTY = new IncidentCounts(0, 0, 0);
+
+        /**
+         * 사건 수로 안전 점수를 계산합니다.
+         * 100점에서 CRITICAL 사건당 10점, ALERT 사건당 5점, WARNING 사건당 1점을 차감하며 최저 점수는 0점입니다.
+         *
+         * @return 안전 점수
+         */
+        public int safetyScore() {
+            return (int) Math.max(100 - (criticalCount * 10 + alertCount * 5 + warningCount), 0);
+        }
+    }
+
+    /**
+     * 공장의 구역별 사건 수를 조회합니다. 캐시에 없으면 GROUP BY 쿼리 한 번으로 적재합니다.
+     * 적재는 맵에 자리를 먼저 차지한 한 요청만 맵 잠금 밖에서 실행하므로, 적재 중에도 다른 공장과 월의 조회나 증감이 막히지 않습니다.
+     *
+     * @param factoryId 공장 ID
+     * @param month 조회할 월
+     * @return 구역 ID별 우선순위별 사건 수 (사건이 없는 구역은 포함되지 않음)
+     */
+    public Map<Long, IncidentCounts> getAreaCounts(Long factoryId, YearMonth month) {
+        var key = new FactoryMonth(factoryId, month);
+        var cached = counts.get(key);
+        if (cached != null) {
+            return toIncidentCounts(await(cached));
+        }
+        var loading = new CompletableFuture<Map<Long, AtomicLongArray>>();
+        var existing = counts.putIfAbsent(key, loading);
+        if (existing != null) {
+            // 다른 요청이 먼저 자리를 차지했으면 그 결과를 기다림
+            return toIncidentCounts(await(existing));
+        }
+        try {
+            loading.complete(load(key));
+        } catch (RuntimeException | Error e) {
+            // 실패한 적재는 보관하지 않고, 기다리던 요청에도 같은 예외를 전달
+            counts.remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        return toIncidentCounts(loading.join());
+    }
+
+    /**
+     * 사건의 등록, 수정, 삭제를 사건 수에 반영합니다. 수정 전후 값이 같으면 아무것도 하지 않습니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 반영되며, 적재되지 않은 공장과 월은 다음 조회 시 적재되므로 무시합니다.
+     *
+     * @param previous 수정 또는 삭제 전 값 (등록이면 null)
+     * @param current 등록 또는 수정 후 값 (삭제면 null)
+     */
+    public void replace(CountedIncident previous, CountedIncident current) {
+        if (Objects.equals(previous, current)) {
+            return;
+        }
+        afterCommit(() -> {
+            adjust(previous, -1);
+            adjust(current, 1);
+        });
+    }
+
+    /**
+     * 캐시를 주기적으로 비워 지난 달의 사건 수를 정리하고, 증감 중 어긋난 사건 수를 다시 적재하도록 합니다.
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void clear() {
+        counts.clear();
+    }
+
+    /**
+     * 공장의 월별 구역 사건 수를 캐시를 거치지 않고 데이터베이스에서 집계합니다. (마감된 달의 스냅샷 생성에 사용)
+     *
+     * @param factoryId 공장 ID
+     * @param month 집계할 월
+     * @return 구역 ID별 우선순위별 사건 수 (사건이 없는 구역은 포함되지 않음)
+     */
+    public Map<Long, IncidentCounts> countAreaIncidents(Long factoryId, YearMonth month) {
+        return toIncidentCounts(load(new FactoryMonth(factoryId, month)));
+    }
+
+    /**
+     * 공장의 월별 구역 사건 수를 데이터베이스에서 집계하여 적재합니다.
+     */
+    private Map<Long, AtomicLongArray> load(FactoryMonth key) {
+        var areaCounts = new ConcurrentHashMap<Long, AtomicLongArray>();
+        eventRepository.countAreaIncidents(key.factoryId(), key.month().atDay(1).atStartOfDay(),
+                        key.month().plusMonths(1).atDay(1).atStartOfDay())
+                .forEach(count -> areaCounts
+                        .computeIfAbsent(count.getAreaId(), areaId -> new AtomicLongArray(IncidentPriority.values().length))
+                        .addAndGet(count.getAreaIncident().getPriority().ordinal(), count.getIncidentCount()));
+        log.debug("공장 [{}]의 {} 구역 사건 수 적재 완료: 구역 {}개", key.factoryId(), key.month(), areaCounts.size());
+        return areaCounts;
+    }
+
+    /**
+     * 다른 요청이 적재 중인 사건 수를 기다립니다. 적재 중 발생한 예외는 그대로 다시 던집니다.
+     */
+    private static Map<Long, AtomicLongArray> await(CompletableFuture<Map<Long, AtomicLongArray>> areaCounts) {
+        try {
+            return areaCounts.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 구역별 우선순위별 사건 수를 응답용 불변 객체로 변환합니다.
+     */
+    private static Map<Long, IncidentCounts> toIncidentCounts(Map<Long, AtomicLongArray> areaCounts) {
+        var result = new HashMap<Long, IncidentCounts>();
+        areaCounts.forEach((areaId, priorityCounts) -> result.put(areaId, new IncidentCounts(
+                priorityCounts.get(IncidentPriority.CRITICAL.ordinal()),
+                priorityCounts.get(IncidentPriority.ALERT.ordinal()),
+                priorityCounts.get(IncidentPriority.WARNING.ordinal()))));
+        return result;
+    }
+
+    /**
+     * 적재된 공장과 월의 구역 사건 수를 증감합니다. (적재 중이면 적재가 끝난 뒤 반영)
+     */
+    private void adjust(CountedIncident incident, int delta) {
+        if (incident == null) {
+            return;
+        }
+        var areaCounts = counts.get(new FactoryMonth(incident.factoryId(), incident.month()));
+        if (areaCounts == null) {
+            return;
+        }
+        // 적재 중이면 적재가 끝난 뒤 반영되며, 적재에 실패한 경우에는 반영하지 않음
+        areaCounts.thenAccept(loaded -> loaded
+                .computeIfAbsent(incident.areaId(), areaId -> new AtomicLongArray(IncidentPriority.values().length))
+                .addAndGet(incident.priority().ordinal(), delta));
+    }
+
+    /**
+     * 트랜잭션이 진행 중이면 커밋 이후에, 그렇지 않으면 즉시 작업을 실행합니다.
+     */
+    private void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.entity.BlacklistedToken;
+import atemos.eguard.api.repository.BlacklistedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그아웃 등으로 폐기된 JWT 토큰(블랙리스트)을 메모리에서 관리하는 컴포넌트 클래스.
+ * 폐기된 토큰은 만료될 때까지만 메모리에 보관하며, 블룸 필터를 앞에 두어 대부분의 "폐기되지 않은 토큰" 확인을
+ * 데이터베이스 조회 없이 처리합니다. blacklisted_token 테이블은 재기동 시 적재와 서버 간 동기화를 위한 저장소로만 사용합니다.
+ * 근로자의 모든 토큰은 토큰 세대(AccountStatusCache.revokeTokens)로 폐기하며, 블랙리스트는 로그아웃한 토큰 자체를 폐기하여
+ * 토큰 세대 도입 이전에 폐기된 토큰과 토큰 세대 클레임이 없는 토큰도 만료될 때까지 거부되도록 함께 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklist {
+    // 블룸 필터가 수용할 최소 토큰 개수
+    private static final int BLOOM_EXPECTED_INSERTIONS = 100_000;
+    // 블룸 필터의 목표 오탐률
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    // 다른 서버에서 추가된 토큰을 놓치지 않도록 동기화 시 앞당겨 조회하는 시간(초)
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+    private final BlacklistedTokenRepository blacklistedTokenRepository;
+    // 폐기된 토큰별 만료 시각
+    private final Map<String, LocalDateTime> revokedTokens = new ConcurrentHashMap<>();
+    // 폐기된 토큰의 블룸 필터 (만료 토큰 정리 시 새로 생성하여 교체)
+    private volatile BloomFilter bloomFilter = new BloomFilter(BLOOM_EXPECTED_INSERTIONS);
+    // 마지막으로 데이터베이스와 동기화한 시각
+    private volatile LocalDateTime lastSyncedAt;
+
+    @Value("${jwt.access-token-expiration}")
+    private long accessTokenExpiration;
+
+    /**
+     * 블랙리스트 토큰의 존재 여부만 빠르게 판정하는 블룸 필터 클래스.
+     * false이면 반드시 없는 토큰이고, true이면 있을 수 있는 토큰입니다.
+     */
+    private static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final int bitSize;
+        private final int hashCount;
+
+        private BloomFilter(int expectedInsertions) {
+            // 최적 비트 수 m = -n * ln(p) / (ln 2)^2, 해시 함수 수 k = m / n * ln 2
+            long optimalBits = (long) (-expectedInsertions * Math.log(BLOOM_FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+            this.bitSize = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, optimalBits));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((bitSize + 63) / 64);
+        }
+
+        private void put(long[] hash) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash, i);
+                long mask = 1L << (index & 63);
+                long current;
+                do {
+                    current = bits.get(index >>> 6);
+                } while ((current & mask) == 0 && !bits.compareAndSet(index >>> 6, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(long[] hash) {
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash, i);
+                if ((bits.get(index >>> 6) & (1L << (index & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 두 개의 64비트 해시를 조합하여 i번째 해시 위치를 계산 (double hashing)
+        private int index(long[] hash, int i) {
+            return (int) Long.remainderUnsigned(hash[0] + i * hash[1], bitSize);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작 시 아직 만료되지 않았을 수 있는 블랙리스트 토큰을 데이터베이스에서 적재합니다.
+     */
+    @PostConstruct
+    public void loadBlacklistedTokens() {
+        var now = LocalDateTime.now();
+        // 블랙리스트에 추가되기 전에 발급된 Access Token은 추가 시각 + 만료 기간 이전에 만료됨
+        var tokens = blacklistedTokenRepository.findByCreatedAtAfter(now.minusNanos(accessTokenExpiration * 1_000_000));
+        tokens.forEach(this::remember);
+        lastSyncedAt = now;
+        log.info("블랙리스트 토큰 {}개 메모리 적재 완료", tokens.size());
+    }
+
+    /**
+     * 토큰이 블랙리스트에 있는지 확인합니다.
+     * 블룸 필터에 없으면 바로 false를 반환하므로, 대부분의 요청은 해시 계산만으로 처리됩니다.
+     *
+     * @param token JWT 토큰
+     * @return 블랙리스트에 있으면 true
+     */
+    public boolean isBlacklisted(String token) {
+        if (!bloomFilter.mightContain(hash(token))) {
+            return false;
+        }
+        return revokedTokens.containsKey(token);
+    }
+
+    /**
+     * 토큰을 블랙리스트에 추가합니다.
+     * 메모리에 먼저 반영한 뒤, 처음 추가되는 토큰만 데이터베이스에 저장합니다.
+     *
+     * @param token 폐기할 JWT 토큰
+     */
+    public void blacklist(String token) {
+        if (revokedTokens.putIfAbsent(token, LocalDateTime.now().plusNanos(accessTokenExpiration * 1_000_000)) != null) {
+            return;
+        }
+        bloomFilter.put(hash(token));
+        try {
+            blacklistedTokenRepository.save(BlacklistedToken.builder()
+                    .token(token)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버에서 이미 저장한 토큰
+            log.debug("다른 서버에서 이미 블랙리스트에 저장한 토큰입니다.");
+        }
+    }
+
+    /**
+     * 다른 서버에서 블랙리스트에 추가한 토큰을 주기적으로 가져옵니다. (1분마다)
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void syncBlacklistedTokens() {
+        var now = LocalDateTime.now();
+        blacklistedTokenRepository.findByCreatedAtAfter(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS))
+                .forEach(this::remember);
+        lastSyncedAt = now;
+    }
+
+    /**
+     * 만료된 토큰을 메모리에서 제거하고 남은 토큰으로 블룸 필터를 다시 생성합니다. (10분마다)
+     * 블룸 필터는 삭제를 지원하지 않으므로 새로 만들어 교체합니다.
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictExpiredTokens() {
+        var now = LocalDateTime.now();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        var rebuilt = new BloomFilter(Math.max(BLOOM_EXPECTED_INSERTIONS, revokedTokens.size() * 2));
+        revokedTokens.keySet().forEach(token -> rebuilt.put(hash(token)));
+        bloomFilter = rebuilt;
+        // 교체하는 사이에 추가된 토큰도 새 블룸 필터에 반영
+        revokedTokens.keySet().forEach(token -> rebuilt.put(hash(token)));
+    }
+
+    /**
+     * 데이터베이스의 블랙리스트 토큰을 메모리에 반영합니다.
+     *
+     * @param blacklistedToken 블랙리스트 토큰 엔티티
+     */
+    private void remember(BlacklistedToken blacklistedToken) {
+        var expiresAt = blacklistedToken.getCreatedAt().plusNanos(accessTokenExpiration * 1_000_000);
+        if (expiresAt.isAfter(LocalDateTime.now())
+                && revokedTokens.putIfAbsent(blacklistedToken.getToken(), expiresAt) == null) {
+            bloomFilter.put(hash(blacklistedToken.getToken()));
+        }
+    }
+
+    /**
+     * 토큰의 SHA-256 해시에서 블룸 필터에 사용할 두 개의 64비트 해시를 계산합니다.
+     *
+     * @param token JWT 토큰
+     * @return 두 개의 64비트 해시
+     */
+    private static long[] hash(String token) {
+        try {
+            var digest = ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new long[]{digest.getLong(), digest.getLong() | 1};
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+}
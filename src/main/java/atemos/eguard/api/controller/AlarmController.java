@@ -68,6 +68,7 @@ public class AlarmController {
      * @param searchEndTime 조회 종료일시
      * @param page 페이지 번호
      * @param size 페이지당 데이터 개수
+     * @param cursor 다음 페이지 커서
      * @return 조건에 맞는 알람 목록과 페이징 정보를 포함한 응답 객체를 반환합니다.
      */
     @Operation(summary = "조건에 맞는 알람 조회", description = "조건에 맞는 알람 조회 API")
@@ -86,7 +87,8 @@ public class AlarmController {
             @Parameter(description = "조회 시작일시") @RequestParam(required = false) LocalDateTime searchStartTime,
             @Parameter(description = "조회 종료일시") @RequestParam(required = false) LocalDateTime searchEndTime,
             @Parameter(description = "페이지 번호", example = "0") @RequestParam(required = false) Integer page,
-            @Parameter(description = "페이지당 데이터 개수", example = "10") @RequestParam(required = false) Integer size
+            @Parameter(description = "페이지당 데이터 개수", example = "10") @RequestParam(required = false) Integer size,
+            @Parameter(description = "다음 페이지 커서 (지정하면 전체 개수 없이 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)") @RequestParam(required = false) String cursor
     ) {
         return apiResponseManager.success(alarmService.read(
                 AlarmDto.ReadAlarmRequest.builder()
@@ -101,6 +103,8 @@ public class AlarmController {
                         .areaIncidents(areaIncident)
                         .searchStartTime(searchStartTime)
                         .searchEndTime(searchEndTime)
+                        .size(size)
+                        .cursor(cursor)
                         .build(),
                 (page != null && size != null) ? PageRequest.of(page, size) : Pageable.unpaged()));
     }
@@ -143,15 +147,19 @@ public class AlarmController {
     /**
      * 실시간 알람 스트림을 제공하는 SSE 엔드포인트.
      * 클라이언트와의 SSE 연결을 통해 실시간으로 알람을 전송합니다.
+     * 재연결 시 Last-Event-ID 헤더를 보내면 마지막으로 수신한 이후의 누락된 알람만 전송합니다.
      *
      * @param readAlarmRequest 알람 조회 조건을 포함하는 DTO로, 업체 ID, 읽음 여부 등의 정보를 포함합니다.
+     * @param lastEventId 클라이언트가 마지막으로 수신한 이벤트 ID
      * @return SSE 연결을 위한 SseEmitter 객체로, 클라이언트에게 실시간 알람을 스트리밍합니다.
      */
     @Operation(summary = "실시간 알람 스트림", description = "실시간으로 알람을 스트리밍하는 SSE 엔드포인트")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamAlarm(@Valid @ModelAttribute AlarmDto.ReadAlarmRequest readAlarmRequest) {
-        return alarmService.streamAlarm(readAlarmRequest);
+    public SseEmitter streamAlarm(@Valid @ModelAttribute AlarmDto.ReadAlarmRequest readAlarmRequest,
+                                  @Parameter(description = "마지막으로 수신한 이벤트 ID", example = "1728950400000:42")
+                                  @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return alarmService.streamAlarm(readAlarmRequest, lastEventId);
     }
 
     /**
@@ -64,6 +64,7 @@ public class EventController {
      * @param searchEndDate 조회 종료일(createdAt 기준)
      * @param page 페이지 번호
      * @param size 페이지 당 데이터 개수
+     * @param cursor 다음 페이지 커서
      * @return 조건에 맞는 사건 정보
      */
     @Operation(summary = "조건에 맞는 사건 조회", description = "조건에 맞는 사건을 조회하는 API")
@@ -80,7 +81,8 @@ public class EventController {
             @Parameter(description = "조회 시작일(createdAt 기준)") @RequestParam(required = false) LocalDate searchStartDate,
             @Parameter(description = "조회 종료일(createdAt 기준)") @RequestParam(required = false) LocalDate searchEndDate,
             @Parameter(description = "페이지 번호", example = "0") @RequestParam(required = false) Integer page,
-            @Parameter(description = "페이지 당 데이터 개수", example = "10") @RequestParam(required = false) Integer size
+            @Parameter(description = "페이지 당 데이터 개수", example = "10") @RequestParam(required = false) Integer size,
+            @Parameter(description = "다음 페이지 커서 (지정하면 전체 개수 없이 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)") @RequestParam(required = false) String cursor
     ) {
         return apiResponseManager.success(eventService.read(
                 EventDto.ReadEventRequest.builder()
@@ -95,6 +97,7 @@ public class EventController {
                         .searchEndDate(searchEndDate)
                         .page(page)
                         .size(size)
+                        .cursor(cursor)
                         .build(),
                 (page != null && size != null) ? PageRequest.of(page, size) : Pageable.unpaged()));
     }
@@ -150,6 +153,24 @@ public class EventController {
         return apiResponseManager.success(eventService.readSafetyScore(factoryId));
     }
 
+    /**
+     * 공장의 월별 안전 점수 추이를 조회하는 API.
+     * 마감된 달은 저장된 스냅샷(없으면 그 달의 사건으로 바로 집계)으로, 이번 달은 실시간으로 산출한 안전 점수를 빠진 달 없이 월 순서로 응답합니다.
+     *
+     * @param factoryId 공장 ID
+     * @param months 이번 달을 포함한 조회 개월 수
+     * @return 공장과 구역의 월별 안전 점수 및 안전 등급 정보
+     */
+    @Operation(summary = "공장의 월별 안전 점수 추이 조회", description = "최근 여러 달의 공장 및 구역별 안전 점수를 월 순서로 응답합니다. (최대 24개월)")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @GetMapping("/score/trend")
+    public ResponseEntity<ApiResponseDto> readSafetyScoreTrend(
+            @Parameter(description = "공장 ID", required = true) @RequestParam Long factoryId,
+            @Parameter(description = "이번 달을 포함한 조회 개월 수 (기본 12, 최대 24)") @RequestParam(required = false) Integer months
+    ) {
+        return apiResponseManager.success(eventService.readSafetyScoreTrend(factoryId, months));
+    }
+
     /**
      * 모든 사건을 해결하여 일괄 수정하는 API.
      * 모든 사건을 해결 상태로 일괄 수정합니다.
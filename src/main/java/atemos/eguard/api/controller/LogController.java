@@ -53,6 +53,7 @@ public class LogController {
      * @param searchEndTime 조회 종료일시
      * @param page 페이지 번호
      * @param size 페이지 당 데이터 개수
+     * @param cursor 다음 페이지 커서
      * @return 조회된 Log 리스트
      */
     @Operation(summary = "API 호출 로그 조회", description = "API 호출 로그 정보를 조회하는 API")
@@ -70,7 +71,8 @@ public class LogController {
             @Parameter(description = "조회 시작일시", example = "2024-06-03T00:00:00") @RequestParam(required = false) LocalDateTime searchStartTime,
             @Parameter(description = "조회 종료일시", example = "2025-12-31T23:59:59") @RequestParam(required = false) LocalDateTime searchEndTime,
             @Parameter(description = "페이지 번호", example = "0") @RequestParam(required = false) Integer page,
-            @Parameter(description = "페이지 당 데이터 개수", example = "10") @RequestParam(required = false) Integer size
+            @Parameter(description = "페이지 당 데이터 개수", example = "10") @RequestParam(required = false) Integer size,
+            @Parameter(description = "다음 페이지 커서 (지정하면 전체 개수 없이 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)") @RequestParam(required = false) String cursor
     ) {
         return apiResponseManager.success(logService.readApiCallLog(
                 LogDto.ReadApiCallLogRequest.builder()
@@ -85,6 +87,7 @@ public class LogController {
                         .searchEndTime(searchEndTime)
                         .page(page)
                         .size(size)
+                        .cursor(cursor)
                         .build(),
                 (page != null && size != null) ? PageRequest.of(page, size) : Pageable.unpaged()));
     }
@@ -104,6 +107,7 @@ public class LogController {
      * @param searchEndTime 조회 종료일시
      * @param page 페이지 번호
      * @param size 페이지 당 데이터 개수
+     * @param cursor 다음 페이지 커서
      * @return 조회된 Log 리스트
      */
     @Operation(summary = "인증/인가 로그 조회", description = "인증/인가 로그 정보를 조회하는 API")
@@ -121,7 +125,8 @@ public class LogController {
             @Parameter(description = "조회 시작일시", example = "2024-06-03T00:00:00") @RequestParam(required = false) LocalDateTime searchStartTime,
             @Parameter(description = "조회 종료일시", example = "2025-12-31T23:59:59") @RequestParam(required = false) LocalDateTime searchEndTime,
             @Parameter(description = "페이지 번호", example = "0") @RequestParam(required = false) Integer page,
-            @Parameter(description = "페이지 당 데이터 개수", example = "10") @RequestParam(required = false) Integer size
+            @Parameter(description = "페이지 당 데이터 개수", example = "10") @RequestParam(required = false) Integer size,
+            @Parameter(description = "다음 페이지 커서 (지정하면 전체 개수 없이 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)") @RequestParam(required = false) String cursor
     ) {
         return apiResponseManager.success(logService.readAuthenticationLog(
                 LogDto.ReadAuthenticationLogRequest.builder()
@@ -136,6 +141,7 @@ public class LogController {
                         .searchEndTime(searchEndTime)
                         .page(page)
                         .size(size)
+                        .cursor(cursor)
                         .build(),
                 (page != null && size != null) ? PageRequest.of(page, size) : Pageable.unpaged()));
     }
@@ -0,0 +1,20 @@
+package atemos.eguard.api.domain;
+
+/**
+ * 근로자 부분 일치 검색을 지원하는 암호화 필드를 나타내는 열거형입니다.
+ */
+public enum EmployeeSearchField {
+    /**
+     * 근로자 이름입니다.
+     */
+    NAME,
+    /**
+     * 근로자 이메일입니다.
+     */
+    EMAIL,
+    /**
+     * 근로자 전화번호입니다.
+     * 숫자만 추출하여 검색합니다.
+     */
+    PHONE_NUMBER
+}
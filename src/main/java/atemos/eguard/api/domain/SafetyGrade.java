@@ -14,4 +14,19 @@ public enum SafetyGrade {
     private final String message;
     private final int min;
     private final int max;
+
+    /**
+     * 안전 점수에 해당하는 등급을 반환합니다.
+     *
+     * @param safetyScore 안전 점수 (0 ~ 100)
+     * @return 점수가 속한 등급 (80 이상 양호, 60 이상 주의, 그 외 심각)
+     */
+    public static SafetyGrade of(int safetyScore) {
+        for (var safetyGrade : values()) {
+            if (safetyScore >= safetyGrade.min) {
+                return safetyGrade;
+            }
+        }
+        return SEVERE;
+    }
 }
\ No newline at end of file
@@ -101,6 +101,9 @@ public class AlarmDto {
         @Schema(description = "페이지당 데이터 개수")
         @Positive
         private Integer size;
+
+        @Schema(description = "다음 페이지 커서 (지정하면 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)")
+        private String cursor;
     }
 
     @Schema(description = "알람 조회 결과를 담는 DTO")
@@ -177,5 +180,10 @@ public class AlarmDto {
 
         @Schema(description = "전체 페이지 수")
         private Integer totalPages;
+        @Schema(description = "다음 페이지 커서 (커서 방식 조회 시, 다음 페이지가 없으면 null)")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부 (커서 방식 조회 시)")
+        private Boolean hasNext;
     }
 }
\ No newline at end of file
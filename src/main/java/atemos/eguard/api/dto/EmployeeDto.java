@@ -116,16 +116,16 @@ public class EmployeeDto {
         @Schema(description = "소속된 공장 ID 리스트")
         private List<@Positive Long> factoryIds;
 
-        @Schema(description = "이름(암호화 되어있으므로 Like 검색 안됨)")
+        @Schema(description = "이름(부분 일치 검색)")
         @Size(max = 30)
         private String employeeName;
 
-        @Schema(description = "이메일(암호화 되어있으므로 Like 검색 안됨)")
-        @Pattern(regexp = "^[a-zA-Z0-9.%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$", message = "Must be a valid email format.")
+        @Schema(description = "이메일(부분 일치 검색)")
+        @Size(max = 100)
         private String employeeEmail;
 
-        @Schema(description = "연락처(암호화 되어있으므로 Like 검색 안됨)")
-        @Pattern(regexp = "^\\d{9,11}$", message = "Must be a valid 9 to 11 digit phone number.")
+        @Schema(description = "연락처(숫자 부분 일치 검색)")
+        @Pattern(regexp = "^\\d{1,11}$", message = "Must be up to 11 digits.")
         private String employeePhoneNumber;
 
         @Schema(description = "권한 리스트")
@@ -154,7 +154,7 @@ public class EmployeeDto {
     }
 
     @Schema(description = "근로자 조회 응답을 위한 DTO")
-    @Builder
+    @Builder(toBuilder = true)
     @Getter
     @AllArgsConstructor
     @NoArgsConstructor
@@ -117,6 +117,8 @@ public class EventDto {
         @Schema(description = "페이지당 row의 개수", example = "10")
         @Positive
         private Integer size;
+        @Schema(description = "다음 페이지 커서 (지정하면 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)")
+        private String cursor;
     }
 
     @Schema(description = "사건 조회 응답을 위한 DTO")
@@ -199,6 +201,11 @@ public class EventDto {
 
         @Schema(description = "전체 페이지 수")
         private Integer totalPages;
+        @Schema(description = "다음 페이지 커서 (커서 방식 조회 시, 다음 페이지가 없으면 null)")
+        private String nextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부 (커서 방식 조회 시)")
+        private Boolean hasNext;
     }
 
     @Schema(description = "안전 점수 응답을 위한 DTO")
@@ -282,6 +289,52 @@ public class EventDto {
         private Long warningIncidentCount;
     }
 
+    @Schema(description = "월별 안전 점수 추이 응답을 위한 DTO")
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SafetyScoreTrend {
+        @Schema(description = "공장 ID")
+        private Long factoryId;
+
+        @Schema(description = "공장 이름")
+        private String factoryName;
+
+        @Schema(description = "월별 안전 점수 리스트 (오래된 달부터, 마지막 항목이 이번 달)")
+        private List<MonthlySafetyScore> monthlySafetyScores;
+    }
+
+    @Schema(description = "월별 공장 안전 점수를 위한 DTO")
+    @Builder
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class MonthlySafetyScore {
+        @Schema(description = "대상 월 (yyyy-MM)", example = "2024-09")
+        private String month;
+
+        @Schema(description = "공장 안전 점수 (0~100 사이의 숫자)")
+        private Integer safetyScore;
+
+        @Schema(description = "공장 안전 등급 ('심각', '주의', '양호')")
+        private String safetyGrade;
+
+        @Schema(description = "해당 월 공장의 CRITICAL 사건 수")
+        private Long criticalIncidentCount;
+
+        @Schema(description = "해당 월 공장의 ALERT 사건 수")
+        private Long alertIncidentCount;
+
+        @Schema(description = "해당 월 공장의 WARNING 사건 수")
+        private Long warningIncidentCount;
+
+        @Schema(description = "해당 월 구역들의 안전 점수 리스트")
+        private List<AreaSafetyScore> areaSafetyScores;
+    }
+
     @Schema(description = "안전 등급 산출 응답 DTO")
     @Builder
     @Getter
@@ -61,6 +61,9 @@ public class LogDto {
         @Schema(description = "페이지당 row의 개수", example = "10")
         @Positive
         private Integer size;
+
+        @Schema(description = "다음 페이지 커서 (지정하면 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)")
+        private String cursor;
     }
 
     @Schema(description = "조회된 API 호출 로그 응답 DTO")
@@ -118,6 +121,12 @@ public class LogDto {
 
         @Schema(description = "전체 페이지 수")
         private Integer apiCallLogTotalPages;
+
+        @Schema(description = "다음 페이지 커서 (커서 방식 조회 시, 다음 페이지가 없으면 null)")
+        private String apiCallLogNextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부 (커서 방식 조회 시)")
+        private Boolean apiCallLogHasNext;
     }
 
     @Schema(description = "인증 로그 조회 요청 DTO")
@@ -163,6 +172,9 @@ public class LogDto {
         @Schema(description = "페이지당 row의 개수", example = "10")
         @Positive
         private Integer size;
+
+        @Schema(description = "다음 페이지 커서 (지정하면 커서 방식으로 조회하며, 첫 페이지는 빈 값으로 요청)")
+        private String cursor;
     }
 
     @Schema(description = "조회된 인증 로그 응답 DTO")
@@ -220,5 +232,11 @@ public class LogDto {
 
         @Schema(description = "전체 페이지 수")
         private Integer authenticationLogTotalPages;
+
+        @Schema(description = "다음 페이지 커서 (커서 방식 조회 시, 다음 페이지가 없으면 null)")
+        private String authenticationLogNextCursor;
+
+        @Schema(description = "다음 페이지 존재 여부 (커서 방식 조회 시)")
+        private Boolean authenticationLogHasNext;
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package atemos.eguard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 근로자가 현재 투입된 진행 중(IN_PROGRESS) 작업을 나타내는 엔티티 클래스입니다.
+ * - 근로자 ID가 기본키이므로, 한 근로자가 동시에 두 개 이상의 진행 중인 작업에 투입되는 것을 데이터베이스에서 막습니다.
+ * - 작업의 등록, 수정, 삭제와 같은 트랜잭션에서 ActiveWorkIndex가 JDBC로 직접 갱신합니다.
+ */
+@Entity
+@Table(name = "active_work_assignment", indexes = {
+        @Index(name = "idx_active_work_assignment_work_id", columnList = "work_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActiveWorkAssignment {
+    /**
+     * 작업에 투입된 근로자 ID (기본키)입니다.
+     */
+    @Id
+    @Column(name = "employee_id")
+    private Long employeeId;
+    /**
+     * 근로자가 투입된 진행 중인 작업 ID입니다.
+     */
+    @Column(name = "work_id", nullable = false)
+    private Long workId;
+}
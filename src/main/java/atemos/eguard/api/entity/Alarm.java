@@ -12,6 +12,15 @@ import java.time.LocalDateTime;
  * 알람을 나타내는 엔티티 클래스입니다.
  */
 @Entity
+@Table(name = "alarm", uniqueConstraints = {
+        // (근로자, 사건) 알람 존재 여부 확인에도 사용되는 인덱스 (시작 시 AlarmConstraintVerifier에서 존재 여부 확인)
+        @UniqueConstraint(name = "uk_alarm_employee_event", columnNames = {"employee_id", "event_id"})
+}, indexes = {
+        @Index(name = "idx_alarm_employee_created_at", columnList = "employee_id, created_at DESC"),
+        @Index(name = "idx_alarm_created_at_id", columnList = "created_at DESC, id DESC"),
+        // 실시간 알람 스트림에서 수정일시 이후의 변경된 알람을 조회할 때 사용 (AlarmBroadcaster 참고)
+        @Index(name = "idx_alarm_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @Setter
 @Builder
@@ -21,9 +30,12 @@ import java.time.LocalDateTime;
 public class Alarm {
     /**
      * 알람 ID (기본키)입니다.
+     * - id_generator 테이블에서 할당받습니다. (IdAllocator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "alarm_id_generator")
+    @TableGenerator(name = "alarm_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "alarm", allocationSize = 50)
     private Long id;
     /**
      * 이 알람을 받는 근로자입니다.
@@ -14,8 +14,12 @@ import java.time.LocalDateTime;
 
 /**
  * API 호출 로그를 나타내는 엔티티 클래스입니다.
+ * - 최신순 목록 조회(커서 방식)를 위해 (request_time, id) 인덱스를 둡니다.
  */
 @Entity
+@Table(name = "api_call_log", indexes = {
+        @Index(name = "idx_api_call_log_request_time_id", columnList = "request_time DESC, id DESC")
+})
 @Builder
 @Getter
 @NoArgsConstructor
@@ -24,9 +28,12 @@ import java.time.LocalDateTime;
 public class ApiCallLog {
     /**
      * 로그 ID (기본키)입니다.
+     * - id_generator 테이블에서 할당받습니다. (IdAllocator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "api_call_log_id_generator")
+    @TableGenerator(name = "api_call_log_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "api_call_log", allocationSize = 50)
     private Long id;
     /**
      * 이벤트가 발생한 근로자를 나타냅니다.
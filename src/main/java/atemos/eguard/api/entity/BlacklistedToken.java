@@ -3,6 +3,7 @@ package atemos.eguard.api.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -15,6 +16,7 @@ import java.time.LocalDateTime;
  * 이 엔티티는 특정 토큰을 블랙리스트에 추가하여 더 이상 사용되지 않도록 관리합니다.
  */
 @Entity
+@Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +22,10 @@ import java.util.List;
  */
 @Entity
 @Table(name = "employee", indexes = {
-        @Index(name = "idx_employee_email", columnList = "email")
+        @Index(name = "idx_employee_email", columnList = "email"),
+        @Index(name = "idx_employee_email_index", columnList = "email_index"),
+        @Index(name = "idx_employee_phone_number_index", columnList = "phone_number_index"),
+        @Index(name = "idx_employee_name_index", columnList = "name_index")
 })
 @DynamicUpdate
 @Getter
@@ -70,6 +73,24 @@ public class Employee {
      */
     @Column(nullable = false, unique = true)
     private String phoneNumber;
+    /**
+     * 근로자 이름의 블라인드 인덱스(HMAC)입니다.
+     * - 암호화된 이름을 동등 검색할 때 사용합니다.
+     */
+    @Column(name = "name_index", length = 64)
+    private String nameIndex;
+    /**
+     * 근로자 이메일의 블라인드 인덱스(HMAC)입니다.
+     * - 로그인, 2차 인증 등 이메일로 근로자를 조회할 때 사용합니다.
+     */
+    @Column(name = "email_index", length = 64)
+    private String emailIndex;
+    /**
+     * 근로자 전화번호의 블라인드 인덱스(HMAC)입니다.
+     * - 암호화된 전화번호를 동등 검색할 때 사용합니다.
+     */
+    @Column(name = "phone_number_index", length = 64)
+    private String phoneNumberIndex;
     /**
      * 근로자의 비밀번호입니다.
      * - 반드시 입력해야 하며, 보안상의 이유로 setter 메소드가 제공됩니다.
@@ -101,6 +122,14 @@ public class Employee {
     @Builder.Default
     @Enumerated(EnumType.STRING)
     private AuthenticationStatus authenticationStatus = AuthenticationStatus.ACTIVE;
+    /**
+     * 토큰 세대(epoch)입니다.
+     * - 발급하는 Access Token과 Refresh Token에 포함됩니다.
+     * - 로그아웃, 비밀번호 변경, 권한 변경, 계정 잠금 시 1 증가하여 이전에 발급된 모든 토큰을 무효화합니다.
+     */
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long tokenEpoch = 0L;
     /**
      * 근로자의 사원번호입니다.
      * - 고유한 번호로 유니크 제약이 적용됩니다.
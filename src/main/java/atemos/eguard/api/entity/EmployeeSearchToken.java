@@ -0,0 +1,60 @@
+package atemos.eguard.api.entity;
+
+import atemos.eguard.api.domain.EmployeeSearchField;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 암호화된 근로자 정보의 부분 일치 검색을 위한 n-gram 블라인드 인덱스를 저장하는 엔티티 클래스입니다.
+ * 이 클래스는 데이터베이스의 `employee_search_token` 테이블과 매핑됩니다.
+ * - 근로자 한 명의 필드마다 평문의 각 위치에서 시작하는 1~3글자 조각을 HMAC으로 변환한 토큰과 시작 위치를 한 행씩 저장합니다.
+ * - (field, token, employee_id, start_index) 복합 유니크 인덱스로 토큰에서 근로자 ID와 위치를 인덱스만으로 조회합니다.
+ */
+@Entity
+@Table(name = "employee_search_token",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_employee_search_token", columnNames = {"field", "token", "employee_id", "start_index"})
+        },
+        indexes = {
+                @Index(name = "idx_employee_search_token_employee", columnList = "employee_id")
+        })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchToken {
+    /**
+     * 토큰의 고유 식별자입니다.
+     * - 데이터베이스에서 자동 생성됩니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    /**
+     * 토큰이 가리키는 근로자입니다.
+     * - 근로자 정보는 지연 로딩 방식으로 불러옵니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "employee_id", nullable = false)
+    private Employee employee;
+    /**
+     * 토큰을 생성한 필드입니다.
+     */
+    @Column(nullable = false, length = 12)
+    @Enumerated(EnumType.STRING)
+    private EmployeeSearchField field;
+    /**
+     * n-gram 조각의 블라인드 인덱스(HMAC)입니다.
+     */
+    @Column(nullable = false, length = 64)
+    private String token;
+    /**
+     * 정규화한 필드 값에서 조각이 시작하는 위치(0부터, 글자 단위)입니다.
+     * 3글자보다 긴 검색어는 조각들의 위치 차이로 검색어와 같은 순서로 이어지는지 확인합니다.
+     */
+    @Column(nullable = false)
+    private Integer startIndex;
+}
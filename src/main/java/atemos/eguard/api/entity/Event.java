@@ -13,8 +13,15 @@ import java.time.LocalDateTime;
 
 /**
  * Employee와 Area에 발생한 사건 내역을 저장하는 엔티티 클래스입니다.
+ * - 구역/근로자별 미해결 사건 조회, 구역별 기간 조회(안전 점수), 최신순 목록 조회(커서 방식)에 맞춰 복합 인덱스를 둡니다.
  */
 @Entity
+@Table(name = "event", indexes = {
+        @Index(name = "idx_event_area_resolved_created_at", columnList = "area_id, resolved, created_at DESC"),
+        @Index(name = "idx_event_employee_resolved_created_at", columnList = "employee_id, resolved, created_at DESC"),
+        @Index(name = "idx_event_area_created_at", columnList = "area_id, created_at"),
+        @Index(name = "idx_event_created_at_id", columnList = "created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @Builder
@@ -24,9 +31,12 @@ import java.time.LocalDateTime;
 public class Event {
     /**
      * 구역의 고유 식별자입니다.
+     * - id_generator 테이블에서 할당받습니다. (IdAllocator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "event_id_generator")
+    @TableGenerator(name = "event_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "event", allocationSize = 50)
     private Long id;
     /**
      * 이 사건이 발생한 근로자입니다. null일 수 있습니다.
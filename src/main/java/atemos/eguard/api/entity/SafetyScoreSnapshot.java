@@ -0,0 +1,83 @@
+package atemos.eguard.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 마감된 달의 구역별 안전 점수를 저장하는 엔티티 클래스입니다.
+ * - 월말 배치 작업이 한 번 기록한 뒤 수정하지 않습니다.
+ * - 구역이 삭제되거나 이름이 바뀌어도 당시의 추이를 보존하도록 공장과 구역은 ID와 이름만 저장합니다.
+ */
+@Entity
+@Table(name = "safety_score_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_safety_score_snapshot_area_month", columnNames = {"area_id", "snapshot_month"})
+}, indexes = {
+        @Index(name = "idx_safety_score_snapshot_factory_month", columnList = "factory_id, snapshot_month")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class SafetyScoreSnapshot {
+    /**
+     * 스냅샷 ID (기본키)입니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    /**
+     * 구역이 속한 공장 ID입니다.
+     */
+    @Column(name = "factory_id", nullable = false, updatable = false)
+    private Long factoryId;
+    /**
+     * 구역 ID입니다.
+     */
+    @Column(name = "area_id", nullable = false, updatable = false)
+    private Long areaId;
+    /**
+     * 스냅샷 당시의 구역명입니다.
+     */
+    @Column(nullable = false, updatable = false, length = 50)
+    private String areaName;
+    /**
+     * 스냅샷 대상 월 (해당 월의 1일)입니다.
+     */
+    @Column(name = "snapshot_month", nullable = false, updatable = false)
+    private LocalDate snapshotMonth;
+    /**
+     * 해당 월의 CRITICAL 사건 수입니다.
+     */
+    @Column(nullable = false, updatable = false)
+    private Long criticalIncidentCount;
+    /**
+     * 해당 월의 ALERT 사건 수입니다.
+     */
+    @Column(nullable = false, updatable = false)
+    private Long alertIncidentCount;
+    /**
+     * 해당 월의 WARNING 사건 수입니다.
+     */
+    @Column(nullable = false, updatable = false)
+    private Long warningIncidentCount;
+    /**
+     * 해당 월의 안전 점수입니다.
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer safetyScore;
+    /**
+     * 스냅샷이 생성된 일시입니다.
+     */
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
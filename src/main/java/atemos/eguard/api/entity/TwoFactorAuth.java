@@ -25,9 +25,12 @@ import java.time.LocalDateTime;
 public class TwoFactorAuth {
     /**
      * 2FA 인증번호 발송 내역의 고유 식별자입니다.
+     * - id_generator 테이블에서 할당받습니다. (IdAllocator)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "two_factor_auth_id_generator")
+    @TableGenerator(name = "two_factor_auth_id_generator", table = "id_generator", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "two_factor_auth", allocationSize = 50)
     private Long id;
     /**
      * 인증 번호입니다. 근로자가 입력해야 하는 코드입니다.
@@ -40,12 +40,14 @@ public class Work {
      * 작업에 투입된 근로자 목록입니다.
      * - 작업과 근로자는 다대다 관계입니다.
      * - 연관된 근로자 목록은 즉시 로딩됩니다.
+     * - 근로자별 작업 조회(작업 투입 여부 확인)를 위해 (employee_id, work_id) 인덱스를 둡니다.
      */
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "work_employee",
             joinColumns = @JoinColumn(name = "work_id"),
-            inverseJoinColumns = @JoinColumn(name = "employee_id")
+            inverseJoinColumns = @JoinColumn(name = "employee_id"),
+            indexes = @Index(name = "idx_work_employee_employee_id_work_id", columnList = "employee_id, work_id")
     )
     private List<Employee> employees;
     /**
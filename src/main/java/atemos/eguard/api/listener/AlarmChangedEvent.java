@@ -0,0 +1,19 @@
+package atemos.eguard.api.listener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 알람(Alarm)이 등록되거나 수정되었음을 알리는 애플리케이션 이벤트입니다.
+ * 트랜잭션이 커밋된 이후 AlarmBroadcaster에서 변경된 알람을 실시간 알람 스트림 구독자에게 전송하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class AlarmChangedEvent {
+    /**
+     * 등록 또는 수정된 알람 ID 목록입니다.
+     */
+    private final List<Long> alarmIds;
+}
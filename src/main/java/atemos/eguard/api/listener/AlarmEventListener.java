@@ -0,0 +1,105 @@
+package atemos.eguard.api.listener;
+
+import atemos.eguard.api.service.AlarmService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사건이 등록되거나 수정되면 트랜잭션 커밋 직후 알람을 생성하는 리스너 클래스입니다.
+ * 알람 생성은 크기가 제한된 전용 스레드 풀에서 비동기로 처리됩니다.
+ * - 대기열이 가득 차면 해당 사건의 즉시 생성을 건너뜁니다. 사건 등록/수정 요청이 알람 생성 때문에 느려지지 않도록 하기 위함이며,
+ *   건너뛴 사건과 알람 생성에 실패한 사건은 AlarmJobScheduler의 주기적인 보정 작업(createPendingAlarms)에서 생성됩니다.
+ * - 대기열 크기와 대기열이 가득 차 건너뛴 횟수는 Micrometer 지표(alarm.dispatcher.queue.size, alarm.dispatcher.rejected)로 제공합니다.
+ */
+@Slf4j
+@Component
+public class AlarmEventListener {
+    // 알람 생성 스레드 수
+    private static final int POOL_SIZE = 2;
+    // 알람 생성 대기열 크기
+    private static final int QUEUE_CAPACITY = 1000;
+    private final AlarmService alarmService;
+    private final ThreadPoolExecutor executor;
+    // 대기열이 가득 차 즉시 생성을 건너뛴 횟수
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public AlarmEventListener(AlarmService alarmService, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.alarmService = alarmService;
+        var threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    var thread = new Thread(runnable, "alarm-dispatcher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    if (pool.isShutdown()) {
+                        log.warn("알람 생성 스레드 풀이 종료되어 주기적인 보정 작업에서 처리됩니다.");
+                        return;
+                    }
+                    log.warn("알람 생성 대기열이 가득 차 주기적인 보정 작업에서 처리됩니다. (누적 {}회)", rejectedCount.incrementAndGet());
+                });
+        // MeterRegistry 빈이 없으면(Actuator 미사용) 전역 레지스트리에 등록
+        registerMetrics(meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * 사건이 등록되거나 수정된 트랜잭션이 커밋되면 해당 사건의 알람을 비동기로 생성합니다.
+     *
+     * @param incidentOccurredEvent 등록 또는 수정된 사건 정보
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleIncidentOccurred(IncidentOccurredEvent incidentOccurredEvent) {
+        var eventId = incidentOccurredEvent.getEventId();
+        executor.execute(() -> {
+            try {
+                alarmService.createPendingAlarms(eventId);
+            } catch (Exception e) {
+                // 실패한 알람은 주기적인 보정 작업에서 다시 생성
+                log.error("사건 [{}]의 알람 생성 중 오류가 발생했습니다: {}", eventId, e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * 알람 생성 스레드 풀의 상태를 Micrometer 지표로 등록합니다.
+     * - alarm.dispatcher.queue.size: 대기열에서 처리를 기다리는 사건 수
+     * - alarm.dispatcher.rejected: 대기열이 가득 차 즉시 생성을 건너뛴 누적 횟수
+     *
+     * @param meterRegistry 지표를 등록할 레지스트리
+     */
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("alarm.dispatcher.queue.size", executor, pool -> pool.getQueue().size())
+                .description("알람 생성 대기열에서 처리를 기다리는 사건 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("alarm.dispatcher.rejected", rejectedCount, AtomicLong::get)
+                .description("알람 생성 대기열이 가득 차 즉시 생성을 건너뛴 누적 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 종료 시 대기 중인 알람 생성 작업을 마무리하고 스레드 풀을 종료합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package atemos.eguard.api.listener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사건(Event)이 등록되거나 수정되었음을 알리는 애플리케이션 이벤트입니다.
+ * 트랜잭션이 커밋된 이후 AlarmEventListener에서 알람을 생성하는 데 사용됩니다.
+ */
+@Getter
+@AllArgsConstructor
+public class IncidentOccurredEvent {
+    /**
+     * 등록 또는 수정된 사건 ID입니다.
+     */
+    private final Long eventId;
+}
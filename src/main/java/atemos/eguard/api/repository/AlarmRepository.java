@@ -1,22 +1,140 @@
 package atemos.eguard.api.repository;
 
+import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.domain.EmployeeIncident;
 import atemos.eguard.api.entity.Alarm;
-import atemos.eguard.api.entity.Employee;
-import atemos.eguard.api.entity.Event;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Alarm 엔티티에 대한 데이터 접근을 제공하는 리포지토리 인터페이스입니다.
  * 이 인터페이스는 JPA의 기본 CRUD 기능과 스펙을 통한 쿼리 실행을 지원합니다.
  */
-public interface AlarmRepository extends JpaRepository<Alarm, Long>, JpaSpecificationExecutor<Alarm> {
+public interface AlarmRepository extends JpaRepository<Alarm, Long>, JpaSpecificationExecutor<Alarm>, AlarmRepositoryCustom {
+    /**
+     * 구역/근로자별 가장 최근 미해결 사건 중 NORMAL이 아닌 사건과 그 사건이 발생한 공장의 MANAGER 중에서
+     * 아직 알람이 생성되지 않은 (사건, 수신자) 쌍을 조회하는 JPQL입니다.
+     * - 구역 사건은 그 구역의, 근로자 사건은 그 근로자의 가장 최근 미해결 사건만 대상으로 합니다. (생성일시가 같으면 ID가 큰 사건)
+     *   해결되지 않은 채 남은 이전 사건에는 알람을 다시 만들지 않습니다.
+     */
+    String PENDING_ALARM_QUERY = "SELECT e.id AS eventId, m.id AS recipientId, a.name AS areaName, w.name AS employeeName, " +
+            "e.areaIncident AS areaIncident, e.employeeIncident AS employeeIncident " +
+            "FROM Event e " +
+            "LEFT JOIN e.area a " +
+            "LEFT JOIN e.employee w " +
+            "JOIN Employee m ON m.factory.id = COALESCE(a.factory.id, w.factory.id) " +
+            "AND m.role = atemos.eguard.api.domain.EmployeeRole.MANAGER " +
+            "WHERE e.resolved = false " +
+            "AND ((a IS NOT NULL AND e.areaIncident IS NOT NULL AND e.areaIncident NOT IN :excludedAreaIncidents " +
+            "AND NOT EXISTS (SELECT 1 FROM Event n WHERE n.area = a AND n.resolved = false " +
+            "AND (n.createdAt > e.createdAt OR (n.createdAt = e.createdAt AND n.id > e.id)))) " +
+            "OR (w IS NOT NULL AND e.employeeIncident IS NOT NULL AND e.employeeIncident NOT IN :excludedEmployeeIncidents " +
+            "AND NOT EXISTS (SELECT 1 FROM Event n WHERE n.employee = w AND n.resolved = false " +
+            "AND (n.createdAt > e.createdAt OR (n.createdAt = e.createdAt AND n.id > e.id))))) " +
+            "AND NOT EXISTS (SELECT 1 FROM Alarm al WHERE al.event = e AND al.employee = m) ";
+
+    /**
+     * 아직 알람이 발송되지 않은 (사건, 수신자) 쌍을 나타내는 프로젝션입니다.
+     */
+    interface PendingAlarm {
+        Long getEventId();
+        Long getRecipientId();
+        String getAreaName();
+        String getEmployeeName();
+        AreaIncident getAreaIncident();
+        EmployeeIncident getEmployeeIncident();
+    }
+
+    /**
+     * 구역/근로자별 가장 최근 미해결 사건 중 NORMAL이 아닌 사건과 그 사건이 발생한 공장의 MANAGER 중에서
+     * 아직 알람이 생성되지 않은 (사건, 수신자) 쌍을 한 번에 조회합니다.
+     * 구역이 있는 사건은 구역이 속한 공장, 그렇지 않으면 근로자가 속한 공장의 MANAGER가 수신자입니다.
+     *
+     * @param excludedAreaIncidents 알람 대상에서 제외할 구역 사건 유형
+     * @param excludedEmployeeIncidents 알람 대상에서 제외할 근로자 사건 유형
+     * @return 알람이 누락된 (사건, 수신자) 목록
+     */
+    @Query(PENDING_ALARM_QUERY)
+    List<PendingAlarm> findPendingAlarms(@Param("excludedAreaIncidents") Collection<AreaIncident> excludedAreaIncidents,
+                                         @Param("excludedEmployeeIncidents") Collection<EmployeeIncident> excludedEmployeeIncidents);
+    /**
+     * 주어진 사건에 대해 아직 알람이 생성되지 않은 수신자(MANAGER) 목록을 조회합니다.
+     *
+     * @param eventId 알람을 생성할 사건 ID
+     * @param excludedAreaIncidents 알람 대상에서 제외할 구역 사건 유형
+     * @param excludedEmployeeIncidents 알람 대상에서 제외할 근로자 사건 유형
+     * @return 알람이 누락된 (사건, 수신자) 목록
+     */
+    @Query(PENDING_ALARM_QUERY + "AND e.id = :eventId")
+    List<PendingAlarm> findPendingAlarmsByEventId(@Param("eventId") Long eventId,
+                                                  @Param("excludedAreaIncidents") Collection<AreaIncident> excludedAreaIncidents,
+                                                  @Param("excludedEmployeeIncidents") Collection<EmployeeIncident> excludedEmployeeIncidents);
+
+    /**
+     * 주어진 시각 이후에 생성되거나 수정된 알람을 수정일시 순으로 조회합니다.
+     * 실시간 알람 스트림에서 다른 인스턴스가 변경한 알람을 전송하기 위해 사용하며, 수신자와 사건 정보를 함께 조회합니다.
+     * (idx_alarm_updated_at_id 인덱스 사용)
+     *
+     * @param updatedAt 기준 시각 (이 시각 이후에 수정된 알람만 조회)
+     * @return 변경된 알람 목록
+     */
+    @EntityGraph(attributePaths = {"employee.factory.company", "event.area", "event.employee"})
+    List<Alarm> findByUpdatedAtAfterOrderByUpdatedAtAsc(LocalDateTime updatedAt);
+
+    /**
+     * 주어진 ID 목록에 해당하는 알람을 수정일시 순으로 조회합니다.
+     * 커밋된 알람 변경 사항을 실시간 알람 스트림으로 전송하기 위해 사용하며, 수신자와 사건 정보를 함께 조회합니다.
+     *
+     * @param ids 조회할 알람 ID 목록
+     * @return 조회된 알람 목록 (중복으로 등록되지 않은 알람은 제외)
+     */
+    @EntityGraph(attributePaths = {"employee.factory.company", "event.area", "event.employee"})
+    List<Alarm> findByIdInOrderByUpdatedAtAsc(Collection<Long> ids);
+
+    /**
+     * 아직 읽지 않은 알람의 ID를 조회합니다. (ADMIN의 전체 읽음 처리에서 실제로 상태가 바뀌는 알람만 대상으로 하기 위해 사용)
+     *
+     * @return 읽지 않은 알람 ID 목록
+     */
+    @Query("SELECT a.id FROM Alarm a WHERE a.isRead = false")
+    List<Long> findUnreadIds();
+
+    /**
+     * 주어진 공장에 속한 근로자가 받은 알람 중 아직 읽지 않은 알람의 ID를 조회합니다.
+     * (ADMIN이 아닌 근로자의 전체 읽음 처리를 접근할 수 있는 공장의 알람으로 제한하기 위해 사용)
+     *
+     * @param factoryIds 접근할 수 있는 공장 ID 목록
+     * @return 읽지 않은 알람 ID 목록
+     */
+    @Query("SELECT a.id FROM Alarm a WHERE a.isRead = false AND a.employee.factory.id IN :factoryIds")
+    List<Long> findUnreadIdsByFactoryIds(@Param("factoryIds") Collection<Long> factoryIds);
+
+    /**
+     * 주어진 알람 중 아직 읽지 않은 알람을 한 번의 UPDATE로 읽음 상태로 수정합니다.
+     * 엔티티를 거치지 않으므로 수정일시(@LastModifiedDate)를 직접 지정하며, 다른 인스턴스의 실시간 알람 스트림이 이 수정일시로 변경을 전송합니다.
+     *
+     * @param ids 읽음 처리할 알람 ID 목록
+     * @param updatedAt 수정일시
+     * @return 읽음 상태로 바뀐 알람 수
+     */
+    @Modifying
+    @Query("UPDATE Alarm a SET a.isRead = true, a.updatedAt = :updatedAt WHERE a.id IN :ids AND a.isRead = false")
+    int markAsRead(@Param("ids") Collection<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
+
     /**
-     * 주어진 근로자와 사건에 대한 알람이 이미 존재하는지 확인합니다.
+     * 주어진 ID 목록에 해당하는 알람을 수신자 정보와 함께 한 번에 조회합니다. (접근 권한 검증에 사용)
      *
-     * @param employee 알람을 받을 근로자
-     * @param event 사건 정보
-     * @return 알람이 존재하면 true, 그렇지 않으면 false 반환
+     * @param ids 조회할 알람 ID 목록
+     * @return 조회된 알람 목록
      */
-    boolean existsByEmployeeAndEvent(Employee employee, Event event);
-}
\ No newline at end of file
+    @EntityGraph(attributePaths = {"employee"})
+    List<Alarm> findByIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.entity.Alarm;
+
+import java.util.List;
+
+/**
+ * Alarm 엔티티에 대한 대량 처리 기능을 제공하는 사용자 정의 리포지토리 인터페이스입니다.
+ */
+public interface AlarmRepositoryCustom {
+    /**
+     * 알람 목록을 JDBC 배치로 일괄 등록하고, 이미 존재하는 (근로자, 사건) 알람은 건너뜁니다.
+     * 중복 이외의 제약조건 위반은 예외로 전달됩니다.
+     *
+     * 등록된 알람에는 할당받은 ID가 설정되며, 중복으로 건너뛴 알람의 ID는 null입니다.
+     *
+     * @param alarms 등록할 알람 목록 (근로자와 사건은 ID만 사용합니다)
+     * @return 실제로 등록된 알람 수
+     */
+    int insertAllIfAbsent(List<Alarm> alarms);
+}
@@ -0,0 +1,95 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.config.IdAllocator;
+import atemos.eguard.api.entity.Alarm;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * AlarmRepositoryCustom의 구현 클래스입니다.
+ * 대량 등록 시 엔티티를 하나씩 영속화하지 않도록 JdbcTemplate의 batchUpdate를 사용하며, ID는 IdAllocator에서 구간으로 할당받습니다.
+ * MySQL 전용 구문(INSERT IGNORE)을 사용하지 않으므로 H2(MySQL 모드)에서도 동작하며, 중복 이외의 제약조건 위반은 그대로 예외로 전달됩니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AlarmRepositoryCustomImpl implements AlarmRepositoryCustom {
+    private static final String INSERT_SQL =
+            "INSERT INTO alarm (id, employee_id, event_id, message, is_read, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_INSERTED_IDS_SQL = "SELECT id FROM alarm WHERE id BETWEEN ? AND ?";
+    private static final int BATCH_SIZE = 500;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocator idAllocator;
+
+    /**
+     * 알람 목록을 JDBC 배치로 일괄 등록하고, 이미 존재하는 (근로자, 사건) 알람은 건너뜁니다.
+     * 등록할 알람은 알람이 없는 (근로자, 사건)으로 미리 조회하므로, 중복은 다른 서버나 스레드가 같은 알람을 먼저 등록한 경우에만 발생합니다.
+     * 배치가 uk_alarm_employee_event 중복(DuplicateKeyException)으로 실패하면 해당 배치만 한 건씩 다시 등록하여 중복 알람만 건너뛰며,
+     * 외래 키, NOT NULL, 길이 초과 등 다른 제약조건 위반은 예외로 전달합니다.
+     * 실제로 등록된 알람은 할당받은 ID 구간을 다시 조회하여 확인하고, 건너뛴 알람의 ID는 null로 되돌립니다.
+     *
+     * @param alarms 등록할 알람 목록 (근로자와 사건은 ID만 사용합니다)
+     * @return 실제로 등록된 알람 수
+     */
+    @Override
+    public int insertAllIfAbsent(List<Alarm> alarms) {
+        if (alarms.isEmpty()) {
+            return 0;
+        }
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        // 등록할 수만큼 ID 구간을 한 번에 할당받아 순서대로 사용 (다시 등록할 때도 같은 ID 사용)
+        var firstId = idAllocator.allocate(IdAllocator.ALARM, alarms.size());
+        for (int i = 0; i < alarms.size(); i++) {
+            alarms.get(i).setId(firstId + i);
+        }
+        for (int from = 0; from < alarms.size(); from += BATCH_SIZE) {
+            var batch = alarms.subList(from, Math.min(from + BATCH_SIZE, alarms.size()));
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, alarm) -> setValues(ps, alarm, now));
+            } catch (DuplicateKeyException e) {
+                log.debug("알람 일괄 등록 중 중복 알람 발견, {}건을 한 건씩 다시 등록합니다.", batch.size());
+                batch.forEach(alarm -> insertIfAbsent(alarm, now));
+            }
+        }
+        // 할당받은 ID 구간에 실제로 저장된 알람만 등록된 것으로 판단
+        var insertedIds = new HashSet<>(jdbcTemplate.queryForList(SELECT_INSERTED_IDS_SQL, Long.class, firstId, firstId + alarms.size() - 1));
+        alarms.stream().filter(alarm -> !insertedIds.contains(alarm.getId())).forEach(alarm -> alarm.setId(null));
+        return insertedIds.size();
+    }
+
+    /**
+     * 알람 한 건을 등록하고, 같은 (근로자, 사건) 알람 또는 같은 ID가 이미 있으면 건너뜁니다.
+     * (실패한 배치에서 이미 등록된 행은 같은 ID로 중복되어 건너뜁니다)
+     *
+     * @param alarm 등록할 알람
+     * @param now 등록 시각
+     */
+    private void insertIfAbsent(Alarm alarm, Timestamp now) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, ps -> setValues(ps, alarm, now));
+        } catch (DuplicateKeyException e) {
+            log.debug("이미 등록된 알람입니다. 근로자 ID: {}, 사건 ID: {}", alarm.getEmployee().getId(), alarm.getEvent().getId());
+        }
+    }
+
+    /**
+     * 알람 등록 SQL의 파라미터를 설정합니다.
+     */
+    private static void setValues(PreparedStatement ps, Alarm alarm, Timestamp now) throws SQLException {
+        ps.setLong(1, alarm.getId());
+        ps.setLong(2, alarm.getEmployee().getId());
+        ps.setLong(3, alarm.getEvent().getId());
+        ps.setString(4, alarm.getMessage());
+        ps.setBoolean(5, Boolean.TRUE.equals(alarm.getIsRead()));
+        ps.setTimestamp(6, now);
+        ps.setTimestamp(7, now);
+    }
+}
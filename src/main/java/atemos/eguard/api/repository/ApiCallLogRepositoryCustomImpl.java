@@ -0,0 +1,42 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.config.IdAllocator;
+import atemos.eguard.api.entity.ApiCallLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * ApiCallLogRepositoryCustom의 구현 클래스입니다.
+ * JdbcBatchInserter로 api_call_log 테이블에 JDBC 배치로 일괄 등록하며, ID는 IdAllocator에서 구간으로 할당받습니다.
+ */
+public class ApiCallLogRepositoryCustomImpl implements ApiCallLogRepositoryCustom {
+    private final JdbcBatchInserter<ApiCallLog> batchInserter;
+
+    public ApiCallLogRepositoryCustomImpl(JdbcTemplate jdbcTemplate, IdAllocator idAllocator) {
+        this.batchInserter = new JdbcBatchInserter<>(jdbcTemplate, idAllocator, "api_call_log", IdAllocator.API_CALL_LOG,
+                List.of("employee_id", "company_id", "request_uri", "http_method", "client_ip", "status_code", "meta_data", "request_time"),
+                (ps, apiCallLog) -> {
+                    // 근로자와 업체는 인증되지 않은 요청이면 null
+                    JdbcBatchInserter.setNullableId(ps, 2, apiCallLog.getEmployee() != null ? apiCallLog.getEmployee().getId() : null);
+                    JdbcBatchInserter.setNullableId(ps, 3, apiCallLog.getCompany() != null ? apiCallLog.getCompany().getId() : null);
+                    ps.setString(4, apiCallLog.getRequestUri());
+                    ps.setString(5, apiCallLog.getHttpMethod().name());
+                    ps.setString(6, apiCallLog.getClientIp());
+                    ps.setInt(7, apiCallLog.getStatusCode());
+                    ps.setString(8, apiCallLog.getMetaData());
+                    ps.setTimestamp(9, Timestamp.valueOf(apiCallLog.getRequestTime()));
+                });
+    }
+
+    /**
+     * API 호출 로그 목록을 JDBC 배치로 일괄 등록합니다.
+     *
+     * @param apiCallLogs 등록할 API 호출 로그 목록 (근로자와 업체는 ID만 사용합니다)
+     */
+    @Override
+    public void insertAll(List<ApiCallLog> apiCallLogs) {
+        batchInserter.insertAll(apiCallLogs);
+    }
+}
@@ -0,0 +1,42 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.config.IdAllocator;
+import atemos.eguard.api.entity.AuthenticationLog;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * AuthenticationLogRepositoryCustom의 구현 클래스입니다.
+ * JdbcBatchInserter로 authentication_log 테이블에 JDBC 배치로 일괄 등록하며, ID는 IdAllocator에서 구간으로 할당받습니다.
+ */
+public class AuthenticationLogRepositoryCustomImpl implements AuthenticationLogRepositoryCustom {
+    private final JdbcBatchInserter<AuthenticationLog> batchInserter;
+
+    public AuthenticationLogRepositoryCustomImpl(JdbcTemplate jdbcTemplate, IdAllocator idAllocator) {
+        this.batchInserter = new JdbcBatchInserter<>(jdbcTemplate, idAllocator, "authentication_log", IdAllocator.AUTHENTICATION_LOG,
+                List.of("employee_id", "company_id", "request_uri", "http_method", "client_ip", "status_code", "meta_data", "request_time"),
+                (ps, authenticationLog) -> {
+                    // 근로자와 업체는 인증되지 않은 요청이면 null
+                    JdbcBatchInserter.setNullableId(ps, 2, authenticationLog.getEmployee() != null ? authenticationLog.getEmployee().getId() : null);
+                    JdbcBatchInserter.setNullableId(ps, 3, authenticationLog.getCompany() != null ? authenticationLog.getCompany().getId() : null);
+                    ps.setString(4, authenticationLog.getRequestUri());
+                    ps.setString(5, authenticationLog.getHttpMethod().name());
+                    ps.setString(6, authenticationLog.getClientIp());
+                    ps.setInt(7, authenticationLog.getStatusCode());
+                    ps.setString(8, authenticationLog.getMetaData());
+                    ps.setTimestamp(9, Timestamp.valueOf(authenticationLog.getRequestTime()));
+                });
+    }
+
+    /**
+     * 인증 로그 목록을 JDBC 배치로 일괄 등록합니다.
+     *
+     * @param authenticationLogs 등록할 인증 로그 목록 (근로자와 업체는 ID만 사용합니다)
+     */
+    @Override
+    public void insertAll(List<AuthenticationLog> authenticationLogs) {
+        batchInserter.insertAll(authenticationLogs);
+    }
+}
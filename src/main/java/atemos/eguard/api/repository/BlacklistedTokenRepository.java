@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * BlacklistedToken 엔티티에 대한 데이터 접근을 제공하는 리포지토리 인터페이스입니다.
@@ -20,6 +21,14 @@ public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedTok
      * @return 주어진 토큰이 블랙리스트에 존재하면 true, 그렇지 않으면 false
      */
     boolean existsByToken(String token);
+    /**
+     * 지정된 시간 이후에 블랙리스트에 추가된 토큰을 조회합니다.
+     * 메모리 블랙리스트를 적재하거나 다른 서버에서 추가된 토큰을 동기화할 때 사용합니다.
+     *
+     * @param createdAt 이 시간 이후에 추가된 토큰만 조회합니다.
+     * @return 블랙리스트 토큰 목록
+     */
+    List<BlacklistedToken> findByCreatedAtAfter(LocalDateTime createdAt);
     /**
      * 지정된 시간 이전에 생성된 모든 BlacklistedToken 엔티티를 삭제합니다.
      *
@@ -1,11 +1,16 @@
 package atemos.eguard.api.repository;
 
 import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.domain.WorkStatus;
 import atemos.eguard.api.entity.Employee;
 import atemos.eguard.api.entity.Factory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,24 +20,58 @@ import java.util.Optional;
  * 이 인터페이스는 JPA의 기본 CRUD 기능을 제공하며, 이메일로 근로자를 조회하는 기능을 추가로 지원합니다.
  * - 기본 CRUD 작업을 위한 메소드 제공 (저장, 조회, 수정, 삭제)
  * - 스펙을 사용하여 복잡한 조건의 쿼리 작성 지원
- * - 이메일을 통해 회원을 조회하는 메소드 추가
+ * - 이메일 블라인드 인덱스를 통해 회원을 조회하는 메소드 추가
  */
 public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
     /**
-     * 주어진 이메일 주소로 회원을 조회합니다.
+     * 주어진 이메일 블라인드 인덱스로 회원을 조회합니다.
      *
-     * @param email 조회할 근로자의 이메일 주소
+     * @param emailIndex 조회할 근로자 이메일의 블라인드 인덱스 (EncryptUtil.blindIndex)
      * @return 주어진 이메일 주소를 가진 근로자가 존재하면 {@link Optional}로 반환하며, 존재하지 않으면 빈 {@link Optional} 반환
      */
-    Optional<Employee> findByEmail(String email);
+    Optional<Employee> findByEmailIndex(String emailIndex);
     /**
-     * 주어진 이메일 또는 전화번호가 존재하는지 여부를 확인합니다.
+     * 블라인드 인덱스가 아직 채워지지 않은 근로자를 암호화된 이메일로 조회합니다.
      *
-     * @param encryptedEmail 확인할 근로자의 암호화된 이메일 주소
-     * @param encryptedPhoneNumber 확인할 근로자의 암호화된 전화번호
+     * @param encryptedEmail 조회할 근로자의 암호화된 이메일 주소
+     * @return 블라인드 인덱스가 없고 주어진 이메일 주소를 가진 근로자가 존재하면 {@link Optional}로 반환하며, 존재하지 않으면 빈 {@link Optional} 반환
+     */
+    Optional<Employee> findByEmailIndexIsNullAndEmail(String encryptedEmail);
+    /**
+     * 이메일 블라인드 인덱스로 근로자를 조회하고, 없으면 블라인드 인덱스가 채워지지 않은 근로자를 암호화된 이메일로 조회합니다.
+     * 블라인드 인덱스 백필 작업(EmployeeBlindIndexJob)이 끝나기 전에도 기존 근로자가 로그인할 수 있도록 합니다.
+     *
+     * @param emailIndex 조회할 근로자 이메일의 블라인드 인덱스 (EncryptUtil.blindIndex)
+     * @param encryptedEmail 조회할 근로자의 암호화된 이메일 주소 (EncryptUtil.encrypt)
+     * @return 주어진 이메일 주소를 가진 근로자가 존재하면 {@link Optional}로 반환하며, 존재하지 않으면 빈 {@link Optional} 반환
+     */
+    default Optional<Employee> findByEmailIndexOrEmail(String emailIndex, String encryptedEmail) {
+        return findByEmailIndex(emailIndex).or(() -> findByEmailIndexIsNullAndEmail(encryptedEmail));
+    }
+    /**
+     * 주어진 이메일 또는 전화번호가 존재하는지 여부를 블라인드 인덱스로 확인합니다.
+     *
+     * @param emailIndex 확인할 근로자 이메일의 블라인드 인덱스
+     * @param phoneNumberIndex 확인할 근로자 전화번호의 블라인드 인덱스
      * @return 이메일 또는 전화번호가 존재하면 true, 그렇지 않으면 false 반환
      */
-    boolean existsByEmailOrPhoneNumber(String encryptedEmail, String encryptedPhoneNumber);
+    boolean existsByEmailIndexOrPhoneNumberIndex(String emailIndex, String phoneNumberIndex);
+    /**
+     * 블라인드 인덱스가 채워지지 않은 근로자를 조회합니다. (블라인드 인덱스 백필 작업에서 사용)
+     *
+     * @param pageable 한 번에 조회할 근로자 수
+     * @return 블라인드 인덱스가 없는 근로자 목록
+     */
+    @Query("SELECT e FROM Employee e WHERE e.nameIndex IS NULL OR e.emailIndex IS NULL OR e.phoneNumberIndex IS NULL ORDER BY e.id")
+    List<Employee> findWithoutBlindIndex(Pageable pageable);
+    /**
+     * 주어진 ID보다 큰 ID를 가진 근로자를 ID 순으로 조회합니다. (검색 토큰 재생성 작업에서 사용)
+     *
+     * @param id 마지막으로 처리한 근로자 ID
+     * @param pageable 한 번에 조회할 근로자 수
+     * @return 주어진 ID 다음의 근로자 목록
+     */
+    List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
     /**
      * 주어진 공장에 속한 모든 근로자를 조회합니다.
      *
@@ -48,4 +87,28 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long>, JpaSp
      * @return 주어진 공장과 역할에 해당하는 근로자 목록
      */
     List<Employee> findByFactoryAndRole(Factory factory, EmployeeRole role);
+    /**
+     * 근로자 ID와 진행 중인 작업 보유 여부를 나타내는 프로젝션 인터페이스입니다.
+     */
+    interface EmployeeWorkState {
+        Long getEmployeeId();
+        Boolean getActiveWork();
+    }
+
+    /**
+     * 주어진 공장과 역할에 속한 근로자의 ID와 지정된 상태의 작업 보유 여부를 한 번에 조회합니다. (공장 요약 정보 집계에 사용)
+     * 근로자 엔티티와 작업 목록을 불러오지 않고, 작업 보유 여부는 EXISTS 서브쿼리로 확인합니다.
+     *
+     * @param factory 조회할 공장
+     * @param role 조회할 근로자의 역할
+     * @param statuses 보유 여부를 확인할 작업 상태 목록 (예: PENDING, IN_PROGRESS)
+     * @return 근로자 ID와 작업 보유 여부 목록
+     */
+    @Query("SELECT e.id AS employeeId, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM Work w JOIN w.employees we WHERE we.id = e.id AND w.status IN :statuses) " +
+            "THEN true ELSE false END AS activeWork " +
+            "FROM Employee e WHERE e.factory = :factory AND e.role = :role")
+    List<EmployeeWorkState> findWorkStatesByFactoryAndRole(@Param("factory") Factory factory,
+                                                           @Param("role") EmployeeRole role,
+                                                           @Param("statuses") Collection<WorkStatus> statuses);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.entity.EmployeeSearchToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+/**
+ * EmployeeSearchToken 엔티티에 대한 데이터 접근을 제공하는 리포지토리 인터페이스입니다.
+ * 근로자 부분 일치 검색용 n-gram 블라인드 인덱스를 관리합니다.
+ */
+public interface EmployeeSearchTokenRepository extends JpaRepository<EmployeeSearchToken, Long>, EmployeeSearchTokenRepositoryCustom {
+    /**
+     * 주어진 근로자들의 검색 토큰을 모두 삭제합니다.
+     *
+     * @param employeeIds 검색 토큰을 삭제할 근로자 ID 목록
+     * @return 삭제된 토큰 수
+     */
+    @Modifying
+    @Query("DELETE FROM EmployeeSearchToken t WHERE t.employee.id IN :employeeIds")
+    int deleteByEmployeeIds(@Param("employeeIds") Collection<Long> employeeIds);
+}
@@ -0,0 +1,17 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.entity.EmployeeSearchToken;
+
+import java.util.List;
+
+/**
+ * EmployeeSearchToken 엔티티에 대한 대량 처리 기능을 제공하는 사용자 정의 리포지토리 인터페이스입니다.
+ */
+public interface EmployeeSearchTokenRepositoryCustom {
+    /**
+     * 검색 토큰 목록을 JDBC 배치로 일괄 등록합니다.
+     *
+     * @param tokens 등록할 검색 토큰 목록 (근로자는 ID만 사용합니다)
+     */
+    void insertAll(List<EmployeeSearchToken> tokens);
+}
@@ -0,0 +1,37 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.entity.EmployeeSearchToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * EmployeeSearchTokenRepositoryCustom의 구현 클래스입니다.
+ * 근로자 한 명당 수십~수백 개의 토큰이 생성되므로 JdbcTemplate의 batchUpdate로 등록합니다.
+ */
+@RequiredArgsConstructor
+public class EmployeeSearchTokenRepositoryCustomImpl implements EmployeeSearchTokenRepositoryCustom {
+    private static final String INSERT_SQL =
+            "INSERT INTO employee_search_token (employee_id, field, token, start_index) VALUES (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 검색 토큰 목록을 JDBC 배치로 일괄 등록합니다.
+     *
+     * @param tokens 등록할 검색 토큰 목록 (근로자는 ID만 사용합니다)
+     */
+    @Override
+    public void insertAll(List<EmployeeSearchToken> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, tokens, BATCH_SIZE, (ps, token) -> {
+            ps.setLong(1, token.getEmployee().getId());
+            ps.setString(2, token.getField().name());
+            ps.setString(3, token.getToken());
+            ps.setInt(4, token.getStartIndex());
+        });
+    }
+}
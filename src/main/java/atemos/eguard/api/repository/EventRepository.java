@@ -1,12 +1,18 @@
 package atemos.eguard.api.repository;
 
+import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.domain.EmployeeIncident;
 import atemos.eguard.api.entity.Area;
 import atemos.eguard.api.entity.Employee;
 import atemos.eguard.api.entity.Event;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,12 +38,71 @@ public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecific
      */
     Optional<Event> findTopByEmployeeAndResolvedOrderByCreatedAtDesc(Employee employee, boolean resolved);
     /**
-     * 특정 구역에서 주어진 기간 내에 발생한 사건 목록을 조회하는 메서드입니다.
+     * 구역별, 구역 사건 유형별 사건 수를 나타내는 프로젝션 인터페이스입니다.
+     */
+    interface AreaIncidentCount {
+        Long getAreaId();
+        AreaIncident getAreaIncident();
+        Long getIncidentCount();
+    }
+
+    /**
+     * 공장의 구역에서 주어진 기간 내에 발생한 사건 수를 구역과 구역 사건 유형별로 집계합니다.
+     * 구역 사건 유형이 없는 사건(구역에 등록된 근로자 사건)은 제외합니다.
      *
-     * @param area 조회할 구역
+     * @param factoryId 공장 ID
      * @param start 시작 시간 (포함)
-     * @param end 종료 시간 (포함)
-     * @return 해당 구역에서 주어진 기간 동안 발생한 사건 목록
+     * @param end 종료 시간 (미포함)
+     * @return 구역과 구역 사건 유형별 사건 수
+     */
+    @Query("SELECT e.area.id AS areaId, e.areaIncident AS areaIncident, COUNT(e) AS incidentCount FROM Event e " +
+            "WHERE e.area.factory.id = :factoryId AND e.areaIncident IS NOT NULL " +
+            "AND e.createdAt >= :start AND e.createdAt < :end " +
+            "GROUP BY e.area.id, e.areaIncident")
+    List<AreaIncidentCount> countAreaIncidents(@Param("factoryId") Long factoryId,
+                                               @Param("start") LocalDateTime start,
+                                               @Param("end") LocalDateTime end);
+    /**
+     * 근로자 또는 구역별로 해결되지 않은 가장 최근 사건의 상태를 나타내는 프로젝션 인터페이스입니다.
+     */
+    interface LatestUnresolvedIncident {
+        Long getOwnerId();
+        Long getEventId();
+        EmployeeIncident getEmployeeIncident();
+        AreaIncident getAreaIncident();
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * 근로자별로 해결되지 않은 가장 최근 사건 하나씩만 조회합니다. (생성일이 같으면 ID가 큰 사건)
+     * 엔티티 대신 필요한 컬럼만 조회하며, (employee_id, resolved, created_at) 인덱스를 사용합니다.
+     *
+     * @return 근로자 ID(ownerId)별 가장 최근 미해결 사건
+     */
+    @Query("SELECT e.employee.id AS ownerId, e.id AS eventId, e.employeeIncident AS employeeIncident, " +
+            "e.areaIncident AS areaIncident, e.createdAt AS createdAt FROM Event e " +
+            "WHERE e.employee IS NOT NULL AND e.resolved = false AND NOT EXISTS (" +
+            "SELECT n.id FROM Event n WHERE n.employee = e.employee AND n.resolved = false " +
+            "AND (n.createdAt > e.createdAt OR (n.createdAt = e.createdAt AND n.id > e.id)))")
+    List<LatestUnresolvedIncident> findLatestUnresolvedByEmployee();
+    /**
+     * 구역별로 해결되지 않은 가장 최근 사건 하나씩만 조회합니다. (생성일이 같으면 ID가 큰 사건)
+     * 엔티티 대신 필요한 컬럼만 조회하며, (area_id, resolved, created_at) 인덱스를 사용합니다.
+     *
+     * @return 구역 ID(ownerId)별 가장 최근 미해결 사건
+     */
+    @Query("SELECT e.area.id AS ownerId, e.id AS eventId, e.employeeIncident AS employeeIncident, " +
+            "e.areaIncident AS areaIncident, e.createdAt AS createdAt FROM Event e " +
+            "WHERE e.area IS NOT NULL AND e.resolved = false AND NOT EXISTS (" +
+            "SELECT n.id FROM Event n WHERE n.area = e.area AND n.resolved = false " +
+            "AND (n.createdAt > e.createdAt OR (n.createdAt = e.createdAt AND n.id > e.id)))")
+    List<LatestUnresolvedIncident> findLatestUnresolvedByArea();
+    /**
+     * 주어진 ID 목록에 해당하는 사건을 구역과 근로자 정보와 함께 한 번에 조회합니다. (접근 권한 검증에 사용)
+     *
+     * @param ids 조회할 사건 ID 목록
+     * @return 조회된 사건 목록
      */
-    List<Event> findByAreaAndCreatedAtBetween(Area area, LocalDateTime start, LocalDateTime end);
+    @EntityGraph(attributePaths = {"area", "employee"})
+    List<Event> findByIdIn(Collection<Long> ids);
 }
\ No newline at end of file
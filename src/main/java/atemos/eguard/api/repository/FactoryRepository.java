@@ -2,6 +2,7 @@ package atemos.eguard.api.repository;
 
 import atemos.eguard.api.entity.Company;
 import atemos.eguard.api.entity.Factory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
@@ -26,4 +27,12 @@ public interface FactoryRepository extends JpaRepository<Factory, Long>, JpaSpec
      * @return 해당 업체에 속한 공장 목록
      */
     List<Factory> findByCompany(Company company);
+    /**
+     * 주어진 ID보다 큰 ID를 가진 공장을 ID 순으로 조회합니다. (안전 점수 스냅샷 생성 작업에서 사용)
+     *
+     * @param id 마지막으로 처리한 공장 ID
+     * @param pageable 한 번에 조회할 공장 수
+     * @return 주어진 ID 다음의 공장 목록
+     */
+    List<Factory> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
\ No newline at end of file
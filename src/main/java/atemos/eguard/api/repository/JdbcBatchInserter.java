@@ -0,0 +1,86 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.config.IdAllocator;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * IdAllocator에서 할당받은 ID로 한 테이블에 행을 JDBC 배치로 일괄 등록하는 클래스입니다.
+ * 대량 등록 시 엔티티를 하나씩 영속화하지 않도록 사용자 정의 리포지토리 구현 클래스에서 테이블, 시퀀스 이름, 행 바인딩을 지정하여 생성합니다.
+ *
+ * @param <T> 등록할 엔티티 타입
+ */
+class JdbcBatchInserter<T> {
+    private static final int BATCH_SIZE = 500;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocator idAllocator;
+    private final String sequenceName;
+    private final String insertSql;
+    private final RowBinder<T> rowBinder;
+
+    /**
+     * 엔티티 한 건의 값을 INSERT 문의 파라미터로 설정하는 함수입니다.
+     * 첫 번째 파라미터는 할당받은 ID이므로 두 번째 파라미터부터 columns 순서대로 설정합니다.
+     *
+     * @param <T> 등록할 엔티티 타입
+     */
+    @FunctionalInterface
+    interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    /**
+     * @param jdbcTemplate JdbcTemplate
+     * @param idAllocator ID 구간을 할당받을 IdAllocator
+     * @param tableName 등록할 테이블 이름
+     * @param sequenceName IdAllocator 시퀀스 이름
+     * @param columns id를 제외한 등록할 컬럼 목록
+     * @param rowBinder 엔티티 한 건의 값을 파라미터로 설정하는 함수
+     */
+    JdbcBatchInserter(JdbcTemplate jdbcTemplate, IdAllocator idAllocator, String tableName, String sequenceName,
+                      List<String> columns, RowBinder<T> rowBinder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+        this.sequenceName = sequenceName;
+        this.insertSql = "INSERT INTO " + tableName + " (id, " + String.join(", ", columns) + ") VALUES (?"
+                + ", ?".repeat(columns.size()) + ")";
+        this.rowBinder = rowBinder;
+    }
+
+    /**
+     * 엔티티 목록을 BATCH_SIZE개씩 JDBC 배치로 일괄 등록합니다.
+     * 등록할 수만큼 ID 구간을 한 번에 할당받아 순서대로 사용합니다.
+     *
+     * @param rows 등록할 엔티티 목록
+     */
+    void insertAll(List<T> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        var nextId = new AtomicLong(idAllocator.allocate(sequenceName, rows.size()));
+        jdbcTemplate.batchUpdate(insertSql, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, nextId.getAndIncrement());
+            rowBinder.bind(ps, row);
+        });
+    }
+
+    /**
+     * null일 수 있는 외래 키 ID를 파라미터로 설정합니다.
+     *
+     * @param ps PreparedStatement
+     * @param index 파라미터 위치
+     * @param id 외래 키 ID (null이면 NULL)
+     */
+    static void setNullableId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id != null) {
+            ps.setLong(index, id);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
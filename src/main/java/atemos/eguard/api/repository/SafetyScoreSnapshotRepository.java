@@ -0,0 +1,35 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.entity.SafetyScoreSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SafetyScoreSnapshot 엔티티에 대한 데이터 접근을 제공하는 리포지토리 인터페이스입니다.
+ */
+public interface SafetyScoreSnapshotRepository extends JpaRepository<SafetyScoreSnapshot, Long> {
+    /**
+     * 공장의 주어진 기간 내 월별 구역 안전 점수 스냅샷을 월 순서로 조회합니다.
+     *
+     * @param factoryId 공장 ID
+     * @param from 시작 월 (포함, 해당 월의 1일)
+     * @param to 종료 월 (포함, 해당 월의 1일)
+     * @return 월별 구역 안전 점수 스냅샷 목록
+     */
+    List<SafetyScoreSnapshot> findByFactoryIdAndSnapshotMonthBetweenOrderBySnapshotMonthAscAreaIdAsc(Long factoryId, LocalDate from, LocalDate to);
+
+    /**
+     * 공장의 스냅샷이 이미 생성된 월 목록을 조회합니다.
+     *
+     * @param factoryId 공장 ID
+     * @param from 시작 월 (포함, 해당 월의 1일)
+     * @return 스냅샷이 생성된 월 목록 (해당 월의 1일)
+     */
+    @Query("SELECT DISTINCT s.snapshotMonth FROM SafetyScoreSnapshot s WHERE s.factoryId = :factoryId AND s.snapshotMonth >= :from")
+    Set<LocalDate> findSnapshotMonths(@Param("factoryId") Long factoryId, @Param("from") LocalDate from);
+}
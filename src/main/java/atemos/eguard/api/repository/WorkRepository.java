@@ -2,11 +2,14 @@ package atemos.eguard.api.repository;
 
 import atemos.eguard.api.domain.WorkStatus;
 import atemos.eguard.api.entity.Area;
-import atemos.eguard.api.entity.Employee;
 import atemos.eguard.api.entity.Work;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,11 +25,42 @@ public interface WorkRepository extends JpaRepository<Work, Long>, JpaSpecificat
      */
     List<Work> findByArea(Area area);
     /**
-     * 특정 근로자가 지정된 상태 목록에 해당하는 작업에 속하고 있는지 확인합니다.
+     * 근로자 ID와 투입된 작업의 ID, 이름을 나타내는 프로젝션 인터페이스입니다.
+     */
+    interface AssignedWork {
+        Long getEmployeeId();
+        Long getWorkId();
+        String getWorkName();
+    }
+
+    /**
+     * 주어진 근로자들이 투입된 지정된 상태의 작업을 한 번에 조회합니다. (근로자 목록 조회 시 페이지 단위로 사용)
+     * work_employee 테이블의 (employee_id, work_id) 인덱스로 근로자별 범위 조회 후 작업의 상태를 확인합니다.
+     * 근로자별로 진행 중(IN_PROGRESS)인 작업, 작업 ID 순으로 정렬하여 반환합니다.
      *
-     * @param employee 확인하려는 근로자 엔티티
+     * @param employeeIds 확인하려는 근로자 ID 목록
      * @param statuses 확인할 작업 상태 목록 (예: PENDING, IN_PROGRESS)
-     * @return 해당 근로자가 지정된 상태의 작업을 보유하고 있는 경우 true, 그렇지 않으면 false
+     * @return 근로자 ID와 투입된 작업의 ID, 이름 목록 (지정된 상태의 작업이 없는 근로자는 포함되지 않음)
+     */
+    @Query("SELECT e.id AS employeeId, w.id AS workId, w.name AS workName FROM Work w JOIN w.employees e " +
+            "WHERE e.id IN :employeeIds AND w.status IN :statuses " +
+            "ORDER BY e.id, CASE WHEN w.status = atemos.eguard.api.domain.WorkStatus.IN_PROGRESS THEN 0 ELSE 1 END, w.id")
+    List<AssignedWork> findAssignedWorks(@Param("employeeIds") Collection<Long> employeeIds,
+                                         @Param("statuses") Collection<WorkStatus> statuses);
+    /**
+     * 주어진 ID 목록에 해당하는 작업을 구역 정보와 함께 한 번에 조회합니다. (접근 권한 검증에 사용)
+     *
+     * @param ids 조회할 작업 ID 목록
+     * @return 조회된 작업 목록
+     */
+    @EntityGraph(attributePaths = {"area"})
+    List<Work> findByIdIn(Collection<Long> ids);
+    /**
+     * 주어진 ID 목록에 해당하는 작업을 구역과 투입된 근로자 목록과 함께 한 번에 조회합니다. (작업 목록 조회 시 페이지의 작업 정보 적재에 사용)
+     *
+     * @param ids 조회할 작업 ID 목록
+     * @return 조회된 작업 목록 (순서는 보장되지 않음)
      */
-    boolean existsByEmployeesContainingAndStatusIn(Employee employee, List<WorkStatus> statuses);
+    @EntityGraph(attributePaths = {"area", "employees"})
+    List<Work> findWithAreaAndEmployeesByIdIn(Collection<Long> ids);
 }
\ No newline at end of file
@@ -43,14 +43,31 @@ public interface AlarmService {
      * 실시간 알람을 스트리밍하는 메서드.
      * 클라이언트와의 SSE 연결을 통해 실시간으로 알람을 전송합니다.
      *
+     * @param readAlarmRequestDto 알람 조회 조건
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 수신한 이벤트 ID (최초 연결이면 null)
      * @return SSE 연결을 위한 SseEmitter 객체
      */
-    SseEmitter streamAlarm(AlarmDto.ReadAlarmRequest readAlarmRequestDto);
+    SseEmitter streamAlarm(AlarmDto.ReadAlarmRequest readAlarmRequestDto, String lastEventId);
     /**
-     * 모든 알람을 읽음 상태로 일괄 처리합니다.
+     * 현재 근로자가 접근할 수 있는 공장의 알람을 모두 읽음 상태로 일괄 처리합니다.
      *
-     * @implNote 이 메서드는 모든 알람의 상태를 읽음 상태로 일괄 수정합니다.
-     *           특정 조건이 없는 모든 알람을 대상으로 합니다.
+     * @implNote 이 메서드는 접근할 수 있는 공장의 읽지 않은 알람을 읽음 상태로 일괄 수정합니다.
+     *           ADMIN은 모든 알람을 대상으로 합니다.
      */
     void readAllAlarms();
-}
\ No newline at end of file
+    /**
+     * 구역/근로자별 가장 최근 미해결 사건 중 알람이 누락된 사건에 대해 공장의 MANAGER에게 알람을 일괄 생성합니다.
+     * 알람 배치 작업에서 누락된 알람을 보정하는 용도로 사용됩니다.
+     *
+     * @return 생성된 알람 수
+     */
+    int createPendingAlarms();
+    /**
+     * 특정 사건에 대해 알람이 누락된 공장의 MANAGER에게 알람을 일괄 생성합니다.
+     * 사건이 등록되거나 수정된 직후 호출됩니다.
+     *
+     * @param eventId 알람을 생성할 사건 ID
+     * @return 생성된 알람 수
+     */
+    int createPendingAlarms(Long eventId);
+}
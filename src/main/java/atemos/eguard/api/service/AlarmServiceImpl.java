@@ -1,27 +1,36 @@
 package atemos.eguard.api.service;
 
+import atemos.eguard.api.config.AccessScope;
+import atemos.eguard.api.config.AlarmBroadcaster;
 import atemos.eguard.api.config.EncryptUtil;
 import atemos.eguard.api.config.EntityValidator;
+import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.domain.EmployeeIncident;
 import atemos.eguard.api.dto.AlarmDto;
 import atemos.eguard.api.entity.Alarm;
+import atemos.eguard.api.listener.AlarmChangedEvent;
 import atemos.eguard.api.repository.AlarmRepository;
+import atemos.eguard.api.repository.EmployeeRepository;
+import atemos.eguard.api.repository.EventRepository;
 import atemos.eguard.api.specification.AlarmSpecification;
+import atemos.eguard.api.specification.CursorSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 /**
  * AlarmServiceImpl는 알람과 관련된 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -31,10 +40,19 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @RequiredArgsConstructor
 public class AlarmServiceImpl implements AlarmService {
-    private final PlatformTransactionManager transactionManager;
+    // 알람 대상에서 제외할 구역 사건 유형
+    private static final List<AreaIncident> EXCLUDED_AREA_INCIDENTS = List.of(AreaIncident.NORMAL);
+    // 알람 대상에서 제외할 근로자 사건 유형
+    private static final List<EmployeeIncident> EXCLUDED_EMPLOYEE_INCIDENTS = List.of(EmployeeIncident.NORMAL, EmployeeIncident.ON_LEAVE);
+    // 전체 읽음 처리에서 UPDATE 문 하나로 수정할 최대 알람 수 (IN 목록 크기 제한)
+    private static final int MARK_AS_READ_BATCH_SIZE = 1000;
     private final AlarmRepository alarmRepository;
+    private final EmployeeRepository employeeRepository;
+    private final EventRepository eventRepository;
     private final EncryptUtil encryptUtil;
     private final EntityValidator entityValidator;
+    private final AlarmBroadcaster alarmBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 알람 생성
@@ -72,6 +90,8 @@ public class AlarmServiceImpl implements AlarmService {
                 .isRead(false)
                 .build();
         alarmRepository.save(alarm);
+        // 트랜잭션 커밋 후 실시간 알람 스트림으로 전송
+        eventPublisher.publishEvent(new AlarmChangedEvent(List.of(alarm.getId())));
         // 생성된 알람 정보를 ReadAlarmResponse로 변환하여 반환
         return AlarmDto.ReadAlarmResponse.builder()
                 .alarmId(alarm.getId())
@@ -103,73 +123,49 @@ public class AlarmServiceImpl implements AlarmService {
     @Override
     @Transactional(readOnly = true)
     public AlarmDto.ReadAlarmResponseList read(AlarmDto.ReadAlarmRequest readAlarmRequestDto, Pageable pageable) {
-        // readAlarmRequestDto에 알람 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getAlarmIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(alarmIds -> {
-                    if (entityValidator.validateAlarmIds(alarmIds).isEmpty()) {
-                        throw new AccessDeniedException("알람이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 근로자 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getEmployeeIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(employeeIds -> {
-                    if (entityValidator.validateEmployeeIds(employeeIds).isEmpty()) {
-                        throw new AccessDeniedException("근로자가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 사건 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getEventIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(eventIds -> {
-                    if (entityValidator.validateEventIds(eventIds).isEmpty()) {
-                        throw new AccessDeniedException("사건이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 공장 Id 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto의 companyIds가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getCompanyIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(companyIds -> {
-                    if (entityValidator.validateCompanyIds(companyIds).isEmpty()) {
-                        throw new AccessDeniedException("업체가 존재하지 않거나 접근 권한이 없습니다.");
-                    }
-                });
-        // 알람 조회
-        var alarmResponse = alarmRepository.findAll(AlarmSpecification.findWith(readAlarmRequestDto), pageable);
-        var alarmList = alarmResponse.getContent().stream()
-                .map(alarm -> AlarmDto.ReadAlarmResponse.builder()
-                        .alarmId(alarm.getId())
-                        .employeeId(alarm.getEmployee().getId())
-                        .employeeName(encryptUtil.decrypt(alarm.getEmployee().getName()))
-                        .eventId(alarm.getEvent().getId())
-                        .employeeIncident(alarm.getEvent().getEmployeeIncident())
-                        .areaIncident(alarm.getEvent().getAreaIncident())
-                        .eventEmployeeId(alarm.getEvent().getEmployee() != null ? alarm.getEvent().getEmployee().getId() : null)
-                        .eventEmployeeName(alarm.getEvent().getEmployee() != null ? encryptUtil.decrypt(alarm.getEvent().getEmployee().getName()) : null)
-                        .eventAreaId(alarm.getEvent().getArea() != null ? alarm.getEvent().getArea().getId() : null)
-                        .eventAreaName(alarm.getEvent().getArea() != null ? alarm.getEvent().getArea().getName() : null)
-                        .eventAreaLocation(alarm.getEvent().getArea() != null ? alarm.getEvent().getArea().getLocation() : null)
-                        .eventResolved(alarm.getEvent().getResolved())
-                        .alarmMessage(alarm.getMessage())
-                        .alarmRead(alarm.getIsRead())
-                        .createdAt(alarm.getCreatedAt())
-                        .updatedAt(alarm.getUpdatedAt())
-                        .build())
+        // 알람 조회 (커서가 주어지면 전체 개수를 세지 않는 커서 방식으로 조회)
+        var specification = AlarmSpecification.findWith(readAlarmRequestDto, entityValidator.getAccessScope());
+        var alarmResponse = readAlarmRequestDto.getCursor() != null
+                ? CursorSpecification.scroll(alarmRepository, specification, "createdAt", readAlarmRequestDto.getCursor(), readAlarmRequestDto.getSize())
+                : alarmRepository.findAll(specification, pageable);
+        var alarms = alarmResponse.getContent();
+        // 수신 근로자 이름과 사건 발생 근로자 이름을 한 번에 복호화
+        var employeeNames = encryptUtil.decryptAll(alarms.stream()
+                .map(alarm -> alarm.getEmployee().getName())
+                .toList());
+        var eventEmployeeNames = encryptUtil.decryptAll(alarms.stream()
+                .map(alarm -> alarm.getEvent().getEmployee() != null ? alarm.getEvent().getEmployee().getName() : null)
+                .toList());
+        var alarmList = IntStream.range(0, alarms.size())
+                .mapToObj(i -> {
+                    var alarm = alarms.get(i);
+                    return AlarmDto.ReadAlarmResponse.builder()
+                            .alarmId(alarm.getId())
+                            .employeeId(alarm.getEmployee().getId())
+                            .employeeName(employeeNames.get(i))
+                            .eventId(alarm.getEvent().getId())
+                            .employeeIncident(alarm.getEvent().getEmployeeIncident())
+                            .areaIncident(alarm.getEvent().getAreaIncident())
+                            .eventEmployeeId(alarm.getEvent().getEmployee() != null ? alarm.getEvent().getEmployee().getId() : null)
+                            .eventEmployeeName(eventEmployeeNames.get(i))
+                            .eventAreaId(alarm.getEvent().getArea() != null ? alarm.getEvent().getArea().getId() : null)
+                            .eventAreaName(alarm.getEvent().getArea() != null ? alarm.getEvent().getArea().getName() : null)
+                            .eventAreaLocation(alarm.getEvent().getArea() != null ? alarm.getEvent().getArea().getLocation() : null)
+                            .eventResolved(alarm.getEvent().getResolved())
+                            .alarmMessage(alarm.getMessage())
+                            .alarmRead(alarm.getIsRead())
+                            .createdAt(alarm.getCreatedAt())
+                            .updatedAt(alarm.getUpdatedAt())
+                            .build();
+                })
                 .toList();
         // 조건에 맞는 알람 목록을 리턴
         return AlarmDto.ReadAlarmResponseList.builder()
                 .alarmList(alarmList)
-                .totalElements(alarmResponse.getTotalElements())
-                .totalPages(alarmResponse.getTotalPages())
+                .totalElements(alarmResponse instanceof Page<Alarm> page ? page.getTotalElements() : null)
+                .totalPages(alarmResponse instanceof Page<Alarm> page ? page.getTotalPages() : null)
+                .nextCursor(readAlarmRequestDto.getCursor() != null ? CursorSpecification.nextCursor(alarmResponse, Alarm::getCreatedAt, Alarm::getId) : null)
+                .hasNext(readAlarmRequestDto.getCursor() != null ? alarmResponse.hasNext() : null)
                 .build();
     }
 
@@ -215,6 +211,8 @@ public class AlarmServiceImpl implements AlarmService {
         Optional.ofNullable(updateAlarmDto.getAlarmRead()).ifPresent(alarm::setIsRead);
         // 수정된 Alarm 저장
         alarmRepository.save(alarm);
+        // 트랜잭션 커밋 후 실시간 알람 스트림으로 전송
+        eventPublisher.publishEvent(new AlarmChangedEvent(List.of(alarm.getId())));
         // 저장된 알람을 ReadAlarmResponse로 변환 후 응답 DTO 리턴
         return AlarmDto.ReadAlarmResponse.builder()
                 .alarmId(alarm.getId())
@@ -251,72 +249,127 @@ public class AlarmServiceImpl implements AlarmService {
 
     /**
      * 실시간 알람을 스트리밍
-     * 이 메서드는 서버와 클라이언트 간의 SSE 연결을 통해 실시간 알람을 주기적으로 전송합니다.
-     * 주기적으로 최신 알람을 조회하여 클라이언트로 전송합니다.
+     * 모든 연결이 공유하는 AlarmBroadcaster를 통해 새로 생성되거나 수정된 알람만 클라이언트로 전송합니다.
+     * 재연결 시 Last-Event-ID 이후의 누락된 알람만 전송하며, 누락 구간이 너무 오래되었거나 최초 연결이면
+     * 전체 알람 목록을 먼저 전송합니다.
      *
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 수신한 이벤트 ID (최초 연결이면 null)
      * @return SSE 연결을 위한 SseEmitter 객체
      */
     @Override
-    public SseEmitter streamAlarm(AlarmDto.ReadAlarmRequest readAlarmRequestDto) {
-        // 타임아웃을 30분으로 설정
-        SseEmitter emitter = new SseEmitter(30 * 60 * 1000L);
-        // 현재 SecurityContext를 저장
-        var context = SecurityContextHolder.getContext();
-        // TransactionTemplate 생성
-        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
-        // ExecutorService 생성
-        var executor = Executors.newScheduledThreadPool(1, Thread.ofVirtual().factory());
-        // 0초 후에 시작하여 5초 간격으로 작업 실행
-        var scheduledFuture = executor.scheduleAtFixedRate(() -> {
-            try {
-                // 스레드 내에서 SecurityContext 수동 설정
-                SecurityContextHolder.setContext(context);
-                // TransactionTemplate을 사용하여 트랜잭션 시작
-                transactionTemplate.execute(status -> {
-                    try {
-                        // 알람을 조회하고, 클라이언트로 전송
-                        var alarms = read(readAlarmRequestDto, Pageable.unpaged());
-                        emitter.send(SseEmitter.event()
-                                .data(alarms)
-                                .name("alarm"));
-                    } catch (Exception e) {
-                        emitter.completeWithError(e);
-                        executor.shutdown();
-                    }
-                    return null;
-                });
-            } catch (Exception e) {
-                // 오류 발생 시 SSE 연결을 종료하고, 스케줄러를 중지
-                emitter.completeWithError(e);
-                executor.shutdown();
-            }
-        }, 0, 55, TimeUnit.MINUTES);
-        // 클라이언트가 연결을 종료했을 때 스케줄러를 중지
-        emitter.onCompletion(() -> {
-            scheduledFuture.cancel(true);
-            executor.shutdown();
-        });
-        emitter.onTimeout(() -> {
-            scheduledFuture.cancel(true);
-            executor.shutdown();
-            emitter.complete();
-        });
-        return emitter;
+    @Transactional(readOnly = true)
+    public SseEmitter streamAlarm(AlarmDto.ReadAlarmRequest readAlarmRequestDto, String lastEventId) {
+        // 현재 로그인한 근로자의 접근 범위 조회 (구독 범위 결정에 사용)
+        var accessScope = entityValidator.getAccessScope();
+        // 공유 브로드캐스터에 구독 등록 (전체 알람 목록은 필요한 경우에만 조회)
+        return alarmBroadcaster.subscribe(accessScope, readAlarmRequestDto, lastEventId,
+                () -> read(readAlarmRequestDto, Pageable.unpaged()));
     }
 
     /**
-     * 모든 알람을 읽음 상태로 일괄 처리합니다.
+     * 현재 근로자가 접근할 수 있는 공장의 알람을 모두 읽음 상태로 일괄 처리합니다.
      *
-     * @implNote 이 메서드는 모든 알람의 상태를 읽음 상태로 일괄 수정합니다.
-     *           특정 조건이 없는 모든 알람을 대상으로 합니다.
+     * @implNote 읽지 않은 알람의 ID만 조회한 뒤 MARK_AS_READ_BATCH_SIZE개씩 UPDATE 문으로 읽음 처리하므로 알람 엔티티를 불러오지 않습니다.
+     *           이미 읽은 알람은 수정하거나 실시간 알람 스트림으로 다시 전송하지 않습니다.
      */
     @Override
+    @Transactional
     public void readAllAlarms() {
-        // 모든 알람을 read = true로 변경 후 저장합니다.
-        var allAlarms = alarmRepository.findAll();
-        allAlarms.forEach(alarm -> {
-            alarm.setIsRead(true);
-            alarmRepository.save(alarm);
-        });
+        // 접근할 수 있는 공장의 읽지 않은 알람 ID만 조회 (ADMIN은 모든 공장)
+        var permittedFactoryIds = Optional.ofNullable(entityValidator.getAccessScope())
+                .map(AccessScope::getPermittedFactoryIds)
+                .orElse(null);
+        if (permittedFactoryIds != null && permittedFactoryIds.isEmpty()) {
+            return;
+        }
+        var unreadAlarmIds = permittedFactoryIds == null
+                ? alarmRepository.findUnreadIds()
+                : alarmRepository.findUnreadIdsByFactoryIds(permittedFactoryIds);
+        if (unreadAlarmIds.isEmpty()) {
+            return;
+        }
+        // 조회한 알람만 읽음 상태로 변경 (조회 이후에 생성된 알람은 전송 대상에 없으므로 변경하지 않음)
+        var updatedAt = LocalDateTime.now();
+        for (int from = 0; from < unreadAlarmIds.size(); from += MARK_AS_READ_BATCH_SIZE) {
+            alarmRepository.markAsRead(unreadAlarmIds.subList(from, Math.min(from + MARK_AS_READ_BATCH_SIZE, unreadAlarmIds.size())), updatedAt);
+        }
+        // 상태가 바뀐 알람만 커밋 이후 실시간 알람 스트림으로 전송
+        eventPublisher.publishEvent(new AlarmChangedEvent(unreadAlarmIds));
+    }
+
+    /**
+     * 구역/근로자별 가장 최근 미해결 사건 중 알람이 누락된 사건에 대해 공장의 MANAGER에게 알람을 일괄 생성합니다.
+     *
+     * @return 생성된 알람 수
+     */
+    @Override
+    @Transactional
+    public int createPendingAlarms() {
+        // 알람이 아직 생성되지 않은 최근 미해결 사건과 수신자(MANAGER) 쌍을 한 번에 조회
+        return insertPendingAlarms(alarmRepository.findPendingAlarms(
+                EXCLUDED_AREA_INCIDENTS, EXCLUDED_EMPLOYEE_INCIDENTS));
+    }
+
+    /**
+     * 특정 사건에 대해 알람이 누락된 공장의 MANAGER에게 알람을 일괄 생성합니다.
+     *
+     * @param eventId 알람을 생성할 사건 ID
+     * @return 생성된 알람 수
+     */
+    @Override
+    @Transactional
+    public int createPendingAlarms(Long eventId) {
+        // 해당 사건에 대해 알람이 아직 생성되지 않은 수신자(MANAGER) 조회
+        return insertPendingAlarms(alarmRepository.findPendingAlarmsByEventId(
+                eventId, EXCLUDED_AREA_INCIDENTS, EXCLUDED_EMPLOYEE_INCIDENTS));
+    }
+
+    /**
+     * 알람이 누락된 (사건, 수신자) 목록으로 알람을 만들어 일괄 등록합니다.
+     * 그 사이에 동일한 Event와 동일한 Employee에게 발송된 알람은 데이터베이스의 유니크 제약조건으로 확인하여 건너뜁니다.
+     *
+     * @param pendingAlarms 알람이 누락된 (사건, 수신자) 목록
+     * @return 생성된 알람 수
+     */
+    private int insertPendingAlarms(List<AlarmRepository.PendingAlarm> pendingAlarms) {
+        if (pendingAlarms.isEmpty()) {
+            return 0;
+        }
+        // 같은 사건의 수신자들은 동일한 메시지를 받으므로 사건별로 한 번만 메시지를 생성
+        var messages = new HashMap<Long, String>();
+        var alarms = pendingAlarms.stream()
+                .map(pendingAlarm -> Alarm.builder()
+                        .employee(employeeRepository.getReferenceById(pendingAlarm.getRecipientId()))
+                        .event(eventRepository.getReferenceById(pendingAlarm.getEventId()))
+                        .message(messages.computeIfAbsent(pendingAlarm.getEventId(), eventId -> createPendingAlarmMessage(pendingAlarm)))
+                        .isRead(false)
+                        .build())
+                .toList();
+        // 알람 일괄 등록 (중복 알람은 건너뜀)
+        var insertedCount = alarmRepository.insertAllIfAbsent(alarms);
+        log.info("알람 {}건 생성 (대상 사건 {}건)", insertedCount, messages.size());
+        // 트랜잭션 커밋 후 실시간 알람 스트림으로 전송 (중복으로 건너뛴 알람은 ID가 없으므로 제외)
+        if (insertedCount > 0) {
+            eventPublisher.publishEvent(new AlarmChangedEvent(alarms.stream().map(Alarm::getId).filter(Objects::nonNull).toList()));
+        }
+        return insertedCount;
+    }
+
+    /**
+     * 사건 정보로 알람 메시지를 생성합니다.
+     * 구역 사건이 있으면 구역 기준으로, 그렇지 않으면 근로자 기준으로 메시지를 생성합니다.
+     *
+     * @param pendingAlarm 알람이 누락된 사건 정보
+     * @return 알람 메시지
+     */
+    private String createPendingAlarmMessage(AlarmRepository.PendingAlarm pendingAlarm) {
+        var areaIncident = pendingAlarm.getAreaIncident();
+        if (areaIncident != null && !EXCLUDED_AREA_INCIDENTS.contains(areaIncident)) {
+            return areaIncident.getPriority().getPrefix() + pendingAlarm.getAreaName() + " 에서 " + areaIncident.getMessage();
+        }
+        // 근로자의 이름을 복호화하고, 알람 메시지 생성
+        var employeeIncident = pendingAlarm.getEmployeeIncident();
+        var employeeName = pendingAlarm.getEmployeeName() != null ? encryptUtil.decrypt(pendingAlarm.getEmployeeName()) : "";
+        return employeeIncident.getPriority().getPrefix() + employeeName + employeeIncident.getMessage();
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,12 @@
 package atemos.eguard.api.service;
 
 import atemos.eguard.api.config.EntityValidator;
+import atemos.eguard.api.config.IncidentStateCache;
 import atemos.eguard.api.domain.AreaIncident;
 import atemos.eguard.api.dto.AreaDto;
-import atemos.eguard.api.dto.EventDto;
 import atemos.eguard.api.dto.SettingDto;
 import atemos.eguard.api.entity.Area;
-import atemos.eguard.api.entity.Event;
 import atemos.eguard.api.repository.AreaRepository;
-import atemos.eguard.api.repository.EventRepository;
 import atemos.eguard.api.specification.AreaSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -30,8 +28,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AreaServiceImpl implements AreaService {
     private final AreaRepository areaRepository;
-    private final EventRepository eventRepository;
-    private final EventService eventService;
+    private final IncidentStateCache incidentStateCache;
     private final EntityValidator entityValidator;
     private final SettingService settingService;
 
@@ -96,43 +93,16 @@ public class AreaServiceImpl implements AreaService {
     @Override
     @Transactional(readOnly = true)
     public AreaDto.ReadAreaResponseList read(AreaDto.ReadAreaRequest readAreaRequestDto, Pageable pageable) {
-        // readAreaRequestDto의 구역 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAreaRequestDto.getAreaIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(areaIds -> {
-                    if (entityValidator.validateAreaIds(areaIds).isEmpty()) {
-                        throw new AccessDeniedException("구역이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAreaRequestDto의 공장 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAreaRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
         // 조건에 맞는 구역 목록을 페이지 단위로 조회
         var areaPage = areaRepository.findAll(
-                AreaSpecification.findWith(readAreaRequestDto),
+                AreaSpecification.findWith(readAreaRequestDto, entityValidator.getAccessScope()),
                 pageable);
         // 조회된 구역 목록을 응답 객체로 변환하여 반환(사건 정보를 포함)
         var areaList = areaPage.getContent().stream()
                 .map(area -> {
-                    // 각 구역의 가장 최근 해결되지 않은 사건을 조회
-                    var latestUnresolvedEvent = eventService.read(EventDto.ReadEventRequest.builder()
-                                    .areaIds(List.of(area.getId()))  // 구역 ID에 해당하는 사건만 조회
-                                    .eventResolved(false)  // 해결되지 않은 사건만 조회
-                                    .page(0)          // 가장 최근 사건 조회
-                                    .size(1)          // 1개의 사건만 필요
-                                    .build(), Pageable.ofSize(1))
-                            .getEventList().stream().findFirst();
-                    // 최근 해결되지 않은 사건이 있으면 해당 사건의 type을 사용, 없으면 기본값 NORMAL 설정
-                    var eventName = latestUnresolvedEvent.map(event -> event.getAreaIncident().getName())
-                            .orElse(AreaIncident.NORMAL.getName());
-                    // 현재 구역에서 해결되지 않은 가장 최근 사건 조회
-                    var latestUnresolvedAreaEvent = eventRepository.findTopByAreaAndResolvedOrderByCreatedAtDesc(area, false);
-                    var areaIncident = latestUnresolvedAreaEvent.map(Event::getAreaIncident).orElse(AreaIncident.NORMAL);
+                    // 캐시에서 현재 구역의 해결되지 않은 가장 최근 사건 조회 (없으면 기본값 NORMAL 설정)
+                    var areaIncident = incidentStateCache.getAreaIncident(area.getId());
+                    var eventName = areaIncident.getName();
                     // AreaDto.ReadAreaResponse로 변환
                     return AreaDto.ReadAreaResponse.builder()
                             .areaId(area.getId())
@@ -195,15 +165,7 @@ public class AreaServiceImpl implements AreaService {
         Optional.ofNullable(updateAreaDto.getAreaPlan3DFilePath()).ifPresent(area::setPlan3DFilePath);
         Optional.ofNullable(updateAreaDto.getAreaMemo()).ifPresent(area::setMemo);
         // 수정한 구역의 가장 최근 해결되지 않은 사건 상태 조회(null인 경우 NORMAL로 설정)
-        var latestUnresolvedEvent = eventService.read(EventDto.ReadEventRequest.builder()
-                .areaIds(List.of(area.getId()))
-                .eventResolved(false)  // 해결되지 않은 사건만 조회
-                .page(0)          // 가장 최근 사건 조회
-                .size(1)          // 1개의 사건만 필요
-                .build(), Pageable.ofSize(1)).getEventList().stream().findFirst();
-        // 최근 사건이 있으면 사건을 설정하고 없으면 기본값 NORMAL로 설정
-        var eventName = latestUnresolvedEvent.map(event -> event.getAreaIncident().getName())
-                .orElse(AreaIncident.NORMAL.getName());
+        var eventName = incidentStateCache.getAreaIncident(area.getId()).getName();
         // 구역을 저장하고, 저장된 정보를 기반으로 응답 객체 생성 및 반환
         areaRepository.save(area);
         return AreaDto.ReadAreaResponse.builder()
@@ -1,6 +1,10 @@
 package atemos.eguard.api.service;
 
+import atemos.eguard.api.config.AccountStatusCache;
+import atemos.eguard.api.config.EmployeePrincipal;
+import atemos.eguard.api.config.EmployeeProfileCache;
 import atemos.eguard.api.config.EncryptUtil;
+import atemos.eguard.api.config.IncidentStateCache;
 import atemos.eguard.api.config.JwtUtil;
 import atemos.eguard.api.domain.AuthenticationStatus;
 import atemos.eguard.api.domain.EmployeeIncident;
@@ -43,7 +47,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final TwoFactorAuthRepository twoFactorAuthRepository;
     private final SettingRepository settingRepository;
-    private final EventRepository eventRepository;
+    private final IncidentStateCache incidentStateCache;
+    private final AccountStatusCache accountStatusCache;
+    private final EmployeeProfileCache employeeProfileCache;
     private final MenuRepository menuRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
@@ -58,7 +64,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Transactional
     public void sendTwoFactorAuthCode(EmployeeDto.AuthCodeRequest authCodeRequest) {
         // 근로자가 존재하는지 조회
-        var employee = employeeRepository.findByEmail(encryptUtil.encrypt(authCodeRequest.getEmployeeEmail().trim()))
+        var employee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(authCodeRequest.getEmployeeEmail()), encryptUtil.encrypt(authCodeRequest.getEmployeeEmail().trim()))
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."));
         // 최근 3분 내에 발송된 건을 조회(3분 내에 기존 발송한 건이 있다면 429 Exception 처리)
         Optional<TwoFactorAuth> latestRequest = twoFactorAuthRepository
@@ -106,11 +112,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     public EmployeeDto.LoginResponse login(EmployeeDto.LoginRequest loginRequest) {
         // 근로자 검증 및 2차 인증이 필요한 경우라면 2차 인증까지 검증
         var employee = authenticateAndValidateEmployee(loginRequest);
-        // 해결되지 않은 가장 최근 사건의 건강 상태 조회
-        var latestUnresolvedEvent = eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(employee, false);
-        // 건강 상태 설정
-        var healthStatus = latestUnresolvedEvent.map(Event::getEmployeeIncident)
-                .orElse(EmployeeIncident.NORMAL);
+        // 캐시에서 해결되지 않은 가장 최근 사건의 건강 상태 조회 (없으면 NORMAL)
+        var healthStatus = incidentStateCache.getEmployeeIncident(employee.getId());
         // 접근 가능한 메뉴 ID 조회 (MenuRepository를 사용하여 역할 기반으로 메뉴 조회)
         var accessibleMenus = menuRepository.findAllByAccessibleRolesContains(employee.getRole());
         var accessibleMenuIds = accessibleMenus.stream()
@@ -139,9 +142,9 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .updatedAt(employee.getUpdatedAt())
                 .build();
         // Access Token 생성(클레임으로 employeeResponse 사용)
-        var accessToken = jwtUtil.generateAccessToken(employeeResponse);
+        var accessToken = jwtUtil.generateAccessToken(employeeResponse, employee.getTokenEpoch());
         // Refresh Token 생성
-        var refreshToken = jwtUtil.generateRefreshToken(encryptUtil.decrypt(employee.getEmail()));
+        var refreshToken = jwtUtil.generateRefreshToken(encryptUtil.decrypt(employee.getEmail()), employee.getTokenEpoch());
         // Refresh Token을 저장
         refreshTokenRepository.save(RefreshToken.builder()
                 .token(refreshToken)
@@ -168,6 +171,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         if (authentication == null || !authentication.isAuthenticated()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "권한이 없습니다."); // 한글화
         }
+        // 인증 필터에서 설정한 Principal이 있으면 서버에 보관된 프로필을 사용
+        if (authentication.getPrincipal() instanceof EmployeePrincipal principal) {
+            var profile = employeeProfileCache.get(principal.getEmployeeId(), principal.getProfileVersion(),
+                    () -> readEmployeeInfoByEmail(principal.getEmail()));
+            // 건강 상태는 사건 발생에 따라 자주 바뀌므로 매번 캐시에서 조회
+            return profile.toBuilder()
+                    .healthStatus(incidentStateCache.getEmployeeIncident(principal.getEmployeeId()))
+                    .build();
+        }
         var token = (String) authentication.getCredentials();
         if (token == null || token.isEmpty()) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "JWT 토큰이 없거나 비어 있습니다."); // 한글화
@@ -177,9 +189,22 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         if (email == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 JWT 토큰입니다."); // 한글화
         }
-        // EmployeeService.read 메서드를 사용하여 근로자 정보 조회
+        return readEmployeeInfoByEmail(email);
+    }
+
+    /**
+     * 이메일로 근로자 정보를 조회합니다.
+     *
+     * @param email 근로자 이메일 (복호화된 값)
+     * @return 근로자 정보 객체
+     */
+    private EmployeeDto.ReadEmployeeResponse readEmployeeInfoByEmail(String email) {
+        // 이메일 블라인드 인덱스로 근로자를 정확히 찾은 뒤 EmployeeService.read 메서드를 사용하여 근로자 정보 조회
+        // (ReadEmployeeRequest의 이메일 조건은 부분 일치 검색이므로 ID로 조회)
+        var employee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(email), encryptUtil.encrypt(email.trim()))
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."));
         var readRequest = EmployeeDto.ReadEmployeeRequest.builder()
-                .employeeEmail(email)
+                .employeeIds(List.of(employee.getId()))
                 .size(1) // 한 명만 조회하도록 설정
                 .build();
         var employeePageResponse = employeeService.read(readRequest, Pageable.ofSize(1));
@@ -223,8 +248,12 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .filter(token -> !token.isExpired())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않거나 만료된 리프레시 토큰입니다."));
         // 해당 토큰으로 근로자 정보 조회
-        var employee = employeeRepository.findByEmail(validToken.getEmployee().getEmail())
+        var employee = employeeRepository.findById(validToken.getEmployee().getId())
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."));
+        // 로그아웃, 비밀번호 변경 등으로 폐기된 세대의 Refresh Token인지 확인
+        if (jwtUtil.extractTokenEpochFromToken(refreshToken) < employee.getTokenEpoch()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않거나 만료된 리프레시 토큰입니다.");
+        }
         // 접근 가능한 메뉴 정보 가져오기 (MenuService를 사용하여 역할 기반으로 메뉴 조회)
         var readMenuRequest = MenuDto.ReadMenuRequest.builder()
                 .accessibleRoles(List.of(employee.getRole())) // 근로자의 역할에 맞는 메뉴 조회
@@ -256,7 +285,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .build();
         // 새로운 Access Token 발급
         return EmployeeDto.LoginResponse.builder()
-                .accessToken(jwtUtil.generateAccessToken(employeeInfo))
+                .accessToken(jwtUtil.generateAccessToken(employeeInfo, employee.getTokenEpoch()))
                 .build();
     }
 
@@ -269,7 +298,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Transactional
     public void resetPassword(EmployeeDto.ResetPassword resetPassword) {
         // 근로자가 존재하는지 확인
-        var employee = employeeRepository.findByEmail(encryptUtil.encrypt(resetPassword.getEmployeeEmail().trim()))
+        var employee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(resetPassword.getEmployeeEmail()), encryptUtil.encrypt(resetPassword.getEmployeeEmail().trim()))
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."));
         // 계정 상태 확인
         validateAccountStatus(employee);
@@ -306,7 +335,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     @Transactional
     public void updatePassword(EmployeeDto.UpdatePassword updatePassword) {
         // 근로자가 존재하는지 확인
-        var employee = employeeRepository.findByEmail(encryptUtil.encrypt(updatePassword.getEmployeeEmail()))
+        var employee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(updatePassword.getEmployeeEmail()), encryptUtil.encrypt(updatePassword.getEmployeeEmail().trim()))
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."));
         // 비밀번호 변경이 가능한 계정 상태인지 확인
         if (employee.getAuthenticationStatus() != AuthenticationStatus.PASSWORD_RESET) {
@@ -327,7 +356,16 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * @param employee 검증할 근로자 객체
      */
     public void validateAccountStatus(Employee employee) {
-        switch (employee.getAuthenticationStatus()) {
+        validateAccountStatus(employee.getAuthenticationStatus());
+    }
+
+    /**
+     * 계정 상태를 검증합니다.
+     *
+     * @param authenticationStatus 검증할 계정 상태
+     */
+    public void validateAccountStatus(AuthenticationStatus authenticationStatus) {
+        switch (authenticationStatus) {
             case INACTIVE, SUSPENDED, DELETED -> throw new ResponseStatusException(HttpStatus.FORBIDDEN, "활성화된 계정이 아닙니다. 관리자에게 문의해주세요.");
             case LOCKED -> throw new ResponseStatusException(HttpStatus.LOCKED, "계정이 잠겨있습니다. 비밀번호를 재설정해주세요.");
             case AuthenticationStatus.PASSWORD_RESET -> throw new ResponseStatusException(HttpStatus.CONFLICT, "비밀번호가 재설정되었습니다. 로그인 전에 비밀번호를 변경해주세요.");
@@ -345,7 +383,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      */
     private Employee authenticateAndValidateEmployee(EmployeeDto.LoginRequest loginRequest) {
         // 근로자가 존재하는지 검증
-        var employee = employeeRepository.findByEmail(encryptUtil.encrypt(loginRequest.getEmployeeEmail().trim()))
+        var employee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(loginRequest.getEmployeeEmail()), encryptUtil.encrypt(loginRequest.getEmployeeEmail().trim()))
                 .orElseThrow(() -> new BadCredentialsException("이메일 또는 비밀번호를 확인해 주세요."));
         // 근로자 계정 상태 검증
         validateAccountStatus(employee);
@@ -356,6 +394,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
             // 비밀번호를 틀린 횟수가 5회 이상일 경우 계정 잠금 처리
             if (employee.getFailedLoginAttempts() >= 5) {
                 employee.setAuthenticationStatus(AuthenticationStatus.LOCKED);
+                // 잠긴 계정에 발급된 모든 토큰 폐기
+                accountStatusCache.revokeTokens(employee);
                 employeeRepository.save(employee);
                 throw new ResponseStatusException(HttpStatus.LOCKED, "비밀번호 입력 실패가 너무 많아 계정이 잠겼습니다. 비밀번호를 재설정해 주세요.");
             }
@@ -404,6 +444,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         employee.setPassword(passwordEncoder.encode(newPassword));
         employee.setAuthenticationStatus(newStatus);
         employee.setFailedLoginAttempts(0);
+        // 이전 비밀번호로 발급된 모든 토큰 폐기
+        accountStatusCache.revokeTokens(employee);
         employeeRepository.save(employee);
     }
 
@@ -88,7 +88,7 @@ public class CompanyServiceImpl implements CompanyService {
     public CompanyDto.ReadCompanyResponseList read(CompanyDto.ReadCompanyRequest readCompanyRequestDto, Pageable pageable) {
         // 업체 목록 조회
         var companyPage = companyRepository.findAll(
-                CompanySpecification.findWith(readCompanyRequestDto),
+                CompanySpecification.findWith(readCompanyRequestDto, entityValidator.getAccessScope()),
                 pageable);
         // 조회한 업체 목록을 응답 객체로 변환하여 반환
         var companyList = companyPage.getContent().stream()
@@ -1,13 +1,17 @@
 package atemos.eguard.api.service;
 
+import atemos.eguard.api.config.AccountStatusCache;
+import atemos.eguard.api.config.EmployeeProfileCache;
+import atemos.eguard.api.config.EmployeeSearchIndex;
 import atemos.eguard.api.config.EncryptUtil;
 import atemos.eguard.api.config.EntityValidator;
+import atemos.eguard.api.config.FactorySummaryCache;
+import atemos.eguard.api.config.IncidentStateCache;
 import atemos.eguard.api.domain.EmployeeIncident;
 import atemos.eguard.api.domain.EmployeeRole;
 import atemos.eguard.api.domain.SampleData;
 import atemos.eguard.api.domain.WorkStatus;
 import atemos.eguard.api.dto.EmployeeDto;
-import atemos.eguard.api.dto.EventDto;
 import atemos.eguard.api.dto.SettingDto;
 import atemos.eguard.api.entity.Employee;
 import atemos.eguard.api.entity.Menu;
@@ -26,11 +30,14 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * EmployeeServiceImpl 클래스는 근로자(Employee) 관련된 기능을 구현하는 서비스 클래스입니다.
@@ -47,7 +54,11 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final MenuRepository menuRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
-    private final EventService eventService;
+    private final IncidentStateCache incidentStateCache;
+    private final AccountStatusCache accountStatusCache;
+    private final EmployeeProfileCache employeeProfileCache;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final FactorySummaryCache factorySummaryCache;
     private final EncryptUtil encryptUtil;
     private final EntityValidator entityValidator;
     private final SettingService settingService;
@@ -86,6 +97,9 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .name(encryptUtil.encrypt(createEmployeeDto.getEmployeeName()))
                 .email(encryptUtil.encrypt(createEmployeeDto.getEmployeeEmail()))
                 .phoneNumber(encryptUtil.encrypt(createEmployeeDto.getEmployeePhoneNumber()))
+                .nameIndex(encryptUtil.blindIndex(createEmployeeDto.getEmployeeName()))
+                .emailIndex(encryptUtil.blindIndex(createEmployeeDto.getEmployeeEmail()))
+                .phoneNumberIndex(encryptUtil.blindIndex(createEmployeeDto.getEmployeePhoneNumber()))
                 .password(passwordEncoder.encode(password))
                 .role(createEmployeeDto.getRole())
                 .employeeNumber(createEmployeeDto.getEmployeeNumber())
@@ -94,8 +108,10 @@ public class EmployeeServiceImpl implements EmployeeService {
         var accessibleMenuIds = menuRepository.findAllByAccessibleRolesContains(createEmployeeDto.getRole()).stream()
                 .map(Menu::getId)
                 .collect(Collectors.toList());
-        // 엔티티 저장
+        // 엔티티 저장 및 부분 일치 검색 토큰 생성
         employeeRepository.save(employee);
+        employeeSearchIndex.reindex(List.of(employee));
+        factorySummaryCache.evictEmployees(List.of(employee));
         // 웰컴 메일 발송
         var subject = "[ATEGuard] 환영합니다!";
         var message = String.format("""
@@ -151,54 +167,36 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public EmployeeDto.ReadEmployeeResponseList read(EmployeeDto.ReadEmployeeRequest readEmployeeRequestDto, Pageable pageable) {
-        // readEmployeeRequestDto에 근로자 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readEmployeeRequestDto.getEmployeeIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(employeeIds -> {
-                    if (entityValidator.validateEmployeeIds(employeeIds).isEmpty()) {
-                        throw new AccessDeniedException("근로자가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readEmployeeRequestDto에 공장 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readEmployeeRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
+        // 검색 조건과 가장 최근 미해결 사건의 healthStatus 조건을 모두 DB 조회 조건으로 생성 (부분 일치 검색도 검색 토큰만으로 정확히 판단)
+        var specification = EmployeeSpecification.findWith(readEmployeeRequestDto, employeeSearchIndex, entityValidator.getAccessScope())
+                .and(EmployeeSpecification.withHealthStatuses(readEmployeeRequestDto.getHealthStatuses()));
         // 조건에 맞는 근로자 목록 조회
-        var employeePage = employeeRepository.findAll(EmployeeSpecification.findWith(readEmployeeRequestDto, encryptUtil), pageable);
+        var employeePage = employeeRepository.findAll(specification, pageable);
+        var employees = employeePage.getContent();
+        // 이름, 이메일, 연락처를 필드별로 한 번에 복호화
+        var applyMasking = Boolean.TRUE.equals(readEmployeeRequestDto.getMasking());
+        var names = encryptUtil.decryptAll(employees.stream().map(Employee::getName).toList());
+        var emails = encryptUtil.decryptAll(employees.stream().map(Employee::getEmail).toList());
+        var phoneNumbers = encryptUtil.decryptAll(employees.stream().map(Employee::getPhoneNumber).toList());
+        // 페이지의 근로자가 투입된 PENDING, IN_PROGRESS 상태의 작업을 한 번에 조회 (근로자별로 진행 중인 작업을 우선 사용)
+        Map<Long, WorkRepository.AssignedWork> assignedWorks = employees.isEmpty() ? Map.of() : workRepository.findAssignedWorks(
+                        employees.stream().map(Employee::getId).toList(), List.of(WorkStatus.PENDING, WorkStatus.IN_PROGRESS))
+                .stream()
+                .collect(Collectors.toMap(WorkRepository.AssignedWork::getEmployeeId, Function.identity(), (first, second) -> first));
         // 엔티티 목록을 DTO로 변환하여 리턴
-        var employeeList = employeePage.getContent().stream()
-                .map(employee -> {
-                    // Employee에게 일어났던 해결되지 않은 가장 최근 사건 조회
-                    var latestUnresolvedEvent = eventService.read(EventDto.ReadEventRequest.builder()
-                                    .employeeIds(List.of(employee.getId()))
-                                    .eventResolved(false)  // 해결되지 않은 사건만 조회
-                                    .page(0)           // 가장 최신의 사건을 가져오기 위해 페이지 번호를 0으로 설정
-                                    .size(1)           // 1개의 사건만 필요
-                                    .build(),
-                            Pageable.ofSize(1)).getEventList().stream().findFirst();
-                    // 최근 해결되지 않은 사건이 있을 경우 해당 사건의 healthStatus를 사용, 없을 경우 기본값
-                    var healthStatus = latestUnresolvedEvent.map(EventDto.ReadEventResponse::getEmployeeIncident)
-                            .orElse(EmployeeIncident.NORMAL);
-                    // healthStatuses 조건에 맞게 필터링
-                    if (readEmployeeRequestDto.getHealthStatuses() != null && !readEmployeeRequestDto.getHealthStatuses().isEmpty()) {
-                        if (!readEmployeeRequestDto.getHealthStatuses().contains(healthStatus)) {
-                            return null; // healthStatuses에 맞지 않는 상태인 경우 해당 Employee는 제외
-                        }
-                    }
-                    // 이 근로자가 투입된 작업이 있는지 조회
-                    var hasAssignedWork = workRepository.existsByEmployeesContainingAndStatusIn(employee, List.of(WorkStatus.PENDING, WorkStatus.IN_PROGRESS));
-                    // 근로자가 작업에 투입된 경우 작업 ID와 이름 조회
-                    var workId = hasAssignedWork && !employee.getWorks().isEmpty() ? employee.getWorks().getFirst().getId() : null;
-                    var workName = hasAssignedWork && !employee.getWorks().isEmpty() ? employee.getWorks().getFirst().getName() : null;
-                    // 복호화 및 마스킹 처리
-                    var applyMasking = Boolean.TRUE.equals(readEmployeeRequestDto.getMasking());
-                    var name = decryptAndMask(employee.getName(), applyMasking, this::maskName);
-                    var email = decryptAndMask(employee.getEmail(), applyMasking, this::maskEmail);
-                    var phoneNumber = decryptAndMask(employee.getPhoneNumber(), applyMasking, this::maskPhoneNumber);
+        var employeeList = IntStream.range(0, employees.size())
+                .mapToObj(i -> {
+                    var employee = employees.get(i);
+                    // 캐시에서 Employee에게 일어났던 해결되지 않은 가장 최근 사건의 healthStatus 조회 (없을 경우 기본값)
+                    var healthStatus = incidentStateCache.getEmployeeIncident(employee.getId());
+                    // 근로자가 작업에 투입된 경우 작업 ID와 이름
+                    var assignedWork = assignedWorks.get(employee.getId());
+                    var workId = assignedWork != null ? assignedWork.getWorkId() : null;
+                    var workName = assignedWork != null ? assignedWork.getWorkName() : null;
+                    // 마스킹 처리
+                    var name = applyMasking ? maskName(names.get(i)) : names.get(i);
+                    var email = applyMasking ? maskEmail(emails.get(i)) : emails.get(i);
+                    var phoneNumber = applyMasking ? maskPhoneNumber(phoneNumbers.get(i)) : phoneNumbers.get(i);
                     // EmployeeDTO 응답 객체로 Build(name, email, phone은 마스킹 처리)
                     return EmployeeDto.ReadEmployeeResponse.builder()
                             .employeeId(employee.getId())
@@ -223,19 +221,12 @@ public class EmployeeServiceImpl implements EmployeeService {
                             .updatedAt(employee.getUpdatedAt())
                             .build();
                 })
-                .filter(Objects::nonNull)
                 .toList();
-        // 필터링된 employeeList로 totalElements 계산
-        long filteredTotalElements = employeeList.size();
-        // 총 페이지 수 계산
-        int totalPages = pageable.isPaged()
-                ? (int) Math.ceil((double) filteredTotalElements / pageable.getPageSize())
-                : 1;
-        // 응답 객체 반환
+        // 응답 객체 반환 (전체 Row 개수와 페이지 수는 DB에서 센 값을 사용)
         return new EmployeeDto.ReadEmployeeResponseList(
                 employeeList,
-                filteredTotalElements,
-                totalPages);
+                employeePage.getTotalElements(),
+                employeePage.getTotalPages());
     }
 
     /**
@@ -253,6 +244,8 @@ public class EmployeeServiceImpl implements EmployeeService {
         // 기존 근로자에 등록된 공장에 현재 접속한 근로자가 수정 가능한지 검증
         entityValidator.validateFactoryIds(List.of(employee.getFactory().getId()))
                 .stream().findFirst().orElseThrow(() -> new AccessDeniedException("공장을 찾을 수 없거나 수정 권한이 없습니다."));
+        // 변경 전 공장 (공장 요약 정보 제거에 사용)
+        var previousFactory = employee.getFactory();
         // 수정할 근로자 정보에 공장 ID가 존재하면 이 공장에 현재 접속한 근로자가 접근할 수 있는지 검증 후 조회하여 employee 엔티티에 Set
         Optional.ofNullable(updateEmployeeDto.getFactoryId()).ifPresent(factoryId -> {
             var factory = entityValidator.validateFactoryIds(List.of(factoryId))
@@ -265,13 +258,25 @@ public class EmployeeServiceImpl implements EmployeeService {
                         .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 공장입니다. ID: " + factoryId)))
                 .orElse(employee.getFactory());
         employee.setFactory(factory);
+        // 토큰 폐기 여부 판단을 위해 변경 전 계정 상태와 권한 보관
+        var previousStatus = employee.getAuthenticationStatus();
+        var previousRole = employee.getRole();
         // 근로자 정보 업데이트 (Optional로 필드 업데이트)
         Optional.ofNullable(updateEmployeeDto.getEmployeeName())
-                .ifPresent(name -> employee.setName(encryptUtil.encrypt(name)));
+                .ifPresent(name -> {
+                    employee.setName(encryptUtil.encrypt(name));
+                    employee.setNameIndex(encryptUtil.blindIndex(name));
+                });
         Optional.ofNullable(updateEmployeeDto.getEmployeeEmail())
-                .ifPresent(email -> employee.setEmail(encryptUtil.encrypt(email)));
+                .ifPresent(email -> {
+                    employee.setEmail(encryptUtil.encrypt(email));
+                    employee.setEmailIndex(encryptUtil.blindIndex(email));
+                });
         Optional.ofNullable(updateEmployeeDto.getEmployeePhoneNumber())
-                .ifPresent(phone -> employee.setPhoneNumber(encryptUtil.encrypt(phone)));
+                .ifPresent(phone -> {
+                    employee.setPhoneNumber(encryptUtil.encrypt(phone));
+                    employee.setPhoneNumberIndex(encryptUtil.blindIndex(phone));
+                });
         Optional.ofNullable(updateEmployeeDto.getPassword())
                 .ifPresent(password -> employee.setPassword(passwordEncoder.encode(password)));
         Optional.ofNullable(updateEmployeeDto.getAuthenticationStatus())
@@ -280,6 +285,13 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .ifPresent(employee::setRole);
         Optional.ofNullable(updateEmployeeDto.getEmployeeNumber())
                 .ifPresent(employee::setEmployeeNumber);
+        // 비밀번호, 계정 상태, 권한, 소속 공장이 변경되면 이전에 발급된 모든 토큰 폐기 (토큰 클레임의 접근 범위가 달라지므로)
+        if (updateEmployeeDto.getPassword() != null
+                || (updateEmployeeDto.getAuthenticationStatus() != null && updateEmployeeDto.getAuthenticationStatus() != previousStatus)
+                || (updateEmployeeDto.getRole() != null && updateEmployeeDto.getRole() != previousRole)
+                || !Objects.equals(previousFactory.getId(), employee.getFactory().getId())) {
+            accountStatusCache.revokeTokens(employee);
+        }
         // 접근 가능한 메뉴 조회
         var accessibleMenuIds = menuRepository.findAllByAccessibleRolesContains(
                         Optional.ofNullable(updateEmployeeDto.getRole()).orElse(employee.getRole())
@@ -287,19 +299,19 @@ public class EmployeeServiceImpl implements EmployeeService {
                 .map(Menu::getId)
                 .collect(Collectors.toList());
         // 가장 최근 해결되지 않은 사건의 상태 또는 기본값 설정
-        var event = eventService.read(EventDto.ReadEventRequest.builder()
-                        .employeeIds(List.of(employee.getId()))
-                        .eventResolved(false)
-                        .page(0)
-                        .size(1)
-                        .build(), Pageable.ofSize(1))
-                .getEventList()
-                .stream()
-                .findFirst()
-                .map(EventDto.ReadEventResponse::getEmployeeIncident)
-                .orElse(EmployeeIncident.NORMAL);
+        var event = incidentStateCache.getEmployeeIncident(employee.getId());
         // 엔티티 저장
         employeeRepository.save(employee);
+        // 변경 전후 공장의 요약 정보 제거
+        factorySummaryCache.evict(Arrays.asList(previousFactory, employee.getFactory()));
+        // 이름, 이메일, 전화번호가 변경되면 부분 일치 검색 토큰 재생성
+        if (updateEmployeeDto.getEmployeeName() != null
+                || updateEmployeeDto.getEmployeeEmail() != null
+                || updateEmployeeDto.getEmployeePhoneNumber() != null) {
+            employeeSearchIndex.reindex(List.of(employee));
+        }
+        accountStatusCache.evict(employee);
+        employeeProfileCache.evict(employee);
         // 응답 객체 생성 및 반환
         return EmployeeDto.ReadEmployeeResponse.builder()
                 .employeeId(employee.getId())
@@ -336,8 +348,12 @@ public class EmployeeServiceImpl implements EmployeeService {
         // 근로자 정보가 있는지 확인
         var employee = employeeRepository.findById(employeeId)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 근로자입니다."));
-        // 근로자 정보 삭제
+        // 부분 일치 검색 토큰 삭제 후 근로자 정보 삭제
+        employeeSearchIndex.remove(employeeId);
         employeeRepository.delete(employee);
+        accountStatusCache.evict(employeeId);
+        factorySummaryCache.evictEmployees(List.of(employee));
+        employeeProfileCache.evict(employeeId);
     }
 
     /**
@@ -348,9 +364,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public void checkDuplicateEmployee(String email, String phoneNumber) {
-        var encryptedEmail = encryptUtil.encrypt(email);
-        var encryptedPhoneNumber = encryptUtil.encrypt(phoneNumber);
-        if (employeeRepository.existsByEmailOrPhoneNumber(encryptedEmail, encryptedPhoneNumber)) {
+        if (employeeRepository.existsByEmailIndexOrPhoneNumberIndex(encryptUtil.blindIndex(email), encryptUtil.blindIndex(phoneNumber))) {
             throw new EntityExistsException("이미 동일한 이메일이나 연락처를 보유한 근로자가 있습니다.");
         }
     }
@@ -363,22 +377,10 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public Employee readEmployeeByEmail(String email) {
-        return employeeRepository.findByEmail(encryptUtil.encrypt(email))
+        return employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(email), encryptUtil.encrypt(email.trim()))
                 .orElseThrow(() -> new EntityNotFoundException("근로자가 존재하지 않습니다."));
     }
 
-    /**
-     * 암호화된 값을 복호화하고, 필요한 경우 마스킹 처리하는 메서드입니다.
-     * @param encryptedValue 암호화된 값
-     * @param applyMasking 마스킹 처리 여부
-     * @param maskFunction 마스킹 함수
-     * @return 복호화된 값 (마스킹 적용 시 마스킹된 값)
-     */
-    private String decryptAndMask(String encryptedValue, boolean applyMasking, Function<String, String> maskFunction) {
-        var decryptedValue = encryptUtil.decrypt(encryptedValue);
-        return applyMasking ? maskFunction.apply(decryptedValue) : decryptedValue;
-    }
-
     /**
      * 이름 마스킹: 이름의 첫 글자만 남기고 나머지는 별표(*) 처리
      * @param name 이름
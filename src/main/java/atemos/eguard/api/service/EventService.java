@@ -47,6 +47,14 @@ public interface EventService {
      * @return 해당 업체의 공장 및 구역에 대한 안전 점수 및 안전 등급 정보를 포함하는 EventDto.SafetyScore 객체입니다.
      */
     EventDto.SafetyScore readSafetyScore(Long companyId);
+    /**
+     * 특정 공장의 최근 여러 달에 대한 월별 안전 점수 추이를 조회합니다.
+     *
+     * @param factoryId 안전 점수 추이를 조회할 공장 ID입니다.
+     * @param months 이번 달을 포함하여 조회할 개월 수입니다. (기본 12개월, 최대 24개월)
+     * @return 월별 공장 및 구역 안전 점수를 포함하는 EventDto.SafetyScoreTrend 객체입니다.
+     */
+    EventDto.SafetyScoreTrend readSafetyScoreTrend(Long factoryId, Integer months);
     /**
      * 모든 사건을 해결 상태로 일괄 처리합니다.
      *
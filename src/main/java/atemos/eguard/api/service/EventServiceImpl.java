@@ -1,27 +1,39 @@
 package atemos.eguard.api.service;
 
+import atemos.eguard.api.batch.tasklet.SafetyScoreSnapshotTasklet;
 import atemos.eguard.api.config.EncryptUtil;
 import atemos.eguard.api.config.EntityValidator;
-import atemos.eguard.api.domain.IncidentPriority;
+import atemos.eguard.api.config.FactorySummaryCache;
+import atemos.eguard.api.config.IncidentStateCache;
+import atemos.eguard.api.config.SafetyScoreCache;
 import atemos.eguard.api.domain.SafetyGrade;
 import atemos.eguard.api.dto.EventDto;
+import atemos.eguard.api.entity.Area;
 import atemos.eguard.api.entity.Event;
+import atemos.eguard.api.entity.SafetyScoreSnapshot;
+import atemos.eguard.api.listener.IncidentOccurredEvent;
 import atemos.eguard.api.repository.AreaRepository;
 import atemos.eguard.api.repository.EventRepository;
 import atemos.eguard.api.repository.FactoryRepository;
+import atemos.eguard.api.repository.SafetyScoreSnapshotRepository;
+import atemos.eguard.api.specification.CursorSpecification;
 import atemos.eguard.api.specification.EventSpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -38,6 +50,11 @@ public class EventServiceImpl implements EventService {
     private final AreaRepository areaRepository;
     private final EncryptUtil encryptUtil;
     private final EntityValidator entityValidator;
+    private final IncidentStateCache incidentStateCache;
+    private final SafetyScoreCache safetyScoreCache;
+    private final SafetyScoreSnapshotRepository safetyScoreSnapshotRepository;
+    private final FactorySummaryCache factorySummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사건을 등록합니다.
@@ -69,6 +86,14 @@ public class EventServiceImpl implements EventService {
                 .resolved(createEventDto.getEventResolved())
                 .build();
         event = eventRepository.save(event);
+        // 미해결 사건 상태 캐시에 반영
+        incidentStateCache.apply(event);
+        // 안전 점수 사건 수에 반영
+        safetyScoreCache.replace(null, SafetyScoreCache.CountedIncident.of(event));
+        // 근로자가 소속된 공장의 요약 정보 제거
+        factorySummaryCache.evictEmployees(Arrays.asList(event.getEmployee()));
+        // 커밋 이후 알람을 바로 생성하도록 이벤트 발행
+        eventPublisher.publishEvent(new IncidentOccurredEvent(event.getId()));
         // 저장된 사건 정보를 반환
         return EventDto.ReadEventResponse.builder()
                 .eventId(event.getId())
@@ -105,42 +130,11 @@ public class EventServiceImpl implements EventService {
     @Override
     @Transactional(readOnly = true)
     public EventDto.ReadEventResponseList read(EventDto.ReadEventRequest readEventRequestDto, Pageable pageable) {
-        // readAreaRequestDto의 사건 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readEventRequestDto.getEventIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(eventIds -> {
-                    if (entityValidator.validateEventIds(eventIds).isEmpty()) {
-                        throw new AccessDeniedException("사건이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAreaRequestDto의 근로자 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readEventRequestDto.getEmployeeIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(employeeIds -> {
-                    if (entityValidator.validateEmployeeIds(employeeIds).isEmpty()) {
-                        throw new AccessDeniedException("근로자가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAreaRequestDto의 구역 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readEventRequestDto.getAreaIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(areaIds -> {
-                    if (entityValidator.validateAreaIds(areaIds).isEmpty()) {
-                        throw new AccessDeniedException("구역이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAreaRequestDto의 공장 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readEventRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // 조건에 맞는 사건 목록을 페이지 단위로 조회
-        var eventPage = eventRepository.findAll(
-                EventSpecification.findWith(readEventRequestDto),
-                pageable);
+        // 조건에 맞는 사건 목록을 페이지 단위로 조회 (커서가 주어지면 전체 개수를 세지 않는 커서 방식으로 조회)
+        var specification = EventSpecification.findWith(readEventRequestDto, entityValidator.getAccessScope());
+        var eventPage = readEventRequestDto.getCursor() != null
+                ? CursorSpecification.scroll(eventRepository, specification, "createdAt", readEventRequestDto.getCursor(), readEventRequestDto.getSize())
+                : eventRepository.findAll(specification, pageable);
         // 조회된 사건 목록을 응답 객체로 변환하여 반환
         var eventList = eventPage.getContent().stream()
                 .map(event -> EventDto.ReadEventResponse.builder()
@@ -172,8 +166,10 @@ public class EventServiceImpl implements EventService {
                 .toList();
         return EventDto.ReadEventResponseList.builder()
                 .eventList(eventList)
-                .totalElements(eventPage.getTotalElements())
-                .totalPages(eventPage.getTotalPages())
+                .totalElements(eventPage instanceof Page<Event> page ? page.getTotalElements() : null)
+                .totalPages(eventPage instanceof Page<Event> page ? page.getTotalPages() : null)
+                .nextCursor(readEventRequestDto.getCursor() != null ? CursorSpecification.nextCursor(eventPage, Event::getCreatedAt, Event::getId) : null)
+                .hasNext(readEventRequestDto.getCursor() != null ? eventPage.hasNext() : null)
                 .build();
     }
 
@@ -191,6 +187,15 @@ public class EventServiceImpl implements EventService {
         var event = entityValidator.validateEventIds(List.of(eventId))
                 .stream().findFirst()
                 .orElseThrow(() -> new AccessDeniedException("사건을 찾을 수 없거나 수정 권한이 없습니다."));
+        // 수정 전 근로자와 구역 (변경될 경우 캐시에서 이전 상태를 갱신하기 위함)
+        var previousEmployee = event.getEmployee();
+        var previousArea = event.getArea();
+        // 수정 전 사건 유형과 해결 여부 (알람 대상이 바뀌었을 때만 알람 생성 이벤트를 발행하기 위함)
+        var previousEmployeeIncident = event.getEmployeeIncident();
+        var previousAreaIncident = event.getAreaIncident();
+        var previousResolved = event.getResolved();
+        // 수정 전 안전 점수 반영 값 (구역 또는 사건 유형이 변경되면 사건 수를 옮기기 위함)
+        var previousCountedIncident = SafetyScoreCache.CountedIncident.of(event);
         // 기존 사건에 등록된 근로자의 정보를 현재 접속한 근로자가 수정할 수 있는 권한이 있는지 검증
         Optional.ofNullable(event.getEmployee())
                 .ifPresent(employee -> {
@@ -218,6 +223,22 @@ public class EventServiceImpl implements EventService {
         Optional.ofNullable(updateEventDto.getEventResolved()).ifPresent(event::setResolved);
         // 수정된 사건 정보를 저장하고 반환
         var updatedEvent = eventRepository.save(event);
+        // 근로자 또는 구역이 변경되었다면 이전 근로자와 구역의 상태를 다시 조회하고, 수정된 사건을 캐시에 반영
+        incidentStateCache.evict(updatedEvent.getId(),
+                previousEmployee != updatedEvent.getEmployee() ? previousEmployee : null,
+                previousArea != updatedEvent.getArea() ? previousArea : null);
+        incidentStateCache.apply(updatedEvent);
+        safetyScoreCache.replace(previousCountedIncident, SafetyScoreCache.CountedIncident.of(updatedEvent));
+        factorySummaryCache.evictEmployees(Arrays.asList(previousEmployee, updatedEvent.getEmployee()));
+        // 근로자, 구역, 사건 유형이 바뀌었거나 해결된 사건이 다시 미해결이 된 경우에만 커밋 이후 알람을 바로 생성하도록 이벤트 발행
+        // (그 밖의 수정은 알람 대상이 바뀌지 않으므로 알람 생성 대기열에 넣지 않음)
+        if (previousEmployee != updatedEvent.getEmployee()
+                || previousArea != updatedEvent.getArea()
+                || previousEmployeeIncident != updatedEvent.getEmployeeIncident()
+                || previousAreaIncident != updatedEvent.getAreaIncident()
+                || (Boolean.TRUE.equals(previousResolved) && Boolean.FALSE.equals(updatedEvent.getResolved()))) {
+            eventPublisher.publishEvent(new IncidentOccurredEvent(updatedEvent.getId()));
+        }
         // ReadEventResponse에 수정된 사건 정보를 반환 (근로자의 암호화된 정보 복호화 포함)
         return EventDto.ReadEventResponse.builder()
                 .eventId(updatedEvent.getId())
@@ -257,6 +278,12 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 사건입니다. ID: " + eventId));
         // 사건을 삭제
         eventRepository.delete(event);
+        // 삭제된 사건이 캐시에 남아있다면 해당 근로자와 구역의 상태를 다시 조회
+        incidentStateCache.evict(event.getId(), event.getEmployee(), event.getArea());
+        // 안전 점수 사건 수에서 제외
+        safetyScoreCache.replace(SafetyScoreCache.CountedIncident.of(event), null);
+        // 근로자가 소속된 공장의 요약 정보 제거
+        factorySummaryCache.evictEmployees(Arrays.asList(event.getEmployee()));
     }
 
     /**
@@ -273,41 +300,31 @@ public class EventServiceImpl implements EventService {
         entityValidator.validateCompanyIds(List.of(factory.getCompany().getId()))
                 .stream().findFirst()
                 .orElseThrow(() -> new AccessDeniedException("업체를 찾을 수 없거나 조회 권한이 없습니다."));
-        // 이번 달의 시작일과 종료일 계산
-        LocalDateTime startOfMonth = LocalDate.now().withDayOfMonth(1).atStartOfDay();
-        LocalDateTime endOfMonth = LocalDate.now().withDayOfMonth(LocalDate.now().lengthOfMonth()).atTime(23, 59, 59);
-        // 공장 내 구역들의 사건 조회 및 안전 점수 계산
+        // 이번 달 구역별 사건 수를 캐시에서 조회 (캐시에 없으면 구역과 사건 유형별 GROUP BY 쿼리 한 번으로 적재)
+        var areaCounts = safetyScoreCache.getAreaCounts(factory.getId(), YearMonth.now());
+        // 공장 내 구역들의 안전 점수 계산
         List<EventDto.AreaSafetyScore> areaSafetyScores = areaRepository.findByFactory(factory).stream()
                 .map(area -> {
-                    List<Event> areaEvents = eventRepository.findByAreaAndCreatedAtBetween(area, startOfMonth, endOfMonth);
-                    long areaCriticalCount = areaEvents.stream()
-                            .filter(event -> event.getAreaIncident().getPriority() == IncidentPriority.CRITICAL)
-                            .count();
-                    long areaAlertCount = areaEvents.stream()
-                            .filter(event -> event.getAreaIncident().getPriority() == IncidentPriority.ALERT)
-                            .count();
-                    long areaWarningCount = areaEvents.stream()
-                            .filter(event -> event.getAreaIncident().getPriority() == IncidentPriority.WARNING)
-                            .count();
+                    var counts = areaCounts.getOrDefault(area.getId(), SafetyScoreCache.IncidentCounts.EMPTY);
                     // 구역별 안전 점수 및 등급 계산
-                    int areaSafetyScore = calculateSafetyScore(areaCriticalCount, areaAlertCount, areaWarningCount);
-                    String areaSafetyGrade = calculateSafetyGrade(areaSafetyScore);
+                    int areaSafetyScore = counts.safetyScore();
+                    String areaSafetyGrade = SafetyGrade.of(areaSafetyScore).getGrade();
                     return EventDto.AreaSafetyScore.builder()
                             .areaId(area.getId())
                             .areaName(area.getName())
                             .areaLocation(area.getLocation())
                             .safetyScore(areaSafetyScore)
                             .safetyGrade(areaSafetyGrade)
-                            .criticalIncidentCount(areaCriticalCount)
-                            .alertIncidentCount(areaAlertCount)
-                            .warningIncidentCount(areaWarningCount)
+                            .criticalIncidentCount(counts.criticalCount())
+                            .alertIncidentCount(counts.alertCount())
+                            .warningIncidentCount(counts.warningCount())
                             .build();
                 }).collect(Collectors.toList());
         // 공장 안전 점수 계산
         int factorySafetyScore = (int) areaSafetyScores.stream()
                 .mapToInt(EventDto.AreaSafetyScore::getSafetyScore)
                 .average().orElse(100); // 구역이 없으면 기본 점수 100
-        String factorySafetyGrade = calculateSafetyGrade(factorySafetyScore);
+        String factorySafetyGrade = SafetyGrade.of(factorySafetyScore).getGrade();
         // SafetyGrade Enum에서 등급 리스트 생성
         List<EventDto.SafetyGrade> safetyGrades = Arrays.stream(SafetyGrade.values())
                 .map(sg -> new EventDto.SafetyGrade(sg.getGrade(), sg.getMessage(), sg.getMin(), sg.getMax()))
@@ -331,6 +348,91 @@ public class EventServiceImpl implements EventService {
                 .build();
     }
 
+    /**
+     * 특정 공장의 최근 여러 달에 대한 월별 안전 점수 추이를 조회합니다.
+     * 마감된 달은 월초 배치 작업이 저장한 스냅샷에서 읽고, 이번 달은 사건 수 캐시로 계산합니다.
+     * 스냅샷이 없는 마감된 달(배치 작업 도입 이전이나 배치 작업이 실패한 달)은 건너뛰지 않고 그 달의 사건 수를 데이터베이스에서 바로 집계하므로,
+     * 응답에는 항상 조회한 개월 수만큼의 월이 순서대로 포함됩니다. (이때 구역 목록은 현재 구역을 기준으로 합니다)
+     *
+     * @param factoryId 안전 점수 추이를 조회할 공장 ID입니다.
+     * @param months 이번 달을 포함하여 조회할 개월 수입니다. (기본 12개월, 최대 24개월)
+     * @return 월별 공장 및 구역 안전 점수를 포함하는 EventDto.SafetyScoreTrend 객체입니다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EventDto.SafetyScoreTrend readSafetyScoreTrend(Long factoryId, Integer months) {
+        var factory = entityValidator.validateFactoryIds(List.of(factoryId))
+                .stream().findFirst()
+                .orElseThrow(() -> new AccessDeniedException("공장을 찾을 수 없거나 조회 권한이 없습니다."));
+        entityValidator.validateCompanyIds(List.of(factory.getCompany().getId()))
+                .stream().findFirst()
+                .orElseThrow(() -> new AccessDeniedException("업체를 찾을 수 없거나 조회 권한이 없습니다."));
+        int monthCount = Math.clamp(Optional.ofNullable(months).orElse(12), 1, SafetyScoreSnapshotTasklet.MAX_MONTHS);
+        var currentMonth = YearMonth.now();
+        var firstMonth = currentMonth.minusMonths(monthCount - 1);
+        var areas = areaRepository.findByFactory(factory);
+        // 마감된 달의 스냅샷을 월별로 묶음
+        Map<LocalDate, List<SafetyScoreSnapshot>> snapshotsByMonth = firstMonth.isBefore(currentMonth)
+                ? safetyScoreSnapshotRepository.findByFactoryIdAndSnapshotMonthBetweenOrderBySnapshotMonthAscAreaIdAsc(
+                                factory.getId(), firstMonth.atDay(1), currentMonth.minusMonths(1).atDay(1)).stream()
+                        .collect(Collectors.groupingBy(SafetyScoreSnapshot::getSnapshotMonth))
+                : Map.of();
+        List<EventDto.MonthlySafetyScore> monthlySafetyScores = new ArrayList<>();
+        for (var month = firstMonth; month.isBefore(currentMonth); month = month.plusMonths(1)) {
+            var snapshots = snapshotsByMonth.get(month.atDay(1));
+            if (snapshots != null) {
+                // 스냅샷이 있는 달은 그대로 사용
+                monthlySafetyScores.add(toMonthlySafetyScore(month, snapshots.stream()
+                        .map(snapshot -> EventDto.AreaSafetyScore.builder()
+                                .areaId(snapshot.getAreaId())
+                                .areaName(snapshot.getAreaName())
+                                .safetyScore(snapshot.getSafetyScore())
+                                .safetyGrade(SafetyGrade.of(snapshot.getSafetyScore()).getGrade())
+                                .criticalIncidentCount(snapshot.getCriticalIncidentCount())
+                                .alertIncidentCount(snapshot.getAlertIncidentCount())
+                                .warningIncidentCount(snapshot.getWarningIncidentCount())
+                                .build())
+                        .toList()));
+            } else {
+                // 스냅샷이 없는 달은 데이터베이스에서 바로 집계 (캐시에 보관하지 않음)
+                monthlySafetyScores.add(toMonthlySafetyScore(month,
+                        toAreaSafetyScores(areas, safetyScoreCache.countAreaIncidents(factory.getId(), month))));
+            }
+        }
+        // 이번 달은 사건 수 캐시로 계산
+        monthlySafetyScores.add(toMonthlySafetyScore(currentMonth,
+                toAreaSafetyScores(areas, safetyScoreCache.getAreaCounts(factory.getId(), currentMonth))));
+        return EventDto.SafetyScoreTrend.builder()
+                .factoryId(factory.getId())
+                .factoryName(factory.getName())
+                .monthlySafetyScores(monthlySafetyScores)
+                .build();
+    }
+
+    /**
+     * 구역별 사건 수로 구역 안전 점수 목록을 생성합니다. 사건이 없는 구역은 사건 수 0으로 계산합니다.
+     *
+     * @param areas 공장의 구역 목록
+     * @param areaCounts 구역 ID별 우선순위별 사건 수
+     * @return 구역별 안전 점수 목록
+     */
+    private List<EventDto.AreaSafetyScore> toAreaSafetyScores(List<Area> areas, Map<Long, SafetyScoreCache.IncidentCounts> areaCounts) {
+        return areas.stream()
+                .map(area -> {
+                    var counts = areaCounts.getOrDefault(area.getId(), SafetyScoreCache.IncidentCounts.EMPTY);
+                    return EventDto.AreaSafetyScore.builder()
+                            .areaId(area.getId())
+                            .areaName(area.getName())
+                            .areaLocation(area.getLocation())
+                            .safetyScore(counts.safetyScore())
+                            .safetyGrade(SafetyGrade.of(counts.safetyScore()).getGrade())
+                            .criticalIncidentCount(counts.criticalCount())
+                            .alertIncidentCount(counts.alertCount())
+                            .warningIncidentCount(counts.warningCount())
+                            .build();
+                }).toList();
+    }
+
     /**
      * 모든 사건을 해결 상태로 일괄 처리합니다.
      *
@@ -345,41 +447,30 @@ public class EventServiceImpl implements EventService {
             event.setResolved(true);
             eventRepository.save(event);
         });
+        // 미해결 사건이 더 이상 없으므로 캐시를 비움
+        incidentStateCache.clear();
+        factorySummaryCache.clear();
     }
 
     /**
-     * 사건의 유형별 개수를 바탕으로 안전 점수를 계산하는 메서드입니다.
-     * 안전 점수는 아래와 같은 기준으로 계산됩니다:
-     * - CRITICAL: 10점 차감
-     * - ALERT: 5점 차감
-     * - WARNING: 1점 차감
-     * 총점 100점에서 차감하여 안전 점수를 계산하고, 점수에 따라 '심각', '주의', '양호' 등급을 부여합니다.
+     * 구역별 안전 점수로 한 달의 공장 안전 점수를 구성합니다. 공장 점수는 구역 점수의 평균입니다.
      *
-     * @param criticalCount CRITICAL 사건의 개수
-     * @param alertCount ALERT 사건의 개수
-     * @param warningCount WARNING 사건의 개수
-     * @return 계산된 안전 점수와 안전 등급을 담은 객체
+     * @param month 대상 월
+     * @param areaSafetyScores 해당 월의 구역별 안전 점수
+     * @return 월별 안전 점수
      */
-    private int calculateSafetyScore(long criticalCount, long alertCount, long warningCount) {
-        // 사건별 차감 점수 계산
-        int totalDeduction = (int) (criticalCount * 10 + alertCount * 5 + warningCount);
-        // 기본 점수에서 차감하여 안전 점수 계산
-        return Math.max(100 - totalDeduction, 0);
-    }
-
-    /**
-     * 안전 점수에 따라 안전 등급을 반환하는 메서드입니다.
-     *
-     * @param safetyScore 계산된 안전 점수
-     * @return "심각", "주의", "양호" 중 하나의 문자열을 반환
-     */
-    private String calculateSafetyGrade(int safetyScore) {
-        if (safetyScore < 60) {
-            return "심각";
-        } else if (safetyScore < 80) {
-            return "주의";
-        } else {
-            return "양호";
-        }
+    private EventDto.MonthlySafetyScore toMonthlySafetyScore(YearMonth month, List<EventDto.AreaSafetyScore> areaSafetyScores) {
+        int factorySafetyScore = (int) areaSafetyScores.stream()
+                .mapToInt(EventDto.AreaSafetyScore::getSafetyScore)
+                .average().orElse(100); // 구역이 없으면 기본 점수 100
+        return EventDto.MonthlySafetyScore.builder()
+                .month(month.toString())
+                .safetyScore(factorySafetyScore)
+                .safetyGrade(SafetyGrade.of(factorySafetyScore).getGrade())
+                .criticalIncidentCount(areaSafetyScores.stream().mapToLong(EventDto.AreaSafetyScore::getCriticalIncidentCount).sum())
+                .alertIncidentCount(areaSafetyScores.stream().mapToLong(EventDto.AreaSafetyScore::getAlertIncidentCount).sum())
+                .warningIncidentCount(areaSafetyScores.stream().mapToLong(EventDto.AreaSafetyScore::getWarningIncidentCount).sum())
+                .areaSafetyScores(areaSafetyScores)
+                .build();
     }
-}
\ No newline at end of file
+}
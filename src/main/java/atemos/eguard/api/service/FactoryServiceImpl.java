@@ -1,15 +1,16 @@
 package atemos.eguard.api.service;
 
+import atemos.eguard.api.config.AccountStatusCache;
 import atemos.eguard.api.config.EntityValidator;
+import atemos.eguard.api.config.FactorySummaryCache;
+import atemos.eguard.api.config.IncidentStateCache;
+import atemos.eguard.api.domain.EmployeeRole;
 import atemos.eguard.api.domain.WorkStatus;
 import atemos.eguard.api.dto.FactoryDto;
 import atemos.eguard.api.dto.SettingDto;
-import atemos.eguard.api.entity.Employee;
 import atemos.eguard.api.entity.Factory;
 import atemos.eguard.api.repository.EmployeeRepository;
-import atemos.eguard.api.repository.EventRepository;
 import atemos.eguard.api.repository.FactoryRepository;
-import atemos.eguard.api.repository.WorkRepository;
 import atemos.eguard.api.specification.FactorySpecification;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -32,11 +33,12 @@ import java.util.Optional;
 public class FactoryServiceImpl implements FactoryService {
     private final FactoryRepository factoryRepository;
     private final EmployeeRepository employeeRepository;
-    private final EventRepository eventRepository;
-    private final WorkRepository workRepository;
     private final AuthenticationServiceImpl authenticationService;
     private final EntityValidator entityValidator;
     private final SettingService settingService;
+    private final IncidentStateCache incidentStateCache;
+    private final FactorySummaryCache factorySummaryCache;
+    private final AccountStatusCache accountStatusCache;
 
     /**
      * 공장을 등록합니다.
@@ -96,25 +98,9 @@ public class FactoryServiceImpl implements FactoryService {
     @Override
     @Transactional(readOnly = true)
     public FactoryDto.ReadFactoryResponseList read(FactoryDto.ReadFactoryRequest readFactoryRequestDto, Pageable pageable) {
-        // readFactoryRequestDto의 공장 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readFactoryRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readFactoryRequestDto의 업체 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readFactoryRequestDto.getCompanyIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(companyIds -> {
-                    if (entityValidator.validateCompanyIds(companyIds).isEmpty()) {
-                        throw new AccessDeniedException("업체가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
         // 조건에 맞는 공장 목록을 페이지 단위로 조회
         var factoryPage = factoryRepository.findAll(
-                FactorySpecification.findWith(readFactoryRequestDto),
+                FactorySpecification.findWith(readFactoryRequestDto, entityValidator.getAccessScope()),
                 pageable);
         // 조회된 공장 목록을 응답 객체로 변환하여 반환
         var factoryList = factoryPage.getContent().stream()
@@ -164,6 +150,12 @@ public class FactoryServiceImpl implements FactoryService {
             var company = entityValidator.validateCompanyIds(List.of(companyId))
                     .stream().findFirst()
                     .orElseThrow(() -> new AccessDeniedException("업체를 찾을 수 없거나 수정 권한이 없습니다."));
+            // 업체가 변경되면 소속 근로자의 토큰 클레임(업체 ID)이 달라지므로 이전에 발급된 모든 토큰 폐기
+            if (!companyId.equals(factory.getCompany().getId())) {
+                var employees = employeeRepository.findByFactory(factory);
+                employees.forEach(accountStatusCache::revokeTokens);
+                employeeRepository.saveAll(employees);
+            }
             factory.setCompany(company);
         });
         // 공장의 나머지 필드들을 Optional로 처리하여 업데이트
@@ -235,9 +227,9 @@ public class FactoryServiceImpl implements FactoryService {
      */
     @Override
     public FactoryDto.ReadFactoryResponseList readSignUpFactoryList(FactoryDto.ReadFactoryRequest readFactoryRequestDto) {
-        // 조건에 맞는 공장 목록을 페이지 단위로 조회
+        // 조건에 맞는 공장 목록을 조회 (로그인 전 회원가입 화면에서 호출하므로 권한 제한 없음)
         var factories = factoryRepository.findAll(
-                FactorySpecification.findWith(readFactoryRequestDto));
+                FactorySpecification.findWith(readFactoryRequestDto, null));
         // 조회된 공장 목록을 응답 객체로 변환하여 반환
         var factoryList = factories.stream()
                 .map(factory -> FactoryDto.ReadFactoryResponse.builder()
@@ -264,6 +256,7 @@ public class FactoryServiceImpl implements FactoryService {
     /**
      * 공장 요약 정보를 조회합니다.
      * 지정된 공장의 전체 근로자 수와 상태별 근로자 수 정보를 제공합니다.
+     * 집계 결과는 공장과 권한별로 잠시 보관되며, 사건, 작업, 근로자 정보가 변경되면 다시 집계됩니다.
      *
      * @param factorySummaryRequestDto 공장 요약 정보 조회를 위한 요청 객체입니다.
      * @return 공장 요약 정보 객체입니다. 전체 근로자 수와 상태별 근로자 수가 포함됩니다.
@@ -277,22 +270,37 @@ public class FactoryServiceImpl implements FactoryService {
         if (entityValidator.validateCompanyIds(List.of(factory.getCompany().getId())).isEmpty()) {
             throw new AccessDeniedException("업체가 존재하지 않거나 조회 권한이 없습니다.");
         }
-        // 해당 공장에 근무 중인 전체 근로자를 조회
-        var employees = employeeRepository.findByFactoryAndRole(factory, factorySummaryRequestDto.getRole());
-        var totalEmployees = employees.size();
+        return factorySummaryCache.get(factory.getId(), factorySummaryRequestDto.getRole(),
+                () -> summarize(factory, factorySummaryRequestDto.getRole()));
+    }
+
+    /**
+     * 공장에 근무 중인 근로자의 상태별 인원 수를 집계합니다.
+     * 근로자 ID와 진행 중인 작업 보유 여부는 쿼리 한 번으로 조회하고, 미해결 사건 상태는 캐시에서 조회합니다.
+     *
+     * @param factory 집계할 공장
+     * @param role 집계할 근로자의 권한
+     * @return 공장 요약 정보 객체
+     */
+    private FactoryDto.FactorySummaryResponse summarize(Factory factory, EmployeeRole role) {
+        // 해당 공장에 근무 중인 전체 근로자의 ID와 PENDING, IN_PROGRESS 상태의 작업 보유 여부를 한 번에 조회
+        var workStates = employeeRepository.findWorkStatesByFactoryAndRole(
+                factory, role, List.of(WorkStatus.PENDING, WorkStatus.IN_PROGRESS));
+        var totalEmployees = workStates.size();
         var injuryEmployees = 0;
         var criticalHealthIssueEmployees = 0;
         var minorHealthIssueEmployees = 0;
         var onLeaveEmployees = 0;
         var normalEmployees = 0;
         var unassignedEmployees = 0;
-        // 조회한 근로자 ID로 Event 엔티티에서 아직 해결되지 않은(resolved = false) 가장 최근 employeeIncident가 있는지 조회(없으면 NORMAL로 간주)
-        for (Employee employee : employees) {
+        // 조회한 근로자 ID로 캐시에서 아직 해결되지 않은(resolved = false) 가장 최근 사건 상태를 한 번에 조회
+        var incidentStates = incidentStateCache.findEmployeeStates(
+                workStates.stream().map(EmployeeRepository.EmployeeWorkState::getEmployeeId).toList());
+        for (var workState : workStates) {
             // 가장 최근에 발생한 해결되지 않은 EmployeeIncident 조회
-            var recentIncident = eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(employee, false)
-                    .orElse(null);
+            var recentIncident = incidentStates.get(workState.getEmployeeId());
             // 사건에 따른 상태별 근로자 수 계산
-            if (recentIncident != null) {
+            if (recentIncident != null && recentIncident.getEmployeeIncident() != null) {
                 switch (recentIncident.getEmployeeIncident()) {
                     case INJURY:
                         injuryEmployees++;
@@ -311,9 +319,7 @@ public class FactoryServiceImpl implements FactoryService {
                 }
             } else {
                 // 사건이 없고 현재 근로자에게 PENDING, IN_PROGRESS 상태의 작업이 없는 경우 unassignedEmployees 증가
-                var hasActiveWork = workRepository.existsByEmployeesContainingAndStatusIn(
-                        employee, List.of(WorkStatus.PENDING, WorkStatus.IN_PROGRESS)
-                );
+                var hasActiveWork = Boolean.TRUE.equals(workState.getActiveWork());
                 normalEmployees += hasActiveWork ? 1 : 0;
                 unassignedEmployees += hasActiveWork ? 0 : 1;
             }
@@ -330,4 +336,4 @@ public class FactoryServiceImpl implements FactoryService {
                 .unassignedEmployees(unassignedEmployees)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,13 +1,18 @@
 package atemos.eguard.api.service;
 
 import atemos.eguard.api.config.EncryptUtil;
+import atemos.eguard.api.config.EntityValidator;
 import atemos.eguard.api.dto.LogDto;
+import atemos.eguard.api.entity.ApiCallLog;
+import atemos.eguard.api.entity.AuthenticationLog;
 import atemos.eguard.api.repository.ApiCallLogRepository;
 import atemos.eguard.api.repository.AuthenticationLogRepository;
 import atemos.eguard.api.specification.ApiCallLogSpecification;
 import atemos.eguard.api.specification.AuthenticationLogSpecification;
+import atemos.eguard.api.specification.CursorSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +28,7 @@ public class LogServiceImpl implements LogService {
     private final ApiCallLogRepository apiCallLogRepository;
     private final AuthenticationLogRepository authenticationLogRepository;
     private final EncryptUtil encryptUtil;
+    private final EntityValidator entityValidator;
 
     /**
      * 조건에 맞는 ApiCallLog를 조회합니다.
@@ -34,8 +40,11 @@ public class LogServiceImpl implements LogService {
     @Override
     @Transactional(readOnly = true)
     public LogDto.ReadApiCallLogResponseList readApiCallLog(LogDto.ReadApiCallLogRequest readApiCallLogRequest, Pageable pageable) {
-        // 조건에 맞는 ApiCallLog 목록 조회
-        var apiCallLogPage = apiCallLogRepository.findAll(ApiCallLogSpecification.findWith(readApiCallLogRequest), pageable);
+        // 조건에 맞는 ApiCallLog 목록 조회 (커서가 주어지면 전체 개수를 세지 않는 커서 방식으로 조회)
+        var specification = ApiCallLogSpecification.findWith(readApiCallLogRequest, entityValidator.getAccessScope());
+        var apiCallLogPage = readApiCallLogRequest.getCursor() != null
+                ? CursorSpecification.scroll(apiCallLogRepository, specification, "requestTime", readApiCallLogRequest.getCursor(), readApiCallLogRequest.getSize())
+                : apiCallLogRepository.findAll(specification, pageable);
         // ApiCallLog 응답 DTO로 변환하여 LocalDateTime으로 변환
         var apiCallLogList = apiCallLogPage.getContent().stream()
                 .map(apiCallLog -> LogDto.ReadApiCallLogResponse.builder()
@@ -55,8 +64,10 @@ public class LogServiceImpl implements LogService {
         // 응답 객체 반환
         return LogDto.ReadApiCallLogResponseList.builder()
                 .apiCallLogList(apiCallLogList)
-                .apiCallLogTotalElements(apiCallLogPage.getTotalElements())
-                .apiCallLogTotalPages(apiCallLogPage.getTotalPages())
+                .apiCallLogTotalElements(apiCallLogPage instanceof Page<ApiCallLog> page ? page.getTotalElements() : null)
+                .apiCallLogTotalPages(apiCallLogPage instanceof Page<ApiCallLog> page ? page.getTotalPages() : null)
+                .apiCallLogNextCursor(readApiCallLogRequest.getCursor() != null ? CursorSpecification.nextCursor(apiCallLogPage, ApiCallLog::getRequestTime, ApiCallLog::getId) : null)
+                .apiCallLogHasNext(readApiCallLogRequest.getCursor() != null ? apiCallLogPage.hasNext() : null)
                 .build();
     }
 
@@ -70,10 +81,11 @@ public class LogServiceImpl implements LogService {
     @Override
     @Transactional(readOnly = true)
     public LogDto.ReadAuthenticationLogResponseList readAuthenticationLog(LogDto.ReadAuthenticationLogRequest readAuthenticationLogRequest, Pageable pageable) {
-        // 조건에 맞는 AuthenticationLog 목록을 조회
-        var authenticationLogPage = authenticationLogRepository.findAll(
-                AuthenticationLogSpecification.findWith(readAuthenticationLogRequest),
-                pageable);
+        // 조건에 맞는 AuthenticationLog 목록을 조회 (커서가 주어지면 전체 개수를 세지 않는 커서 방식으로 조회)
+        var specification = AuthenticationLogSpecification.findWith(readAuthenticationLogRequest, entityValidator.getAccessScope());
+        var authenticationLogPage = readAuthenticationLogRequest.getCursor() != null
+                ? CursorSpecification.scroll(authenticationLogRepository, specification, "requestTime", readAuthenticationLogRequest.getCursor(), readAuthenticationLogRequest.getSize())
+                : authenticationLogRepository.findAll(specification, pageable);
         // 조회된 AuthenticationLog 목록을 응답 DTO로 변환
         var authenticationLogList = authenticationLogPage.getContent().stream()
                 .map(authenticationLog -> LogDto.ReadAuthenticationLogResponse.builder()
@@ -93,8 +105,10 @@ public class LogServiceImpl implements LogService {
         // 응답 객체 반환
         return LogDto.ReadAuthenticationLogResponseList.builder()
                 .authenticationLogList(authenticationLogList)
-                .authenticationLogTotalElements(authenticationLogPage.getTotalElements())
-                .authenticationLogTotalPages(authenticationLogPage.getTotalPages())
+                .authenticationLogTotalElements(authenticationLogPage instanceof Page<AuthenticationLog> page ? page.getTotalElements() : null)
+                .authenticationLogTotalPages(authenticationLogPage instanceof Page<AuthenticationLog> page ? page.getTotalPages() : null)
+                .authenticationLogNextCursor(readAuthenticationLogRequest.getCursor() != null ? CursorSpecification.nextCursor(authenticationLogPage, AuthenticationLog::getRequestTime, AuthenticationLog::getId) : null)
+                .authenticationLogHasNext(readAuthenticationLogRequest.getCursor() != null ? authenticationLogPage.hasNext() : null)
                 .build();
     }
 }
\ No newline at end of file
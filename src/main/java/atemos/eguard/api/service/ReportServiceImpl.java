@@ -1,6 +1,5 @@
 package atemos.eguard.api.service;
 
-import atemos.eguard.api.config.EntityValidator;
 import atemos.eguard.api.dto.AlarmDto;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +12,6 @@ import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,7 +19,6 @@ import java.io.IOException;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
-import java.util.Optional;
 
 /**
  * 업체의 에너지 사용량과 요금 등의 데이터를 조회하고 엑셀로 제공하는 기능을 제공하는 서비스 구현 클래스입니다.
@@ -31,7 +28,6 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ReportServiceImpl implements ReportService {
     private final AlarmService alarmService;
-    private final EntityValidator entityValidator;
 
     /**
      * 특정 기간 내 업체의 알람 상태 이력을 엑셀 파일로 제공합니다. (조회 결과는 시간별로 집계됩니다)
@@ -42,46 +38,6 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Transactional(readOnly = true)
     public void reportAlarm(AlarmDto.ReadAlarmRequest readAlarmRequestDto, HttpServletResponse response) {
-        // readAlarmRequestDto에 알람 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getAlarmIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(alarmIds -> {
-                    if (entityValidator.validateAlarmIds(alarmIds).isEmpty()) {
-                        throw new AccessDeniedException("알람이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 근로자 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getEmployeeIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(employeeIds -> {
-                    if (entityValidator.validateEmployeeIds(employeeIds).isEmpty()) {
-                        throw new AccessDeniedException("근로자가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 사건 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getEventIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(eventIds -> {
-                    if (entityValidator.validateEventIds(eventIds).isEmpty()) {
-                        throw new AccessDeniedException("사건이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 공장 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readAlarmRequestDto에 업체 ID 리스트가 존재하면 이 정보에 현재 접속한 근로자가 접근할 수 있는지 검증
-        Optional.ofNullable(readAlarmRequestDto.getCompanyIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(companyIds -> {
-                    if (entityValidator.validateCompanyIds(companyIds).isEmpty()) {
-                        throw new AccessDeniedException("업체가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
         // 종료일이 null인 경우 시작일과 동일하게 설정
         if (readAlarmRequestDto.getSearchEndTime() == null) {
             readAlarmRequestDto.setSearchEndTime(readAlarmRequestDto.getSearchStartTime());
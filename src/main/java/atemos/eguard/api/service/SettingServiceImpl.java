@@ -36,7 +36,7 @@ public class SettingServiceImpl implements SettingService {
     @Transactional(readOnly = true)
     public SettingDto.ReadSettingResponseList read(SettingDto.ReadSettingRequest readSettingRequestDto) {
         // 시스템 설정 조회 후 리턴
-        var settingResponse = settingRepository.findAll(SettingSpecification.findWith(readSettingRequestDto, encryptUtil));
+        var settingResponse = settingRepository.findAll(SettingSpecification.findWith(readSettingRequestDto, encryptUtil, entityValidator.getAccessScope()));
         var settingList = settingResponse.stream()
                 .map(setting -> SettingDto.ReadSettingResponse.builder()
                         .settingId(setting.getId())
@@ -32,8 +32,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        // 암호화된 이메일로 Employee 정보 조회
-        var Employeeemployee = employeeRepository.findByEmail(encryptUtil.encrypt(email))
+        // 이메일의 블라인드 인덱스로 Employee 정보 조회
+        var Employeeemployee = employeeRepository.findByEmailIndexOrEmail(encryptUtil.blindIndex(email), encryptUtil.encrypt(email.trim()))
                 .orElseThrow(() -> new UsernameNotFoundException("Employee not found with email: " + email));
         // 근로자의 역할을 GrantedAuthority로 변환하여 UserDetails 객체 생성
         Set<GrantedAuthority> authorities = new HashSet<>();
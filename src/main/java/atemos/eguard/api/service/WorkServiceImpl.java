@@ -1,20 +1,18 @@
 package atemos.eguard.api.service;
 
+import atemos.eguard.api.config.ActiveWorkIndex;
 import atemos.eguard.api.config.EncryptUtil;
 import atemos.eguard.api.config.EntityValidator;
-import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.config.FactorySummaryCache;
+import atemos.eguard.api.config.IncidentStateCache;
 import atemos.eguard.api.domain.EmployeeIncident;
-import atemos.eguard.api.domain.WorkStatus;
 import atemos.eguard.api.dto.EmployeeDto;
-import atemos.eguard.api.dto.EventDto;
 import atemos.eguard.api.dto.SettingDto;
 import atemos.eguard.api.dto.WorkDto;
 import atemos.eguard.api.entity.Employee;
-import atemos.eguard.api.entity.Event;
 import atemos.eguard.api.entity.Work;
 import atemos.eguard.api.repository.AreaRepository;
 import atemos.eguard.api.repository.EmployeeRepository;
-import atemos.eguard.api.repository.EventRepository;
 import atemos.eguard.api.repository.WorkRepository;
 import atemos.eguard.api.specification.WorkSpecification;
 import jakarta.persistence.EntityNotFoundException;
@@ -29,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -42,11 +41,12 @@ public class WorkServiceImpl implements WorkService {
     private final WorkRepository workRepository;
     private final EmployeeRepository employeeRepository;
     private final AreaRepository areaRepository;
-    private final EventRepository eventRepository;
     private final SettingService settingService;
     private final EncryptUtil encryptUtil;
-    private final EventService eventService;
     private final EntityValidator entityValidator;
+    private final IncidentStateCache incidentStateCache;
+    private final FactorySummaryCache factorySummaryCache;
+    private final ActiveWorkIndex activeWorkIndex;
 
     /**
      * 작업을 등록합니다.
@@ -77,21 +77,17 @@ public class WorkServiceImpl implements WorkService {
         }
         // 근로자별로 미해결된 특정 사건 유형을 검사하며 로그를 출력
         employees.forEach(employee -> {
-            eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(employee, false).ifPresent(event -> {
-                if (List.of(EmployeeIncident.INJURY, EmployeeIncident.CRITICAL_HEALTH_ISSUE,
-                                EmployeeIncident.MINOR_HEALTH_ISSUE, EmployeeIncident.ON_LEAVE)
-                        .contains(event.getEmployeeIncident())) {
-                    log.warn("근로자 {}에게 미해결된 사건 {}이(가) 있습니다. 작업에 투입할 수 없습니다.",
-                            employee.getId(), event.getEmployeeIncident().getName());
-                    throw new IllegalArgumentException("해결되지 않은 사건이 있는 근로자는 작업에 투입할 수 없습니다.");
-                }
-            });
+            var employeeIncident = incidentStateCache.getEmployeeIncident(employee.getId());
+            if (List.of(EmployeeIncident.INJURY, EmployeeIncident.CRITICAL_HEALTH_ISSUE,
+                            EmployeeIncident.MINOR_HEALTH_ISSUE, EmployeeIncident.ON_LEAVE)
+                    .contains(employeeIncident)) {
+                log.warn("근로자 {}에게 미해결된 사건 {}이(가) 있습니다. 작업에 투입할 수 없습니다.",
+                        employee.getId(), employeeIncident.getName());
+                throw new IllegalArgumentException("해결되지 않은 사건이 있는 근로자는 작업에 투입할 수 없습니다.");
+            }
         });
-        // 근로자가 다른 작업에 참여 중인지 확인
-        List<WorkDto.EmployeeWorkStatus> inProgressWork = findInProgressWorkForEmployees(createWorkDto.getEmployeeIds());
-        if (!inProgressWork.isEmpty()) {
-            throw new IllegalArgumentException("근로자들이 이미 다른 작업에 참여 중입니다.");
-        }
+        // 근로자가 다른 진행 중인 작업에 참여 중인지 확인
+        validateNotInOtherWork(employees.stream().map(Employee::getId).toList(), null);
         // 작업 정보 생성
         var work = Work.builder()
                 .name(createWorkDto.getWorkName())
@@ -101,6 +97,10 @@ public class WorkServiceImpl implements WorkService {
                 .build();
         // 작업을 저장
         work = workRepository.save(work);
+        // 진행 중인 작업이면 근로자 투입 정보를 기록 (동시에 같은 근로자를 투입하면 데이터베이스에서 거부)
+        activeWorkIndex.assign(work);
+        // 투입된 근로자가 소속된 공장의 요약 정보 제거
+        factorySummaryCache.evictEmployees(employees);
         // 작업에 참여한 근로자들의 상세 정보를 생성하여 리스트에 담기
         List<EmployeeDto.ReadEmployeeResponse> employeeResponses = employees.stream()
                 .map(employee -> EmployeeDto.ReadEmployeeResponse.builder()
@@ -131,69 +131,36 @@ public class WorkServiceImpl implements WorkService {
     @Override
     @Transactional(readOnly = true)
     public WorkDto.ReadWorkResponseList read(WorkDto.ReadWorkRequest readWorkRequestDto, Pageable pageable) {
-        // readWorkRequestDto의 작업 ID 리스트에 해당하는 작업을 조회할 수 있는 권한이 있는지 검증
-        Optional.ofNullable(readWorkRequestDto.getWorkIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(workIds -> {
-                    if (entityValidator.validateWorkIds(workIds).isEmpty()) {
-                        throw new AccessDeniedException("작업이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readWorkRequestDto의 공장 ID 리스트에 해당하는 공장을 조회할 수 있는 권한이 있는지 검증
-        Optional.ofNullable(readWorkRequestDto.getFactoryIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(factoryIds -> {
-                    if (entityValidator.validateFactoryIds(factoryIds).isEmpty()) {
-                        throw new AccessDeniedException("공장이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readWorkRequestDto의 구역 ID 리스트에 해당하는 구역을 조회할 수 있는 권한이 있는지 검증
-        Optional.ofNullable(readWorkRequestDto.getAreaIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(areaIds -> {
-                    if (entityValidator.validateAreaIds(areaIds).isEmpty()) {
-                        throw new AccessDeniedException("구역이 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
-        // readWorkRequestDto의 근로자 ID 리스트에 해당하는 근로자를 조회할 수 있는 권한이 있는지 검증
-        Optional.ofNullable(readWorkRequestDto.getEmployeeIds())
-                .filter(ids -> !ids.isEmpty())
-                .ifPresent(employeeIds -> {
-                    if (entityValidator.validateEmployeeIds(employeeIds).isEmpty()) {
-                        throw new AccessDeniedException("근로자가 존재하지 않거나 조회 권한이 없습니다.");
-                    }
-                });
         // 조건에 맞는 작업 목록을 페이지 단위로 조회
         var workPage = workRepository.findAll(
-                WorkSpecification.findWith(readWorkRequestDto),
+                WorkSpecification.findWith(readWorkRequestDto, entityValidator.getAccessScope()),
                 pageable);
-        // 조회된 작업 목록을 응답 DTO로 변환하여 반환
+        // 페이지에 포함된 작업의 구역과 근로자 목록을 쿼리 한 번으로 함께 조회 (작업마다 지연 로딩하지 않도록)
+        var works = workRepository.findWithAreaAndEmployeesByIdIn(workPage.getContent().stream().map(Work::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Work::getId, Function.identity(), (first, second) -> first));
+        // 페이지의 모든 근로자와 구역에 대해 캐시에서 해결되지 않은 가장 최근 사건 상태를 한 번에 조회 (없을 경우 기본값)
+        var healthStatuses = incidentStateCache.getEmployeeIncidents(works.values().stream()
+                .flatMap(work -> work.getEmployees().stream())
+                .map(Employee::getId)
+                .collect(Collectors.toSet()));
+        var areaIncidents = incidentStateCache.getAreaIncidents(works.values().stream()
+                .map(work -> work.getArea().getId())
+                .collect(Collectors.toSet()));
+        // 조회된 작업 목록을 페이지 순서대로 응답 DTO로 변환하여 반환
         var workList = workPage.getContent().stream()
+                .map(pagedWork -> works.getOrDefault(pagedWork.getId(), pagedWork))
                 .map(work -> {
                     // 각 작업에 포함된 근로자 목록을 DTO로 변환
                     List<EmployeeDto.ReadEmployeeResponse> employeeResponses = work.getEmployees().stream()
-                            .map(employee -> {
-                                // Employee에게 일어났던 해결되지 않은 가장 최근 사건 조회
-                                var latestUnresolvedEvent = eventService.read(EventDto.ReadEventRequest.builder()
-                                                .employeeIds(List.of(employee.getId()))
-                                                .eventResolved(false)  // 해결되지 않은 사건만 조회
-                                                .page(0)           // 가장 최신의 사건을 가져오기 위해 페이지 번호를 0으로 설정
-                                                .size(1)           // 1개의 사건만 필요
-                                                .build(),
-                                        Pageable.ofSize(1)).getEventList().stream().findFirst();
-                                // 최근 해결되지 않은 사건이 있을 경우 해당 사건의 healthStatus를 사용, 없을 경우 기본값
-                                var healthStatus = latestUnresolvedEvent.map(EventDto.ReadEventResponse::getEmployeeIncident)
-                                        .orElse(EmployeeIncident.NORMAL);
-                                return EmployeeDto.ReadEmployeeResponse.builder()
-                                        .employeeId(employee.getId())
-                                        .employeeNumber(employee.getEmployeeNumber())
-                                        .healthStatus(healthStatus)
-                                        .build();
-                            })
+                            .map(employee -> EmployeeDto.ReadEmployeeResponse.builder()
+                                    .employeeId(employee.getId())
+                                    .employeeNumber(employee.getEmployeeNumber())
+                                    .healthStatus(healthStatuses.get(employee.getId()))
+                                    .build())
                             .collect(Collectors.toList());
-                    // 현재 구역에서 해결되지 않은 가장 최근 사건 조회
-                    var latestUnresolvedAreaEvent = eventRepository.findTopByAreaAndResolvedOrderByCreatedAtDesc(work.getArea(), false);
-                    var areaIncident = latestUnresolvedAreaEvent.map(Event::getAreaIncident).orElse(AreaIncident.NORMAL);
+                    // 현재 구역의 해결되지 않은 가장 최근 사건
+                    var areaIncident = areaIncidents.get(work.getArea().getId());
                     // 작업 정보를 DTO로 변환하여 반환
                     return WorkDto.ReadWorkResponse.builder()
                             .workId(work.getId())
@@ -235,7 +202,8 @@ public class WorkServiceImpl implements WorkService {
                 .stream().findFirst()
                 .orElseThrow(() -> new AccessDeniedException("구역을 찾을 수 없거나 수정 권한이 없습니다."));
         // 기존 작업에 투입된 근로자들의 정보를 현재 접속한 근로자가 수정할 수 있는 권한이 있는지 검증
-        var existingEmployeeIds = work.getEmployees().stream()
+        var existingEmployees = new ArrayList<>(work.getEmployees());
+        var existingEmployeeIds = existingEmployees.stream()
                 .map(Employee::getId)
                 .toList();
         // 기존 근로자와 새롭게 추가된 근로자를 모두 포함한 검증
@@ -264,25 +232,23 @@ public class WorkServiceImpl implements WorkService {
         }
         // Event 테이블에 해당 근로자의 해결되지 않은 employeeIncident가 있거나 근로자가 다른 작업에 참여 중인지 확인
         if (updateWorkDto.getEmployeeIds() != null && !updateWorkDto.getEmployeeIds().isEmpty()) {
+            // 근로자가 모두 존재하는지 확인
+            if (employeeRepository.findAllById(updateWorkDto.getEmployeeIds()).size() != updateWorkDto.getEmployeeIds().stream().distinct().count()) {
+                throw new EntityNotFoundException("근로자가 존재하지 않습니다.");
+            }
             updateWorkDto.getEmployeeIds().forEach(employeeId -> {
-                // 해결되지 않은 사건이 있는지 확인
-                eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(
-                        employeeRepository.findById(employeeId).orElseThrow(() -> new EntityNotFoundException("근로자가 존재하지 않습니다.")),
-                        false).ifPresent(event -> {
-                    if (List.of(EmployeeIncident.INJURY, EmployeeIncident.CRITICAL_HEALTH_ISSUE,
-                                    EmployeeIncident.MINOR_HEALTH_ISSUE, EmployeeIncident.ON_LEAVE)
-                            .contains(event.getEmployeeIncident())) {
-                        log.warn("근로자 {}에게 미해결 사건 {}이(가) 있습니다. 작업에 투입할 수 없습니다.",
-                                employeeId, event.getEmployeeIncident().getName());
-                        throw new IllegalStateException("해결되지 않은 사건이 있는 근로자는 작업에 투입할 수 없습니다.");
-                    }
-                });
+                // 캐시에서 해결되지 않은 사건이 있는지 확인
+                var employeeIncident = incidentStateCache.getEmployeeIncident(employeeId);
+                if (List.of(EmployeeIncident.INJURY, EmployeeIncident.CRITICAL_HEALTH_ISSUE,
+                                EmployeeIncident.MINOR_HEALTH_ISSUE, EmployeeIncident.ON_LEAVE)
+                        .contains(employeeIncident)) {
+                    log.warn("근로자 {}에게 미해결 사건 {}이(가) 있습니다. 작업에 투입할 수 없습니다.",
+                            employeeId, employeeIncident.getName());
+                    throw new IllegalStateException("해결되지 않은 사건이 있는 근로자는 작업에 투입할 수 없습니다.");
+                }
             });
-            // 근로자가 다른 작업에 참여 중인지 확인
-            List<WorkDto.EmployeeWorkStatus> inProgressWork = findInProgressWorkForEmployees(updateWorkDto.getEmployeeIds());
-            if (!inProgressWork.isEmpty()) {
-                throw new IllegalStateException("근로자들이 이미 다른 작업에 참여 중입니다.");
-            }
+            // 근로자가 이 작업이 아닌 다른 진행 중인 작업에 참여 중인지 확인
+            validateNotInOtherWork(updateWorkDto.getEmployeeIds(), work.getId());
         }
         // employeeIds가 비어있으면 빈 목록으로 설정
         Optional.ofNullable(updateWorkDto.getEmployeeIds())
@@ -300,6 +266,11 @@ public class WorkServiceImpl implements WorkService {
         Optional.ofNullable(updateWorkDto.getWorkStatus()).ifPresent(work::setStatus);
         // 업데이트된 작업 정보를 저장
         var updateWork = workRepository.save(work);
+        // 작업 상태와 근로자 변경에 맞게 근로자 투입 정보를 갱신
+        activeWorkIndex.reassign(updateWork);
+        // 기존 근로자와 수정된 근로자가 소속된 공장의 요약 정보 제거
+        existingEmployees.addAll(updateWork.getEmployees());
+        factorySummaryCache.evictEmployees(existingEmployees);
         // 수정된 작업에 포함된 근로자 정보를 DTO로 변환
         List<EmployeeDto.ReadEmployeeResponse> employeeResponses = work.getEmployees().stream()
                 .map(employee -> EmployeeDto.ReadEmployeeResponse.builder()
@@ -333,41 +304,25 @@ public class WorkServiceImpl implements WorkService {
                 .orElseThrow(() -> new EntityNotFoundException("No such work."));
         // 작업을 삭제
         workRepository.delete(work);
+        activeWorkIndex.release(work.getId());
+        // 투입되었던 근로자가 소속된 공장의 요약 정보 제거
+        factorySummaryCache.evictEmployees(work.getEmployees());
     }
 
     /**
-     * 근로자들이 현재 진행 중인 작업에 참여하고 있는지 확인하는 메서드.
-     * 주어진 근로자 ID 목록을 기반으로, 그 근로자들이 기존에 배정된 작업이 아닌 다른 'IN_PROGRESS' 상태의 작업에 참여 중인 경우
-     * 해당 근로자들의 작업 상태를 반환합니다.
+     * 근로자들이 주어진 작업이 아닌 다른 진행 중(IN_PROGRESS)인 작업에 참여하고 있는지 확인하는 메서드.
+     * 근로자별 진행 중인 작업은 ActiveWorkIndex에서 조회합니다.
      *
      * @param employeeIds 확인할 근로자 ID 목록
-     * @return 참여 중인 작업 정보를 담고 있는 DTO 리스트
+     * @param workId 확인에서 제외할 작업 ID (신규 등록이면 null)
+     * @throws IllegalArgumentException 근로자가 다른 진행 중인 작업에 참여 중인 경우
      */
-    private List<WorkDto.EmployeeWorkStatus> findInProgressWorkForEmployees(List<Long> employeeIds) {
-        // WorkDto.ReadWorkRequest를 생성하여 진행 중인 작업을 조회
-        var request = WorkDto.ReadWorkRequest.builder()
-                .employeeIds(employeeIds)
-                .workStatuses(List.of(WorkStatus.IN_PROGRESS)) // 'IN_PROGRESS' 상태의 작업만 필터링
-                .build();
-        // 조건에 맞는 작업 목록을 조회
-        var workPage = workRepository.findAll(
-                WorkSpecification.findWith(request), // 조건에 맞는 작업을 찾는 쿼리
-                Pageable.unpaged());
-        // 각 근로자가 참여 중인 작업 정보를 EmployeeWorkStatus DTO로 변환하여 반환
-        return workPage.getContent().stream()
-                .flatMap(work -> work.getEmployees().stream()
-                        .filter(employee -> employeeIds.contains(employee.getId())) // 근로자 ID가 요청 목록에 포함된 경우
-                        .filter(employee -> !work.getEmployees().contains(employee)) // 기존에 배정된 작업이 아닌 경우
-                        .map(employee -> {
-                            log.warn("근로자 ID: {}가 작업 ID: {}에 참여 중입니다.", employee.getId(), work.getId());
-                            return WorkDto.EmployeeWorkStatus.builder()
-                                    .employeeId(employee.getId())
-                                    .workId(work.getId())
-                                    .workName(work.getName())
-                                    .workStatus(work.getStatus())
-                                    .build();
-                        })
-                )
-                .collect(Collectors.toList());
+    private void validateNotInOtherWork(List<Long> employeeIds, Long workId) {
+        var conflicts = activeWorkIndex.findConflicts(employeeIds, workId);
+        if (!conflicts.isEmpty()) {
+            conflicts.forEach((employeeId, activeWorkId) ->
+                    log.warn("근로자 ID: {}가 작업 ID: {}에 참여 중입니다.", employeeId, activeWorkId));
+            throw new IllegalArgumentException("근로자들이 이미 다른 작업에 참여 중입니다.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.entity.Alarm;
 import atemos.eguard.api.dto.AlarmDto;
 import org.springframework.data.jpa.domain.Specification;
@@ -12,12 +13,15 @@ public class AlarmSpecification {
      * 주어진 AlarmDto.ReadAlarmRequest 객체를 기반으로 Alarm 엔티티에 대한 Specification을 생성합니다.
      *
      * @param readAlarmRequest 알람 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 주어진 조건에 맞는 Alarm 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Alarm> findWith(AlarmDto.ReadAlarmRequest readAlarmRequest) {
+    public static Specification<Alarm> findWith(AlarmDto.ReadAlarmRequest readAlarmRequest, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건을 위한 Predicate 초기화
             var predicate = criteriaBuilder.conjunction();
+            // 수신 근로자가 속한 공장이 현재 근로자가 접근할 수 있는 공장인 알람으로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byFactory(criteriaBuilder, accessScope, root.get("employee").get("factory").get("id")));
             // 알람 ID 리스트
             if (readAlarmRequest.getAlarmIds() != null && !readAlarmRequest.getAlarmIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("id").in(readAlarmRequest.getAlarmIds()));
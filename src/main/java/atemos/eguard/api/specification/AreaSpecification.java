@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.dto.AreaDto;
 import atemos.eguard.api.entity.Area;
 import org.springframework.data.jpa.domain.Specification;
@@ -13,12 +14,15 @@ public class AreaSpecification {
      * 주어진 AreaDto.ReadAreaRequest를 기반으로 Area 엔티티에 대한 스펙을 생성합니다.
      *
      * @param readAreaRequest 구역 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 조건에 맞는 Area 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Area> findWith(AreaDto.ReadAreaRequest readAreaRequest) {
+    public static Specification<Area> findWith(AreaDto.ReadAreaRequest readAreaRequest, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 생성
             var predicate = criteriaBuilder.conjunction();
+            // 현재 근로자가 접근할 수 있는 공장의 구역으로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byFactory(criteriaBuilder, accessScope, root.get("factory").get("id")));
             // 구역 ID 리스트
             if (readAreaRequest.getAreaIds() != null && !readAreaRequest.getAreaIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("id").in(readAreaRequest.getAreaIds()));
@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.dto.LogDto;
 import atemos.eguard.api.entity.AuthenticationLog;
 import org.springframework.data.jpa.domain.Specification;
@@ -13,12 +14,15 @@ public class AuthenticationLogSpecification {
      * 주어진 LogDto.ReadAuthenticationLogRequest 객체를 기반으로 AuthenticationLog 엔티티에 대한 Specification을 생성합니다.
      *
      * @param readAuthenticationLogRequest 인증/인가 로그 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 주어진 조건에 맞는 AuthenticationLog 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<AuthenticationLog> findWith(LogDto.ReadAuthenticationLogRequest readAuthenticationLogRequest) {
+    public static Specification<AuthenticationLog> findWith(LogDto.ReadAuthenticationLogRequest readAuthenticationLogRequest, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 초기화
             var predicate = criteriaBuilder.conjunction();
+            // 현재 근로자가 접근할 수 있는 업체의 로그로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byCompany(criteriaBuilder, accessScope, root.get("company").get("id")));
             // AuthenticationLog ID
             if (readAuthenticationLogRequest.getAuthenticationLogIds() != null && !readAuthenticationLogRequest.getAuthenticationLogIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("id").in(readAuthenticationLogRequest.getAuthenticationLogIds()));
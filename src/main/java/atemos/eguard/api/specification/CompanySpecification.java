@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.entity.Company;
 import atemos.eguard.api.dto.CompanyDto;
 import org.springframework.data.jpa.domain.Specification;
@@ -13,12 +14,15 @@ public class CompanySpecification {
      * 주어진 CompanyDto.ReadCompanyRequest를 기반으로 Company 엔티티에 대한 스펙을 생성합니다.
      *
      * @param readCompanyRequest 업체 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 조건에 맞는 Company 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Company> findWith(CompanyDto.ReadCompanyRequest readCompanyRequest) {
+    public static Specification<Company> findWith(CompanyDto.ReadCompanyRequest readCompanyRequest, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 생성
             var predicate = criteriaBuilder.conjunction();
+            // 현재 근로자가 접근할 수 있는 업체로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byCompany(criteriaBuilder, accessScope, root.get("id")));
             // 업체 ID
             if (readCompanyRequest.getCompanyIds() != null && !readCompanyRequest.getCompanyIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("id").in(readCompanyRequest.getCompanyIds()));
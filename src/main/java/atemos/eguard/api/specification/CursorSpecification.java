@@ -0,0 +1,79 @@
+package atemos.eguard.api.specification;
+
+import atemos.eguard.api.config.PageCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 방식 페이지 조회를 위한 조건과 조회 기능을 제공하는 클래스입니다.
+ * 오프셋 방식과 달리 앞의 행을 건너뛰지 않고 (시각, ID) 인덱스에서 커서 위치부터 읽으며, 전체 개수를 세지 않습니다.
+ * - 최신순(시각 내림차순, 같은 시각이면 ID 내림차순)으로 정렬합니다.
+ * - 다음 페이지 여부는 요청한 개수보다 한 행 더 조회하여 판단합니다.
+ */
+public class CursorSpecification {
+    // 커서 방식 조회 시 페이지 크기를 지정하지 않은 경우의 기본값
+    public static final int DEFAULT_SIZE = 20;
+
+    /**
+     * 커서 위치보다 앞선(더 오래된) 행만 조회하는 조건을 생성합니다.
+     *
+     * @param timeAttribute 정렬 기준 시각 속성 이름
+     * @param cursor 마지막으로 조회한 행의 커서
+     * @return 커서 이후의 행을 조회하기 위한 Specification 객체
+     */
+    public static <T> Specification<T> before(String timeAttribute, PageCursor cursor) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.<LocalDateTime>get(timeAttribute), cursor.time()),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get(timeAttribute), cursor.time()),
+                        criteriaBuilder.lessThan(root.<Long>get("id"), cursor.id())));
+    }
+
+    /**
+     * 커서 위치 이후의 한 페이지를 전체 개수 조회 없이 조회합니다.
+     *
+     * @param repository 조회할 엔티티의 리포지토리
+     * @param specification 조회 조건
+     * @param timeAttribute 정렬 기준 시각 속성 이름
+     * @param cursor 마지막으로 조회한 행의 커서 (빈 값이면 첫 페이지)
+     * @param size 페이지 크기 (null이면 DEFAULT_SIZE)
+     * @return 조회된 페이지 (다음 페이지 여부 포함)
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static <T> Slice<T> scroll(JpaSpecificationExecutor<T> repository, Specification<T> specification,
+                                      String timeAttribute, String cursor, Integer size) {
+        var pageSize = Optional.ofNullable(size).orElse(DEFAULT_SIZE);
+        var sort = Sort.by(Sort.Direction.DESC, timeAttribute, "id");
+        // 커서는 조회 전에 디코딩하여 형식 오류를 바로 반환
+        var seekSpecification = cursor.isEmpty()
+                ? specification
+                : specification.and(CursorSpecification.<T>before(timeAttribute, PageCursor.decode(cursor)));
+        var content = repository.findBy(seekSpecification, query -> query.sortBy(sort).limit(pageSize + 1).all());
+        var hasNext = content.size() > pageSize;
+        return new SliceImpl<>(hasNext ? content.subList(0, pageSize) : content, PageRequest.of(0, pageSize, sort), hasNext);
+    }
+
+    /**
+     * 다음 페이지를 조회하기 위한 커서를 생성합니다.
+     *
+     * @param slice 조회된 페이지
+     * @param time 행의 정렬 기준 시각을 반환하는 함수
+     * @param id 행의 ID를 반환하는 함수
+     * @return 다음 페이지 커서, 다음 페이지가 없으면 null
+     */
+    public static <T> String nextCursor(Slice<T> slice, Function<T, LocalDateTime> time, Function<T, Long> id) {
+        if (!slice.hasNext()) {
+            return null;
+        }
+        var last = slice.getContent().get(slice.getNumberOfElements() - 1);
+        return new PageCursor(time.apply(last), id.apply(last)).encode();
+    }
+}
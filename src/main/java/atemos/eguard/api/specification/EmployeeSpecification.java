@@ -1,11 +1,26 @@
 package atemos.eguard.api.specification;
 
-import atemos.eguard.api.config.EncryptUtil;
+import atemos.eguard.api.config.AccessScope;
+import atemos.eguard.api.config.EmployeeSearchIndex;
+import atemos.eguard.api.domain.EmployeeIncident;
+import atemos.eguard.api.domain.EmployeeSearchField;
 import atemos.eguard.api.dto.EmployeeDto;
 import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.EmployeeSearchToken;
+import atemos.eguard.api.entity.Event;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+
 /**
  * Employee 엔티티에 대한 동적 쿼리를 생성하는 스펙 클래스입니다.
  * 주어진 조건에 따라 다양한 필터링 옵션을 지원합니다.
@@ -16,13 +31,16 @@ public class EmployeeSpecification {
      * 주어진 EmployeeDto.ReadEmployeeRequest를 기반으로 Employee 엔티티에 대한 스펙을 생성합니다.
      *
      * @param readEmployeeRequestDto 근로자 조회 조건을 포함하는 데이터 전송 객체
-     * @param encryptUtil 암호화 유틸리티
+     * @param employeeSearchIndex 암호화된 이름, 이메일, 전화번호의 부분 일치 검색 토큰을 생성하는 컴포넌트
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 조건에 맞는 Employee 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Employee> findWith(EmployeeDto.ReadEmployeeRequest readEmployeeRequestDto, EncryptUtil encryptUtil) {
+    public static Specification<Employee> findWith(EmployeeDto.ReadEmployeeRequest readEmployeeRequestDto, EmployeeSearchIndex employeeSearchIndex, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 생성
             var predicate = criteriaBuilder.conjunction();
+            // 현재 근로자가 접근할 수 있는 공장의 근로자로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byFactory(criteriaBuilder, accessScope, root.get("factory").get("id")));
             // 근로자 ID
             if (readEmployeeRequestDto.getEmployeeIds() != null && !readEmployeeRequestDto.getEmployeeIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("id").in(readEmployeeRequestDto.getEmployeeIds()));
@@ -31,17 +49,20 @@ public class EmployeeSpecification {
             if (readEmployeeRequestDto.getFactoryIds() != null && !readEmployeeRequestDto.getFactoryIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("factory").get("id").in(readEmployeeRequestDto.getFactoryIds()));
             }
-            // 이름(암호화된 값으로 정확히 검색)
+            // 이름(n-gram 블라인드 인덱스로 부분 일치 검색)
             if (readEmployeeRequestDto.getEmployeeName() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get("name"), encryptUtil.encrypt(readEmployeeRequestDto.getEmployeeName())));
+                predicate = criteriaBuilder.and(predicate, containsTokens(root, query, criteriaBuilder,
+                        EmployeeSearchField.NAME, employeeSearchIndex.searchTokens(EmployeeSearchField.NAME, readEmployeeRequestDto.getEmployeeName())));
             }
-            // 이메일(암호화된 값으로 정확히 검색)
+            // 이메일(n-gram 블라인드 인덱스로 부분 일치 검색)
             if (readEmployeeRequestDto.getEmployeeEmail() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get("email"), encryptUtil.encrypt(readEmployeeRequestDto.getEmployeeEmail())));
+                predicate = criteriaBuilder.and(predicate, containsTokens(root, query, criteriaBuilder,
+                        EmployeeSearchField.EMAIL, employeeSearchIndex.searchTokens(EmployeeSearchField.EMAIL, readEmployeeRequestDto.getEmployeeEmail())));
             }
-            // 연락처(암호화된 값으로 정확히 검색)
+            // 연락처(n-gram 블라인드 인덱스로 부분 일치 검색)
             if (readEmployeeRequestDto.getEmployeePhoneNumber() != null) {
-                predicate = criteriaBuilder.and(predicate, criteriaBuilder.equal(root.get("phoneNumber"), encryptUtil.encrypt(readEmployeeRequestDto.getEmployeePhoneNumber())));
+                predicate = criteriaBuilder.and(predicate, containsTokens(root, query, criteriaBuilder,
+                        EmployeeSearchField.PHONE_NUMBER, employeeSearchIndex.searchTokens(EmployeeSearchField.PHONE_NUMBER, readEmployeeRequestDto.getEmployeePhoneNumber())));
             }
             // 권한
             if (readEmployeeRequestDto.getRoles() != null && !readEmployeeRequestDto.getRoles().isEmpty()) {
@@ -59,4 +80,95 @@ public class EmployeeSpecification {
             return predicate;
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * 해결되지 않은 가장 최근 사건의 건강 상태가 주어진 상태 중 하나인 근로자만 조회하는 스펙을 생성합니다.
+     * 미해결 사건이 없거나 가장 최근 미해결 사건에 근로자 사건 유형이 없는 근로자는 NORMAL로 판단합니다. (IncidentStateCache와 같은 기준)
+     * 캐시의 모든 근로자 ID를 조건으로 나열하지 않도록 EventRepository의 가장 최근 미해결 사건 조회와 같은 NOT EXISTS 서브쿼리로 판단하며,
+     * NORMAL이 포함되면 나머지 상태의 가장 최근 미해결 사건이 있는 근로자를 제외하고, 그렇지 않으면 주어진 상태의 가장 최근 미해결 사건이 있는 근로자로 제한합니다.
+     *
+     * @param healthStatuses 조회할 건강 상태 목록 (비어 있거나 null이면 조건을 추가하지 않습니다)
+     * @return 건강 상태 조건에 맞는 Employee 엔티티를 조회하기 위한 Specification 객체
+     */
+    public static Specification<Employee> withHealthStatuses(Collection<EmployeeIncident> healthStatuses) {
+        return (root, query, criteriaBuilder) -> {
+            if (healthStatuses == null || healthStatuses.isEmpty()) {
+                return criteriaBuilder.conjunction();
+            }
+            if (!healthStatuses.contains(EmployeeIncident.NORMAL)) {
+                return latestUnresolvedIncidentIn(root, query, criteriaBuilder, healthStatuses);
+            }
+            var excludedStatuses = EnumSet.complementOf(EnumSet.copyOf(healthStatuses));
+            return excludedStatuses.isEmpty()
+                    ? criteriaBuilder.conjunction()
+                    : criteriaBuilder.not(latestUnresolvedIncidentIn(root, query, criteriaBuilder, excludedStatuses));
+        };
+    }
+
+    /**
+     * 근로자의 해결되지 않은 가장 최근 사건(생성일시가 같으면 ID가 큰 사건)의 근로자 사건 유형이 주어진 유형 중 하나인지 확인하는 조건을 생성합니다.
+     * (employee_id, resolved, created_at) 인덱스를 사용합니다.
+     *
+     * @param root Employee 루트
+     * @param query 상위 쿼리
+     * @param criteriaBuilder CriteriaBuilder
+     * @param employeeIncidents 확인할 근로자 사건 유형 목록
+     * @return 검색 조건
+     */
+    private static Predicate latestUnresolvedIncidentIn(Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder,
+                                                        Collection<EmployeeIncident> employeeIncidents) {
+        var latest = query.subquery(Long.class);
+        var event = latest.from(Event.class);
+        var newer = latest.subquery(Long.class);
+        var newerEvent = newer.from(Event.class);
+        newer.select(newerEvent.<Long>get("id"))
+                .where(criteriaBuilder.equal(newerEvent.get("employee").get("id"), event.get("employee").get("id")),
+                        criteriaBuilder.isFalse(newerEvent.<Boolean>get("resolved")),
+                        criteriaBuilder.or(
+                                criteriaBuilder.greaterThan(newerEvent.<LocalDateTime>get("createdAt"), event.<LocalDateTime>get("createdAt")),
+                                criteriaBuilder.and(
+                                        criteriaBuilder.equal(newerEvent.get("createdAt"), event.get("createdAt")),
+                                        criteriaBuilder.greaterThan(newerEvent.<Long>get("id"), event.<Long>get("id")))));
+        latest.select(event.<Long>get("id"))
+                .where(criteriaBuilder.equal(event.get("employee").get("id"), root.get("id")),
+                        criteriaBuilder.isFalse(event.<Boolean>get("resolved")),
+                        event.get("employeeIncident").in(employeeIncidents),
+                        criteriaBuilder.not(criteriaBuilder.exists(newer)));
+        return criteriaBuilder.exists(latest);
+    }
+
+    /**
+     * 주어진 필드의 검색 토큰이 검색어 안에서와 같은 위치 차이로 모두 저장된 근로자만 조회하는 조건을 생성합니다.
+     * 첫 번째 토큰의 행을 기준으로 나머지 토큰마다 같은 근로자, 같은 필드, 시작 위치 + offset인 행을 찾으며,
+     * 모든 조회가 employee_search_token 테이블의 (field, token, employee_id, start_index) 인덱스만으로 처리됩니다.
+     *
+     * @param root Employee 루트
+     * @param query 상위 쿼리
+     * @param criteriaBuilder CriteriaBuilder
+     * @param field 검색할 필드
+     * @param tokens 검색어에서 생성한 토큰 목록 (비어 있으면 조건을 추가하지 않습니다)
+     * @return 검색 조건
+     */
+    private static Predicate containsTokens(Root<Employee> root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder,
+                                            EmployeeSearchField field, List<EmployeeSearchIndex.SearchToken> tokens) {
+        if (tokens.isEmpty()) {
+            return criteriaBuilder.conjunction();
+        }
+        var subquery = query.subquery(Long.class);
+        var first = subquery.from(EmployeeSearchToken.class);
+        var predicates = new ArrayList<Predicate>();
+        predicates.add(criteriaBuilder.equal(first.get("employee").get("id"), root.get("id")));
+        predicates.add(criteriaBuilder.equal(first.get("field"), field));
+        predicates.add(criteriaBuilder.equal(first.get("token"), tokens.getFirst().token()));
+        for (var searchToken : tokens.subList(1, tokens.size())) {
+            var next = subquery.from(EmployeeSearchToken.class);
+            predicates.add(criteriaBuilder.equal(next.get("field"), field));
+            predicates.add(criteriaBuilder.equal(next.get("token"), searchToken.token()));
+            predicates.add(criteriaBuilder.equal(next.get("employee").get("id"), first.get("employee").get("id")));
+            predicates.add(criteriaBuilder.equal(next.get("startIndex"),
+                    criteriaBuilder.sum(first.<Integer>get("startIndex"), searchToken.offset())));
+        }
+        subquery.select(first.<Long>get("id")).where(predicates.toArray(Predicate[]::new));
+        return criteriaBuilder.exists(subquery);
+    }
+}
@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.dto.EventDto;
 import atemos.eguard.api.entity.Event;
 import jakarta.persistence.criteria.JoinType;
@@ -17,15 +18,24 @@ public class EventSpecification {
      * 주어진 EventDto.ReadEventRequest를 기반으로 Event 엔티티에 대한 스펙을 생성합니다.
      *
      * @param readEventRequest 사건 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 조건에 맞는 Event 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Event> findWith(EventDto.ReadEventRequest readEventRequest) {
+    public static Specification<Event> findWith(EventDto.ReadEventRequest readEventRequest, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 생성
             var predicate = criteriaBuilder.conjunction();
             // Employee 엔티티와 Area 엔티티를 LEFT JOIN
             var employeeJoin = root.join("employee", JoinType.LEFT);
             var areaJoin = root.join("area", JoinType.LEFT);
+            // 현재 근로자가 접근할 수 있는 공장의 사건으로 제한 (구역이 있으면 구역의 공장, 없으면 근로자의 공장 기준)
+            predicate = criteriaBuilder.and(predicate, criteriaBuilder.or(
+                    TenantSpecification.byFactory(criteriaBuilder, accessScope, areaJoin.get("factory").get("id")),
+                    criteriaBuilder.and(
+                            criteriaBuilder.isNull(areaJoin.get("id")),
+                            TenantSpecification.byFactory(criteriaBuilder, accessScope, employeeJoin.get("factory").get("id"))
+                    )
+            ));
             // 공장 ID 리스트에 포함된 ID
             if (readEventRequest.getFactoryIds() != null && !readEventRequest.getFactoryIds().isEmpty()) {
                 var factoryPredicate = criteriaBuilder.disjunction();
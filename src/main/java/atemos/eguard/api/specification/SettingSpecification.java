@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.config.EncryptUtil;
 import atemos.eguard.api.dto.SettingDto;
 import atemos.eguard.api.entity.Setting;
@@ -15,19 +16,22 @@ public class SettingSpecification {
      * 주어진 SettingDto.ReadSettingRequest를 기반으로 Setting 엔티티에 대한 스펙을 생성합니다.
      *
      * @param readSettingRequestDto 시스템 설정 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 조건에 맞는 Setting 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Setting> findWith(SettingDto.ReadSettingRequest readSettingRequestDto, EncryptUtil encryptUtil) {
+    public static Specification<Setting> findWith(SettingDto.ReadSettingRequest readSettingRequestDto, EncryptUtil encryptUtil, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 생성
             var predicate=criteriaBuilder.conjunction();
+            // 현재 근로자가 접근할 수 있는 업체의 시스템 설정으로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byCompany(criteriaBuilder, accessScope, root.get("company").get("id")));
             // Company, Factory, Employee 엔티티를 LEFT JOIN
             var companyJoin = root.join("company", JoinType.LEFT);
             var factoryJoin = companyJoin.join("factories", JoinType.LEFT);
             var employeeJoin = factoryJoin.join("employees", JoinType.LEFT);
             // 근로자 이메일
             if (readSettingRequestDto.getEmployeeEmail() != null && !readSettingRequestDto.getEmployeeEmail().isEmpty()) {
-                var employeePredicate = criteriaBuilder.equal(employeeJoin.get("email"), encryptUtil.encrypt(readSettingRequestDto.getEmployeeEmail()));
+                var employeePredicate = criteriaBuilder.equal(employeeJoin.get("emailIndex"), encryptUtil.blindIndex(readSettingRequestDto.getEmployeeEmail()));
                 predicate = criteriaBuilder.and(predicate, employeePredicate);
             }
             // 시스템 설정 ID
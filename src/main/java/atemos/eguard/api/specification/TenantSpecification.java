@@ -0,0 +1,52 @@
+package atemos.eguard.api.specification;
+
+import atemos.eguard.api.config.AccessScope;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.Set;
+
+/**
+ * 조회 결과를 현재 근로자가 접근할 수 있는 공장 또는 업체의 데이터로 제한하는 조건을 생성하는 클래스입니다.
+ * 각 스펙 클래스의 findWith에서 공장 ID 또는 업체 ID 경로와 함께 사용하여 권한 검증을 SQL 조건으로 처리합니다.
+ * - AccessScope가 null(인증 전 조회, 시스템 내부 조회)이거나 ADMIN이면 조건을 추가하지 않습니다.
+ */
+public class TenantSpecification {
+    /**
+     * 주어진 공장 ID 경로가 현재 근로자가 접근할 수 있는 공장인 행만 조회하는 조건을 생성합니다.
+     *
+     * @param criteriaBuilder CriteriaBuilder
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 제한 없음)
+     * @param factoryId 공장 ID 경로
+     * @return 공장 접근 조건
+     */
+    public static Predicate byFactory(CriteriaBuilder criteriaBuilder, AccessScope accessScope, Expression<?> factoryId) {
+        return accessScope == null ? criteriaBuilder.conjunction() : in(criteriaBuilder, factoryId, accessScope.getPermittedFactoryIds());
+    }
+
+    /**
+     * 주어진 업체 ID 경로가 현재 근로자가 접근할 수 있는 업체인 행만 조회하는 조건을 생성합니다.
+     *
+     * @param criteriaBuilder CriteriaBuilder
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 제한 없음)
+     * @param companyId 업체 ID 경로
+     * @return 업체 접근 조건
+     */
+    public static Predicate byCompany(CriteriaBuilder criteriaBuilder, AccessScope accessScope, Expression<?> companyId) {
+        return accessScope == null ? criteriaBuilder.conjunction() : in(criteriaBuilder, companyId, accessScope.getPermittedCompanyIds());
+    }
+
+    /**
+     * 허용된 ID 목록에 대한 IN 조건을 생성합니다. 목록이 null이면 제한이 없고, 비어 있으면 어떤 행도 조회하지 않습니다.
+     */
+    private static Predicate in(CriteriaBuilder criteriaBuilder, Expression<?> id, Set<Long> permittedIds) {
+        if (permittedIds == null) {
+            return criteriaBuilder.conjunction();
+        }
+        if (permittedIds.isEmpty()) {
+            return criteriaBuilder.disjunction();
+        }
+        return id.in(permittedIds);
+    }
+}
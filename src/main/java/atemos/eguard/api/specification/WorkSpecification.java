@@ -1,5 +1,6 @@
 package atemos.eguard.api.specification;
 
+import atemos.eguard.api.config.AccessScope;
 import atemos.eguard.api.dto.WorkDto;
 import atemos.eguard.api.entity.Work;
 import jakarta.persistence.criteria.JoinType;
@@ -14,12 +15,15 @@ public class WorkSpecification {
      * 주어진 WorkDto.ReadWorkRequest를 기반으로 Work 엔티티에 대한 스펙을 생성합니다.
      *
      * @param readWorkRequest 작업 조회 조건을 포함하는 데이터 전송 객체
+     * @param accessScope 현재 근로자의 접근 범위 (null이면 권한에 따른 제한 없이 조회)
      * @return 조건에 맞는 Work 엔티티를 조회하기 위한 Specification 객체
      */
-    public static Specification<Work> findWith(WorkDto.ReadWorkRequest readWorkRequest) {
+    public static Specification<Work> findWith(WorkDto.ReadWorkRequest readWorkRequest, AccessScope accessScope) {
         return (root, query, criteriaBuilder) -> {
             // 기본 조건 생성
             var predicate = criteriaBuilder.conjunction();
+            // 현재 근로자가 접근할 수 있는 공장의 구역에 할당된 작업으로 제한
+            predicate = criteriaBuilder.and(predicate, TenantSpecification.byFactory(criteriaBuilder, accessScope, root.get("area").get("factory").get("id")));
             // 작업 ID 목록 필터링
             if (readWorkRequest.getWorkIds() != null && !readWorkRequest.getWorkIds().isEmpty()) {
                 predicate = criteriaBuilder.and(predicate, root.get("id").in(readWorkRequest.getWorkIds()));
@@ -0,0 +1,27 @@
+package atemos.eguard.api;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * H2(MySQL 모드) 인메모리 데이터베이스에 엔티티 스키마를 생성하여 실행하는 JPA 슬라이스 테스트 어노테이션입니다.
+ * test 프로필을 활성화하여 src/test/resources/application-test.yml의 데이터소스 설정을 사용합니다.
+ * (application.yml의 spring.profiles.active는 환경 변수를 사용하므로 테스트 속성으로 덮어씁니다)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.profiles.active=test")
+public @interface H2DataJpaTest {
+}
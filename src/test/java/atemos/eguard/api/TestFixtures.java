@@ -0,0 +1,88 @@
+package atemos.eguard.api;
+
+import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.domain.IndustryType;
+import atemos.eguard.api.entity.Area;
+import atemos.eguard.api.entity.Company;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Factory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * JPA 슬라이스 테스트에서 공통으로 사용하는 업체, 공장, 구역, 근로자 데이터를 생성하는 클래스입니다.
+ */
+public final class TestFixtures {
+
+	private TestFixtures() {
+	}
+
+	/**
+	 * 테스트 업체와 그 업체의 공장을 등록합니다.
+	 *
+	 * @param testEntityManager 등록에 사용할 TestEntityManager (트랜잭션 안에서 호출해야 합니다)
+	 * @return 등록된 공장
+	 */
+	public static Factory persistFactory(TestEntityManager testEntityManager) {
+		var company = testEntityManager.persist(Company.builder()
+				.businessNumber("1234567890")
+				.name("업체")
+				.email("company@eguard.test")
+				.phoneNumber("01000000000")
+				.address("주소")
+				.addressDetail("상세 주소")
+				.build());
+		return testEntityManager.persist(Factory.builder()
+				.company(company)
+				.name("공장")
+				.address("주소")
+				.addressDetail("상세 주소")
+				.industryType(IndustryType.MANUFACTURING)
+				.build());
+	}
+
+	/**
+	 * 공장의 테스트 구역을 생성합니다. 이름과 위치는 번호로 구분합니다.
+	 *
+	 * @param factory 구역이 속한 공장
+	 * @param number 구역 번호
+	 * @return 등록되지 않은 구역
+	 */
+	public static Area area(Factory factory, int number) {
+		return Area.builder()
+				.factory(factory)
+				.name("구역" + number)
+				.location("위치" + number)
+				.build();
+	}
+
+	/**
+	 * 공장의 테스트 근로자(WORKER) 빌더를 생성합니다. 이름, 이메일, 연락처, 사원번호는 번호로 구분하며 필요하면 빌더에서 바꿉니다.
+	 *
+	 * @param factory 근로자가 속한 공장
+	 * @param number 근로자 번호
+	 * @return 값이 채워진 근로자 빌더
+	 */
+	public static Employee.EmployeeBuilder employee(Factory factory, int number) {
+		return Employee.builder()
+				.factory(factory)
+				.name("근로자" + number)
+				.email("employee" + number + "@eguard.test")
+				.phoneNumber("0101234000" + number)
+				.password("password")
+				.role(EmployeeRole.WORKER)
+				.employeeNumber("E" + number);
+	}
+
+	/**
+	 * 테스트 트랜잭션 없이 실행한 테스트가 커밋한 데이터를 주어진 테이블 순서대로 삭제합니다. (외래 키를 참조하는 테이블을 먼저 지정)
+	 *
+	 * @param jdbcTemplate 삭제에 사용할 JdbcTemplate
+	 * @param tables 삭제할 테이블 목록
+	 */
+	public static void deleteAll(JdbcTemplate jdbcTemplate, String... tables) {
+		for (var table : tables) {
+			jdbcTemplate.update("DELETE FROM " + table);
+		}
+	}
+}
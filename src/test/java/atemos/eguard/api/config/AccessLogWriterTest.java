@@ -0,0 +1,152 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.AllowedHttpMethod;
+import atemos.eguard.api.entity.ApiCallLog;
+import atemos.eguard.api.entity.AuthenticationLog;
+import atemos.eguard.api.repository.ApiCallLogRepository;
+import atemos.eguard.api.repository.AuthenticationLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * AccessLogWriter가 로그를 BATCH_SIZE 이하의 배치로 나누어 종류별로 저장하고,
+ * 종료 시 남은 로그를 모두 저장하며, 버퍼가 가득 차면 새 로그를 버리고 버린 개수를 지표로 제공하는지 확인하는 테스트입니다.
+ */
+class AccessLogWriterTest {
+	private static final int BATCH_SIZE = (int) ReflectionTestUtils.getField(AccessLogWriter.class, "BATCH_SIZE");
+	private static final int BUFFER_CAPACITY = (int) ReflectionTestUtils.getField(AccessLogWriter.class, "BUFFER_CAPACITY");
+	// 저장 스레드가 배치를 처리하기를 기다리는 최대 시간
+	private static final Duration FLUSH_WAIT = Duration.ofSeconds(5);
+
+	private final ApiCallLogRepository apiCallLogRepository = mock(ApiCallLogRepository.class);
+	private final AuthenticationLogRepository authenticationLogRepository = mock(AuthenticationLogRepository.class);
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	// 저장 요청된 API 호출 로그 배치 크기 (저장 스레드에서 기록)
+	private final List<Integer> apiCallLogBatchSizes = Collections.synchronizedList(new ArrayList<>());
+	// 첫 번째 저장 요청이 시작되었음을 알리는 신호
+	private final CountDownLatch firstInsertStarted = new CountDownLatch(1);
+	// 첫 번째 저장 요청을 끝내도록 허용하는 신호
+	private final CountDownLatch firstInsertReleased = new CountDownLatch(1);
+	private AccessLogWriter accessLogWriter;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		doAnswer(invocation -> {
+			apiCallLogBatchSizes.add(invocation.<List<ApiCallLog>>getArgument(0).size());
+			firstInsertStarted.countDown();
+			firstInsertReleased.await(10, TimeUnit.SECONDS);
+			return null;
+		}).when(apiCallLogRepository).insertAll(anyList());
+		ObjectProvider<MeterRegistry> meterRegistryProvider = mock(ObjectProvider.class);
+		when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+		accessLogWriter = new AccessLogWriter(apiCallLogRepository, authenticationLogRepository, meterRegistryProvider);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		firstInsertReleased.countDown();
+		accessLogWriter.shutdown();
+	}
+
+	@Test
+	void logsAreWrittenInBatchesNoLargerThanBatchSize() throws InterruptedException {
+		// 한 배치가 쌓이면 주기를 기다리지 않고 바로 저장을 시작
+		enqueueApiCallLogs(BATCH_SIZE);
+		assertThat(firstInsertStarted.await(FLUSH_WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+		// 첫 번째 배치를 저장하는 동안 두 배치 이상 쌓은 뒤 저장을 재개
+		enqueueApiCallLogs(BATCH_SIZE * 2 + 1);
+		accessLogWriter.enqueue(AuthenticationLog.builder().build());
+		firstInsertReleased.countDown();
+
+		await().atMost(FLUSH_WAIT).until(() -> accessLogWriter.getStatistics().written() == BATCH_SIZE * 3 + 2);
+		assertThat(apiCallLogBatchSizes).allSatisfy(size -> assertThat(size).isBetween(1, BATCH_SIZE));
+		assertThat(apiCallLogBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(BATCH_SIZE * 3 + 1);
+		assertThat(apiCallLogBatchSizes).contains(BATCH_SIZE);
+		verify(authenticationLogRepository).insertAll(anyList());
+	}
+
+	@Test
+	void remainingLogsAreWrittenOnShutdown() throws InterruptedException {
+		firstInsertReleased.countDown();
+		enqueueApiCallLogs(10);
+
+		accessLogWriter.shutdown();
+
+		var statistics = accessLogWriter.getStatistics();
+		assertThat(statistics.written()).isEqualTo(10);
+		assertThat(statistics.pending()).isZero();
+		assertThat(apiCallLogBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+	}
+
+	@Test
+	void logsBeyondBufferCapacityAreDroppedAndCounted() throws InterruptedException {
+		// 첫 번째 배치를 저장하는 동안 버퍼를 가득 채움
+		enqueueApiCallLogs(BATCH_SIZE);
+		assertThat(firstInsertStarted.await(FLUSH_WAIT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+		// 저장 주기가 먼저 돌아와 일부만 꺼내 간 경우에도 남은 공간보다 5개 더 추가
+		enqueueApiCallLogs(BUFFER_CAPACITY - accessLogWriter.getStatistics().pending() + 5);
+
+		var statistics = accessLogWriter.getStatistics();
+		assertThat(statistics.dropped()).isEqualTo(5);
+		assertThat(statistics.pending()).isEqualTo(BUFFER_CAPACITY);
+		assertThat(meterRegistry.get("access.log.writer.logs").tag("result", "dropped").functionCounter().count()).isEqualTo(5);
+		assertThat(meterRegistry.get("access.log.writer.pending").gauge().value()).isEqualTo(BUFFER_CAPACITY);
+
+		firstInsertReleased.countDown();
+		accessLogWriter.shutdown();
+
+		assertThat(accessLogWriter.getStatistics().written()).isEqualTo(statistics.enqueued());
+		assertThat(accessLogWriter.getStatistics().pending()).isZero();
+	}
+
+	@Test
+	void failedBatchIsCountedAndLaterLogsAreStillWritten() throws InterruptedException {
+		firstInsertReleased.countDown();
+		doThrow(new IllegalStateException("저장 실패")).when(authenticationLogRepository).insertAll(anyList());
+		accessLogWriter.enqueue(AuthenticationLog.builder().build());
+		enqueueApiCallLogs(3);
+
+		accessLogWriter.shutdown();
+
+		var statistics = accessLogWriter.getStatistics();
+		assertThat(statistics.failed()).isEqualTo(1);
+		assertThat(statistics.written()).isEqualTo(3);
+	}
+
+	/**
+	 * API 호출 로그를 주어진 개수만큼 버퍼에 추가합니다.
+	 */
+	private void enqueueApiCallLogs(int count) {
+		for (int i = 0; i < count; i++) {
+			accessLogWriter.enqueue(ApiCallLog.builder()
+					.requestUri("/eguard/event")
+					.httpMethod(AllowedHttpMethod.GET)
+					.clientIp("127.0.0.1")
+					.statusCode(200)
+					.build());
+		}
+	}
+}
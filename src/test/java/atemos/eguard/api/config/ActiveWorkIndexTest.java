@@ -0,0 +1,160 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.H2DataJpaTest;
+import atemos.eguard.api.TestFixtures;
+import atemos.eguard.api.domain.WorkStatus;
+import atemos.eguard.api.entity.Area;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Work;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ActiveWorkIndex가 여러 진행 중인 작업에 투입된 근로자를 찾아내고, 이미 다른 작업에 기록된 근로자의 투입을 거부하며,
+ * 다시 적재하는 동안 커밋된 변경을 적재한 값으로 되돌리지 않는지 확인하는 테스트입니다.
+ * 커밋 이후에 메모리에 반영되는 동작을 확인하기 위해 테스트 트랜잭션 없이 실행하고, 테스트가 끝나면 데이터를 직접 삭제합니다.
+ */
+@H2DataJpaTest
+@Import({IdAllocator.class, ActiveWorkIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ActiveWorkIndexTest {
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private ActiveWorkIndex activeWorkIndex;
+
+	private TransactionTemplate transactionTemplate;
+	private Area area;
+	private Employee first;
+	private Employee second;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			var factory = TestFixtures.persistFactory(testEntityManager);
+			area = testEntityManager.persist(TestFixtures.area(factory, 1));
+			first = testEntityManager.persist(TestFixtures.employee(factory, 1).build());
+			second = testEntityManager.persist(TestFixtures.employee(factory, 2).build());
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		TestFixtures.deleteAll(jdbcTemplate, "active_work_assignment", "work_employee", "work", "employee", "area", "factory", "company");
+		activeWorkIndex.reload();
+	}
+
+	@Test
+	void synchronizeRecordsSmallestWorkAndReportsEmployeesOnSeveralActiveWorks() {
+		var smaller = work(WorkStatus.IN_PROGRESS, first, second);
+		var larger = work(WorkStatus.IN_PROGRESS, first);
+		work(WorkStatus.PENDING, second);
+
+		activeWorkIndex.synchronize();
+
+		assertThat(activeWorkIndex.findMultipleActiveWorks())
+				.containsExactly(Map.entry(first.getId(), List.of(smaller.getId(), larger.getId())));
+		assertThat(assignments()).containsExactlyInAnyOrderEntriesOf(Map.of(first.getId(), smaller.getId(), second.getId(), smaller.getId()));
+		assertThat(activeWorkIndex.findConflicts(List.of(first.getId(), second.getId()), larger.getId()))
+				.containsExactlyInAnyOrderEntriesOf(Map.of(first.getId(), smaller.getId(), second.getId(), smaller.getId()));
+		assertThat(activeWorkIndex.findConflicts(List.of(first.getId(), second.getId()), smaller.getId())).isEmpty();
+	}
+
+	@Test
+	void assignRejectsEmployeeAlreadyRecordedOnAnotherWork() {
+		var recorded = work(WorkStatus.IN_PROGRESS, first);
+		activeWorkIndex.assign(recorded);
+		var duplicated = work(WorkStatus.IN_PROGRESS, second, first);
+
+		assertThatThrownBy(() -> activeWorkIndex.assign(duplicated))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasCauseInstanceOf(DuplicateKeyException.class);
+		assertThat(activeWorkIndex.findConflicts(List.of(first.getId()), duplicated.getId()))
+				.containsExactly(Map.entry(first.getId(), recorded.getId()));
+
+		activeWorkIndex.release(recorded.getId());
+		jdbcTemplate.update("DELETE FROM active_work_assignment WHERE work_id = ?", duplicated.getId());
+		activeWorkIndex.assign(duplicated);
+
+		assertThat(assignments()).containsExactlyInAnyOrderEntriesOf(Map.of(first.getId(), duplicated.getId(), second.getId(), duplicated.getId()));
+		assertThat(activeWorkIndex.findConflicts(List.of(first.getId(), second.getId()), recorded.getId()))
+				.containsExactlyInAnyOrderEntriesOf(Map.of(first.getId(), duplicated.getId(), second.getId(), duplicated.getId()));
+	}
+
+	@Test
+	void reloadKeepsAssignmentsCommittedWhileLoading() throws Exception {
+		var mockJdbcTemplate = mock(JdbcTemplate.class);
+		var index = new ActiveWorkIndex(mockJdbcTemplate);
+		var work = Work.builder().id(20L).status(WorkStatus.IN_PROGRESS).employees(List.of(first)).build();
+		var staleRow = mock(ResultSet.class);
+		when(staleRow.getLong("employee_id")).thenReturn(first.getId());
+		when(staleRow.getLong("work_id")).thenReturn(10L);
+		// 테이블을 읽은 뒤 맵을 교체하기 전에 이 인스턴스에서 작업이 커밋된 상황
+		doAnswer(invocation -> {
+			invocation.getArgument(1, RowCallbackHandler.class).processRow(staleRow);
+			index.assign(work);
+			return null;
+		}).when(mockJdbcTemplate).query(eq("SELECT employee_id, work_id FROM active_work_assignment"), any(RowCallbackHandler.class));
+
+		index.reload();
+
+		@SuppressWarnings("unchecked")
+		var activeWorks = (Map<Long, Long>) ReflectionTestUtils.getField(index, "activeWorks");
+		assertThat(activeWorks).containsExactly(Map.entry(first.getId(), 20L));
+	}
+
+	/**
+	 * 주어진 상태와 근로자로 작업을 등록합니다. (ActiveWorkIndex를 거치지 않음)
+	 */
+	private Work work(WorkStatus status, Employee... employees) {
+		return transactionTemplate.execute(transaction -> testEntityManager.persist(Work.builder()
+				.area(testEntityManager.getEntityManager().getReference(Area.class, area.getId()))
+				.name("작업")
+				.status(status)
+				.employees(List.of(employees))
+				.build()));
+	}
+
+	/**
+	 * active_work_assignment 테이블의 근로자 ID별 작업 ID를 조회합니다.
+	 */
+	private Map<Long, Long> assignments() {
+		var assignments = new HashMap<Long, Long>();
+		jdbcTemplate.query("SELECT employee_id, work_id FROM active_work_assignment",
+				rs -> {
+					assignments.put(rs.getLong("employee_id"), rs.getLong("work_id"));
+				});
+		return assignments;
+	}
+}
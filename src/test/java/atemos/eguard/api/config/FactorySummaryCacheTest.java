@@ -0,0 +1,172 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.dto.FactoryDto;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Factory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FactorySummaryCache가 보관 시간 동안 집계를 다시 실행하지 않고, 사건/작업/근로자 변경 시 관련 공장의 요약 정보만 제거하며,
+ * 트랜잭션 중에 다시 집계된 이전 요약 정보와 집계 중에 제거된 요약 정보를 다시 사용하지 않는지 확인하는 테스트입니다.
+ */
+class FactorySummaryCacheTest {
+	private static final Long FACTORY_ID = 1L;
+	private static final Long OTHER_FACTORY_ID = 2L;
+
+	private final FactorySummaryCache factorySummaryCache = new FactorySummaryCache();
+	// get(factoryId, role)로 실행된 집계 함수의 호출 횟수
+	private final AtomicInteger loadCount = new AtomicInteger();
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void summaryIsLoadedOncePerFactoryAndRole() {
+		var first = get(FACTORY_ID, EmployeeRole.ADMIN);
+		var second = get(FACTORY_ID, EmployeeRole.ADMIN);
+		get(FACTORY_ID, EmployeeRole.MANAGER);
+
+		assertThat(second).isSameAs(first);
+		assertThat(loadCount).hasValue(2);
+	}
+
+	@Test
+	void evictRemovesOnlySummariesOfGivenFactories() {
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		get(FACTORY_ID, EmployeeRole.MANAGER);
+		var other = get(OTHER_FACTORY_ID, EmployeeRole.ADMIN);
+
+		factorySummaryCache.evict(Arrays.asList(Factory.builder().id(FACTORY_ID).build(), null));
+
+		assertThat(get(OTHER_FACTORY_ID, EmployeeRole.ADMIN)).isSameAs(other);
+		assertThat(loadCount).hasValue(3);
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		get(FACTORY_ID, EmployeeRole.MANAGER);
+		assertThat(loadCount).hasValue(5);
+	}
+
+	@Test
+	void evictEmployeesRemovesSummariesOfTheirFactories() {
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		var other = get(OTHER_FACTORY_ID, EmployeeRole.ADMIN);
+
+		factorySummaryCache.evictEmployees(Arrays.asList(
+				Employee.builder().id(10L).factory(Factory.builder().id(FACTORY_ID).build()).build(), null));
+
+		assertThat(get(OTHER_FACTORY_ID, EmployeeRole.ADMIN)).isSameAs(other);
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		assertThat(loadCount).hasValue(3);
+	}
+
+	@Test
+	void clearRemovesAllSummaries() {
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		get(OTHER_FACTORY_ID, EmployeeRole.ADMIN);
+
+		factorySummaryCache.clear();
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		get(OTHER_FACTORY_ID, EmployeeRole.ADMIN);
+
+		assertThat(loadCount).hasValue(4);
+	}
+
+	@Test
+	void summaryReloadedBeforeTransactionEndsIsEvictedAgainAfterCompletion() {
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+		TransactionSynchronizationManager.initSynchronization();
+
+		factorySummaryCache.evict(List.of(Factory.builder().id(FACTORY_ID).build()));
+		// 커밋 전에 다른 요청이 이전 데이터로 다시 집계한 요약 정보
+		var reloadedBeforeCommit = get(FACTORY_ID, EmployeeRole.ADMIN);
+		assertThat(get(FACTORY_ID, EmployeeRole.ADMIN)).isSameAs(reloadedBeforeCommit);
+		completeTransaction();
+
+		assertThat(get(FACTORY_ID, EmployeeRole.ADMIN)).isNotSameAs(reloadedBeforeCommit);
+		assertThat(loadCount).hasValue(3);
+	}
+
+	@Test
+	void summaryEvictedWhileLoadingIsNotReused() throws Exception {
+		var loadStarted = new CountDownLatch(1);
+		var loadReleased = new CountDownLatch(1);
+		var loading = CompletableFuture.supplyAsync(() -> factorySummaryCache.get(FACTORY_ID, EmployeeRole.ADMIN, () -> {
+			loadStarted.countDown();
+			await(loadReleased);
+			return summary();
+		}));
+		assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+		factorySummaryCache.evict(List.of(Factory.builder().id(FACTORY_ID).build()));
+		loadReleased.countDown();
+		var loaded = loading.get(5, TimeUnit.SECONDS);
+
+		assertThat(get(FACTORY_ID, EmployeeRole.ADMIN)).isNotSameAs(loaded);
+		assertThat(loadCount).hasValue(1);
+	}
+
+	@Test
+	void failedLoadIsNotCached() {
+		assertThatThrownBy(() -> factorySummaryCache.get(FACTORY_ID, EmployeeRole.ADMIN, () -> {
+			throw new IllegalStateException("집계 실패");
+		})).isInstanceOf(IllegalStateException.class);
+
+		get(FACTORY_ID, EmployeeRole.ADMIN);
+
+		assertThat(loadCount).hasValue(1);
+	}
+
+	/**
+	 * 집계할 때마다 새 요약 정보를 만드는 집계 함수로 요약 정보를 조회합니다.
+	 */
+	private FactoryDto.FactorySummaryResponse get(Long factoryId, EmployeeRole role) {
+		return factorySummaryCache.get(factoryId, role, () -> {
+			loadCount.incrementAndGet();
+			return summary();
+		});
+	}
+
+	/**
+	 * 새 요약 정보 객체를 생성합니다. (같은 객체인지로 다시 집계되었는지 확인)
+	 */
+	private static FactoryDto.FactorySummaryResponse summary() {
+		return FactoryDto.FactorySummaryResponse.builder().factoryName("공장").build();
+	}
+
+	/**
+	 * 등록된 트랜잭션 동기화 콜백을 커밋 완료로 실행하고 동기화를 종료합니다.
+	 */
+	private static void completeTransaction() {
+		var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+
+	/**
+	 * 집계 함수 안에서 테스트가 허용할 때까지 기다립니다.
+	 */
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.domain.AuthenticationStatus;
+import atemos.eguard.api.domain.EmployeeRole;
+import atemos.eguard.api.dto.EmployeeDto;
+import atemos.eguard.api.entity.Company;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Factory;
+import atemos.eguard.api.service.AuthenticationServiceImpl;
+import atemos.eguard.api.service.EmployeeService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JwtRequestFilter가 토큰 세대(tokenEpoch)와 블랙리스트로 폐기된 토큰을 인증하지 않고,
+ * 클레임이 없는 토큰은 공장이 없는 근로자도 인증하는지 확인하는 테스트입니다.
+ */
+class JwtRequestFilterTest {
+	private static final String SECRET = "e-guard-test-secret-0123456789abcdef";
+	private static final Long EMPLOYEE_ID = 1L;
+	private static final String EMAIL = "worker@eguard.test";
+
+	private final TokenBlacklist tokenBlacklist = mock(TokenBlacklist.class);
+	private final EmployeeService employeeService = mock(EmployeeService.class);
+	private final AccountStatusCache accountStatusCache = mock(AccountStatusCache.class);
+	private JwtUtil jwtUtil;
+	private JwtRequestFilter jwtRequestFilter;
+
+	@BeforeEach
+	void setUp() {
+		jwtUtil = new JwtUtil(tokenBlacklist);
+		ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+		ReflectionTestUtils.setField(jwtUtil, "accessTokenExpiration", 600000L);
+		ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpiration", 600000L);
+		jwtUtil.initJwtUtil();
+		jwtRequestFilter = new JwtRequestFilter(jwtUtil, employeeService, mock(AuthenticationServiceImpl.class),
+				mock(EncryptUtil.class), accountStatusCache);
+		ReflectionTestUtils.setField(jwtRequestFilter, "activeProfile", "test");
+		when(accountStatusCache.getStatus(EMPLOYEE_ID)).thenReturn(AuthenticationStatus.ACTIVE);
+		var company = Company.builder().id(10L).build();
+		var factory = Factory.builder().id(20L).company(company).build();
+		when(employeeService.readEmployeeByEmail(EMAIL)).thenReturn(Employee.builder()
+				.id(EMPLOYEE_ID).role(EmployeeRole.WORKER).factory(factory).tokenEpoch(3L).build());
+	}
+
+	@AfterEach
+	void clearSecurityContext() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void tokenOfCurrentEpochIsAuthenticated() throws Exception {
+		when(accountStatusCache.getTokenEpoch(EMPLOYEE_ID)).thenReturn(3L);
+
+		filter(accessToken(3L));
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+		assertThat(((EmployeePrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getEmployeeId())
+				.isEqualTo(EMPLOYEE_ID);
+	}
+
+	@Test
+	void tokenOfOlderEpochIsRejected() throws Exception {
+		when(accountStatusCache.getTokenEpoch(EMPLOYEE_ID)).thenReturn(4L);
+
+		filter(accessToken(3L));
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	void tokenWithoutEpochClaimIsAcceptedOnlyUntilFirstRevocation() throws Exception {
+		var legacyToken = Jwts.builder()
+				.setSubject(EMAIL)
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+				.compact();
+
+		when(accountStatusCache.getTokenEpoch(EMPLOYEE_ID)).thenReturn(0L);
+		filter(legacyToken);
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+
+		SecurityContextHolder.clearContext();
+		when(accountStatusCache.getTokenEpoch(EMPLOYEE_ID)).thenReturn(1L);
+		filter(legacyToken);
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	@Test
+	void tokenWithoutClaimsOfEmployeeWithoutFactoryIsAuthenticated() throws Exception {
+		var legacyToken = Jwts.builder()
+				.setSubject(EMAIL)
+				.signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+				.compact();
+		when(employeeService.readEmployeeByEmail(EMAIL)).thenReturn(Employee.builder()
+				.id(EMPLOYEE_ID).role(EmployeeRole.WORKER).build());
+		when(accountStatusCache.getTokenEpoch(EMPLOYEE_ID)).thenReturn(0L);
+
+		filter(legacyToken);
+
+		var principal = (EmployeePrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		assertThat(principal.getEmployeeId()).isEqualTo(EMPLOYEE_ID);
+		assertThat(principal.getFactoryId()).isNull();
+		assertThat(principal.getCompanyId()).isNull();
+	}
+
+	@Test
+	void blacklistedTokenIsRejected() throws Exception {
+		var token = accessToken(3L);
+		when(accountStatusCache.getTokenEpoch(EMPLOYEE_ID)).thenReturn(3L);
+		when(tokenBlacklist.isBlacklisted(token)).thenReturn(true);
+
+		filter(token);
+
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+	}
+
+	/**
+	 * 주어진 토큰 세대로 Access Token을 생성합니다.
+	 */
+	private String accessToken(long tokenEpoch) {
+		return jwtUtil.generateAccessToken(EmployeeDto.ReadEmployeeResponse.builder()
+				.employeeId(EMPLOYEE_ID)
+				.employeeEmail(EMAIL)
+				.role(EmployeeRole.WORKER)
+				.factoryId(20L)
+				.companyId(10L)
+				.build(), tokenEpoch);
+	}
+
+	/**
+	 * Authorization 헤더에 토큰을 담은 요청으로 필터를 실행합니다.
+	 */
+	private void filter(String token) throws Exception {
+		var request = new MockHttpServletRequest("GET", "/eguard/employee");
+		request.setRequestURI("/eguard/employee");
+		request.addHeader("Authorization", "Bearer " + token);
+		jwtRequestFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+	}
+}
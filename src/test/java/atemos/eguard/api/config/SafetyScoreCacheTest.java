@@ -0,0 +1,143 @@
+package atemos.eguard.api.config;
+
+import atemos.eguard.api.H2DataJpaTest;
+import atemos.eguard.api.TestFixtures;
+import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.entity.Area;
+import atemos.eguard.api.entity.Event;
+import atemos.eguard.api.entity.Factory;
+import atemos.eguard.api.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SafetyScoreCache가 사건 등록/수정/삭제 커밋마다 증감한 구역 사건 수가 데이터베이스 집계 쿼리 결과와 같은지 확인하는 테스트입니다.
+ * 커밋 이후에 증감하는 동작을 확인하기 위해 테스트 트랜잭션 없이 실행하고, 사건 변경과 캐시 반영을 서비스와 같이 한 트랜잭션에서 처리합니다.
+ */
+@H2DataJpaTest
+@Import({IdAllocator.class, SafetyScoreCache.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SafetyScoreCacheTest {
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	@Autowired
+	private EventRepository eventRepository;
+	@Autowired
+	private SafetyScoreCache safetyScoreCache;
+
+	private TransactionTemplate transactionTemplate;
+	private Factory factory;
+	private Area firstArea;
+	private Area secondArea;
+
+	@BeforeEach
+	void setUp() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			factory = TestFixtures.persistFactory(testEntityManager);
+			firstArea = testEntityManager.persist(TestFixtures.area(factory, 1));
+			secondArea = testEntityManager.persist(TestFixtures.area(factory, 2));
+		});
+		safetyScoreCache.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TestFixtures.deleteAll(jdbcTemplate, "event", "area", "factory", "company");
+		safetyScoreCache.clear();
+	}
+
+	@Test
+	void incrementalCountsMatchAggregateQueryAfterChanges() {
+		// 캐시 적재 전에 등록된 사건은 적재 쿼리로 반영
+		create(firstArea, AreaIncident.FIRE);
+		var month = YearMonth.now();
+		assertThat(safetyScoreCache.getAreaCounts(factory.getId(), month))
+				.isEqualTo(safetyScoreCache.countAreaIncidents(factory.getId(), month));
+
+		// 적재 이후의 등록, 유형 변경, 구역 이동, 삭제는 커밋마다 증감
+		var alert = create(firstArea, AreaIncident.EQUIPMENT_FAILURE);
+		var warning = create(secondArea, AreaIncident.NOISE_ISSUE);
+		create(secondArea, AreaIncident.NORMAL);
+		update(alert, firstArea, AreaIncident.GAS_LEAK);
+		update(warning, firstArea, AreaIncident.NOISE_ISSUE);
+		var removed = create(secondArea, AreaIncident.AIR_QUALITY_ISSUE);
+		delete(removed);
+
+		var incremental = safetyScoreCache.getAreaCounts(factory.getId(), month);
+		var aggregated = safetyScoreCache.countAreaIncidents(factory.getId(), month);
+		assertThat(incremental).isEqualTo(aggregated);
+		assertThat(incremental.get(firstArea.getId())).isEqualTo(new SafetyScoreCache.IncidentCounts(2, 0, 1));
+		assertThat(incremental.get(firstArea.getId()).safetyScore()).isEqualTo(79);
+		assertThat(incremental.get(secondArea.getId())).isEqualTo(SafetyScoreCache.IncidentCounts.EMPTY);
+	}
+
+	@Test
+	void rolledBackChangeIsNotCounted() {
+		var month = YearMonth.now();
+		safetyScoreCache.getAreaCounts(factory.getId(), month);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			var event = eventRepository.save(Event.builder().area(firstArea).areaIncident(AreaIncident.FIRE).resolved(false).build());
+			safetyScoreCache.replace(null, SafetyScoreCache.CountedIncident.of(event));
+			status.setRollbackOnly();
+		});
+
+		assertThat(safetyScoreCache.getAreaCounts(factory.getId(), month)).isEmpty();
+		assertThat(safetyScoreCache.countAreaIncidents(factory.getId(), month)).isEmpty();
+	}
+
+	/**
+	 * 사건을 등록하고 같은 트랜잭션에서 캐시에 반영합니다. (EventServiceImpl.create와 같은 순서)
+	 */
+	private Long create(Area area, AreaIncident areaIncident) {
+		return transactionTemplate.execute(status -> {
+			var event = eventRepository.save(Event.builder().area(area).areaIncident(areaIncident).resolved(false).build());
+			safetyScoreCache.replace(null, SafetyScoreCache.CountedIncident.of(event));
+			return event.getId();
+		});
+	}
+
+	/**
+	 * 사건의 구역과 유형을 수정하고 같은 트랜잭션에서 수정 전후 값을 캐시에 반영합니다. (EventServiceImpl.update와 같은 순서)
+	 */
+	private void update(Long eventId, Area area, AreaIncident areaIncident) {
+		transactionTemplate.executeWithoutResult(status -> {
+			var event = eventRepository.findById(eventId).orElseThrow();
+			var previous = SafetyScoreCache.CountedIncident.of(event);
+			event.setArea(testEntityManager.getEntityManager().getReference(Area.class, area.getId()));
+			event.setAreaIncident(areaIncident);
+			var updated = eventRepository.saveAndFlush(event);
+			safetyScoreCache.replace(previous, SafetyScoreCache.CountedIncident.of(updated));
+		});
+	}
+
+	/**
+	 * 사건을 삭제하고 같은 트랜잭션에서 캐시에 반영합니다. (EventServiceImpl.delete와 같은 순서)
+	 */
+	private void delete(Long eventId) {
+		transactionTemplate.executeWithoutResult(status -> {
+			var event = eventRepository.findById(eventId).orElseThrow();
+			safetyScoreCache.replace(SafetyScoreCache.CountedIncident.of(event), null);
+			eventRepository.delete(event);
+		});
+	}
+}
@@ -0,0 +1,120 @@
+package atemos.eguard.api.repository;
+
+import atemos.eguard.api.H2DataJpaTest;
+import atemos.eguard.api.config.IdAllocator;
+import atemos.eguard.api.domain.AreaIncident;
+import atemos.eguard.api.domain.EmployeeIncident;
+import atemos.eguard.api.entity.Area;
+import atemos.eguard.api.entity.Employee;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사건, 알람의 주요 조회가 엔티티에 선언한 인덱스를 사용하는지 실행 계획(EXPLAIN)으로 확인하는 테스트입니다.
+ * H2(MySQL 모드)에 엔티티 스키마를 생성한 뒤 리포지토리 메서드를 실행하여 Hibernate가 생성한 SQL을 수집하고,
+ * 그 SQL의 실행 계획에 기대한 인덱스 이름이 나타나고 같은 컬럼으로 시작하는 다른 인덱스나 테이블 전체 스캔이 없는지 검사합니다.
+ */
+@H2DataJpaTest
+@Import(IdAllocator.class)
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=atemos.eguard.api.repository.QueryIndexTest$SqlCapture")
+class QueryIndexTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private EventRepository eventRepository;
+	@Autowired
+	private AlarmRepository alarmRepository;
+
+	/**
+	 * Hibernate가 실행하는 SQL을 수집하는 StatementInspector입니다.
+	 */
+	public static class SqlCapture implements StatementInspector {
+		private static final List<String> statements = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+	}
+
+	@BeforeEach
+	void clearStatements() {
+		SqlCapture.statements.clear();
+	}
+
+	@Test
+	void findLatestUnresolvedEventByAreaUsesAreaResolvedIndex() {
+		eventRepository.findTopByAreaAndResolvedOrderByCreatedAtDesc(testEntityManager.getEntityManager().getReference(Area.class, 1L), false);
+		assertUsesIndex("event", "idx_event_area_resolved_created_at", List.of("idx_event_area_created_at"), 1L, false);
+	}
+
+	@Test
+	void findLatestUnresolvedEventByEmployeeUsesEmployeeResolvedIndex() {
+		eventRepository.findTopByEmployeeAndResolvedOrderByCreatedAtDesc(testEntityManager.getEntityManager().getReference(Employee.class, 1L), false);
+		assertUsesIndex("event", "idx_event_employee_resolved_created_at", List.of(), 1L, false);
+	}
+
+	@Test
+	void countAreaIncidentsInPeriodUsesAreaCreatedAtIndex() {
+		var start = LocalDateTime.of(2026, 1, 1, 0, 0);
+		var end = start.plusMonths(1);
+		eventRepository.countAreaIncidents(1L, start, end);
+		assertUsesIndex("event", "idx_event_area_created_at", List.of("idx_event_area_resolved_created_at"), 1L, start, end);
+	}
+
+	@Test
+	void findPendingAlarmsByEventUsesUniqueConstraint() {
+		alarmRepository.findPendingAlarmsByEventId(1L, List.of(AreaIncident.NORMAL), List.of(EmployeeIncident.NORMAL, EmployeeIncident.ON_LEAVE));
+		assertUsesIndex("alarm", "uk_alarm_employee_event", List.of("idx_alarm_employee_created_at"),
+				AreaIncident.NORMAL.name(), EmployeeIncident.NORMAL.name(), EmployeeIncident.ON_LEAVE.name(), 1L);
+	}
+
+	@Test
+	void findAlarmsUpdatedAfterUsesUpdatedAtIndex() {
+		var since = LocalDateTime.of(2026, 1, 1, 0, 0);
+		alarmRepository.findByUpdatedAtAfterOrderByUpdatedAtAsc(since);
+		assertUsesIndex("alarm", "idx_alarm_updated_at_id", List.of("idx_alarm_created_at_id"), since);
+	}
+
+	/**
+	 * 마지막으로 실행된 조회 SQL의 실행 계획이 주어진 인덱스를 사용하고, 같은 테이블을 다른 인덱스나 전체 스캔으로 읽지 않는지 검사합니다.
+	 * 파라미터 수가 주어진 값보다 많으면 남는 파라미터는 행 수 제한(fetch first ? rows)이므로 1로 채웁니다.
+	 *
+	 * @param table 인덱스를 사용해야 하는 테이블 이름
+	 * @param indexName 사용되어야 하는 인덱스 이름
+	 * @param unexpectedIndexNames 사용되지 않아야 하는 인덱스 이름 목록 (같은 컬럼으로 시작하는 인덱스)
+	 * @param parameters 조회 SQL의 파라미터 값 (SQL에 나타나는 순서)
+	 */
+	private void assertUsesIndex(String table, String indexName, List<String> unexpectedIndexNames, Object... parameters) {
+		var sql = SqlCapture.statements.stream()
+				.filter(statement -> statement.toLowerCase().startsWith("select"))
+				.reduce((first, second) -> second)
+				.orElseThrow();
+		var parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+		assertThat(parameterCount).as(sql).isGreaterThanOrEqualTo(parameters.length);
+		var arguments = Arrays.copyOf(parameters, parameterCount);
+		Arrays.fill(arguments, parameters.length, parameterCount, 1);
+		var plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, arguments)).toLowerCase();
+		assertThat(plan).as(plan)
+				.contains(indexName)
+				.doesNotContain(table + ".tablescan");
+		unexpectedIndexNames.forEach(unexpected -> assertThat(plan).as(plan).doesNotContain(unexpected));
+	}
+}
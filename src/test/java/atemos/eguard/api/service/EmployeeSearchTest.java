@@ -0,0 +1,175 @@
+package atemos.eguard.api.service;
+
+import atemos.eguard.api.H2DataJpaTest;
+import atemos.eguard.api.TestFixtures;
+import atemos.eguard.api.config.AccountStatusCache;
+import atemos.eguard.api.config.EmployeeProfileCache;
+import atemos.eguard.api.config.EmployeeSearchIndex;
+import atemos.eguard.api.config.EncryptUtil;
+import atemos.eguard.api.config.EntityValidator;
+import atemos.eguard.api.config.FactorySummaryCache;
+import atemos.eguard.api.config.IdAllocator;
+import atemos.eguard.api.config.IncidentStateCache;
+import atemos.eguard.api.domain.EmployeeIncident;
+import atemos.eguard.api.domain.EmployeeSearchField;
+import atemos.eguard.api.dto.EmployeeDto;
+import atemos.eguard.api.entity.Employee;
+import atemos.eguard.api.entity.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 암호화된 이름, 이메일, 연락처의 n-gram 블라인드 인덱스 검색이 복호화 없이 실제로 검색어를 포함하는 근로자만 조회하고,
+ * 건강 상태 조건을 가장 최근 미해결 사건으로 판단하며, 전체 Row 개수와 페이지 수를 DB 기준으로 계산하는지 확인하는 테스트입니다.
+ */
+@H2DataJpaTest
+@Import({IdAllocator.class, EncryptUtil.class, EmployeeSearchIndex.class, EmployeeServiceImpl.class})
+class EmployeeSearchTest {
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private EncryptUtil encryptUtil;
+	@Autowired
+	private EmployeeSearchIndex employeeSearchIndex;
+	@Autowired
+	private EmployeeService employeeService;
+	@MockBean
+	private PasswordEncoder passwordEncoder;
+	@MockBean
+	private EmailService emailService;
+	@MockBean
+	private IncidentStateCache incidentStateCache;
+	@MockBean
+	private AccountStatusCache accountStatusCache;
+	@MockBean
+	private EmployeeProfileCache employeeProfileCache;
+	@MockBean
+	private FactorySummaryCache factorySummaryCache;
+	@MockBean
+	private EntityValidator entityValidator;
+	@MockBean
+	private SettingService settingService;
+
+	private final List<Employee> employees = new ArrayList<>();
+
+	/**
+	 * "abcd"를 포함하는 근로자 3명과, "abcd"의 3글자 조각(abc, bcd)을 모두 가지지만 순서가 달라 "abcd"를 포함하지 않는 근로자 2명을 등록합니다.
+	 */
+	@BeforeEach
+	void setUp() {
+		var factory = TestFixtures.persistFactory(testEntityManager);
+		List.of("abcd one", "xabcd", "zzabcdzz", "bcdabc", "bcd-abc").forEach(name -> employees.add(testEntityManager.persist(
+				TestFixtures.employee(factory, employees.size())
+						.name(encryptUtil.encrypt(name))
+						.email(encryptUtil.encrypt("employee" + employees.size() + "@eguard.test"))
+						.phoneNumber(encryptUtil.encrypt("0101234000" + employees.size()))
+						.build())));
+		testEntityManager.flush();
+		employeeSearchIndex.reindex(employees);
+	}
+
+	@Test
+	void searchTokensCoverLongTermsWithTrigramsAtOffsets() {
+		assertThat(employeeSearchIndex.searchTokens(EmployeeSearchField.NAME, "abc"))
+				.extracting(EmployeeSearchIndex.SearchToken::offset).containsExactly(0);
+		assertThat(employeeSearchIndex.searchTokens(EmployeeSearchField.NAME, "a b c d"))
+				.extracting(EmployeeSearchIndex.SearchToken::offset).containsExactly(0, 1);
+		assertThat(employeeSearchIndex.searchTokens(EmployeeSearchField.NAME, "abcdef"))
+				.extracting(EmployeeSearchIndex.SearchToken::offset).containsExactly(0, 3);
+		assertThat(employeeSearchIndex.searchTokens(EmployeeSearchField.PHONE_NUMBER, "010-"))
+				.extracting(EmployeeSearchIndex.SearchToken::offset).containsExactly(0);
+		assertThat(employeeSearchIndex.searchTokens(EmployeeSearchField.NAME, "  ")).isEmpty();
+	}
+
+	@Test
+	void longTermMatchesOnlyValuesContainingTermInOrder() {
+		var request = EmployeeDto.ReadEmployeeRequest.builder().employeeName("abcd").build();
+
+		var firstPage = employeeService.read(request, PageRequest.of(0, 2, Sort.by("id")));
+		var secondPage = employeeService.read(request, PageRequest.of(1, 2, Sort.by("id")));
+
+		assertThat(firstPage.getTotalElements()).isEqualTo(3L);
+		assertThat(firstPage.getTotalPages()).isEqualTo(2);
+		assertThat(firstPage.getEmployeeList()).extracting(EmployeeDto.ReadEmployeeResponse::getEmployeeName)
+				.containsExactly("abcd one", "xabcd");
+		assertThat(secondPage.getTotalElements()).isEqualTo(3L);
+		assertThat(secondPage.getEmployeeList()).extracting(EmployeeDto.ReadEmployeeResponse::getEmployeeName)
+				.containsExactly("zzabcdzz");
+		assertThat(names(EmployeeDto.ReadEmployeeRequest.builder().employeeName("BCD ABC").build()))
+				.containsExactly("bcdabc");
+		assertThat(names(EmployeeDto.ReadEmployeeRequest.builder().employeeName("xabcd").build()))
+				.containsExactly("xabcd");
+		assertThat(names(EmployeeDto.ReadEmployeeRequest.builder().employeePhoneNumber("1234-0003").build()))
+				.containsExactly("bcdabc");
+	}
+
+	@Test
+	void shortTermUsesTokensOnlyWithDatabaseTotals() {
+		var request = EmployeeDto.ReadEmployeeRequest.builder().employeeName("bcd").build();
+
+		var page = employeeService.read(request, PageRequest.of(0, 2, Sort.by("id")));
+
+		assertThat(page.getTotalElements()).isEqualTo(5L);
+		assertThat(page.getTotalPages()).isEqualTo(3);
+		assertThat(page.getEmployeeList()).hasSize(2);
+	}
+
+	@Test
+	void healthStatusesFollowLatestUnresolvedEventBeforePaging() {
+		var injured = employees.get(4);
+		var recovered = employees.get(3);
+		var resolved = employees.get(2);
+		persistEvent(injured, EmployeeIncident.INJURY, false);
+		// 이전 미해결 사건보다 나중에 등록된 미해결 사건이 NORMAL이면 NORMAL
+		persistEvent(recovered, EmployeeIncident.INJURY, false);
+		persistEvent(recovered, EmployeeIncident.NORMAL, false);
+		persistEvent(resolved, EmployeeIncident.INJURY, true);
+
+		var injuredPage = employeeService.read(EmployeeDto.ReadEmployeeRequest.builder()
+				.healthStatuses(List.of(EmployeeIncident.INJURY)).build(), PageRequest.of(0, 2, Sort.by("id")));
+		var normalPage = employeeService.read(EmployeeDto.ReadEmployeeRequest.builder()
+				.healthStatuses(List.of(EmployeeIncident.NORMAL)).build(), PageRequest.of(1, 2, Sort.by("id")));
+		var allPage = employeeService.read(EmployeeDto.ReadEmployeeRequest.builder()
+				.healthStatuses(List.of(EmployeeIncident.NORMAL, EmployeeIncident.INJURY)).build(), PageRequest.of(0, 10));
+
+		assertThat(injuredPage.getTotalElements()).isEqualTo(1L);
+		assertThat(injuredPage.getEmployeeList()).extracting(EmployeeDto.ReadEmployeeResponse::getEmployeeId)
+				.containsExactly(injured.getId());
+		assertThat(normalPage.getTotalElements()).isEqualTo(4L);
+		assertThat(normalPage.getTotalPages()).isEqualTo(2);
+		assertThat(normalPage.getEmployeeList()).extracting(EmployeeDto.ReadEmployeeResponse::getEmployeeId)
+				.doesNotContain(injured.getId())
+				.hasSize(2);
+		assertThat(allPage.getTotalElements()).isEqualTo(5L);
+	}
+
+	/**
+	 * 조건에 맞는 근로자 이름을 ID 순으로 조회합니다.
+	 */
+	private List<String> names(EmployeeDto.ReadEmployeeRequest request) {
+		return employeeService.read(request, PageRequest.of(0, 10, Sort.by("id"))).getEmployeeList().stream()
+				.map(EmployeeDto.ReadEmployeeResponse::getEmployeeName)
+				.toList();
+	}
+
+	/**
+	 * 근로자의 사건을 등록합니다.
+	 */
+	private void persistEvent(Employee employee, EmployeeIncident employeeIncident, boolean resolved) {
+		testEntityManager.persist(Event.builder().employee(employee).employeeIncident(employeeIncident).resolved(resolved).build());
+		testEntityManager.flush();
+	}
+}
@@ -0,0 +1,174 @@
+package atemos.eguard.api.specification;
+
+import atemos.eguard.api.H2DataJpaTest;
+import atemos.eguard.api.config.ApiResponseManager;
+import atemos.eguard.api.config.ExceptionResponseHandler;
+import atemos.eguard.api.config.IdAllocator;
+import atemos.eguard.api.config.LogComponent;
+import atemos.eguard.api.config.PageCursor;
+import atemos.eguard.api.domain.AllowedHttpMethod;
+import atemos.eguard.api.entity.ApiCallLog;
+import atemos.eguard.api.repository.ApiCallLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 커서 인코딩/디코딩과 커서 방식 페이지 조회(CursorSpecification.scroll)의 경계 조건을 확인하는 테스트입니다.
+ * - 같은 시각의 행은 ID로 이어서 조회하여 누락이나 중복이 없어야 합니다.
+ * - 한 행 더 조회(size + 1)하여 다음 페이지 여부를 판단하므로, 남은 행이 페이지 크기와 같으면 다음 페이지가 없어야 합니다.
+ * - 형식이 올바르지 않은 커서는 조회 전에 IllegalArgumentException으로 거부되어 400으로 응답해야 합니다.
+ */
+@H2DataJpaTest
+@Import(IdAllocator.class)
+class CursorSpecificationTest {
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private ApiCallLogRepository apiCallLogRepository;
+
+	// 최신순으로 정렬한 로그 ID
+	private final List<Long> newestFirst = new ArrayList<>();
+
+	/**
+	 * 로그 5건을 등록하고 요청 시각을 지정합니다. 두 번째와 세 번째로 등록한 로그는 요청 시각이 같습니다.
+	 * 최신순: 다섯 번째, 네 번째, 세 번째, 두 번째(세 번째와 같은 시각, ID가 작음), 첫 번째
+	 */
+	@BeforeEach
+	void setUp() {
+		var minutes = List.of(0, 1, 1, 2, 3);
+		var ids = new ArrayList<Long>();
+		minutes.forEach(minute -> ids.add(testEntityManager.persist(ApiCallLog.builder()
+				.requestUri("/eguard/event")
+				.httpMethod(AllowedHttpMethod.GET)
+				.clientIp("127.0.0.1")
+				.statusCode(200)
+				.build()).getId()));
+		testEntityManager.flush();
+		// 요청 시각은 등록 시 자동으로 기록되므로 등록 후 직접 지정
+		for (int i = 0; i < ids.size(); i++) {
+			jdbcTemplate.update("UPDATE api_call_log SET request_time = ? WHERE id = ?", BASE_TIME.plusMinutes(minutes.get(i)), ids.get(i));
+		}
+		testEntityManager.clear();
+		newestFirst.addAll(ids.reversed());
+	}
+
+	@Test
+	void encodedCursorDecodesToSamePosition() {
+		var cursor = new PageCursor(BASE_TIME.plusNanos(123000), 42L);
+
+		assertThat(PageCursor.decode(cursor.encode())).isEqualTo(cursor);
+		assertThat(cursor.encode()).doesNotContain("=", "+", "/", ",");
+	}
+
+	@Test
+	void scrollWalksTiedTimesWithoutGapsOrDuplicates() {
+		var first = scroll("", 2);
+		var second = scroll(nextCursor(first), 2);
+		var third = scroll(nextCursor(second), 2);
+
+		assertThat(ids(first)).containsExactly(newestFirst.get(0), newestFirst.get(1));
+		assertThat(first.hasNext()).isTrue();
+		assertThat(ids(second)).containsExactly(newestFirst.get(2), newestFirst.get(3));
+		assertThat(second.hasNext()).isTrue();
+		assertThat(ids(third)).containsExactly(newestFirst.get(4));
+		assertThat(third.hasNext()).isFalse();
+		assertThat(nextCursor(third)).isNull();
+	}
+
+	@Test
+	void remainingRowsEqualToSizeHaveNoNextPage() {
+		var all = scroll("", 5);
+		var oneShort = scroll("", 4);
+
+		assertThat(ids(all)).containsExactlyElementsOf(newestFirst);
+		assertThat(all.hasNext()).isFalse();
+		assertThat(ids(oneShort)).containsExactlyElementsOf(newestFirst.subList(0, 4));
+		assertThat(oneShort.hasNext()).isTrue();
+		assertThat(ids(scroll(nextCursor(oneShort), 4))).containsExactly(newestFirst.get(4));
+	}
+
+	@Test
+	void cursorAtOldestRowReturnsEmptyLastPage() {
+		var oldest = new PageCursor(BASE_TIME, newestFirst.get(4)).encode();
+
+		var page = scroll(oldest, 2);
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	void missingSizeUsesDefaultSize() {
+		var page = scroll("", null);
+
+		assertThat(page.getSize()).isEqualTo(CursorSpecification.DEFAULT_SIZE);
+		assertThat(page.getNumberOfElements()).isEqualTo(5);
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	void malformedCursorIsRejectedAsBadRequest() {
+		var malformedCursors = List.of(
+				"%%%",
+				encode("no-separator"),
+				encode("2026-01-01T09:00,abc"),
+				encode("yesterday,1"));
+
+		malformedCursors.forEach(cursor -> {
+			assertThatThrownBy(() -> PageCursor.decode(cursor)).isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> scroll(cursor, 2)).isInstanceOf(IllegalArgumentException.class);
+		});
+		var response = new ExceptionResponseHandler(new ApiResponseManager(mock(LogComponent.class)))
+				.handleBadRequestException(new IllegalArgumentException("유효하지 않은 커서입니다."));
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * 요청 시각 기준 최신순으로 커서 이후의 한 페이지를 조회합니다.
+	 */
+	private Slice<ApiCallLog> scroll(String cursor, Integer size) {
+		return CursorSpecification.scroll(apiCallLogRepository, Specification.where(null), "requestTime", cursor, size);
+	}
+
+	/**
+	 * 다음 페이지 커서를 생성합니다.
+	 */
+	private static String nextCursor(Slice<ApiCallLog> slice) {
+		return CursorSpecification.nextCursor(slice, ApiCallLog::getRequestTime, ApiCallLog::getId);
+	}
+
+	/**
+	 * 조회된 로그의 ID 목록을 반환합니다.
+	 */
+	private static List<Long> ids(Slice<ApiCallLog> slice) {
+		return slice.getContent().stream().map(ApiCallLog::getId).toList();
+	}
+
+	/**
+	 * 주어진 문자열을 커서와 같은 방식(URL-safe Base64)으로 인코딩합니다.
+	 */
+	private static String encode(String value) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+}